@@ -0,0 +1,261 @@
+package com.example.springbootprojectanalyser.controller;
+
+import com.example.springbootprojectanalyser.model.dto.BuildDependencyDto;
+import com.example.springbootprojectanalyser.model.dto.ChangedFilesAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramCacheStatsDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyCycleDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyPathDto;
+import com.example.springbootprojectanalyser.model.dto.DiagramPrecomputeStatusDto;
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.dto.ImpactAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleRefreshResultDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleStructureDto;
+import com.example.springbootprojectanalyser.model.dto.PackageRollupDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+import com.example.springbootprojectanalyser.model.dto.SourceWatchStatusDto;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.ClassDiagramService;
+import com.example.springbootprojectanalyser.service.DependencyCycleService;
+import com.example.springbootprojectanalyser.service.DependencyPathService;
+import com.example.springbootprojectanalyser.service.EndpointExtractionService;
+import com.example.springbootprojectanalyser.service.ImpactAnalysisService;
+import com.example.springbootprojectanalyser.service.IncrementalAnalysisService;
+import com.example.springbootprojectanalyser.service.ModuleAnalysisService;
+import com.example.springbootprojectanalyser.service.SnapshotDiffService;
+import com.example.springbootprojectanalyser.service.support.ClassDiagramPrecomputer;
+import com.example.springbootprojectanalyser.service.support.SourceTreeWatcher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 解析結果参照APIコントローラー
+ */
+@RestController
+@RequestMapping("/api")
+public class AnalysisApiController {
+
+    private final ClassDependencyAnalysisService analysisService;
+    private final ClassDiagramService classDiagramService;
+    private final ClassDiagramPrecomputer classDiagramPrecomputer;
+    private final EndpointExtractionService endpointExtractionService;
+    private final DependencyCycleService dependencyCycleService;
+    private final ImpactAnalysisService impactAnalysisService;
+    private final IncrementalAnalysisService incrementalAnalysisService;
+    private final DependencyPathService dependencyPathService;
+    private final SnapshotDiffService snapshotDiffService;
+    private final SourceTreeWatcher sourceTreeWatcher;
+    private final ModuleAnalysisService moduleAnalysisService;
+
+    public AnalysisApiController(
+            ClassDependencyAnalysisService analysisService,
+            ClassDiagramService classDiagramService,
+            ClassDiagramPrecomputer classDiagramPrecomputer,
+            EndpointExtractionService endpointExtractionService,
+            DependencyCycleService dependencyCycleService,
+            ImpactAnalysisService impactAnalysisService,
+            IncrementalAnalysisService incrementalAnalysisService,
+            DependencyPathService dependencyPathService,
+            SnapshotDiffService snapshotDiffService,
+            SourceTreeWatcher sourceTreeWatcher,
+            ModuleAnalysisService moduleAnalysisService) {
+        this.analysisService = analysisService;
+        this.classDiagramService = classDiagramService;
+        this.classDiagramPrecomputer = classDiagramPrecomputer;
+        this.endpointExtractionService = endpointExtractionService;
+        this.dependencyCycleService = dependencyCycleService;
+        this.impactAnalysisService = impactAnalysisService;
+        this.incrementalAnalysisService = incrementalAnalysisService;
+        this.dependencyPathService = dependencyPathService;
+        this.snapshotDiffService = snapshotDiffService;
+        this.sourceTreeWatcher = sourceTreeWatcher;
+        this.moduleAnalysisService = moduleAnalysisService;
+    }
+
+    /**
+     * パッケージ集計を取得する
+     */
+    @GetMapping("/projects/{projectId}/packages/rollup")
+    public PackageRollupDto getPackageRollup(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam("packageName") String packageName) {
+        return analysisService.getPackageRollup(projectId, packageName);
+    }
+
+    /**
+     * 直下のサブパッケージの集計を取得する（packageName未指定の場合は最上位パッケージ）
+     */
+    @GetMapping("/projects/{projectId}/packages/children")
+    public List<PackageRollupDto> getChildPackageRollups(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "packageName", required = false) String packageName) {
+        return analysisService.getChildPackageRollups(projectId, packageName);
+    }
+
+    /**
+     * エンドポイントをURIで検索する
+     * mode: all（全件）、path（リクエストパス。例: /orders/42/items）、prefix（前方一致）、
+     * template（パステンプレート。例: /orders/{id}/items）、wildcard（例: /orders/*、/api/**）
+     */
+    @GetMapping("/projects/{projectId}/endpoints")
+    public List<EndpointDto> searchEndpoints(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "mode", required = false) String mode,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "method", required = false) String httpMethod) {
+        return endpointExtractionService.searchEndpoints(projectId, mode, query, httpMethod);
+    }
+
+    /**
+     * 依存関係の循環を取得する
+     * scope: class（クラス単位、既定）、package（パッケージ単位）
+     * kinds: 対象とする依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     */
+    @GetMapping("/projects/{projectId}/cycles")
+    public List<DependencyCycleDto> getCycles(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "scope", required = false) String scope,
+            @RequestParam(value = "kinds", required = false) String kinds) {
+        return dependencyCycleService.getCycles(projectId, scope, kinds);
+    }
+
+    /**
+     * 変更したクラスの影響範囲（直接・間接に依存しているクラスとエンドポイント）を取得する
+     * classes: 変更したクラスの完全修飾名（カンマ区切りまたは複数指定）
+     * kinds: 辿る依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     */
+    @GetMapping("/projects/{projectId}/impact")
+    public ImpactAnalysisDto analyzeImpact(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam("classes") List<String> classNames,
+            @RequestParam(value = "kinds", required = false) String kinds) {
+        return impactAnalysisService.analyzeImpact(projectId, classNames, kinds);
+    }
+
+    /**
+     * 開始クラスから終了クラスへの依存経路を短い順に取得する（k: 経路数。未指定の場合は最短経路のみ）
+     * kinds: 辿る依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     */
+    @GetMapping("/projects/{projectId}/paths")
+    public List<DependencyPathDto> findDependencyPaths(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam("from") String fromClass,
+            @RequestParam("to") String toClass,
+            @RequestParam(value = "kinds", required = false) String kinds,
+            @RequestParam(value = "k", required = false) Integer k) {
+        return dependencyPathService.findPaths(projectId, fromClass, toClass, kinds, k);
+    }
+
+    /**
+     * 基準リビジョン（base）からの変更ファイルのみを再解析し、直近の解析結果からの依存関係の差分を取得する
+     */
+    @GetMapping("/projects/{projectId}/changes")
+    public ChangedFilesAnalysisDto analyzeChangedFiles(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam("base") String baseRef,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return incrementalAnalysisService.analyzeChangedFiles(projectId, baseRef, limit);
+    }
+
+    /**
+     * プロジェクトの保存済みのグラフスナップショットの一覧を取得する（新しい順）
+     */
+    @GetMapping("/projects/{projectId}/snapshots")
+    public List<GraphSnapshotDto> getSnapshots(@PathVariable("projectId") Long projectId) {
+        return snapshotDiffService.getSnapshots(projectId);
+    }
+
+    /**
+     * 2つの解析のグラフスナップショットの差分を取得する
+     * base: 比較元のスナップショットID（未指定の場合は比較先の1つ前）、target: 比較先のスナップショットID（未指定の場合は最新）
+     */
+    @GetMapping("/projects/{projectId}/snapshots/diff")
+    public SnapshotDiffDto diffSnapshots(
+            @PathVariable("projectId") Long projectId,
+            @RequestParam(value = "base", required = false) Long baseSnapshotId,
+            @RequestParam(value = "target", required = false) Long targetSnapshotId,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return snapshotDiffService.diff(projectId, baseSnapshotId, targetSnapshotId, limit);
+    }
+
+    /**
+     * プロジェクトのソース監視を開始する（変更されたJavaファイルのみを再解析して解析結果を更新する）
+     */
+    @PostMapping("/projects/{projectId}/watch")
+    public SourceWatchStatusDto startWatch(@PathVariable("projectId") Long projectId) {
+        return sourceTreeWatcher.start(projectId);
+    }
+
+    /**
+     * プロジェクトのソース監視を停止する
+     */
+    @DeleteMapping("/projects/{projectId}/watch")
+    public SourceWatchStatusDto stopWatch(@PathVariable("projectId") Long projectId) {
+        return sourceTreeWatcher.stop(projectId);
+    }
+
+    /**
+     * プロジェクトのソース監視のステータス（直近の反映結果など）を取得する
+     */
+    @GetMapping("/projects/{projectId}/watch")
+    public SourceWatchStatusDto getWatchStatus(@PathVariable("projectId") Long projectId) {
+        return sourceTreeWatcher.getStatus(projectId);
+    }
+
+    /**
+     * プロジェクトのモジュール構成（モジュールごとのクラス数とモジュール間依存関係）を取得する
+     */
+    @GetMapping("/projects/{projectId}/modules")
+    public ModuleStructureDto getModules(@PathVariable("projectId") Long projectId) {
+        return moduleAnalysisService.getModules(projectId);
+    }
+
+    /**
+     * ソースが変更されたモジュールのみを再解析する（モジュール構成・ビルドファイルが変わった場合は全体を再解析する）
+     */
+    @PostMapping("/projects/{projectId}/modules/refresh")
+    public ModuleRefreshResultDto refreshModules(@PathVariable("projectId") Long projectId) {
+        return moduleAnalysisService.refreshModules(projectId);
+    }
+
+    /**
+     * モジュールごとのビルド依存関係ツリー（ローカルリポジトリで解決した推移的な依存関係を含む）を取得する
+     */
+    @GetMapping("/projects/{projectId}/build-dependencies")
+    public List<BuildDependencyDto> getBuildDependencies(@PathVariable("projectId") Long projectId) {
+        return moduleAnalysisService.getBuildDependencies(projectId);
+    }
+
+    /**
+     * クラス図キャッシュの統計情報（ヒット率など）を取得する
+     */
+    @GetMapping("/class-diagrams/cache/stats")
+    public ClassDiagramCacheStatsDto getClassDiagramCacheStats() {
+        return classDiagramService.getCacheStats();
+    }
+
+    /**
+     * 直近のクラス図事前生成のステータス（所要時間など）を取得する
+     */
+    @GetMapping("/class-diagrams/precompute/status")
+    public ResponseEntity<DiagramPrecomputeStatusDto> getClassDiagramPrecomputeStatus() {
+        DiagramPrecomputeStatusDto status = classDiagramPrecomputer.getLastStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+    }
+}
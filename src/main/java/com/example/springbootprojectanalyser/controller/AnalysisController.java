@@ -61,7 +61,8 @@ public class AnalysisController {
             String targetPackagePattern = "**";
             AnalysisExecutionDto executionDto = new AnalysisExecutionDto(
                     form.getTargetProjectPath(),
-                    targetPackagePattern
+                    targetPackagePattern,
+                    form.getFrontend()
             );
             
             AnalysisResultDto result = analysisService.executeAnalysis(executionDto);
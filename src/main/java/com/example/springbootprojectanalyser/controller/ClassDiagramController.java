@@ -15,17 +15,29 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import com.github.javaparser.JavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * クラス図作成コントローラー
@@ -137,29 +149,15 @@ public class ClassDiagramController {
             com.example.springbootprojectanalyser.model.entity.Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません"));
             
-            // エンドポイント情報を再取得（クラス図表示後もエンドポイント選択を可能にするため）
-            String targetPackagePattern = "**"; // 全パッケージを対象
-            List<EndpointDto> endpoints = endpointExtractionService.extractEndpoints(
-                project.getRootPath(),
-                targetPackagePattern
-            );
-            
-            // 再取得後のエンドポイント一覧から、URI、HTTPメソッド、クラス名で一致するエンドポイントを探す
-            String newSelectedEndpointId = endpoints.stream()
-                .filter(e -> e.uri().equals(selectedUri) && 
-                            e.httpMethodName().equals(selectedHttpMethod) && 
-                            e.className().equals(selectedClassName))
-                .map(EndpointDto::endpointId)
-                .findFirst()
-                .orElse(null);
+            // 保存済みのエンドポイント一覧を取得（クラス図表示後もエンドポイント選択を可能にするため）
+            // エンドポイントIDは解析ごとに決定的に採番されるため、選択中のIDをそのまま保持できる
+            List<EndpointDto> endpoints = endpointExtractionService.getEndpoints(projectId);
             
             // フォーム情報を作成（プロジェクトパスを保持）
-            ClassDiagramForm form = new ClassDiagramForm(project.getRootPath(), 
-                newSelectedEndpointId != null ? newSelectedEndpointId : selectedEndpointId);
+            ClassDiagramForm form = new ClassDiagramForm(project.getRootPath(), selectedEndpointId);
             
             redirectAttributes.addFlashAttribute("classDiagram", classDiagram);
-            redirectAttributes.addFlashAttribute("selectedEndpointId", 
-                newSelectedEndpointId != null ? newSelectedEndpointId : selectedEndpointId);
+            redirectAttributes.addFlashAttribute("selectedEndpointId", selectedEndpointId);
             redirectAttributes.addFlashAttribute("selectedEndpointUri", selectedUri);
             redirectAttributes.addFlashAttribute("selectedEndpointHttpMethod", selectedHttpMethod);
             redirectAttributes.addFlashAttribute("selectedEndpointClassName", selectedClassName);
@@ -178,79 +176,100 @@ public class ClassDiagramController {
     }
 
     @GetMapping("/classdiagram/download-files")
-    public org.springframework.http.ResponseEntity<String> downloadConcatenatedFiles(
+    public org.springframework.http.ResponseEntity<StreamingResponseBody> downloadConcatenatedFiles(
             @RequestParam("projectId") Long projectId,
             @RequestParam("endpointUri") String endpointUri,
             @RequestParam("httpMethod") String httpMethod) {
         
         try {
-            // プロジェクト情報を取得
-            com.example.springbootprojectanalyser.model.entity.Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません"));
+            List<SourceFile> sourceFiles = resolveEndpointSourceFiles(projectId, endpointUri, httpMethod);
             
-            // クラス図を生成してファイルパス情報を取得
-            // エンドポイントを検索
-            String targetPackagePattern = "**";
-            List<EndpointDto> endpoints = endpointExtractionService.extractEndpoints(
-                project.getRootPath(),
-                targetPackagePattern
-            );
-            
-            EndpointDto targetEndpoint = endpoints.stream()
-                .filter(e -> e.uri().equals(endpointUri) && e.httpMethodName().equals(httpMethod))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("エンドポイントが見つかりません"));
+            // ファイル名を生成（エンドポイント情報を含む）
+            String fileName = generateFileName(endpointUri, httpMethod);
             
-            UUID endpointId = UUID.fromString(targetEndpoint.endpointId());
-            ClassDiagramDto classDiagram = classDiagramService.generateClassDiagram(endpointId, projectId);
+            // レスポンスヘッダーを設定
+            org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+            headers.setContentType(new org.springframework.http.MediaType("text", "plain", StandardCharsets.UTF_8));
+            headers.setContentDispositionFormData("attachment", fileName);
             
-            // ファイル内容を連結
-            String concatenatedContent = concatenateFiles(project.getRootPath(), classDiagram.classFilePaths());
+            // ファイル内容を連結しながら出力する（全体をメモリ上に保持しない）
+            return org.springframework.http.ResponseEntity.ok()
+                .headers(headers)
+                .body(out -> writeConcatenatedFiles(sourceFiles, out));
+                
+        } catch (Exception e) {
+            e.printStackTrace();
+            return errorResponse(e);
+        }
+    }
+
+    @GetMapping("/classdiagram/download-files-zip")
+    public org.springframework.http.ResponseEntity<StreamingResponseBody> downloadZippedFiles(
+            @RequestParam("projectId") Long projectId,
+            @RequestParam("endpointUri") String endpointUri,
+            @RequestParam("httpMethod") String httpMethod) {
+        
+        try {
+            List<SourceFile> sourceFiles = resolveEndpointSourceFiles(projectId, endpointUri, httpMethod);
             
             // ファイル名を生成（エンドポイント情報を含む）
-            String fileName = generateFileName(endpointUri, httpMethod);
+            String fileName = generateFileName(endpointUri, httpMethod).replaceAll("\\.txt$", ".zip");
             
             // レスポンスヘッダーを設定
             org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-            headers.setContentType(org.springframework.http.MediaType.TEXT_PLAIN);
+            headers.setContentType(org.springframework.http.MediaType.parseMediaType("application/zip"));
             headers.setContentDispositionFormData("attachment", fileName);
             
+            // ディレクトリ構成を保持したZIPとして出力する
             return org.springframework.http.ResponseEntity.ok()
                 .headers(headers)
-                .body(concatenatedContent);
+                .body(out -> writeZippedFiles(sourceFiles, out));
                 
         } catch (Exception e) {
             e.printStackTrace();
-            return org.springframework.http.ResponseEntity.status(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("エラー: " + e.getMessage());
+            return errorResponse(e);
         }
     }
 
     /**
-     * ファイル内容を連結する
+     * エンドポイントのクラス図に含まれるクラスのソースファイルを解決する
+     */
+    private List<SourceFile> resolveEndpointSourceFiles(Long projectId, String endpointUri, String httpMethod) {
+        // プロジェクト情報を取得
+        com.example.springbootprojectanalyser.model.entity.Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません"));
+        
+        // クラス図を生成してファイルパス情報を取得（生成済みの場合はキャッシュから取得される）
+        // エンドポイントは解析時に保存済みのものを検索する
+        String endpointIdValue = endpointRepository.findByProjectIdAndUriAndHttpMethod(projectId, endpointUri, httpMethod)
+            .stream()
+            .map(com.example.springbootprojectanalyser.model.entity.Endpoint::getEndpointId)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("エンドポイントが見つかりません"));
+        
+        UUID endpointId = UUID.fromString(endpointIdValue);
+        ClassDiagramDto classDiagram = classDiagramService.generateClassDiagram(endpointId, projectId);
+        
+        return resolveSourceFiles(project.getRootPath(), classDiagram.classFilePaths());
+    }
+
+    private org.springframework.http.ResponseEntity<StreamingResponseBody> errorResponse(Exception e) {
+        byte[] message = ("エラー: " + e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        return org.springframework.http.ResponseEntity.status(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR)
+            .contentType(new org.springframework.http.MediaType("text", "plain", StandardCharsets.UTF_8))
+            .body(out -> out.write(message));
+    }
+
+    /**
+     * クラスのファイルパス情報から実際のソースファイルを解決する
+     * 見つからないファイルはfileがnullの要素として返す
      */
-    private String concatenateFiles(String projectRootPath, Map<String, String> classFilePaths) {
-        StringBuilder sb = new StringBuilder();
+    private List<SourceFile> resolveSourceFiles(String projectRootPath, Map<String, String> classFilePaths) {
+        List<SourceFile> sourceFiles = new ArrayList<>();
         java.nio.file.Path projectRoot = java.nio.file.Paths.get(projectRootPath);
         
-        // プロジェクトルートからJavaファイルを収集（キャッシュ）
-        Map<String, java.nio.file.Path> javaFileCache = new HashMap<>();
-        try (java.util.stream.Stream<java.nio.file.Path> paths = java.nio.file.Files.walk(projectRoot)) {
-            paths.filter(java.nio.file.Files::isRegularFile)
-                .filter(p -> p.toString().endsWith(".java"))
-                .filter(p -> !p.toString().contains("target"))
-                .filter(p -> !p.toString().contains(".git"))
-                .forEach(javaFile -> {
-                    try {
-                        String relativePath = projectRoot.relativize(javaFile).toString().replace('\\', '/');
-                        javaFileCache.put(relativePath, javaFile);
-                    } catch (Exception e) {
-                        // 相対パス取得エラーは無視
-                    }
-                });
-        } catch (Exception e) {
-            // ファイル検索エラーは無視
-        }
+        // プロジェクトルートのJavaファイル一覧（記録済みのパスで見つからない場合のみ収集する）
+        Map<String, java.nio.file.Path> javaFileCache = null;
         
         for (Map.Entry<String, String> entry : classFilePaths.entrySet()) {
             String fqn = entry.getKey();
@@ -277,6 +296,9 @@ public class ClassDiagramController {
                 
                 // まだ見つからない場合、キャッシュからクラス名で検索
                 if (foundFile == null) {
+                    if (javaFileCache == null) {
+                        javaFileCache = collectJavaFiles(projectRoot);
+                    }
                     int lastDotIndex = fqn.lastIndexOf('.');
                     String className = lastDotIndex >= 0 ? fqn.substring(lastDotIndex + 1) : fqn;
                     String searchFileName = className + ".java";
@@ -316,31 +338,102 @@ public class ClassDiagramController {
                 }
             }
             
-            // ファイルヘッダーを追加
-            sb.append("===== FILE: ").append(foundPath).append(" =====\n");
-            
             if (foundFile != null && java.nio.file.Files.exists(foundFile) && java.nio.file.Files.isRegularFile(foundFile)) {
-                try {
-                    // ファイル内容を読み込む
-                    String content = java.nio.file.Files.readString(foundFile, java.nio.charset.StandardCharsets.UTF_8);
-                    sb.append(content);
-                    
-                    // ファイル間に空行を追加
-                    if (!content.endsWith("\n")) {
-                        sb.append("\n");
-                    }
-                    sb.append("\n");
-                } catch (Exception e) {
-                    // ファイル読み込みエラー
-                    sb.append("// Error reading file: ").append(e.getMessage()).append("\n\n");
-                }
+                sourceFiles.add(new SourceFile(foundPath, foundFile));
             } else {
-                // ファイルが存在しない場合
-                sb.append("// File not found\n\n");
+                sourceFiles.add(new SourceFile(foundPath, null));
             }
         }
         
-        return sb.toString();
+        return sourceFiles;
+    }
+
+    /**
+     * ソースファイルを連結して出力する
+     * ファイル内容はバッファ単位で出力ストリームへ書き出し、ファイル全体を文字列として保持しない
+     * （出力先はサーブレットの出力ストリームのため、FileChannel.transferToによるカーネル内の転送は行えない）
+     */
+    private void writeConcatenatedFiles(List<SourceFile> sourceFiles, OutputStream out) throws IOException {
+        for (SourceFile sourceFile : sourceFiles) {
+            // ファイルヘッダーを出力
+            out.write(("===== FILE: " + sourceFile.path() + " =====\n").getBytes(StandardCharsets.UTF_8));
+            
+            if (sourceFile.file() == null) {
+                // ファイルが存在しない場合
+                out.write("// File not found\n\n".getBytes(StandardCharsets.UTF_8));
+                continue;
+            }
+            
+            try (FileChannel channel = FileChannel.open(sourceFile.file(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                Channels.newInputStream(channel).transferTo(out);
+                
+                // ファイル間に空行を追加（末尾が改行でない場合は改行を補う）
+                boolean endsWithNewline = false;
+                if (size > 0) {
+                    ByteBuffer last = ByteBuffer.allocate(1);
+                    channel.read(last, size - 1);
+                    endsWithNewline = last.get(0) == '\n';
+                }
+                out.write((endsWithNewline ? "\n" : "\n\n").getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // ファイル読み込みエラー
+                out.write(("// Error reading file: " + e.getMessage() + "\n\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * ソースファイルをZIP形式で出力する（プロジェクトルートからの相対パスをエントリ名とする）
+     */
+    private void writeZippedFiles(List<SourceFile> sourceFiles, OutputStream out) throws IOException {
+        Set<String> entryNames = new HashSet<>();
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        for (SourceFile sourceFile : sourceFiles) {
+            if (sourceFile.file() == null || !entryNames.add(sourceFile.path())) {
+                continue;
+            }
+            zip.putNextEntry(new ZipEntry(sourceFile.path()));
+            java.nio.file.Files.copy(sourceFile.file(), zip);
+            zip.closeEntry();
+        }
+        // ZIPの終端を書き込む（出力ストリーム自体はサーブレットコンテナが閉じる）
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * 解決済みのソースファイル
+     * @param path プロジェクトルートからの相対パス
+     * @param file ファイル（見つからない場合はnull）
+     */
+    private record SourceFile(String path, java.nio.file.Path file) {
+    }
+
+    /**
+     * プロジェクトルートからJavaファイルを収集する
+     * 戻り値: プロジェクトルートからの相対パス -> ファイルパス
+     */
+    private Map<String, java.nio.file.Path> collectJavaFiles(java.nio.file.Path projectRoot) {
+        Map<String, java.nio.file.Path> javaFileCache = new HashMap<>();
+        try (java.util.stream.Stream<java.nio.file.Path> paths = java.nio.file.Files.walk(projectRoot)) {
+            paths.filter(java.nio.file.Files::isRegularFile)
+                .filter(p -> p.toString().endsWith(".java"))
+                .filter(p -> !p.toString().contains("target"))
+                .filter(p -> !p.toString().contains(".git"))
+                .forEach(javaFile -> {
+                    try {
+                        String relativePath = projectRoot.relativize(javaFile).toString().replace('\\', '/');
+                        javaFileCache.put(relativePath, javaFile);
+                    } catch (Exception e) {
+                        // 相対パス取得エラーは無視
+                    }
+                });
+        } catch (Exception e) {
+            // ファイル検索エラーは無視
+        }
+        return javaFileCache;
     }
 
     /**
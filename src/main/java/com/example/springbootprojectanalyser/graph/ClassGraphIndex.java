@@ -0,0 +1,451 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * クラス依存グラフのインメモリインデックス（不変）
+ * クラスと依存種類を連番（int）に置き換え、依存関係をCSR形式のプリミティブ配列で保持する
+ * 順方向（依存元 -> 依存先）と逆方向（依存先 -> 依存元）の両方を持ち、
+ * 各ノードの辺は解析時の登録順に並ぶ
+ * 配列はバッファとして保持し、ヒープ上の配列とスナップショットファイルのメモリマップ（{@link GraphSnapshot}）の
+ * どちらでも同じように参照できる
+ */
+public final class ClassGraphIndex {
+
+    /** 依存種類の最大数（依存種類IDをbyteで保持するため） */
+    private static final int MAX_KINDS = 256;
+
+    private final long generation;
+    private final int nodeCount;
+    private final int edgeCount;
+
+    private final LongBuffer classIds;
+    /** ノードiの完全修飾名は strings[classNames[2 * i]]、単純名は strings[classNames[2 * i + 1]] */
+    private final IntBuffer classNames;
+    private final StringTable strings;
+    /** クラスIDの昇順に並べたノード番号 */
+    private final IntBuffer nodesByClassId;
+    /** 完全修飾名の昇順（同名の場合はノード番号順）に並べたノード番号 */
+    private final IntBuffer nodesByFullQualifiedName;
+
+    private final String[] kindCodes;
+    private final String[] kindDescriptions;
+    private final Map<String, Integer> kindByCode;
+
+    /** 順方向: ノードiの辺は outTargets[outOffsets[i]] 〜 outTargets[outOffsets[i + 1] - 1] */
+    private final IntBuffer outOffsets;
+    private final IntBuffer outTargets;
+    private final ByteBuffer outKinds;
+
+    /** 逆方向: ノードiの辺は inSources[inOffsets[i]] 〜 inSources[inOffsets[i + 1] - 1] */
+    private final IntBuffer inOffsets;
+    private final IntBuffer inSources;
+    private final ByteBuffer inKinds;
+
+    /** 依存種類ごとの順方向の辺のビットマップ（辺eはワード e / 64 のビット e % 64） */
+    private final LongBuffer[] kindEdgeBitmaps;
+
+    ClassGraphIndex(long generation, int nodeCount, int edgeCount,
+                    LongBuffer classIds, IntBuffer classNames, StringTable strings,
+                    IntBuffer nodesByClassId, IntBuffer nodesByFullQualifiedName,
+                    String[] kindCodes, String[] kindDescriptions,
+                    IntBuffer outOffsets, IntBuffer outTargets, ByteBuffer outKinds,
+                    IntBuffer inOffsets, IntBuffer inSources, ByteBuffer inKinds,
+                    LongBuffer[] kindEdgeBitmaps) {
+        this.generation = generation;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.classIds = classIds;
+        this.classNames = classNames;
+        this.strings = strings;
+        this.nodesByClassId = nodesByClassId;
+        this.nodesByFullQualifiedName = nodesByFullQualifiedName;
+        this.kindCodes = kindCodes;
+        this.kindDescriptions = kindDescriptions;
+        this.kindByCode = new HashMap<>();
+        for (int kind = 0; kind < kindCodes.length; kind++) {
+            kindByCode.put(kindCodes[kind], kind);
+        }
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.outKinds = outKinds;
+        this.inOffsets = inOffsets;
+        this.inSources = inSources;
+        this.inKinds = inKinds;
+        this.kindEdgeBitmaps = kindEdgeBitmaps;
+    }
+
+    /**
+     * ビルダーを生成する
+     * @param generation 対象とする解析世代
+     * @return ビルダー
+     */
+    public static Builder builder(long generation) {
+        return new Builder(generation);
+    }
+
+    /**
+     * 構築元の解析世代を取得する
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * ノード（クラス）数を取得する
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 辺（依存関係）数を取得する
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * クラスIDに対応するノード番号を取得する
+     * @return ノード番号（存在しない場合は-1）
+     */
+    public int nodeOf(Long classId) {
+        if (classId == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int node = nodesByClassId.get(middle);
+            long id = classIds.get(node);
+            if (id < classId) {
+                low = middle + 1;
+            } else if (id > classId) {
+                high = middle - 1;
+            } else {
+                return node;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 完全修飾名に対応するノード番号を取得する
+     * @return ノード番号（存在しない場合は-1）
+     */
+    public int nodeOfFullQualifiedName(String fullQualifiedName) {
+        if (fullQualifiedName == null) {
+            return -1;
+        }
+        // 同名のノードが複数ある場合は最初に登録されたノードを返す
+        int low = 0;
+        int high = nodeCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (fullQualifiedName(nodesByFullQualifiedName.get(middle)).compareTo(fullQualifiedName) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low < nodeCount) {
+            int node = nodesByFullQualifiedName.get(low);
+            if (fullQualifiedName(node).equals(fullQualifiedName)) {
+                return node;
+            }
+        }
+        return -1;
+    }
+
+    public long classId(int node) {
+        return classIds.get(node);
+    }
+
+    public String fullQualifiedName(int node) {
+        return strings.get(classNames.get(2 * node));
+    }
+
+    public String simpleName(int node) {
+        return strings.get(classNames.get(2 * node + 1));
+    }
+
+    /**
+     * クラスIDの昇順でi番目のノード番号を取得する
+     */
+    int nodeByClassIdOrder(int i) {
+        return nodesByClassId.get(i);
+    }
+
+    /**
+     * 完全修飾名の昇順でi番目のノード番号を取得する
+     */
+    int nodeByFullQualifiedNameOrder(int i) {
+        return nodesByFullQualifiedName.get(i);
+    }
+
+    /**
+     * 依存種類数を取得する
+     */
+    public int kindCount() {
+        return kindCodes.length;
+    }
+
+    /**
+     * 依存種類コードに対応する依存種類IDを取得する
+     * @return 依存種類ID（存在しない場合は-1）
+     */
+    public int kindOf(String kindCode) {
+        Integer kind = kindByCode.get(kindCode);
+        return kind != null ? kind : -1;
+    }
+
+    public String kindCode(int kind) {
+        return kindCodes[kind];
+    }
+
+    public String kindDescription(int kind) {
+        return kindDescriptions[kind];
+    }
+
+    /**
+     * ノードの順方向の辺の開始位置を取得する
+     */
+    public int outStart(int node) {
+        return outOffsets.get(node);
+    }
+
+    /**
+     * ノードの順方向の辺の終了位置（この位置を含まない）を取得する
+     */
+    public int outEnd(int node) {
+        return outOffsets.get(node + 1);
+    }
+
+    public int outTarget(int edge) {
+        return outTargets.get(edge);
+    }
+
+    public int outKind(int edge) {
+        return outKinds.get(edge) & 0xFF;
+    }
+
+    /**
+     * ノードの逆方向の辺の開始位置を取得する
+     */
+    public int inStart(int node) {
+        return inOffsets.get(node);
+    }
+
+    /**
+     * ノードの逆方向の辺の終了位置（この位置を含まない）を取得する
+     */
+    public int inEnd(int node) {
+        return inOffsets.get(node + 1);
+    }
+
+    public int inSource(int edge) {
+        return inSources.get(edge);
+    }
+
+    public int inKind(int edge) {
+        return inKinds.get(edge) & 0xFF;
+    }
+
+    /**
+     * 順方向の辺のビットマップのワード数を取得する
+     */
+    public int edgeWordCount() {
+        return (edgeCount + 63) >>> 6;
+    }
+
+    /**
+     * 依存種類の順方向の辺のビットマップの1ワードを取得する
+     * @param kind 依存種類ID
+     * @param word ワード番号（辺eはワード e / 64 のビット e % 64）
+     */
+    public long kindEdgeWord(int kind, int word) {
+        return kindEdgeBitmaps[kind].get(word);
+    }
+
+    /**
+     * 指定した依存種類のいずれかに該当する順方向の辺の集合を取得する
+     * @param kinds 依存種類IDの集合
+     * @return 辺の位置の集合
+     */
+    public BitSet outEdgesOfKinds(BitSet kinds) {
+        long[] words = new long[edgeWordCount()];
+        for (int kind = kinds.nextSetBit(0); kind >= 0 && kind < kindEdgeBitmaps.length; kind = kinds.nextSetBit(kind + 1)) {
+            LongBuffer bitmap = kindEdgeBitmaps[kind];
+            for (int word = 0; word < words.length; word++) {
+                words[word] |= bitmap.get(word);
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * クラス依存グラフインデックスのビルダー
+     * ノードを先に登録し、辺は登録済みノード間のもののみ受け付ける
+     */
+    public static final class Builder {
+
+        private final long generation;
+
+        private int nodeCount;
+        private long[] classIds = new long[64];
+        private String[] fullQualifiedNames = new String[64];
+        private String[] simpleNames = new String[64];
+        private final Map<Long, Integer> nodeByClassId = new HashMap<>();
+
+        private String[] kindCodes = new String[0];
+        private String[] kindDescriptions = new String[0];
+        private final Map<String, Integer> kindByCode = new HashMap<>();
+
+        private int edgeCount;
+        private int[] edgeSources = new int[256];
+        private int[] edgeTargets = new int[256];
+        private byte[] edgeKinds = new byte[256];
+
+        private Builder(long generation) {
+            this.generation = generation;
+        }
+
+        /**
+         * ノード（クラス）を登録する（同一クラスIDは1回のみ登録）
+         * @return ノード番号
+         */
+        public int addNode(Long classId, String fullQualifiedName, String simpleName) {
+            Integer existing = nodeByClassId.get(classId);
+            if (existing != null) {
+                return existing;
+            }
+            if (nodeCount == classIds.length) {
+                int capacity = nodeCount * 2;
+                classIds = Arrays.copyOf(classIds, capacity);
+                fullQualifiedNames = Arrays.copyOf(fullQualifiedNames, capacity);
+                simpleNames = Arrays.copyOf(simpleNames, capacity);
+            }
+            int node = nodeCount++;
+            classIds[node] = classId;
+            fullQualifiedNames[node] = fullQualifiedName;
+            simpleNames[node] = simpleName;
+            nodeByClassId.put(classId, node);
+            return node;
+        }
+
+        /**
+         * 辺（依存関係）を登録する
+         * 依存元・依存先のいずれかが未登録のノードの場合は無視する
+         */
+        public Builder addEdge(Long sourceClassId, Long targetClassId, String kindCode, String kindDescription) {
+            Integer source = nodeByClassId.get(sourceClassId);
+            Integer target = nodeByClassId.get(targetClassId);
+            if (source == null || target == null) {
+                return this;
+            }
+            if (edgeCount == edgeSources.length) {
+                int capacity = edgeCount * 2;
+                edgeSources = Arrays.copyOf(edgeSources, capacity);
+                edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+                edgeKinds = Arrays.copyOf(edgeKinds, capacity);
+            }
+            edgeSources[edgeCount] = source;
+            edgeTargets[edgeCount] = target;
+            edgeKinds[edgeCount] = (byte) internKind(kindCode, kindDescription);
+            edgeCount++;
+            return this;
+        }
+
+        private int internKind(String kindCode, String kindDescription) {
+            Integer existing = kindByCode.get(kindCode);
+            if (existing != null) {
+                return existing;
+            }
+            int kind = kindCodes.length;
+            if (kind >= MAX_KINDS) {
+                throw new IllegalStateException("依存種類数が上限を超えました: " + MAX_KINDS);
+            }
+            kindCodes = Arrays.copyOf(kindCodes, kind + 1);
+            kindDescriptions = Arrays.copyOf(kindDescriptions, kind + 1);
+            kindCodes[kind] = kindCode;
+            kindDescriptions[kind] = kindDescription;
+            kindByCode.put(kindCode, kind);
+            return kind;
+        }
+
+        public ClassGraphIndex build() {
+            // 計数ソートでCSR配列を構築する（安定ソートのため同一ノード内の登録順を保持）
+            int[] outOffsets = new int[nodeCount + 1];
+            int[] inOffsets = new int[nodeCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                outOffsets[edgeSources[e] + 1]++;
+                inOffsets[edgeTargets[e] + 1]++;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                outOffsets[node + 1] += outOffsets[node];
+                inOffsets[node + 1] += inOffsets[node];
+            }
+            int[] outTargets = new int[edgeCount];
+            byte[] outKinds = new byte[edgeCount];
+            int[] inSources = new int[edgeCount];
+            byte[] inKinds = new byte[edgeCount];
+            int[] outCursor = Arrays.copyOf(outOffsets, nodeCount);
+            int[] inCursor = Arrays.copyOf(inOffsets, nodeCount);
+            for (int e = 0; e < edgeCount; e++) {
+                int source = edgeSources[e];
+                int target = edgeTargets[e];
+                byte kind = edgeKinds[e];
+                int outPos = outCursor[source]++;
+                outTargets[outPos] = target;
+                outKinds[outPos] = kind;
+                int inPos = inCursor[target]++;
+                inSources[inPos] = source;
+                inKinds[inPos] = kind;
+            }
+
+            // 依存種類ごとの辺のビットマップ
+            long[][] bitmaps = new long[kindCodes.length][(edgeCount + 63) >>> 6];
+            for (int e = 0; e < edgeCount; e++) {
+                bitmaps[outKinds[e] & 0xFF][e >>> 6] |= 1L << e;
+            }
+            LongBuffer[] kindEdgeBitmaps = new LongBuffer[kindCodes.length];
+            for (int kind = 0; kind < kindCodes.length; kind++) {
+                kindEdgeBitmaps[kind] = LongBuffer.wrap(bitmaps[kind]);
+            }
+
+            // 文字列表はノードiの完全修飾名を2 * i、単純名を2 * i + 1に置く
+            String[] names = new String[nodeCount * 2];
+            int[] classNames = new int[nodeCount * 2];
+            for (int node = 0; node < nodeCount; node++) {
+                names[2 * node] = fullQualifiedNames[node];
+                names[2 * node + 1] = simpleNames[node];
+                classNames[2 * node] = 2 * node;
+                classNames[2 * node + 1] = 2 * node + 1;
+            }
+            long[] ids = Arrays.copyOf(classIds, nodeCount);
+            int[] nodesByClassId = IntStream.range(0, nodeCount).boxed()
+                    .sorted(Comparator.comparingLong(node -> ids[node]))
+                    .mapToInt(Integer::intValue).toArray();
+            int[] nodesByFullQualifiedName = IntStream.range(0, nodeCount).boxed()
+                    .sorted(Comparator.comparing(node -> names[2 * node]))
+                    .mapToInt(Integer::intValue).toArray();
+
+            return new ClassGraphIndex(generation, nodeCount, edgeCount,
+                    LongBuffer.wrap(ids), IntBuffer.wrap(classNames), StringTable.of(names),
+                    IntBuffer.wrap(nodesByClassId), IntBuffer.wrap(nodesByFullQualifiedName),
+                    kindCodes.clone(), kindDescriptions.clone(),
+                    IntBuffer.wrap(outOffsets), IntBuffer.wrap(outTargets), ByteBuffer.wrap(outKinds),
+                    IntBuffer.wrap(inOffsets), IntBuffer.wrap(inSources), ByteBuffer.wrap(inKinds),
+                    kindEdgeBitmaps);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * クラス依存グラフの部分更新
+ * ファイル単位の再解析で、直近のグラフから削除したクラスと再解析したクラスの依存関係を除き、
+ * 追加したクラスと再解析した依存関係を加えたグラフを構築する（データベースからグラフを構築し直さない）
+ *
+ * 残す依存関係の依存先が削除したクラスの場合は、同じ完全修飾名の追加したクラスに付け替える（ない場合は除く）
+ * 依存関係は依存元・依存先をクラスIDまたは完全修飾名で指定する（完全修飾名は更新後のグラフのクラスで解決する）
+ */
+public final class ClassGraphPatch {
+
+    private final ClassGraphIndex base;
+    private final Set<Long> removedClassIds = new HashSet<>();
+    private final Set<Long> reparsedClassIds = new HashSet<>();
+    private final List<AddedClass> addedClasses = new ArrayList<>();
+    private final List<AddedEdge> addedEdges = new ArrayList<>();
+
+    public ClassGraphPatch(ClassGraphIndex base) {
+        this.base = base;
+    }
+
+    /**
+     * クラスを削除する（クラスの依存関係とクラスへの依存関係も除く）
+     */
+    public ClassGraphPatch removeClass(long classId) {
+        removedClassIds.add(classId);
+        return this;
+    }
+
+    /**
+     * クラスの依存関係を除く（再解析した依存関係はaddEdgeで加える）
+     */
+    public ClassGraphPatch reparseClass(long classId) {
+        reparsedClassIds.add(classId);
+        return this;
+    }
+
+    /**
+     * クラスを追加する（追加した順にノード番号を割り当てる）
+     */
+    public ClassGraphPatch addClass(long classId, String fullQualifiedName, String simpleName) {
+        addedClasses.add(new AddedClass(classId, fullQualifiedName, simpleName));
+        return this;
+    }
+
+    /**
+     * クラスIDで指定した依存関係を加える
+     */
+    public ClassGraphPatch addEdge(long sourceClassId, long targetClassId, String kindCode, String kindDescription) {
+        addedEdges.add(new AddedEdge(sourceClassId, targetClassId, null, null, kindCode, kindDescription));
+        return this;
+    }
+
+    /**
+     * 完全修飾名で指定した依存関係を加える（同名のクラスが複数ある場合は先に登録されたクラス）
+     */
+    public ClassGraphPatch addEdge(String sourceClass, String targetClass, String kindCode, String kindDescription) {
+        addedEdges.add(new AddedEdge(null, null, sourceClass, targetClass, kindCode, kindDescription));
+        return this;
+    }
+
+    /**
+     * 更新後のグラフを構築する
+     * @param generation 更新後のグラフの解析世代
+     * @return グラフインデックス
+     */
+    public ClassGraphIndex apply(long generation) {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(generation);
+        Set<Long> classIds = new HashSet<>();
+        Map<String, Long> classIdByName = new HashMap<>();
+        for (int node = 0; node < base.nodeCount(); node++) {
+            long classId = base.classId(node);
+            if (!removedClassIds.contains(classId)) {
+                builder.addNode(classId, base.fullQualifiedName(node), base.simpleName(node));
+                classIds.add(classId);
+                classIdByName.putIfAbsent(base.fullQualifiedName(node), classId);
+            }
+        }
+        for (AddedClass addedClass : addedClasses) {
+            builder.addNode(addedClass.classId(), addedClass.fullQualifiedName(), addedClass.simpleName());
+            classIds.add(addedClass.classId());
+            classIdByName.putIfAbsent(addedClass.fullQualifiedName(), addedClass.classId());
+        }
+
+        for (int node = 0; node < base.nodeCount(); node++) {
+            long classId = base.classId(node);
+            if (removedClassIds.contains(classId) || reparsedClassIds.contains(classId)) {
+                continue;
+            }
+            for (int e = base.outStart(node); e < base.outEnd(node); e++) {
+                int target = base.outTarget(e);
+                Long targetId = base.classId(target);
+                if (!classIds.contains(targetId)) {
+                    targetId = classIdByName.get(base.fullQualifiedName(target));
+                }
+                if (targetId != null) {
+                    int kind = base.outKind(e);
+                    builder.addEdge(classId, targetId, base.kindCode(kind), base.kindDescription(kind));
+                }
+            }
+        }
+        for (AddedEdge edge : addedEdges) {
+            Long sourceId = edge.sourceClass() != null ? classIdByName.get(edge.sourceClass()) : edge.sourceClassId();
+            Long targetId = edge.targetClass() != null ? classIdByName.get(edge.targetClass()) : edge.targetClassId();
+            if (sourceId != null && targetId != null) {
+                builder.addEdge(sourceId, targetId, edge.kindCode(), edge.kindDescription());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 更新後のグラフで依存関係が変わったかどうか（クラスの追加・削除がなく、
+     * 再解析したクラスの依存関係（依存先・依存種類）が直近のグラフと同じ場合は変わらない）
+     * @param patched applyで構築したグラフ
+     * @return 依存関係が変わった場合はtrue
+     */
+    public boolean changesEdges(ClassGraphIndex patched) {
+        if (!removedClassIds.isEmpty() || !addedClasses.isEmpty() || patched.nodeCount() != base.nodeCount()) {
+            return true;
+        }
+        for (Long classId : reparsedClassIds) {
+            int baseNode = base.nodeOf(classId);
+            int patchedNode = patched.nodeOf(classId);
+            if (baseNode < 0 || patchedNode < 0) {
+                continue;
+            }
+            if (!outEdges(base, baseNode).equals(outEdges(patched, patchedNode))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ノードの依存関係（依存先のクラスIDと依存種類コードの組、重複を含む）
+     */
+    private static Map<String, Integer> outEdges(ClassGraphIndex graph, int node) {
+        Map<String, Integer> edges = new HashMap<>();
+        for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+            edges.merge(graph.classId(graph.outTarget(e)) + " " + graph.kindCode(graph.outKind(e)), 1, Integer::sum);
+        }
+        return edges;
+    }
+
+    private record AddedClass(long classId, String fullQualifiedName, String simpleName) {
+    }
+
+    private record AddedEdge(Long sourceClassId, Long targetClassId, String sourceClass, String targetClass,
+                             String kindCode, String kindDescription) {
+    }
+}
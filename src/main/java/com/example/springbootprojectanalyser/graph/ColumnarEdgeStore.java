@@ -0,0 +1,294 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 列指向の依存関係ストア
+ * 依存関係1件をエンティティではなく、依存元クラスID・依存先クラスID・依存種類番号・件数の
+ * 並列プリミティブ配列の1要素として保持する
+ * 解析中は追記のみ行い、解析終了時にcompact()で並べ替えと重複の集約を行う
+ * 依存先がプロジェクト内のクラスに解決できない依存関係は依存先クラスIDを{@link #UNRESOLVED}として保持する
+ */
+public final class ColumnarEdgeStore {
+
+    /** 依存先クラスが未解決であることを表すクラスID */
+    public static final long UNRESOLVED = -1L;
+
+    /** バイナリ形式の識別子（"SBEDGES"） */
+    private static final long MAGIC = 0x5342454447455300L;
+    private static final int VERSION = 1;
+
+    /** 依存種類番号の最大数（依存種類番号をshortで保持するため） */
+    private static final int MAX_KINDS = Short.MAX_VALUE;
+
+    private String[] kindCodes = new String[0];
+    private final Map<String, Integer> kindByCode = new HashMap<>();
+
+    private int size;
+    private long[] sourceIds;
+    private long[] targetIds;
+    private short[] kinds;
+    private int[] counts;
+    private boolean compacted;
+
+    public ColumnarEdgeStore() {
+        this(1024);
+    }
+
+    public ColumnarEdgeStore(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.sourceIds = new long[capacity];
+        this.targetIds = new long[capacity];
+        this.kinds = new short[capacity];
+        this.counts = new int[capacity];
+    }
+
+    /**
+     * 依存関係を1件追記する
+     * @param sourceClassId 依存元クラスID
+     * @param targetClassId 依存先クラスID（未解決の場合は{@link #UNRESOLVED}）
+     * @param kindCode 依存種類コード
+     */
+    public void append(long sourceClassId, long targetClassId, String kindCode) {
+        if (size == sourceIds.length) {
+            int capacity = size * 2;
+            sourceIds = Arrays.copyOf(sourceIds, capacity);
+            targetIds = Arrays.copyOf(targetIds, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        sourceIds[size] = sourceClassId;
+        targetIds[size] = targetClassId;
+        kinds[size] = (short) internKind(kindCode);
+        counts[size] = 1;
+        size++;
+        compacted = false;
+    }
+
+    private int internKind(String kindCode) {
+        Integer existing = kindByCode.get(kindCode);
+        if (existing != null) {
+            return existing;
+        }
+        int kind = kindCodes.length;
+        if (kind >= MAX_KINDS) {
+            throw new IllegalStateException("依存種類数が上限を超えました: " + MAX_KINDS);
+        }
+        kindCodes = Arrays.copyOf(kindCodes, kind + 1);
+        kindCodes[kind] = kindCode;
+        kindByCode.put(kindCode, kind);
+        return kind;
+    }
+
+    /**
+     * 依存元クラスID・依存先クラスID・依存種類番号の順に並べ替え、
+     * 同じ組み合わせの依存関係を1件に集約して件数を合計する
+     * 余分な配列領域も切り詰める
+     */
+    public void compact() {
+        if (compacted) {
+            return;
+        }
+        int[] order = sortedOrder();
+
+        long[] newSourceIds = new long[size];
+        long[] newTargetIds = new long[size];
+        short[] newKinds = new short[size];
+        int[] newCounts = new int[size];
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            int edge = order[i];
+            if (newSize > 0
+                    && newSourceIds[newSize - 1] == sourceIds[edge]
+                    && newTargetIds[newSize - 1] == targetIds[edge]
+                    && newKinds[newSize - 1] == kinds[edge]) {
+                newCounts[newSize - 1] += counts[edge];
+                continue;
+            }
+            newSourceIds[newSize] = sourceIds[edge];
+            newTargetIds[newSize] = targetIds[edge];
+            newKinds[newSize] = kinds[edge];
+            newCounts[newSize] = counts[edge];
+            newSize++;
+        }
+        this.sourceIds = Arrays.copyOf(newSourceIds, newSize);
+        this.targetIds = Arrays.copyOf(newTargetIds, newSize);
+        this.kinds = Arrays.copyOf(newKinds, newSize);
+        this.counts = Arrays.copyOf(newCounts, newSize);
+        this.size = newSize;
+        this.compacted = true;
+    }
+
+    /**
+     * 依存関係の並び順（依存元クラスID・依存先クラスID・依存種類番号の順）を求める
+     * ボックス化を避けるため、添字の配列をボトムアップのマージソートで並べ替える（安定ソート）
+     */
+    private int[] sortedOrder() {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int left = 0; left < size; left += 2 * width) {
+                int middle = Math.min(left + width, size);
+                int right = Math.min(left + 2 * width, size);
+                int i = left;
+                int j = middle;
+                int k = left;
+                while (i < middle && j < right) {
+                    buffer[k++] = compareEdges(order[j], order[i]) < 0 ? order[j++] : order[i++];
+                }
+                while (i < middle) {
+                    buffer[k++] = order[i++];
+                }
+                while (j < right) {
+                    buffer[k++] = order[j++];
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    private int compareEdges(int a, int b) {
+        int result = Long.compare(sourceIds[a], sourceIds[b]);
+        if (result == 0) {
+            result = Long.compare(targetIds[a], targetIds[b]);
+        }
+        if (result == 0) {
+            result = Integer.compare(kinds[a], kinds[b]);
+        }
+        return result;
+    }
+
+    /**
+     * 保持している依存関係数（compact後は集約後の件数）を取得する
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 依存関係の合計件数（集約前の件数）を取得する
+     */
+    public long totalCount() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    public boolean isCompacted() {
+        return compacted;
+    }
+
+    public long sourceId(int edge) {
+        return sourceIds[edge];
+    }
+
+    public long targetId(int edge) {
+        return targetIds[edge];
+    }
+
+    public int kind(int edge) {
+        return kinds[edge];
+    }
+
+    public int count(int edge) {
+        return counts[edge];
+    }
+
+    /**
+     * 依存種類数を取得する
+     */
+    public int kindCount() {
+        return kindCodes.length;
+    }
+
+    public String kindCode(int kind) {
+        return kindCodes[kind];
+    }
+
+    /**
+     * バイナリ形式で書き出す（ストリームは閉じない）
+     * 形式: 識別子, バージョン, compact済みフラグ, 依存種類数, 依存種類コード..., 要素数, 依存元ID..., 依存先ID..., 依存種類番号..., 件数...
+     * @param out 出力先
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeLong(MAGIC);
+        data.writeInt(VERSION);
+        data.writeBoolean(compacted);
+        data.writeInt(kindCodes.length);
+        for (String kindCode : kindCodes) {
+            data.writeUTF(kindCode);
+        }
+        data.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            data.writeLong(sourceIds[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            data.writeLong(targetIds[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            data.writeShort(kinds[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            data.writeInt(counts[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * バイナリ形式から読み込む（ストリームは閉じない）
+     * @param in 入力元
+     * @return 依存関係ストア
+     */
+    public static ColumnarEdgeStore readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readLong() != MAGIC) {
+            throw new IOException("依存関係ストアの形式が不正です");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("未対応の依存関係ストアのバージョンです: " + version);
+        }
+        boolean compacted = data.readBoolean();
+        int kindCount = data.readInt();
+        String[] kindCodes = new String[kindCount];
+        for (int kind = 0; kind < kindCount; kind++) {
+            kindCodes[kind] = data.readUTF();
+        }
+        int size = data.readInt();
+        ColumnarEdgeStore store = new ColumnarEdgeStore(size);
+        for (String kindCode : kindCodes) {
+            store.internKind(kindCode);
+        }
+        for (int i = 0; i < size; i++) {
+            store.sourceIds[i] = data.readLong();
+        }
+        for (int i = 0; i < size; i++) {
+            store.targetIds[i] = data.readLong();
+        }
+        for (int i = 0; i < size; i++) {
+            store.kinds[i] = data.readShort();
+        }
+        for (int i = 0; i < size; i++) {
+            store.counts[i] = data.readInt();
+        }
+        store.size = size;
+        store.compacted = compacted;
+        return store;
+    }
+}
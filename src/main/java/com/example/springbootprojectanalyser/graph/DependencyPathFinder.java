@@ -0,0 +1,263 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 依存経路探索
+ * クラス依存グラフ上で、あるクラスから別のクラスへ依存関係を辿る最短経路を双方向幅優先探索で求める
+ * 複数の経路（短い順にk件）はYenのアルゴリズムで求める（経路はノード列で区別し、同じノード間の依存種類の違いは区別しない）
+ * 探索用の作業配列を再利用するため、インスタンスはスレッドセーフではない
+ */
+public final class DependencyPathFinder {
+
+    private static final int UNVISITED = -1;
+
+    private final ClassGraphIndex graph;
+    private final boolean[] kindAllowed;
+
+    /** 順方向探索: ノード -> 開始ノード側の直前のノード */
+    private final int[] forwardParent;
+    private final int[] forwardDistance;
+    /** 逆方向探索: ノード -> 終了ノード側の直後のノード */
+    private final int[] backwardNext;
+    private final int[] backwardDistance;
+    /** 探索で値を設定したノード（次回の探索前に初期化する） */
+    private int[] touched;
+    private int touchedCount;
+
+    /**
+     * @param graph グラフインデックス
+     * @param kinds 辿る依存種類IDの集合
+     */
+    public DependencyPathFinder(ClassGraphIndex graph, BitSet kinds) {
+        this.graph = graph;
+        this.kindAllowed = new boolean[graph.kindCount()];
+        for (int kind = kinds.nextSetBit(0); kind >= 0 && kind < kindAllowed.length; kind = kinds.nextSetBit(kind + 1)) {
+            kindAllowed[kind] = true;
+        }
+        int nodeCount = graph.nodeCount();
+        this.forwardParent = new int[nodeCount];
+        this.forwardDistance = new int[nodeCount];
+        this.backwardNext = new int[nodeCount];
+        this.backwardDistance = new int[nodeCount];
+        Arrays.fill(forwardParent, UNVISITED);
+        Arrays.fill(backwardNext, UNVISITED);
+        this.touched = new int[64];
+    }
+
+    /**
+     * 最短経路を求める
+     * @param source 開始ノード
+     * @param target 終了ノード
+     * @return 経路のノード列（開始ノードと終了ノードを含む。経路がない場合はnull）
+     */
+    public int[] shortestPath(int source, int target) {
+        return search(source, target, new BitSet(), new BitSet());
+    }
+
+    /**
+     * 短い順にk件の経路を求める（Yenのアルゴリズム）
+     * @param source 開始ノード
+     * @param target 終了ノード
+     * @param k 経路数の上限
+     * @return 経路のノード列のリスト（短い順）
+     */
+    public List<int[]> shortestPaths(int source, int target, int k) {
+        List<int[]> paths = new ArrayList<>();
+        int[] first = shortestPath(source, target);
+        if (first == null) {
+            return paths;
+        }
+        paths.add(first);
+        List<int[]> candidates = new ArrayList<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        seen.add(toList(first));
+
+        while (paths.size() < k) {
+            int[] previous = paths.get(paths.size() - 1);
+            for (int i = 0; i < previous.length - 1; i++) {
+                int spur = previous[i];
+                // 同じ経路を再び求めないよう、同じ前半部分を持つ既知の経路の次のノードへの辺を除外する
+                BitSet blockedFirstHops = new BitSet();
+                for (int[] path : paths) {
+                    if (path.length > i + 1 && Arrays.equals(path, 0, i + 1, previous, 0, i + 1)) {
+                        blockedFirstHops.set(path[i + 1]);
+                    }
+                }
+                // 前半部分のノード（分岐ノードを除く）は通らない
+                BitSet blockedNodes = new BitSet();
+                for (int j = 0; j < i; j++) {
+                    blockedNodes.set(previous[j]);
+                }
+                int[] spurPath = search(spur, target, blockedNodes, blockedFirstHops);
+                if (spurPath == null) {
+                    continue;
+                }
+                int[] candidate = new int[i + spurPath.length];
+                System.arraycopy(previous, 0, candidate, 0, i);
+                System.arraycopy(spurPath, 0, candidate, i, spurPath.length);
+                if (seen.add(toList(candidate))) {
+                    candidates.add(candidate);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            int shortest = 0;
+            for (int i = 1; i < candidates.size(); i++) {
+                if (candidates.get(i).length < candidates.get(shortest).length) {
+                    shortest = i;
+                }
+            }
+            paths.add(candidates.remove(shortest));
+        }
+        return paths;
+    }
+
+    /**
+     * 2つのノード間の辺の依存種類ID（探索対象のもの、重複なし、昇順）を取得する
+     */
+    public int[] kindsBetween(int source, int target) {
+        BitSet kinds = new BitSet();
+        for (int e = graph.outStart(source); e < graph.outEnd(source); e++) {
+            if (graph.outTarget(e) == target && kindAllowed[graph.outKind(e)]) {
+                kinds.set(graph.outKind(e));
+            }
+        }
+        return kinds.stream().toArray();
+    }
+
+    /**
+     * 双方向幅優先探索で最短経路を求める
+     * 各回は前線の小さい側を1段分展開し、両側の探索が出会った段の中で最短の経路を選ぶ
+     */
+    private int[] search(int source, int target, BitSet blockedNodes, BitSet blockedFirstHops) {
+        reset();
+        if (source == target) {
+            return new int[] {source};
+        }
+        visitForward(source, source, 0);
+        visitBackward(target, target, 0);
+        int[] forwardFrontier = {source};
+        int[] backwardFrontier = {target};
+        int meet = UNVISITED;
+        int best = Integer.MAX_VALUE;
+
+        while (forwardFrontier.length > 0 && backwardFrontier.length > 0 && meet == UNVISITED) {
+            int[] next = new int[16];
+            int nextCount = 0;
+            if (forwardFrontier.length <= backwardFrontier.length) {
+                for (int node : forwardFrontier) {
+                    for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+                        int neighbor = graph.outTarget(e);
+                        if (!isAllowed(node, neighbor, graph.outKind(e), source, blockedNodes, blockedFirstHops)
+                                || forwardParent[neighbor] != UNVISITED) {
+                            continue;
+                        }
+                        visitForward(neighbor, node, forwardDistance[node] + 1);
+                        if (backwardNext[neighbor] != UNVISITED && forwardDistance[neighbor] + backwardDistance[neighbor] < best) {
+                            best = forwardDistance[neighbor] + backwardDistance[neighbor];
+                            meet = neighbor;
+                        }
+                        if (nextCount == next.length) {
+                            next = Arrays.copyOf(next, nextCount * 2);
+                        }
+                        next[nextCount++] = neighbor;
+                    }
+                }
+                forwardFrontier = Arrays.copyOf(next, nextCount);
+            } else {
+                for (int node : backwardFrontier) {
+                    for (int e = graph.inStart(node); e < graph.inEnd(node); e++) {
+                        int neighbor = graph.inSource(e);
+                        if (!isAllowed(neighbor, node, graph.inKind(e), source, blockedNodes, blockedFirstHops)
+                                || backwardNext[neighbor] != UNVISITED) {
+                            continue;
+                        }
+                        visitBackward(neighbor, node, backwardDistance[node] + 1);
+                        if (forwardParent[neighbor] != UNVISITED && forwardDistance[neighbor] + backwardDistance[neighbor] < best) {
+                            best = forwardDistance[neighbor] + backwardDistance[neighbor];
+                            meet = neighbor;
+                        }
+                        if (nextCount == next.length) {
+                            next = Arrays.copyOf(next, nextCount * 2);
+                        }
+                        next[nextCount++] = neighbor;
+                    }
+                }
+                backwardFrontier = Arrays.copyOf(next, nextCount);
+            }
+        }
+        if (meet == UNVISITED) {
+            return null;
+        }
+
+        // 開始ノード -> 出会ったノード -> 終了ノード
+        int[] path = new int[best + 1];
+        int position = forwardDistance[meet];
+        for (int node = meet; ; node = forwardParent[node]) {
+            path[position--] = node;
+            if (node == source) {
+                break;
+            }
+        }
+        position = forwardDistance[meet];
+        for (int node = meet; node != target; ) {
+            node = backwardNext[node];
+            path[++position] = node;
+        }
+        return path;
+    }
+
+    private boolean isAllowed(int from, int to, int kind, int source, BitSet blockedNodes, BitSet blockedFirstHops) {
+        return from != to
+                && kindAllowed[kind]
+                && !blockedNodes.get(from)
+                && !blockedNodes.get(to)
+                && !(from == source && blockedFirstHops.get(to));
+    }
+
+    private void visitForward(int node, int parent, int distance) {
+        if (backwardNext[node] == UNVISITED) {
+            touch(node);
+        }
+        forwardParent[node] = parent;
+        forwardDistance[node] = distance;
+    }
+
+    private void visitBackward(int node, int next, int distance) {
+        if (forwardParent[node] == UNVISITED) {
+            touch(node);
+        }
+        backwardNext[node] = next;
+        backwardDistance[node] = distance;
+    }
+
+    private void touch(int node) {
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touchedCount * 2);
+        }
+        touched[touchedCount++] = node;
+    }
+
+    private void reset() {
+        for (int i = 0; i < touchedCount; i++) {
+            forwardParent[touched[i]] = UNVISITED;
+            backwardNext[touched[i]] = UNVISITED;
+        }
+        touchedCount = 0;
+    }
+
+    private static List<Integer> toList(int[] path) {
+        List<Integer> list = new ArrayList<>(path.length);
+        for (int node : path) {
+            list.add(node);
+        }
+        return list;
+    }
+}
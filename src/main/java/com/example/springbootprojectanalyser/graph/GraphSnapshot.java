@@ -0,0 +1,488 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * クラス依存グラフのスナップショット（バイナリファイル）
+ * {@link ClassGraphIndex}をそのままの配列形式でファイルに書き出し、読み込み時はFileChannel.mapで
+ * メモリマップしたバッファを直接インデックスとして使用する（デシリアライズせず、ヒープもほとんど使用しない）
+ *
+ * <pre>
+ * 形式（リトルエンディアン、各セクションは8バイト境界に配置）
+ *   ヘッダ（{@value #HEADER_SIZE}バイト）
+ *     識別子（"SBGRAPH"）, バージョン, ノード数, 辺数, 依存種類数, 文字列数, 解析世代,
+ *     セクション表（セクションごとの開始位置・バイト数）
+ *   セクション
+ *     PROJECT_PATH          プロジェクトのルートパス（UTF-8）
+ *     STRING_OFFSETS        int[文字列数 + 1]  文字列表の各文字列の開始位置
+ *     STRING_DATA           byte[]             文字列表（UTF-8）
+ *     CLASS_IDS             long[ノード数]     クラスID
+ *     CLASS_NAMES           int[ノード数 * 2]  完全修飾名・単純名の文字列番号
+ *     NODES_BY_CLASS_ID     int[ノード数]      クラスIDの昇順に並べたノード番号
+ *     NODES_BY_NAME         int[ノード数]      完全修飾名の昇順に並べたノード番号
+ *     KINDS                 int[依存種類数 * 2] 依存種類コード・説明の文字列番号（説明がない場合は-1）
+ *     OUT_OFFSETS           int[ノード数 + 1]  順方向CSRの開始位置
+ *     OUT_TARGETS           int[辺数]          順方向CSRの依存先ノード番号
+ *     OUT_KINDS             byte[辺数]         順方向CSRの依存種類ID
+ *     IN_OFFSETS            int[ノード数 + 1]  逆方向CSRの開始位置
+ *     IN_SOURCES            int[辺数]          逆方向CSRの依存元ノード番号
+ *     IN_KINDS              byte[辺数]         逆方向CSRの依存種類ID
+ *     KIND_EDGE_BITMAPS     long[依存種類数 * ワード数] 依存種類ごとの順方向の辺のビットマップ
+ * </pre>
+ *
+ * 1つのメモリマップは2GBまでのため、セクション（依存種類ごとのビットマップは依存種類ごと）を個別にマップする
+ * ファイル全体は2GBを超えてもよい
+ */
+public final class GraphSnapshot {
+
+    /** バイナリ形式の識別子（"SBGRAPH"） */
+    private static final long MAGIC = 0x5342475241504800L;
+    private static final int VERSION = 2;
+
+    private static final int PROJECT_PATH = 0;
+    private static final int STRING_OFFSETS = 1;
+    private static final int STRING_DATA = 2;
+    private static final int CLASS_IDS = 3;
+    private static final int CLASS_NAMES = 4;
+    private static final int NODES_BY_CLASS_ID = 5;
+    private static final int NODES_BY_NAME = 6;
+    private static final int KINDS = 7;
+    private static final int OUT_OFFSETS = 8;
+    private static final int OUT_TARGETS = 9;
+    private static final int OUT_KINDS = 10;
+    private static final int IN_OFFSETS = 11;
+    private static final int IN_SOURCES = 12;
+    private static final int IN_KINDS = 13;
+    private static final int KIND_EDGE_BITMAPS = 14;
+    private static final int SECTION_COUNT = 15;
+
+    /** ヘッダの固定部のバイト数 */
+    private static final int FIXED_HEADER_SIZE = 40;
+    /** ヘッダのバイト数（固定部 + セクション表） */
+    private static final int HEADER_SIZE = FIXED_HEADER_SIZE + SECTION_COUNT * 16;
+
+    private final String projectPath;
+    private final ClassGraphIndex index;
+
+    private GraphSnapshot(String projectPath, ClassGraphIndex index) {
+        this.projectPath = projectPath;
+        this.index = index;
+    }
+
+    /**
+     * スナップショットを作成した解析対象のプロジェクトのルートパスを取得する
+     */
+    public String projectPath() {
+        return projectPath;
+    }
+
+    /**
+     * スナップショットを作成した解析世代を取得する
+     */
+    public long generation() {
+        return index.generation();
+    }
+
+    /**
+     * メモリマップしたグラフインデックスを取得する
+     */
+    public ClassGraphIndex index() {
+        return index;
+    }
+
+    /**
+     * グラフインデックスをスナップショットファイルに書き出す
+     * グラフインデックスの解析世代をヘッダに記録する
+     * @param index グラフインデックス
+     * @param projectPath プロジェクトのルートパス
+     * @param file 出力先ファイル（既存の場合は上書き）
+     */
+    public static void write(ClassGraphIndex index, String projectPath, Path file) throws IOException {
+        int nodeCount = index.nodeCount();
+        int edgeCount = index.edgeCount();
+        int kindCount = index.kindCount();
+
+        // 文字列表（同じ文字列は1つにまとめる）
+        List<byte[]> strings = new ArrayList<>();
+        Map<String, Integer> stringRefs = new HashMap<>();
+        int[] classNames = new int[nodeCount * 2];
+        for (int node = 0; node < nodeCount; node++) {
+            classNames[2 * node] = intern(index.fullQualifiedName(node), strings, stringRefs);
+            classNames[2 * node + 1] = intern(index.simpleName(node), strings, stringRefs);
+        }
+        int[] kinds = new int[kindCount * 2];
+        for (int kind = 0; kind < kindCount; kind++) {
+            kinds[2 * kind] = intern(index.kindCode(kind), strings, stringRefs);
+            kinds[2 * kind + 1] = intern(index.kindDescription(kind), strings, stringRefs);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SectionWriter out = new SectionWriter(channel);
+
+            out.begin(PROJECT_PATH);
+            out.putBytes(projectPath.getBytes(StandardCharsets.UTF_8));
+            out.end();
+
+            out.begin(STRING_OFFSETS);
+            long stringOffset = 0;
+            out.putInt(0);
+            for (byte[] string : strings) {
+                stringOffset += string.length;
+                if (stringOffset > Integer.MAX_VALUE) {
+                    throw new IOException("文字列表が大きすぎます");
+                }
+                out.putInt((int) stringOffset);
+            }
+            out.end();
+
+            out.begin(STRING_DATA);
+            for (byte[] string : strings) {
+                out.putBytes(string);
+            }
+            out.end();
+
+            out.begin(CLASS_IDS);
+            for (int node = 0; node < nodeCount; node++) {
+                out.putLong(index.classId(node));
+            }
+            out.end();
+
+            out.begin(CLASS_NAMES);
+            for (int ref : classNames) {
+                out.putInt(ref);
+            }
+            out.end();
+
+            out.begin(NODES_BY_CLASS_ID);
+            for (int i = 0; i < nodeCount; i++) {
+                out.putInt(index.nodeByClassIdOrder(i));
+            }
+            out.end();
+
+            out.begin(NODES_BY_NAME);
+            for (int i = 0; i < nodeCount; i++) {
+                out.putInt(index.nodeByFullQualifiedNameOrder(i));
+            }
+            out.end();
+
+            out.begin(KINDS);
+            for (int ref : kinds) {
+                out.putInt(ref);
+            }
+            out.end();
+
+            out.begin(OUT_OFFSETS);
+            for (int node = 0; node < nodeCount; node++) {
+                out.putInt(index.outStart(node));
+            }
+            out.putInt(edgeCount);
+            out.end();
+
+            out.begin(OUT_TARGETS);
+            for (int e = 0; e < edgeCount; e++) {
+                out.putInt(index.outTarget(e));
+            }
+            out.end();
+
+            out.begin(OUT_KINDS);
+            for (int e = 0; e < edgeCount; e++) {
+                out.putByte((byte) index.outKind(e));
+            }
+            out.end();
+
+            out.begin(IN_OFFSETS);
+            for (int node = 0; node < nodeCount; node++) {
+                out.putInt(index.inStart(node));
+            }
+            out.putInt(edgeCount);
+            out.end();
+
+            out.begin(IN_SOURCES);
+            for (int e = 0; e < edgeCount; e++) {
+                out.putInt(index.inSource(e));
+            }
+            out.end();
+
+            out.begin(IN_KINDS);
+            for (int e = 0; e < edgeCount; e++) {
+                out.putByte((byte) index.inKind(e));
+            }
+            out.end();
+
+            out.begin(KIND_EDGE_BITMAPS);
+            int wordCount = index.edgeWordCount();
+            for (int kind = 0; kind < kindCount; kind++) {
+                for (int word = 0; word < wordCount; word++) {
+                    out.putLong(index.kindEdgeWord(kind, word));
+                }
+            }
+            out.end();
+            out.flush();
+
+            // ヘッダは最後に書き込む（途中で失敗した場合は識別子が書かれず、不正なファイルとして扱われる）
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(nodeCount);
+            header.putInt(edgeCount);
+            header.putInt(kindCount);
+            header.putInt(strings.size());
+            header.putInt(0);
+            header.putLong(index.generation());
+            for (int section = 0; section < SECTION_COUNT; section++) {
+                header.putLong(out.offsets[section]);
+                header.putLong(out.lengths[section]);
+            }
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        }
+    }
+
+    private static int intern(String value, List<byte[]> strings, Map<String, Integer> stringRefs) {
+        if (value == null) {
+            return StringTable.NONE;
+        }
+        Integer existing = stringRefs.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int ref = strings.size();
+        strings.add(value.getBytes(StandardCharsets.UTF_8));
+        stringRefs.put(value, ref);
+        return ref;
+    }
+
+    /**
+     * スナップショットファイルをメモリマップして開く
+     * ファイルは閉じてもマップしたバッファは参照できる（バッファが不要になった時点で解放される）
+     * グラフインデックスの解析世代はヘッダに記録された値とする
+     * @param file スナップショットファイル
+     * @return スナップショット
+     */
+    public static GraphSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong() != MAGIC) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("未対応のグラフスナップショットのバージョンです: " + version);
+            }
+            int nodeCount = header.getInt();
+            int edgeCount = header.getInt();
+            int kindCount = header.getInt();
+            header.getInt();
+            header.getInt();
+            long generation = header.getLong();
+            long[] offsets = new long[SECTION_COUNT];
+            long[] lengths = new long[SECTION_COUNT];
+            for (int section = 0; section < SECTION_COUNT; section++) {
+                offsets[section] = header.getLong();
+                lengths[section] = header.getLong();
+                if (offsets[section] < HEADER_SIZE || lengths[section] < 0 || offsets[section] + lengths[section] > fileSize) {
+                    throw new IOException("グラフスナップショットの形式が不正です: " + file);
+                }
+            }
+
+            ByteBuffer pathBytes = map(channel, offsets[PROJECT_PATH], lengths[PROJECT_PATH]);
+            byte[] path = new byte[pathBytes.remaining()];
+            pathBytes.get(path);
+            String projectPath = new String(path, StandardCharsets.UTF_8);
+
+            StringTable strings = StringTable.of(
+                    map(channel, offsets[STRING_OFFSETS], lengths[STRING_OFFSETS]).asIntBuffer(),
+                    map(channel, offsets[STRING_DATA], lengths[STRING_DATA]));
+
+            // 依存種類は件数が少ないため復号して保持する
+            IntBuffer kinds = map(channel, offsets[KINDS], lengths[KINDS]).asIntBuffer();
+            String[] kindCodes = new String[kindCount];
+            String[] kindDescriptions = new String[kindCount];
+            for (int kind = 0; kind < kindCount; kind++) {
+                kindCodes[kind] = strings.get(kinds.get(2 * kind));
+                kindDescriptions[kind] = strings.get(kinds.get(2 * kind + 1));
+            }
+
+            long bitmapLength = 8L * ((edgeCount + 63) >>> 6);
+            if (bitmapLength * kindCount != lengths[KIND_EDGE_BITMAPS]) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            LongBuffer[] kindEdgeBitmaps = new LongBuffer[kindCount];
+            for (int kind = 0; kind < kindCount; kind++) {
+                kindEdgeBitmaps[kind] = map(channel, offsets[KIND_EDGE_BITMAPS] + kind * bitmapLength, bitmapLength).asLongBuffer();
+            }
+
+            ClassGraphIndex index = new ClassGraphIndex(generation, nodeCount, edgeCount,
+                    map(channel, offsets[CLASS_IDS], lengths[CLASS_IDS]).asLongBuffer(),
+                    map(channel, offsets[CLASS_NAMES], lengths[CLASS_NAMES]).asIntBuffer(),
+                    strings,
+                    map(channel, offsets[NODES_BY_CLASS_ID], lengths[NODES_BY_CLASS_ID]).asIntBuffer(),
+                    map(channel, offsets[NODES_BY_NAME], lengths[NODES_BY_NAME]).asIntBuffer(),
+                    kindCodes, kindDescriptions,
+                    map(channel, offsets[OUT_OFFSETS], lengths[OUT_OFFSETS]).asIntBuffer(),
+                    map(channel, offsets[OUT_TARGETS], lengths[OUT_TARGETS]).asIntBuffer(),
+                    map(channel, offsets[OUT_KINDS], lengths[OUT_KINDS]),
+                    map(channel, offsets[IN_OFFSETS], lengths[IN_OFFSETS]).asIntBuffer(),
+                    map(channel, offsets[IN_SOURCES], lengths[IN_SOURCES]).asIntBuffer(),
+                    map(channel, offsets[IN_KINDS], lengths[IN_KINDS]),
+                    kindEdgeBitmaps);
+            return new GraphSnapshot(projectPath, index);
+        }
+    }
+
+    /**
+     * スナップショットファイルのヘッダとプロジェクトのルートパスのみを読み込む（メモリマップしない）
+     * @param file スナップショットファイル
+     * @return ヘッダ情報
+     */
+    public static Header readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            ByteBuffer header = read(channel, 0, HEADER_SIZE);
+            if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            int nodeCount = header.getInt();
+            int edgeCount = header.getInt();
+            header.position(FIXED_HEADER_SIZE - 8);
+            long generation = header.getLong();
+            header.position(FIXED_HEADER_SIZE + PROJECT_PATH * 16);
+            long pathOffset = header.getLong();
+            long pathLength = header.getLong();
+            if (pathOffset < HEADER_SIZE || pathLength < 0 || pathLength > Integer.MAX_VALUE
+                    || pathOffset + pathLength > channel.size()) {
+                throw new IOException("グラフスナップショットの形式が不正です: " + file);
+            }
+            ByteBuffer pathBytes = read(channel, pathOffset, (int) pathLength);
+            String projectPath = new String(pathBytes.array(), 0, (int) pathLength, StandardCharsets.UTF_8);
+            return new Header(projectPath, nodeCount, edgeCount, generation);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("グラフスナップショットの読み込み中にファイルの終端に達しました");
+            }
+            position += read;
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("グラフスナップショットのセクションが大きすぎます: " + length);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * スナップショットファイルのヘッダ情報
+     * @param projectPath プロジェクトのルートパス
+     * @param nodeCount ノード数（クラス数）
+     * @param edgeCount 辺数（依存関係数）
+     * @param generation 解析世代
+     */
+    public record Header(String projectPath, int nodeCount, int edgeCount, long generation) {
+    }
+
+    /**
+     * セクション単位の書き込み（ヘッダ領域の後ろから書き込み、各セクションの位置とバイト数を記録する）
+     */
+    private static final class SectionWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private final long[] offsets = new long[SECTION_COUNT];
+        private final long[] lengths = new long[SECTION_COUNT];
+        private long position = HEADER_SIZE;
+        private int section = -1;
+
+        private SectionWriter(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_SIZE);
+        }
+
+        private void begin(int section) throws IOException {
+            // 8バイト境界に揃える
+            while ((position & 7) != 0) {
+                putByte((byte) 0);
+            }
+            this.section = section;
+            offsets[section] = position;
+        }
+
+        private void end() {
+            lengths[section] = position - offsets[section];
+        }
+
+        private void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+            position++;
+        }
+
+        private void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+            position += 4;
+        }
+
+        private void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+            position += 8;
+        }
+
+        private void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+                position += length;
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
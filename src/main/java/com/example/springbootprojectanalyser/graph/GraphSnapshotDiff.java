@@ -0,0 +1,345 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * 2つのクラス依存グラフの差分
+ * 解析ごとにクラスIDは採番し直されるため、クラスは完全修飾名、依存種類は依存種類コードで対応付ける
+ *
+ * 1. 両方のグラフの完全修飾名順のノード列をマージし、完全修飾名の和集合での順位を各ノードに割り当てる
+ *    （一方にのみ存在する順位が追加・削除されたクラス）
+ * 2. 各辺を（依存元の順位, 依存先の順位, 依存種類の順位）を詰めたlong値に変換する
+ *    依存元の順位の順にノードを走査するため、依存元ごとの区間をソートするだけで全体がソート済みになる
+ * 3. 2つのソート済み配列をマージし、一方にのみ存在する辺を追加・削除された依存関係とする
+ *    （同じクラス間の同じ依存種類の辺が複数ある場合は1件として扱う）
+ */
+public final class GraphSnapshotDiff {
+
+    private final ClassGraphIndex base;
+    private final ClassGraphIndex target;
+    /** 順位 -> 比較元・比較先のノード番号（存在しない場合は-1） */
+    private final int[] baseNodeOfRank;
+    private final int[] targetNodeOfRank;
+    /** 追加・削除されたクラスの順位（完全修飾名順） */
+    private final int[] addedClassRanks;
+    private final int[] removedClassRanks;
+    /** 依存種類（依存種類コードの和集合、コード順） */
+    private final String[] kindCodes;
+    private final String[] kindDescriptions;
+    private final int[] addedEdgeCounts;
+    private final int[] removedEdgeCounts;
+    /** 追加・削除された辺（ソート済み） */
+    private final long[] addedEdges;
+    private final int addedEdgeCount;
+    private final long[] removedEdges;
+    private final int removedEdgeCount;
+    private final int nodeBits;
+    private final int kindBits;
+
+    private GraphSnapshotDiff(ClassGraphIndex base, ClassGraphIndex target, int[] baseNodeOfRank, int[] targetNodeOfRank,
+            int[] addedClassRanks, int[] removedClassRanks, String[] kindCodes, String[] kindDescriptions,
+            int[] addedEdgeCounts, int[] removedEdgeCounts, EdgeList added, EdgeList removed, int nodeBits, int kindBits) {
+        this.base = base;
+        this.target = target;
+        this.baseNodeOfRank = baseNodeOfRank;
+        this.targetNodeOfRank = targetNodeOfRank;
+        this.addedClassRanks = addedClassRanks;
+        this.removedClassRanks = removedClassRanks;
+        this.kindCodes = kindCodes;
+        this.kindDescriptions = kindDescriptions;
+        this.addedEdgeCounts = addedEdgeCounts;
+        this.removedEdgeCounts = removedEdgeCounts;
+        this.addedEdges = added.keys;
+        this.addedEdgeCount = added.size;
+        this.removedEdges = removed.keys;
+        this.removedEdgeCount = removed.size;
+        this.nodeBits = nodeBits;
+        this.kindBits = kindBits;
+    }
+
+    /**
+     * 2つのグラフを比較する
+     * @param base 比較元（以前の解析）のグラフインデックス
+     * @param target 比較先（新しい解析）のグラフインデックス
+     * @return 差分
+     */
+    public static GraphSnapshotDiff compare(ClassGraphIndex base, ClassGraphIndex target) {
+        // 1. 完全修飾名順のマージ
+        int baseCount = base.nodeCount();
+        int targetCount = target.nodeCount();
+        int[] baseRanks = new int[baseCount];
+        int[] targetRanks = new int[targetCount];
+        int[] baseNodeOfRank = new int[baseCount + targetCount];
+        int[] targetNodeOfRank = new int[baseCount + targetCount];
+        int rank = -1;
+        String lastName = null;
+        int i = 0;
+        int j = 0;
+        String baseName = baseCount > 0 ? base.fullQualifiedName(base.nodeByFullQualifiedNameOrder(0)) : null;
+        String targetName = targetCount > 0 ? target.fullQualifiedName(target.nodeByFullQualifiedNameOrder(0)) : null;
+        while (baseName != null || targetName != null) {
+            int compare = baseName == null ? 1 : targetName == null ? -1 : baseName.compareTo(targetName);
+            String name = compare <= 0 ? baseName : targetName;
+            if (!name.equals(lastName)) {
+                rank++;
+                baseNodeOfRank[rank] = -1;
+                targetNodeOfRank[rank] = -1;
+                lastName = name;
+            }
+            if (compare <= 0) {
+                int node = base.nodeByFullQualifiedNameOrder(i++);
+                baseRanks[node] = rank;
+                if (baseNodeOfRank[rank] < 0) {
+                    baseNodeOfRank[rank] = node;
+                }
+                baseName = i < baseCount ? base.fullQualifiedName(base.nodeByFullQualifiedNameOrder(i)) : null;
+            }
+            if (compare >= 0) {
+                int node = target.nodeByFullQualifiedNameOrder(j++);
+                targetRanks[node] = rank;
+                if (targetNodeOfRank[rank] < 0) {
+                    targetNodeOfRank[rank] = node;
+                }
+                targetName = j < targetCount ? target.fullQualifiedName(target.nodeByFullQualifiedNameOrder(j)) : null;
+            }
+        }
+        int rankCount = rank + 1;
+        int[] addedClassRanks = new int[rankCount];
+        int addedClassCount = 0;
+        int[] removedClassRanks = new int[rankCount];
+        int removedClassCount = 0;
+        for (int r = 0; r < rankCount; r++) {
+            if (baseNodeOfRank[r] < 0) {
+                addedClassRanks[addedClassCount++] = r;
+            } else if (targetNodeOfRank[r] < 0) {
+                removedClassRanks[removedClassCount++] = r;
+            }
+        }
+
+        // 依存種類コードの和集合（コード順）
+        TreeMap<String, String> kinds = new TreeMap<>();
+        for (int kind = 0; kind < base.kindCount(); kind++) {
+            kinds.put(base.kindCode(kind), base.kindDescription(kind));
+        }
+        for (int kind = 0; kind < target.kindCount(); kind++) {
+            kinds.put(target.kindCode(kind), target.kindDescription(kind));
+        }
+        String[] kindCodes = kinds.keySet().toArray(new String[0]);
+        String[] kindDescriptions = kinds.values().toArray(new String[0]);
+
+        int nodeBits = bitsFor(rankCount);
+        int kindBits = bitsFor(kindCodes.length);
+        if (2 * nodeBits + kindBits > 63) {
+            throw new IllegalArgumentException("比較するグラフが大きすぎます: classes=" + rankCount + ", kinds=" + kindCodes.length);
+        }
+
+        // 2. 辺をソート済みのlong配列に変換する
+        long[] baseEdges = sortedEdges(base, baseRanks, kindRanks(base, kindCodes), nodeBits, kindBits);
+        long[] targetEdges = sortedEdges(target, targetRanks, kindRanks(target, kindCodes), nodeBits, kindBits);
+
+        // 3. ソート済み配列のマージ
+        long kindMask = (1L << kindBits) - 1;
+        int[] addedEdgeCounts = new int[kindCodes.length];
+        int[] removedEdgeCounts = new int[kindCodes.length];
+        EdgeList added = new EdgeList();
+        EdgeList removed = new EdgeList();
+        i = 0;
+        j = 0;
+        while (i < baseEdges.length || j < targetEdges.length) {
+            if (j == targetEdges.length || (i < baseEdges.length && baseEdges[i] < targetEdges[j])) {
+                long key = baseEdges[i];
+                removed.add(key);
+                removedEdgeCounts[(int) (key & kindMask)]++;
+                i = skip(baseEdges, i, key);
+            } else if (i == baseEdges.length || targetEdges[j] < baseEdges[i]) {
+                long key = targetEdges[j];
+                added.add(key);
+                addedEdgeCounts[(int) (key & kindMask)]++;
+                j = skip(targetEdges, j, key);
+            } else {
+                long key = baseEdges[i];
+                i = skip(baseEdges, i, key);
+                j = skip(targetEdges, j, key);
+            }
+        }
+
+        return new GraphSnapshotDiff(base, target, baseNodeOfRank, targetNodeOfRank,
+                Arrays.copyOf(addedClassRanks, addedClassCount), Arrays.copyOf(removedClassRanks, removedClassCount),
+                kindCodes, kindDescriptions, addedEdgeCounts, removedEdgeCounts, added, removed, nodeBits, kindBits);
+    }
+
+    private static int bitsFor(int count) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 1)));
+    }
+
+    private static int[] kindRanks(ClassGraphIndex graph, String[] kindCodes) {
+        int[] ranks = new int[graph.kindCount()];
+        for (int kind = 0; kind < ranks.length; kind++) {
+            ranks[kind] = Arrays.binarySearch(kindCodes, graph.kindCode(kind));
+        }
+        return ranks;
+    }
+
+    /**
+     * 辺を（依存元の順位, 依存先の順位, 依存種類の順位）のlong値の昇順の配列に変換する
+     */
+    private static long[] sortedEdges(ClassGraphIndex graph, int[] ranks, int[] kindRanks, int nodeBits, int kindBits) {
+        long[] keys = new long[graph.edgeCount()];
+        int size = 0;
+        int segmentStart = 0;
+        int previousRank = -1;
+        for (int i = 0; i < graph.nodeCount(); i++) {
+            int node = graph.nodeByFullQualifiedNameOrder(i);
+            int rank = ranks[node];
+            // 同名のノードは同じ順位になるため、順位が変わった時点でその依存元の区間をソートする
+            if (rank != previousRank) {
+                Arrays.sort(keys, segmentStart, size);
+                segmentStart = size;
+                previousRank = rank;
+            }
+            long source = (long) rank << (nodeBits + kindBits);
+            for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+                keys[size++] = source | ((long) ranks[graph.outTarget(e)] << kindBits) | kindRanks[graph.outKind(e)];
+            }
+        }
+        Arrays.sort(keys, segmentStart, size);
+        return size == keys.length ? keys : Arrays.copyOf(keys, size);
+    }
+
+    private static int skip(long[] keys, int index, long key) {
+        while (index < keys.length && keys[index] == key) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 追加されたクラス数を取得する
+     */
+    public int addedClassCount() {
+        return addedClassRanks.length;
+    }
+
+    /**
+     * 追加されたクラスの完全修飾名を取得する（完全修飾名順）
+     */
+    public String addedClass(int i) {
+        return className(addedClassRanks[i]);
+    }
+
+    /**
+     * 削除されたクラス数を取得する
+     */
+    public int removedClassCount() {
+        return removedClassRanks.length;
+    }
+
+    /**
+     * 削除されたクラスの完全修飾名を取得する（完全修飾名順）
+     */
+    public String removedClass(int i) {
+        return className(removedClassRanks[i]);
+    }
+
+    /**
+     * 依存種類数（比較元・比較先の依存種類コードの和集合）を取得する
+     */
+    public int kindCount() {
+        return kindCodes.length;
+    }
+
+    public String kindCode(int kind) {
+        return kindCodes[kind];
+    }
+
+    public String kindDescription(int kind) {
+        return kindDescriptions[kind];
+    }
+
+    /**
+     * 依存種類ごとの追加された依存関係数を取得する
+     */
+    public int addedEdgeCount(int kind) {
+        return addedEdgeCounts[kind];
+    }
+
+    /**
+     * 依存種類ごとの削除された依存関係数を取得する
+     */
+    public int removedEdgeCount(int kind) {
+        return removedEdgeCounts[kind];
+    }
+
+    /**
+     * 追加された依存関係数を取得する
+     */
+    public int addedEdgeCount() {
+        return addedEdgeCount;
+    }
+
+    /**
+     * 追加された依存関係を取得する（依存元・依存先の完全修飾名、依存種類コードの順）
+     */
+    public Edge addedEdge(int i) {
+        return edge(addedEdges[i]);
+    }
+
+    /**
+     * 削除された依存関係数を取得する
+     */
+    public int removedEdgeCount() {
+        return removedEdgeCount;
+    }
+
+    /**
+     * 削除された依存関係を取得する（依存元・依存先の完全修飾名、依存種類コードの順）
+     */
+    public Edge removedEdge(int i) {
+        return edge(removedEdges[i]);
+    }
+
+    /**
+     * 追加された依存関係の依存種類を取得する（依存関係を復号せずに依存種類で絞り込む場合に使用する）
+     */
+    public int addedEdgeKind(int i) {
+        return (int) (addedEdges[i] & ((1L << kindBits) - 1));
+    }
+
+    private Edge edge(long key) {
+        long nodeMask = (1L << nodeBits) - 1;
+        int sourceRank = (int) (key >>> (nodeBits + kindBits));
+        int targetRank = (int) ((key >>> kindBits) & nodeMask);
+        int kind = (int) (key & ((1L << kindBits) - 1));
+        return new Edge(className(sourceRank), className(targetRank), kind);
+    }
+
+    private String className(int rank) {
+        int node = targetNodeOfRank[rank];
+        return node >= 0 ? target.fullQualifiedName(node) : base.fullQualifiedName(baseNodeOfRank[rank]);
+    }
+
+    /**
+     * 依存関係
+     * @param sourceClass 依存元クラスの完全修飾名
+     * @param targetClass 依存先クラスの完全修飾名
+     * @param kind 依存種類（{@link #kindCode(int)}の引数）
+     */
+    public record Edge(String sourceClass, String targetClass, int kind) {
+    }
+
+    /**
+     * 伸長可能なlong配列
+     */
+    private static final class EdgeList {
+        private long[] keys = new long[64];
+        private int size;
+
+        void add(long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size++] = key;
+        }
+    }
+}
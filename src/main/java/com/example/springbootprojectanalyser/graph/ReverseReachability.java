@@ -0,0 +1,115 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 逆方向の到達可能性（影響範囲）
+ * 変更したクラスに直接・間接に依存している全てのクラスを、逆方向の辺を辿る幅優先探索で求める
+ * 探索済みノードと探索前線はノード64件を1ワードに詰めたビット集合（long配列）で保持し、
+ * 前線のワード単位で走査する（前線が空のワードは読み飛ばす）
+ */
+public final class ReverseReachability {
+
+    /** ノード -> 変更したクラスからの距離（到達しない場合は-1） */
+    private final int[] distances;
+    private final int reachedCount;
+    private final int maxDistance;
+
+    private ReverseReachability(int[] distances, int reachedCount, int maxDistance) {
+        this.distances = distances;
+        this.reachedCount = reachedCount;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 影響範囲を求める
+     * @param graph グラフインデックス
+     * @param startNodes 変更したクラスのノード番号
+     * @param kinds 辿る依存種類IDの集合
+     * @return 影響範囲
+     */
+    public static ReverseReachability compute(ClassGraphIndex graph, int[] startNodes, BitSet kinds) {
+        int nodeCount = graph.nodeCount();
+        int wordCount = (nodeCount + 63) >>> 6;
+        long[] visited = new long[wordCount];
+        long[] frontier = new long[wordCount];
+        long[] next = new long[wordCount];
+        int[] distances = new int[nodeCount];
+        Arrays.fill(distances, -1);
+
+        boolean[] kindAllowed = new boolean[graph.kindCount()];
+        for (int kind = kinds.nextSetBit(0); kind >= 0 && kind < kindAllowed.length; kind = kinds.nextSetBit(kind + 1)) {
+            kindAllowed[kind] = true;
+        }
+
+        int reachedCount = 0;
+        for (int node : startNodes) {
+            if ((visited[node >>> 6] & (1L << node)) == 0) {
+                visited[node >>> 6] |= 1L << node;
+                frontier[node >>> 6] |= 1L << node;
+                distances[node] = 0;
+                reachedCount++;
+            }
+        }
+
+        int distance = 0;
+        boolean active = reachedCount > 0;
+        while (active) {
+            distance++;
+            active = false;
+            for (int word = 0; word < wordCount; word++) {
+                long bits = frontier[word];
+                while (bits != 0) {
+                    int node = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    for (int e = graph.inStart(node); e < graph.inEnd(node); e++) {
+                        if (!kindAllowed[graph.inKind(e)]) {
+                            continue;
+                        }
+                        int source = graph.inSource(e);
+                        long mask = 1L << source;
+                        if ((visited[source >>> 6] & mask) == 0) {
+                            visited[source >>> 6] |= mask;
+                            next[source >>> 6] |= mask;
+                            distances[source] = distance;
+                            reachedCount++;
+                            active = true;
+                        }
+                    }
+                }
+            }
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+            Arrays.fill(next, 0L);
+        }
+        return new ReverseReachability(distances, reachedCount, Math.max(distance - 1, 0));
+    }
+
+    /**
+     * 変更したクラスからの距離を取得する
+     * @return 距離（変更したクラスは0、到達しない場合は-1）
+     */
+    public int distance(int node) {
+        return distances[node];
+    }
+
+    public boolean isReached(int node) {
+        return distances[node] >= 0;
+    }
+
+    /**
+     * 到達したノード数（変更したクラスを含む）を取得する
+     */
+    public int reachedCount() {
+        return reachedCount;
+    }
+
+    /**
+     * 最も遠いノードまでの距離を取得する
+     */
+    public int maxDistance() {
+        return maxDistance;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 文字列表
+ * 文字列を番号で参照する。ヒープ上の配列、またはUTF-8のバイト列と各文字列の開始位置（メモリマップ可）で保持し、
+ * バイト列の場合は参照のたびに該当部分のみを復号する
+ */
+final class StringTable {
+
+    /** 文字列が存在しない（null）ことを表す番号 */
+    static final int NONE = -1;
+
+    private final String[] values;
+    private final IntBuffer offsets;
+    private final ByteBuffer data;
+
+    private StringTable(String[] values, IntBuffer offsets, ByteBuffer data) {
+        this.values = values;
+        this.offsets = offsets;
+        this.data = data;
+    }
+
+    /**
+     * ヒープ上の配列から文字列表を生成する
+     */
+    static StringTable of(String[] values) {
+        return new StringTable(values, null, null);
+    }
+
+    /**
+     * UTF-8のバイト列から文字列表を生成する
+     * @param offsets 各文字列の開始位置（要素数は文字列数 + 1、最後の要素は終了位置）
+     * @param data UTF-8のバイト列
+     */
+    static StringTable of(IntBuffer offsets, ByteBuffer data) {
+        return new StringTable(null, offsets, data);
+    }
+
+    String get(int ref) {
+        if (ref == NONE) {
+            return null;
+        }
+        if (values != null) {
+            return values[ref];
+        }
+        int start = offsets.get(ref);
+        byte[] bytes = new byte[offsets.get(ref + 1) - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.springbootprojectanalyser.graph;
+
+import java.util.Arrays;
+
+/**
+ * 強連結成分分解（Tarjanのアルゴリズム）
+ * CSR形式の有向グラフを再帰を使わずに探索し（大規模なグラフでもスタックオーバーフローしない）、
+ * 各ノードを強連結成分に割り当てる
+ * 成分番号は成分が確定した順（依存先の成分が先、逆トポロジカル順）に振られる
+ */
+public final class StronglyConnectedComponents {
+
+    private final int[] componentOfNode;
+    /** 成分cのノードは members[memberOffsets[c]] 〜 members[memberOffsets[c + 1] - 1]（ノード番号順） */
+    private final int[] memberOffsets;
+    private final int[] members;
+
+    private StronglyConnectedComponents(int[] componentOfNode, int componentCount) {
+        this.componentOfNode = componentOfNode;
+        this.memberOffsets = new int[componentCount + 1];
+        for (int component : componentOfNode) {
+            memberOffsets[component + 1]++;
+        }
+        for (int component = 0; component < componentCount; component++) {
+            memberOffsets[component + 1] += memberOffsets[component];
+        }
+        this.members = new int[componentOfNode.length];
+        int[] cursor = Arrays.copyOf(memberOffsets, componentCount);
+        for (int node = 0; node < componentOfNode.length; node++) {
+            members[cursor[componentOfNode[node]]++] = node;
+        }
+    }
+
+    /**
+     * 強連結成分分解を行う
+     * @param nodeCount ノード数
+     * @param offsets ノードiの辺は targets[offsets[i]] 〜 targets[offsets[i + 1] - 1]
+     * @param targets 辺の接続先ノード番号
+     * @return 強連結成分
+     */
+    public static StronglyConnectedComponents compute(int nodeCount, int[] offsets, int[] targets) {
+        int[] index = new int[nodeCount];
+        Arrays.fill(index, -1);
+        int[] lowLink = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        int[] stack = new int[nodeCount];
+        int stackSize = 0;
+        // 再帰呼び出しの代わりに、探索中のノードと次に辿る辺の位置を配列で保持する
+        int[] callStack = new int[nodeCount];
+        int[] edgeCursor = new int[nodeCount];
+        int[] componentOfNode = new int[nodeCount];
+        int componentCount = 0;
+        int nextIndex = 0;
+
+        for (int root = 0; root < nodeCount; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = root;
+            index[root] = nextIndex;
+            lowLink[root] = nextIndex;
+            nextIndex++;
+            edgeCursor[root] = offsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int node = callStack[depth - 1];
+                if (edgeCursor[node] < offsets[node + 1]) {
+                    int target = targets[edgeCursor[node]++];
+                    if (index[target] < 0) {
+                        index[target] = nextIndex;
+                        lowLink[target] = nextIndex;
+                        nextIndex++;
+                        edgeCursor[target] = offsets[target];
+                        stack[stackSize++] = target;
+                        onStack[target] = true;
+                        callStack[depth++] = target;
+                    } else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+
+                // ノードの探索完了
+                depth--;
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        componentOfNode[member] = componentCount;
+                    } while (member != node);
+                    componentCount++;
+                }
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+            }
+        }
+        return new StronglyConnectedComponents(componentOfNode, componentCount);
+    }
+
+    /**
+     * 強連結成分数を取得する
+     */
+    public int componentCount() {
+        return memberOffsets.length - 1;
+    }
+
+    /**
+     * ノードが属する強連結成分の番号を取得する
+     */
+    public int componentOf(int node) {
+        return componentOfNode[node];
+    }
+
+    /**
+     * 強連結成分のノード数を取得する
+     */
+    public int size(int component) {
+        return memberOffsets[component + 1] - memberOffsets[component];
+    }
+
+    /**
+     * 強連結成分のノード番号を取得する（ノード番号順）
+     */
+    public int[] members(int component) {
+        return Arrays.copyOfRange(members, memberOffsets[component], memberOffsets[component + 1]);
+    }
+}
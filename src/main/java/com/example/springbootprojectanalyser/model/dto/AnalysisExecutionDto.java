@@ -2,10 +2,20 @@ package com.example.springbootprojectanalyser.model.dto;
 
 /**
  * 解析実行DTO
+ * @param frontend 解析方式（source: ソースコード、bytecode: クラスファイル、未指定の場合は設定値）
  */
 public record AnalysisExecutionDto(
     String targetProjectPath,
-    String targetPackagePattern
+    String targetPackagePattern,
+    String frontend
 ) {
-}
 
+    /** 解析方式: ソースコード */
+    public static final String FRONTEND_SOURCE = "source";
+    /** 解析方式: クラスファイル */
+    public static final String FRONTEND_BYTECODE = "bytecode";
+
+    public AnalysisExecutionDto(String targetProjectPath, String targetPackagePattern) {
+        this(targetProjectPath, targetPackagePattern, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * ビルド依存関係DTO
+ * depth: 依存関係ツリーの深さ（ビルドファイルで宣言された依存関係は1）
+ * parent: 依存元（groupId:artifactId:version形式、ビルドファイルで宣言された依存関係はnull）
+ * resolved: ローカルリポジトリでPOMが見つかった場合はtrue（見つからない場合は推移的な依存関係を含まない）
+ */
+public record BuildDependencyDto(
+    String module,
+    String modulePath,
+    int depth,
+    String groupId,
+    String artifactId,
+    String version,
+    String scope,
+    String classifier,
+    boolean optional,
+    String parent,
+    boolean resolved
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * 変更ファイル解析結果DTO
+ * deltaは直近の解析結果のグラフと、変更ファイルを再解析して反映したグラフの差分
+ * （比較先はスナップショットではないため、delta.targetSnapshotはnull）
+ * ビルドファイルの変更は一覧のみ（ビルド依存はクラス間の依存関係ではないため、反映には全体の解析が必要）
+ */
+public record ChangedFilesAnalysisDto(
+    String baseRef,
+    String baseCommit,
+    List<String> changedJavaFiles,
+    List<String> deletedJavaFiles,
+    List<String> changedBuildFiles,
+    int dependantFileCount,
+    long elapsedMillis,
+    SnapshotDiffDto delta
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * クラス図キャッシュ統計DTO
+ */
+public record ClassDiagramCacheStatsDto(
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount,
+    int entryCount,
+    long totalWeight,
+    int maxEntries,
+    long maxWeight,
+    int precomputedCount,
+    long precomputedWeight
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * 追加・削除された依存関係DTO
+ */
+public record DependencyChangeDto(
+    String sourceClass,
+    String targetClass,
+    String dependencyKindCode,
+    String dependencyKindDescription
+) {
+}
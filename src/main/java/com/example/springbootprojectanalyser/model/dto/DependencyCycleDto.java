@@ -0,0 +1,19 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * 依存関係の循環DTO
+ * membersは循環を構成するクラス（またはパッケージ）の名前（名前順）、
+ * examplePathは循環の一例（先頭と末尾が同じ名前の経路）
+ */
+public record DependencyCycleDto(
+    String scope,
+    String kindFilter,
+    int cycleIndex,
+    int memberCount,
+    int edgeCount,
+    List<String> members,
+    List<String> examplePath
+) {
+}
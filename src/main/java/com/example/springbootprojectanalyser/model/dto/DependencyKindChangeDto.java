@@ -0,0 +1,12 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * 依存種類ごとの依存関係の増減DTO
+ */
+public record DependencyKindChangeDto(
+    String dependencyKindCode,
+    String dependencyKindDescription,
+    int addedCount,
+    int removedCount
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * 依存経路DTO
+ * lengthは経路の依存関係の段数、classesは開始クラスから終了クラスまでの完全修飾名
+ */
+public record DependencyPathDto(
+    int length,
+    List<String> classes,
+    List<DependencyPathHopDto> hops
+) {
+}
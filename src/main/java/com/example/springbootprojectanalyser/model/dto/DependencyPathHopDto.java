@@ -0,0 +1,15 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * 依存経路の区間DTO
+ * 依存元クラスから依存先クラスへの依存種類（探索対象のもののみ）を保持する
+ */
+public record DependencyPathHopDto(
+    String sourceClass,
+    String targetClass,
+    List<String> dependencyKindCodes,
+    List<String> dependencyKindDescriptions
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * クラス図事前生成ステータスDTO
+ * state: RUNNING / COMPLETED / CANCELLED / FAILED
+ */
+public record DiagramPrecomputeStatusDto(
+    Long projectId,
+    long generation,
+    String state,
+    int endpointCount,
+    int completedCount,
+    int failedCount,
+    long elapsedMillis
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * ファイル更新の反映結果DTO
+ * fullAnalysis: ファイル単位で反映できず、プロジェクト全体を再解析した場合はtrue
+ */
+public record FileUpdateResultDto(
+    List<String> updatedFiles,
+    List<String> deletedFiles,
+    int dependantFileCount,
+    int addedClassCount,
+    int removedClassCount,
+    boolean fullAnalysis,
+    long generation,
+    long elapsedMillis
+) {
+}
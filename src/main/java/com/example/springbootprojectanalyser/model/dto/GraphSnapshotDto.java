@@ -0,0 +1,15 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * グラフスナップショットDTO
+ * snapshotIdは解析終了時に書き出したスナップショットの識別子（書き出し時刻のエポックミリ秒）
+ */
+public record GraphSnapshotDto(
+    Long snapshotId,
+    LocalDateTime createdAt,
+    int classCount,
+    int dependencyCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * 影響分析結果DTO
+ * affectedClassesは変更したクラスに直接・間接に依存しているクラス（変更したクラス自体を除く、距離・名前順）、
+ * affectedEndpointsは変更したクラスまたは影響を受けるクラスで定義されたエンドポイント
+ */
+public record ImpactAnalysisDto(
+    List<String> changedClasses,
+    List<String> unknownClasses,
+    String kindFilter,
+    int maxDistance,
+    List<ImpactedClassDto> affectedClasses,
+    List<EndpointDto> affectedEndpoints
+) {
+}
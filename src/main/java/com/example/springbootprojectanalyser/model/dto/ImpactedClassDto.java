@@ -0,0 +1,13 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * 影響を受けるクラスDTO
+ * distanceは変更したクラスからの依存関係の段数（直接依存している場合は1）
+ */
+public record ImpactedClassDto(
+    Long id,
+    String fullQualifiedName,
+    String simpleName,
+    int distance
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * モジュール間依存関係DTO
+ * dependencyCount: 依存元モジュールのクラスから依存先モジュールのクラスへの依存関係の件数
+ * declared: 依存元モジュールのビルドファイルで依存先モジュールへの依存が宣言されている場合はtrue
+ */
+public record ModuleDependencyDto(
+    String sourceModule,
+    String sourcePath,
+    String targetModule,
+    String targetPath,
+    long dependencyCount,
+    boolean declared
+) {
+}
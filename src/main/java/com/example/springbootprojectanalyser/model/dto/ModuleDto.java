@@ -0,0 +1,15 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * モジュールDTO
+ * pathはプロジェクトのルートパスからの相対パス（ルートのモジュールは空文字）
+ */
+public record ModuleDto(
+    String name,
+    String path,
+    String buildFile,
+    String artifactKey,
+    int fileCount,
+    long classCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * モジュール単位の再解析結果DTO
+ * changedModules: ソースが変更され再解析したモジュール、skippedModules: 変更がなく再解析しなかったモジュール
+ * fullAnalysis: モジュール構成またはビルドファイルが変更され、プロジェクト全体を再解析した場合はtrue
+ * update: 変更されたモジュールのファイル更新の反映結果（再解析しなかった場合はnull）
+ */
+public record ModuleRefreshResultDto(
+    List<String> changedModules,
+    List<String> skippedModules,
+    boolean fullAnalysis,
+    FileUpdateResultDto update,
+    long elapsedMillis
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * モジュール構成DTO
+ * プロジェクトのモジュール（パス順）とモジュール間の依存関係
+ */
+public record ModuleStructureDto(
+    Long projectId,
+    List<ModuleDto> modules,
+    List<ModuleDependencyDto> dependencies
+) {
+}
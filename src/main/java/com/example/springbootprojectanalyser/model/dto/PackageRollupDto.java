@@ -0,0 +1,21 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.Map;
+
+/**
+ * パッケージ集計DTO
+ * subtree*はサブパッケージを含めた合計値
+ */
+public record PackageRollupDto(
+    String packageName,
+    int classCount,
+    int subtreeClassCount,
+    long outgoingEdgeCount,
+    long incomingEdgeCount,
+    long subtreeOutgoingEdgeCount,
+    long subtreeIncomingEdgeCount,
+    Map<String, Long> dependencyKindCounts,
+    Map<String, Long> subtreeDependencyKindCounts
+) {
+}
+
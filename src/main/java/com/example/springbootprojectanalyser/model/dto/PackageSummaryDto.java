@@ -10,7 +10,10 @@ public record PackageSummaryDto(
     String packageName,
     int classCount,
     List<String> classNames,
-    Map<String, Long> dependencyKindCounts
+    Map<String, Long> dependencyKindCounts,
+    int subtreeClassCount,
+    long outgoingEdgeCount,
+    long incomingEdgeCount
 ) {
 }
 
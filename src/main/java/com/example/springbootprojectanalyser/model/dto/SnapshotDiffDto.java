@@ -0,0 +1,26 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+import java.util.List;
+
+/**
+ * スナップショット差分DTO
+ * 件数は全件、各リストは先頭からlimit件まで（クラスは完全修飾名順、依存関係は依存元・依存先の完全修飾名順）
+ * addedLayerDependenciesは追加された依存関係のうちレイヤー間の依存種類（009_*）のもの
+ */
+public record SnapshotDiffDto(
+    GraphSnapshotDto baseSnapshot,
+    GraphSnapshotDto targetSnapshot,
+    int addedClassCount,
+    int removedClassCount,
+    int addedDependencyCount,
+    int removedDependencyCount,
+    int addedLayerDependencyCount,
+    List<String> addedClasses,
+    List<String> removedClasses,
+    List<DependencyKindChangeDto> kindChanges,
+    List<DependencyChangeDto> addedLayerDependencies,
+    List<DependencyChangeDto> addedDependencies,
+    List<DependencyChangeDto> removedDependencies,
+    int limit
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.springbootprojectanalyser.model.dto;
+
+/**
+ * ソース監視ステータスDTO
+ * lastUpdate: 直近のファイル更新の反映結果（未反映の場合はnull）
+ * lastError: 直近の反映で発生したエラー（成功した場合はnull）
+ */
+public record SourceWatchStatusDto(
+    Long projectId,
+    String projectPath,
+    boolean active,
+    long debounceMillis,
+    int watchedDirectoryCount,
+    long updateCount,
+    FileUpdateResultDto lastUpdate,
+    String lastError
+) {
+}
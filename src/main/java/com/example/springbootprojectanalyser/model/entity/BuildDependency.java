@@ -0,0 +1,178 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * ビルド依存関係エンティティ
+ * モジュールのビルドファイルで宣言された依存関係と、ローカルリポジトリで解決した推移的な依存関係を
+ * 依存関係ツリーの深さ優先の順（treePosition）で保持する
+ */
+@Entity
+@Table(name = "build_dependencies")
+public class BuildDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "module_id", nullable = false)
+    private ModuleInfo moduleInfo;
+
+    @Column(name = "tree_position", nullable = false)
+    private int treePosition;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "group_id", nullable = false)
+    private String groupId;
+
+    @Column(name = "artifact_id", nullable = false)
+    private String artifactId;
+
+    @Column
+    private String version;
+
+    @Column
+    private String scope;
+
+    @Column
+    private String classifier;
+
+    @Column(nullable = false)
+    private boolean optional;
+
+    @Column(name = "parent_coordinates")
+    private String parentCoordinates;
+
+    @Column(nullable = false)
+    private boolean resolved;
+
+    public BuildDependency() {
+    }
+
+    public BuildDependency(Project project, ModuleInfo moduleInfo, int treePosition, int depth, String groupId, String artifactId,
+                           String version, String scope, String classifier, boolean optional, String parentCoordinates, boolean resolved) {
+        this.project = project;
+        this.moduleInfo = moduleInfo;
+        this.treePosition = treePosition;
+        this.depth = depth;
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.scope = scope;
+        this.classifier = classifier;
+        this.optional = optional;
+        this.parentCoordinates = parentCoordinates;
+        this.resolved = resolved;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public ModuleInfo getModuleInfo() {
+        return moduleInfo;
+    }
+
+    public void setModuleInfo(ModuleInfo moduleInfo) {
+        this.moduleInfo = moduleInfo;
+    }
+
+    public int getTreePosition() {
+        return treePosition;
+    }
+
+    public void setTreePosition(int treePosition) {
+        this.treePosition = treePosition;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(String groupId) {
+        this.groupId = groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public void setArtifactId(String artifactId) {
+        this.artifactId = artifactId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getClassifier() {
+        return classifier;
+    }
+
+    public void setClassifier(String classifier) {
+        this.classifier = classifier;
+    }
+
+    public boolean isOptional() {
+        return optional;
+    }
+
+    public void setOptional(boolean optional) {
+        this.optional = optional;
+    }
+
+    public String getParentCoordinates() {
+        return parentCoordinates;
+    }
+
+    public void setParentCoordinates(String parentCoordinates) {
+        this.parentCoordinates = parentCoordinates;
+    }
+
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    public void setResolved(boolean resolved) {
+        this.resolved = resolved;
+    }
+}
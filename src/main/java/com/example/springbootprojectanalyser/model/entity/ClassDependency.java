@@ -6,6 +6,7 @@ import java.util.UUID;
 
 /**
  * クラス依存関係エンティティ
+ * 依存元クラスの完全修飾名・依存先識別子はシンボル辞書（symbols）のIDで参照する
  */
 @Entity
 @Table(name = "class_dependencies")
@@ -23,11 +24,13 @@ public class ClassDependency {
     @JoinColumn(name = "target_class_id")
     private ClassEntity targetClass;
 
-    @Column(nullable = false)
-    private String sourceClassFqn;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_class_fqn_symbol_id", nullable = false)
+    private Symbol sourceClassFqnSymbol;
 
-    @Column(nullable = false)
-    private String targetIdentifier;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_identifier_symbol_id", nullable = false)
+    private Symbol targetIdentifierSymbol;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dependency_kind_code", nullable = false)
@@ -39,12 +42,12 @@ public class ClassDependency {
     public ClassDependency() {
     }
 
-    public ClassDependency(ClassEntity sourceClass, String sourceClassFqn, String targetIdentifier,
+    public ClassDependency(ClassEntity sourceClass, Symbol sourceClassFqnSymbol, Symbol targetIdentifierSymbol,
             DependencyKindEntity dependencyKind) {
         this.dependencyRecordId = UUID.randomUUID().toString();
         this.sourceClass = sourceClass;
-        this.sourceClassFqn = sourceClassFqn;
-        this.targetIdentifier = targetIdentifier;
+        this.sourceClassFqnSymbol = sourceClassFqnSymbol;
+        this.targetIdentifierSymbol = targetIdentifierSymbol;
         this.dependencyKind = dependencyKind;
         this.detectedAt = LocalDateTime.now();
     }
@@ -73,20 +76,28 @@ public class ClassDependency {
         this.targetClass = targetClass;
     }
 
-    public String getSourceClassFqn() {
-        return sourceClassFqn;
+    public Symbol getSourceClassFqnSymbol() {
+        return sourceClassFqnSymbol;
     }
 
-    public void setSourceClassFqn(String sourceClassFqn) {
-        this.sourceClassFqn = sourceClassFqn;
+    public void setSourceClassFqnSymbol(Symbol sourceClassFqnSymbol) {
+        this.sourceClassFqnSymbol = sourceClassFqnSymbol;
     }
 
-    public String getTargetIdentifier() {
-        return targetIdentifier;
+    public Symbol getTargetIdentifierSymbol() {
+        return targetIdentifierSymbol;
     }
 
-    public void setTargetIdentifier(String targetIdentifier) {
-        this.targetIdentifier = targetIdentifier;
+    public void setTargetIdentifierSymbol(Symbol targetIdentifierSymbol) {
+        this.targetIdentifierSymbol = targetIdentifierSymbol;
+    }
+
+    public String getSourceClassFqn() {
+        return sourceClassFqnSymbol != null ? sourceClassFqnSymbol.getValue() : null;
+    }
+
+    public String getTargetIdentifier() {
+        return targetIdentifierSymbol != null ? targetIdentifierSymbol.getValue() : null;
     }
 
     public DependencyKindEntity getDependencyKind() {
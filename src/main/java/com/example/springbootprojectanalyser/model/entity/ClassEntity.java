@@ -24,12 +24,31 @@ public class ClassEntity {
     @JoinColumn(name = "package_id")
     private PackageInfo packageInfo;
 
+    /** クラスが属するモジュール */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "module_id")
+    private ModuleInfo moduleInfo;
+
     @Column(nullable = false)
     private String fullQualifiedName;
 
     @Column(nullable = false)
     private String simpleName;
 
+    /** ソースファイルのパス（プロジェクトルートからの相対パス、区切り文字は/） */
+    @Column(length = 2000)
+    private String sourcePath;
+
+    /** クラス宣言の開始行・終了行（1始まり） */
+    private Integer sourceStartLine;
+
+    private Integer sourceEndLine;
+
+    /** クラス宣言の開始・終了位置（ファイル先頭からのバイトオフセット、終了位置は含まない） */
+    private Long sourceStartOffset;
+
+    private Long sourceEndOffset;
+
     @OneToMany(mappedBy = "sourceClass", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ClassDependency> outgoingDependencies = new ArrayList<>();
 
@@ -70,6 +89,14 @@ public class ClassEntity {
         this.packageInfo = packageInfo;
     }
 
+    public ModuleInfo getModuleInfo() {
+        return moduleInfo;
+    }
+
+    public void setModuleInfo(ModuleInfo moduleInfo) {
+        this.moduleInfo = moduleInfo;
+    }
+
     public String getFullQualifiedName() {
         return fullQualifiedName;
     }
@@ -86,6 +113,46 @@ public class ClassEntity {
         this.simpleName = simpleName;
     }
 
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    public void setSourcePath(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    public Integer getSourceStartLine() {
+        return sourceStartLine;
+    }
+
+    public void setSourceStartLine(Integer sourceStartLine) {
+        this.sourceStartLine = sourceStartLine;
+    }
+
+    public Integer getSourceEndLine() {
+        return sourceEndLine;
+    }
+
+    public void setSourceEndLine(Integer sourceEndLine) {
+        this.sourceEndLine = sourceEndLine;
+    }
+
+    public Long getSourceStartOffset() {
+        return sourceStartOffset;
+    }
+
+    public void setSourceStartOffset(Long sourceStartOffset) {
+        this.sourceStartOffset = sourceStartOffset;
+    }
+
+    public Long getSourceEndOffset() {
+        return sourceEndOffset;
+    }
+
+    public void setSourceEndOffset(Long sourceEndOffset) {
+        this.sourceEndOffset = sourceEndOffset;
+    }
+
     public List<ClassDependency> getOutgoingDependencies() {
         return outgoingDependencies;
     }
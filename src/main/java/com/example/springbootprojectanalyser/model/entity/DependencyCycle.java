@@ -0,0 +1,132 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 依存関係の循環エンティティ
+ * 解析時に検出した循環（2件以上のクラスまたはパッケージからなる強連結成分）を
+ * 対象範囲（CLASS/PACKAGE）・依存種類フィルタごとに保持する
+ * membersとexamplePathは名前を改行区切りで連結した文字列
+ */
+@Entity
+@Table(name = "dependency_cycles")
+public class DependencyCycle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 20)
+    private String scope;
+
+    @Column(nullable = false, length = 500)
+    private String kindFilter;
+
+    @Column(nullable = false)
+    private int cycleIndex;
+
+    @Column(nullable = false)
+    private int memberCount;
+
+    @Column(nullable = false)
+    private int edgeCount;
+
+    @Lob
+    @Column(nullable = false)
+    private String members;
+
+    @Lob
+    @Column(nullable = false)
+    private String examplePath;
+
+    public DependencyCycle() {
+    }
+
+    public DependencyCycle(Project project, String scope, String kindFilter, int cycleIndex,
+            int memberCount, int edgeCount, String members, String examplePath) {
+        this.project = project;
+        this.scope = scope;
+        this.kindFilter = kindFilter;
+        this.cycleIndex = cycleIndex;
+        this.memberCount = memberCount;
+        this.edgeCount = edgeCount;
+        this.members = members;
+        this.examplePath = examplePath;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public String getKindFilter() {
+        return kindFilter;
+    }
+
+    public void setKindFilter(String kindFilter) {
+        this.kindFilter = kindFilter;
+    }
+
+    public int getCycleIndex() {
+        return cycleIndex;
+    }
+
+    public void setCycleIndex(int cycleIndex) {
+        this.cycleIndex = cycleIndex;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public void setEdgeCount(int edgeCount) {
+        this.edgeCount = edgeCount;
+    }
+
+    public String getMembers() {
+        return members;
+    }
+
+    public void setMembers(String members) {
+        this.members = members;
+    }
+
+    public String getExamplePath() {
+        return examplePath;
+    }
+
+    public void setExamplePath(String examplePath) {
+        this.examplePath = examplePath;
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.springbootprojectanalyser.model.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * エンドポイントエンティティ
+ * IDを事前に採番するため、Persistableで新規判定を行い保存時の存在確認（SELECT）を省略する
  */
 @Entity
 @Table(name = "endpoints")
-public class Endpoint {
+public class Endpoint implements Persistable<String> {
 
     @Id
     @Column(nullable = false, unique = true, length = 36)
@@ -29,6 +32,9 @@ public class Endpoint {
     @Column(nullable = false)
     private LocalDateTime detectedAt;
 
+    @Transient
+    private boolean newEntity = true;
+
     public Endpoint() {
     }
 
@@ -40,6 +46,22 @@ public class Endpoint {
         this.detectedAt = LocalDateTime.now();
     }
 
+    @Override
+    public String getId() {
+        return endpointId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public String getEndpointId() {
         return endpointId;
     }
@@ -0,0 +1,94 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * モジュール間依存関係エンティティ
+ * 異なるモジュールのクラス間の依存関係の件数と、依存元モジュールのビルドファイルで
+ * 依存先モジュールへの依存が宣言されているかを保持する
+ */
+@Entity
+@Table(name = "module_dependencies")
+public class ModuleDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "source_module_id", nullable = false)
+    private ModuleInfo sourceModule;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_module_id", nullable = false)
+    private ModuleInfo targetModule;
+
+    @Column(nullable = false)
+    private long dependencyCount;
+
+    @Column(nullable = false)
+    private boolean declared;
+
+    public ModuleDependency() {
+    }
+
+    public ModuleDependency(Project project, ModuleInfo sourceModule, ModuleInfo targetModule, long dependencyCount, boolean declared) {
+        this.project = project;
+        this.sourceModule = sourceModule;
+        this.targetModule = targetModule;
+        this.dependencyCount = dependencyCount;
+        this.declared = declared;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public ModuleInfo getSourceModule() {
+        return sourceModule;
+    }
+
+    public void setSourceModule(ModuleInfo sourceModule) {
+        this.sourceModule = sourceModule;
+    }
+
+    public ModuleInfo getTargetModule() {
+        return targetModule;
+    }
+
+    public void setTargetModule(ModuleInfo targetModule) {
+        this.targetModule = targetModule;
+    }
+
+    public long getDependencyCount() {
+        return dependencyCount;
+    }
+
+    public void setDependencyCount(long dependencyCount) {
+        this.dependencyCount = dependencyCount;
+    }
+
+    public boolean isDeclared() {
+        return declared;
+    }
+
+    public void setDeclared(boolean declared) {
+        this.declared = declared;
+    }
+}
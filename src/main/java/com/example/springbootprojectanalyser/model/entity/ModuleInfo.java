@@ -0,0 +1,129 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * モジュールエンティティ
+ * マルチモジュールプロジェクトのMaven/Gradleモジュール（ルートのモジュールを含む）を保持する
+ * sourceFingerprintはモジュール内のJavaファイル（パス・サイズ・更新日時）、
+ * buildFingerprintはビルドファイルの内容から求めたハッシュ値（変更のないモジュールの判定に使用）
+ */
+@Entity
+@Table(name = "modules")
+public class ModuleInfo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 500)
+    private String name;
+
+    /** プロジェクトのルートパスからの相対パス（ルートのモジュールは空文字、区切り文字は/） */
+    @Column(nullable = false, length = 1000)
+    private String modulePath;
+
+    /** ビルドファイル名（pom.xml、build.gradleなど。ない場合はnull） */
+    @Column(length = 100)
+    private String buildFile;
+
+    /** 他のモジュールから依存を宣言する際の識別子（Maven: groupId:artifactId、Gradle: プロジェクトパス） */
+    @Column(length = 1000)
+    private String artifactKey;
+
+    @Column(nullable = false)
+    private int fileCount;
+
+    @Column(nullable = false, length = 64)
+    private String sourceFingerprint;
+
+    @Column(nullable = false, length = 64)
+    private String buildFingerprint;
+
+    public ModuleInfo() {
+    }
+
+    public ModuleInfo(Project project, String name, String modulePath, String buildFile, String artifactKey) {
+        this.project = project;
+        this.name = name;
+        this.modulePath = modulePath;
+        this.buildFile = buildFile;
+        this.artifactKey = artifactKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getModulePath() {
+        return modulePath;
+    }
+
+    public void setModulePath(String modulePath) {
+        this.modulePath = modulePath;
+    }
+
+    public String getBuildFile() {
+        return buildFile;
+    }
+
+    public void setBuildFile(String buildFile) {
+        this.buildFile = buildFile;
+    }
+
+    public String getArtifactKey() {
+        return artifactKey;
+    }
+
+    public void setArtifactKey(String artifactKey) {
+        this.artifactKey = artifactKey;
+    }
+
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    public void setFileCount(int fileCount) {
+        this.fileCount = fileCount;
+    }
+
+    public String getSourceFingerprint() {
+        return sourceFingerprint;
+    }
+
+    public void setSourceFingerprint(String sourceFingerprint) {
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
+    public String getBuildFingerprint() {
+        return buildFingerprint;
+    }
+
+    public void setBuildFingerprint(String buildFingerprint) {
+        this.buildFingerprint = buildFingerprint;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * パッケージ×依存種類の集計エンティティ
+ * dependencyCountはパッケージ直下のクラスを依存元とする件数、
+ * subtreeDependencyCountはサブパッケージを含めた合計件数
+ */
+@Entity
+@Table(name = "package_dependency_kind_rollups")
+public class PackageDependencyKindRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "package_id", nullable = false)
+    private PackageInfo packageInfo;
+
+    @Column(nullable = false, length = 50)
+    private String dependencyKindCode;
+
+    @Column(nullable = false)
+    private long dependencyCount;
+
+    @Column(nullable = false)
+    private long subtreeDependencyCount;
+
+    public PackageDependencyKindRollup() {
+    }
+
+    public PackageDependencyKindRollup(PackageInfo packageInfo, String dependencyKindCode,
+            long dependencyCount, long subtreeDependencyCount) {
+        this.packageInfo = packageInfo;
+        this.dependencyKindCode = dependencyKindCode;
+        this.dependencyCount = dependencyCount;
+        this.subtreeDependencyCount = subtreeDependencyCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public PackageInfo getPackageInfo() {
+        return packageInfo;
+    }
+
+    public void setPackageInfo(PackageInfo packageInfo) {
+        this.packageInfo = packageInfo;
+    }
+
+    public String getDependencyKindCode() {
+        return dependencyKindCode;
+    }
+
+    public void setDependencyKindCode(String dependencyKindCode) {
+        this.dependencyKindCode = dependencyKindCode;
+    }
+
+    public long getDependencyCount() {
+        return dependencyCount;
+    }
+
+    public void setDependencyCount(long dependencyCount) {
+        this.dependencyCount = dependencyCount;
+    }
+
+    public long getSubtreeDependencyCount() {
+        return subtreeDependencyCount;
+    }
+
+    public void setSubtreeDependencyCount(long subtreeDependencyCount) {
+        this.subtreeDependencyCount = subtreeDependencyCount;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * パッケージ集計エンティティ
+ * 解析時に依存関係の書き込みと並行して集計したパッケージ単位の件数を保持する
+ * subtree*はサブパッケージ（parent_package_idによる階層）を含めた合計値
+ */
+@Entity
+@Table(name = "package_rollups")
+public class PackageRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "package_id", nullable = false, unique = true)
+    private PackageInfo packageInfo;
+
+    @Column(nullable = false)
+    private int classCount;
+
+    @Column(nullable = false)
+    private long outgoingEdgeCount;
+
+    @Column(nullable = false)
+    private long incomingEdgeCount;
+
+    @Column(nullable = false)
+    private int subtreeClassCount;
+
+    @Column(nullable = false)
+    private long subtreeOutgoingEdgeCount;
+
+    @Column(nullable = false)
+    private long subtreeIncomingEdgeCount;
+
+    public PackageRollup() {
+    }
+
+    public PackageRollup(PackageInfo packageInfo, int classCount, long outgoingEdgeCount, long incomingEdgeCount,
+            int subtreeClassCount, long subtreeOutgoingEdgeCount, long subtreeIncomingEdgeCount) {
+        this.packageInfo = packageInfo;
+        this.classCount = classCount;
+        this.outgoingEdgeCount = outgoingEdgeCount;
+        this.incomingEdgeCount = incomingEdgeCount;
+        this.subtreeClassCount = subtreeClassCount;
+        this.subtreeOutgoingEdgeCount = subtreeOutgoingEdgeCount;
+        this.subtreeIncomingEdgeCount = subtreeIncomingEdgeCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public PackageInfo getPackageInfo() {
+        return packageInfo;
+    }
+
+    public void setPackageInfo(PackageInfo packageInfo) {
+        this.packageInfo = packageInfo;
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    public void setClassCount(int classCount) {
+        this.classCount = classCount;
+    }
+
+    public long getOutgoingEdgeCount() {
+        return outgoingEdgeCount;
+    }
+
+    public void setOutgoingEdgeCount(long outgoingEdgeCount) {
+        this.outgoingEdgeCount = outgoingEdgeCount;
+    }
+
+    public long getIncomingEdgeCount() {
+        return incomingEdgeCount;
+    }
+
+    public void setIncomingEdgeCount(long incomingEdgeCount) {
+        this.incomingEdgeCount = incomingEdgeCount;
+    }
+
+    public int getSubtreeClassCount() {
+        return subtreeClassCount;
+    }
+
+    public void setSubtreeClassCount(int subtreeClassCount) {
+        this.subtreeClassCount = subtreeClassCount;
+    }
+
+    public long getSubtreeOutgoingEdgeCount() {
+        return subtreeOutgoingEdgeCount;
+    }
+
+    public void setSubtreeOutgoingEdgeCount(long subtreeOutgoingEdgeCount) {
+        this.subtreeOutgoingEdgeCount = subtreeOutgoingEdgeCount;
+    }
+
+    public long getSubtreeIncomingEdgeCount() {
+        return subtreeIncomingEdgeCount;
+    }
+
+    public void setSubtreeIncomingEdgeCount(long subtreeIncomingEdgeCount) {
+        this.subtreeIncomingEdgeCount = subtreeIncomingEdgeCount;
+    }
+}
@@ -22,6 +22,14 @@ public class Project {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    /** 解析時のGitのHEADのコミットID（Gitリポジトリでない場合はnull） */
+    @Column(length = 64)
+    private String analyzedCommit;
+
+    /** 解析方式（source: ソースコード、bytecode: クラスファイル） */
+    @Column(length = 20)
+    private String frontend;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PackageInfo> packages = new ArrayList<>();
 
@@ -60,6 +68,22 @@ public class Project {
         this.createdAt = createdAt;
     }
 
+    public String getAnalyzedCommit() {
+        return analyzedCommit;
+    }
+
+    public void setAnalyzedCommit(String analyzedCommit) {
+        this.analyzedCommit = analyzedCommit;
+    }
+
+    public String getFrontend() {
+        return frontend;
+    }
+
+    public void setFrontend(String frontend) {
+        this.frontend = frontend;
+    }
+
     public List<PackageInfo> getPackages() {
         return packages;
     }
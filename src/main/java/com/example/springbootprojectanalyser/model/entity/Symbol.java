@@ -0,0 +1,72 @@
+package com.example.springbootprojectanalyser.model.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * シンボルエンティティ
+ * 依存関係で繰り返し出現する文字列（完全修飾名・依存先識別子）を1回だけ保持する辞書
+ * IDは解析時にシンボル辞書で採番するため、Persistableで新規判定を行う
+ */
+@Entity
+@Table(name = "symbols")
+public class Symbol implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(name = "symbol_value", nullable = false, length = 1000)
+    private String value;
+
+    @Transient
+    private boolean newEntity = true;
+
+    public Symbol() {
+    }
+
+    public Symbol(Long id, Project project, String value) {
+        this.id = id;
+        this.project = project;
+        this.value = value;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+}
@@ -10,6 +10,9 @@ public class AnalysisForm {
     @NotBlank(message = "解析対象プロジェクトのパスを入力してください")
     private String targetProjectPath;
 
+    /** 解析方式（source: ソースコード、bytecode: クラスファイル） */
+    private String frontend = "source";
+
     public AnalysisForm() {
     }
 
@@ -24,5 +27,13 @@ public class AnalysisForm {
     public void setTargetProjectPath(String targetProjectPath) {
         this.targetProjectPath = targetProjectPath;
     }
+
+    public String getFrontend() {
+        return frontend;
+    }
+
+    public void setFrontend(String frontend) {
+        this.frontend = frontend;
+    }
 }
 
@@ -0,0 +1,21 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.BuildDependency;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ビルド依存関係リポジトリ
+ */
+@Repository
+public interface BuildDependencyRepository extends JpaRepository<BuildDependency, Long> {
+
+    @Query("SELECT d FROM BuildDependency d JOIN FETCH d.moduleInfo m " +
+           "WHERE d.project = :project ORDER BY m.modulePath, d.treePosition")
+    List<BuildDependency> findByProject(@Param("project") Project project);
+}
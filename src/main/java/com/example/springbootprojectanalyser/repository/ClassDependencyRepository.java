@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +28,96 @@ public interface ClassDependencyRepository extends JpaRepository<ClassDependency
     @Query("SELECT COUNT(d) FROM ClassDependency d WHERE d.sourceClass.packageInfo = :packageInfo AND d.dependencyKind.code = :dependencyKindCode")
     long countByPackageInfoAndDependencyKindCode(@Param("packageInfo") PackageInfo packageInfo, @Param("dependencyKindCode") String dependencyKindCode);
     
+    /**
+     * パッケージID・依存種類コードごとの依存関係件数を一括集計する
+     * 戻り値の各要素: [パッケージID(Long), 依存種類コード(String), 件数(Long)]
+     */
+    @Query("SELECT sc.packageInfo.id, d.dependencyKind.code, COUNT(d) FROM ClassDependency d " +
+           "JOIN d.sourceClass sc " +
+           "WHERE sc.project = :project " +
+           "GROUP BY sc.packageInfo.id, d.dependencyKind.code")
+    List<Object[]> countByProjectGroupByPackageAndDependencyKind(@Param("project") Project project);
+    
+    /**
+     * 指定した依存元パッケージの依存関係件数をパッケージID・依存種類コードごとに一括集計する（ファイル更新時の集計で使用）
+     * 戻り値の各要素: [パッケージID(Long), 依存種類コード(String), 件数(Long)]
+     */
+    @Query("SELECT sc.packageInfo.id, d.dependencyKind.code, COUNT(d) FROM ClassDependency d " +
+           "JOIN d.sourceClass sc " +
+           "WHERE sc.packageInfo.id IN :packageIds " +
+           "GROUP BY sc.packageInfo.id, d.dependencyKind.code")
+    List<Object[]> countBySourcePackageIdInGroupByPackageAndDependencyKind(@Param("packageIds") Collection<Long> packageIds);
+    
+    /**
+     * プロジェクト内クラス間の依存関係を一括取得する（依存先が解決済みのもののみ）
+     * 戻り値の各要素: [依存元クラスID(Long), 依存先クラスID(Long), 依存種類コード(String), 依存種類説明(String)]
+     */
+    @Query("SELECT sc.id, tc.id, k.code, k.description FROM ClassDependency d " +
+           "JOIN d.sourceClass sc " +
+           "JOIN d.targetClass tc " +
+           "JOIN d.dependencyKind k " +
+           "WHERE sc.project = :project AND tc.project = :project")
+    List<Object[]> findEdgesByProject(@Param("project") Project project);
+    
+    /**
+     * 依存先クラスのパッケージIDごとの依存関係件数を一括集計する（依存先が解決済みのもののみ）
+     * 戻り値の各要素: [パッケージID(Long), 件数(Long)]
+     */
+    @Query("SELECT tc.packageInfo.id, COUNT(d) FROM ClassDependency d " +
+           "JOIN d.targetClass tc " +
+           "WHERE tc.project = :project " +
+           "GROUP BY tc.packageInfo.id")
+    List<Object[]> countByProjectGroupByTargetPackage(@Param("project") Project project);
+    
+    /**
+     * 指定した依存先パッケージの依存関係件数をパッケージIDごとに一括集計する（ファイル更新時の集計で使用）
+     * 戻り値の各要素: [パッケージID(Long), 件数(Long)]
+     */
+    @Query("SELECT tc.packageInfo.id, COUNT(d) FROM ClassDependency d " +
+           "JOIN d.targetClass tc " +
+           "WHERE tc.packageInfo.id IN :packageIds " +
+           "GROUP BY tc.packageInfo.id")
+    List<Object[]> countByTargetPackageIdInGroupByTargetPackage(@Param("packageIds") Collection<Long> packageIds);
+    
+    /**
+     * 異なるモジュールのクラス間の依存関係件数を依存元・依存先モジュールごとに一括集計する（依存先が解決済みのもののみ）
+     * 戻り値の各要素: [依存元モジュールID(Long), 依存先モジュールID(Long), 件数(Long)]
+     */
+    @Query("SELECT sc.moduleInfo.id, tc.moduleInfo.id, COUNT(d) FROM ClassDependency d " +
+           "JOIN d.sourceClass sc " +
+           "JOIN d.targetClass tc " +
+           "WHERE sc.project = :project AND sc.moduleInfo.id <> tc.moduleInfo.id " +
+           "GROUP BY sc.moduleInfo.id, tc.moduleInfo.id")
+    List<Object[]> countByProjectGroupByModules(@Param("project") Project project);
+    
+    /**
+     * 複数の依存元クラスの依存関係IDを一括取得する（ファイル更新時の削除で使用）
+     */
+    @Query("SELECT d.dependencyRecordId FROM ClassDependency d WHERE d.sourceClass.id IN :sourceClassIds")
+    List<String> findIdsBySourceClassIdIn(@Param("sourceClassIds") Collection<Long> sourceClassIds);
+    
+    /**
+     * 複数の依存先クラスへの依存関係を一括取得する
+     */
+    @Query("SELECT d FROM ClassDependency d WHERE d.targetClass.id IN :targetClassIds")
+    List<ClassDependency> findByTargetClassIdIn(@Param("targetClassIds") Collection<Long> targetClassIds);
+    
+    /**
+     * 依存先が未解決の依存関係のうち、依存先識別子がクラスの完全修飾名・簡易名に一致しうるものを取得する
+     * （クラスの追加時に、依存先が解決されうる依存関係を求めるために使用）
+     * @param suffix 「%.簡易名」形式のパターン
+     */
+    @Query("SELECT d FROM ClassDependency d " +
+           "JOIN FETCH d.sourceClass sc " +
+           "JOIN d.targetIdentifierSymbol s " +
+           "WHERE sc.project = :project AND d.targetClass IS NULL " +
+           "AND (s.value = :fullQualifiedName OR s.value = :simpleName OR s.value LIKE :suffix)")
+    List<ClassDependency> findUnresolvedByTargetName(
+            @Param("project") Project project,
+            @Param("fullQualifiedName") String fullQualifiedName,
+            @Param("simpleName") String simpleName,
+            @Param("suffix") String suffix);
+    
     @Query("SELECT d FROM ClassDependency d " +
            "LEFT JOIN FETCH d.targetClass tc " +
            "LEFT JOIN FETCH tc.project " +
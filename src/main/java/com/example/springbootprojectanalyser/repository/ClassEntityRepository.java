@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,47 @@ public interface ClassEntityRepository extends JpaRepository<ClassEntity, Long>
     
     List<ClassEntity> findByPackageInfo(PackageInfo packageInfo);
     
+    /**
+     * プロジェクト内の全クラスのパッケージIDと簡易名を取得する
+     * 戻り値の各要素: [パッケージID(Long), 簡易名(String)]
+     */
+    @Query("SELECT c.packageInfo.id, c.simpleName FROM ClassEntity c WHERE c.project = :project AND c.packageInfo IS NOT NULL")
+    List<Object[]> findPackageIdAndSimpleNameByProject(@Param("project") Project project);
+    
+    /**
+     * プロジェクト内の全クラスのIDと名前を取得する
+     * 戻り値の各要素: [クラスID(Long), 完全修飾名(String), 簡易名(String)]
+     */
+    @Query("SELECT c.id, c.fullQualifiedName, c.simpleName FROM ClassEntity c WHERE c.project = :project ORDER BY c.id")
+    List<Object[]> findIdAndNamesByProject(@Param("project") Project project);
+
+    /**
+     * プロジェクト内の全クラスのIDとパッケージ名を取得する（パッケージのないクラスは除く）
+     * 戻り値の各要素: [クラスID(Long), パッケージ完全名(String)]
+     */
+    @Query("SELECT c.id, p.fullName FROM ClassEntity c JOIN c.packageInfo p WHERE c.project = :project")
+    List<Object[]> findIdAndPackageNameByProject(@Param("project") Project project);
+    
+    /**
+     * 指定クラスのソースファイルパスを一括取得する（ソースパスが記録されているもののみ）
+     * 戻り値の各要素: [完全修飾名(String), ソースパス(String)]
+     */
+    @Query("SELECT c.fullQualifiedName, c.sourcePath FROM ClassEntity c WHERE c.id IN :classIds AND c.sourcePath IS NOT NULL")
+    List<Object[]> findSourcePathsByIdIn(@Param("classIds") Collection<Long> classIds);
+    
+    /**
+     * モジュールごとのクラス数を一括集計する
+     * 戻り値の各要素: [モジュールID(Long), クラス数(Long)]
+     */
+    @Query("SELECT c.moduleInfo.id, COUNT(c) FROM ClassEntity c WHERE c.project = :project AND c.moduleInfo IS NOT NULL GROUP BY c.moduleInfo.id")
+    List<Object[]> countByProjectGroupByModule(@Param("project") Project project);
+
+    /**
+     * 指定モジュールのクラスのソースファイルパスを取得する（ソースパスが記録されているもののみ、重複なし）
+     */
+    @Query("SELECT DISTINCT c.sourcePath FROM ClassEntity c WHERE c.moduleInfo.id IN :moduleIds AND c.sourcePath IS NOT NULL")
+    List<String> findSourcePathsByModuleIdIn(@Param("moduleIds") Collection<Long> moduleIds);
+    
     @Query("SELECT c FROM ClassEntity c WHERE c.project = :project AND c.fullQualifiedName = :fullQualifiedName")
     Optional<ClassEntity> findByProjectAndFullQualifiedName(@Param("project") Project project, @Param("fullQualifiedName") String fullQualifiedName);
 }
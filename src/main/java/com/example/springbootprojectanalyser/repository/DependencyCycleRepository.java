@@ -0,0 +1,23 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.DependencyCycle;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 依存関係の循環リポジトリ
+ */
+@Repository
+public interface DependencyCycleRepository extends JpaRepository<DependencyCycle, Long> {
+
+    @Query("SELECT c FROM DependencyCycle c WHERE c.project = :project AND c.scope = :scope AND c.kindFilter = :kindFilter ORDER BY c.cycleIndex")
+    List<DependencyCycle> findByProjectAndScopeAndKindFilter(
+            @Param("project") Project project,
+            @Param("scope") String scope,
+            @Param("kindFilter") String kindFilter);
+}
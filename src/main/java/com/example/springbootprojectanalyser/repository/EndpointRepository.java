@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,7 +16,16 @@ import java.util.List;
 public interface EndpointRepository extends JpaRepository<Endpoint, String> {
     List<Endpoint> findByClassEntity_Project_Id(Long projectId);
     
-    @Query("SELECT e FROM Endpoint e WHERE e.classEntity.project.id = :projectId ORDER BY e.classEntity.fullQualifiedName, e.uri")
+    @Query("SELECT e FROM Endpoint e JOIN FETCH e.classEntity c JOIN FETCH e.httpMethod h WHERE c.project.id = :projectId ORDER BY c.fullQualifiedName, e.uri, h.methodName, e.endpointId")
     List<Endpoint> findByProjectIdOrdered(@Param("projectId") Long projectId);
+    
+    @Query("SELECT e FROM Endpoint e WHERE e.classEntity.project.id = :projectId AND e.uri = :uri AND e.httpMethod.methodName = :httpMethod ORDER BY e.classEntity.fullQualifiedName")
+    List<Endpoint> findByProjectIdAndUriAndHttpMethod(@Param("projectId") Long projectId, @Param("uri") String uri, @Param("httpMethod") String httpMethod);
+    
+    /**
+     * 複数クラスのエンドポイントIDを一括取得する（ファイル更新時の削除で使用）
+     */
+    @Query("SELECT e.endpointId FROM Endpoint e WHERE e.classEntity.id IN :classIds")
+    List<String> findIdsByClassIdIn(@Param("classIds") Collection<Long> classIds);
 }
 
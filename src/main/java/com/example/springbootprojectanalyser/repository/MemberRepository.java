@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,6 +16,18 @@ import java.util.List;
 public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findByClassEntity_Id(Long classId);
     
+    /**
+     * 複数クラスのメンバーを一括取得する（メンバー種別も同時に取得）
+     */
+    @Query("SELECT m FROM Member m JOIN FETCH m.memberType WHERE m.classEntity.id IN :classIds ORDER BY m.id")
+    List<Member> findByClassEntity_IdIn(@Param("classIds") Collection<Long> classIds);
+    
+    /**
+     * 複数クラスのメンバーIDを一括取得する（ファイル更新時の削除で使用）
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.classEntity.id IN :classIds")
+    List<Long> findIdsByClassIdIn(@Param("classIds") Collection<Long> classIds);
+    
     @Query("SELECT m FROM Member m WHERE m.classEntity.id = :classId AND m.memberType.code = :memberTypeCode")
     List<Member> findByClassIdAndMemberType(@Param("classId") Long classId, @Param("memberTypeCode") String memberTypeCode);
 }
@@ -0,0 +1,21 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.ModuleDependency;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * モジュール間依存関係リポジトリ
+ */
+@Repository
+public interface ModuleDependencyRepository extends JpaRepository<ModuleDependency, Long> {
+
+    @Query("SELECT d FROM ModuleDependency d JOIN FETCH d.sourceModule sm JOIN FETCH d.targetModule tm " +
+           "WHERE d.project = :project ORDER BY sm.modulePath, tm.modulePath")
+    List<ModuleDependency> findByProject(@Param("project") Project project);
+}
@@ -0,0 +1,20 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.ModuleInfo;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * モジュールリポジトリ
+ */
+@Repository
+public interface ModuleInfoRepository extends JpaRepository<ModuleInfo, Long> {
+
+    @Query("SELECT m FROM ModuleInfo m WHERE m.project = :project ORDER BY m.modulePath")
+    List<ModuleInfo> findByProject(@Param("project") Project project);
+}
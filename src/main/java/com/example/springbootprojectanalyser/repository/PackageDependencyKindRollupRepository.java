@@ -0,0 +1,22 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.PackageDependencyKindRollup;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * パッケージ×依存種類集計リポジトリ
+ */
+@Repository
+public interface PackageDependencyKindRollupRepository extends JpaRepository<PackageDependencyKindRollup, Long> {
+    List<PackageDependencyKindRollup> findByPackageInfo_IdIn(Collection<Long> packageIds);
+
+    @Query("SELECT r FROM PackageDependencyKindRollup r WHERE r.packageInfo.project = :project")
+    List<PackageDependencyKindRollup> findByProject(@Param("project") Project project);
+}
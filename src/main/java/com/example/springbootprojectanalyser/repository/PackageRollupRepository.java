@@ -0,0 +1,31 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.PackageRollup;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * パッケージ集計リポジトリ
+ */
+@Repository
+public interface PackageRollupRepository extends JpaRepository<PackageRollup, Long> {
+    Optional<PackageRollup> findByPackageInfo_Id(Long packageId);
+
+    List<PackageRollup> findByPackageInfo_IdIn(Collection<Long> packageIds);
+
+    @Query("SELECT r FROM PackageRollup r JOIN FETCH r.packageInfo p WHERE p.parentPackage.id = :parentPackageId")
+    List<PackageRollup> findByParentPackageId(@Param("parentPackageId") Long parentPackageId);
+
+    @Query("SELECT r FROM PackageRollup r JOIN FETCH r.packageInfo p WHERE p.project = :project")
+    List<PackageRollup> findByProject(@Param("project") Project project);
+
+    @Query("SELECT r FROM PackageRollup r JOIN FETCH r.packageInfo p WHERE p.project = :project AND p.parentPackage IS NULL")
+    List<PackageRollup> findTopLevelByProject(@Param("project") Project project);
+}
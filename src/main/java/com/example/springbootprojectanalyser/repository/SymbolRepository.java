@@ -0,0 +1,20 @@
+package com.example.springbootprojectanalyser.repository;
+
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.model.entity.Symbol;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * シンボルリポジトリ
+ */
+@Repository
+public interface SymbolRepository extends JpaRepository<Symbol, Long> {
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Symbol s")
+    long findMaxId();
+
+    List<Symbol> findByProject(Project project);
+}
@@ -2,6 +2,9 @@ package com.example.springbootprojectanalyser.service;
 
 import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
 import com.example.springbootprojectanalyser.model.dto.AnalysisResultDto;
+import com.example.springbootprojectanalyser.model.dto.PackageRollupDto;
+
+import java.util.List;
 
 /**
  * クラス依存関係解析サービスインターフェース
@@ -20,5 +23,21 @@ public interface ClassDependencyAnalysisService {
      * @return 解析結果DTO
      */
     AnalysisResultDto getAnalysisResult(String projectPath);
+
+    /**
+     * パッケージ集計を取得する
+     * @param projectId プロジェクトID
+     * @param packageName パッケージ名（完全名）
+     * @return パッケージ集計DTO
+     */
+    PackageRollupDto getPackageRollup(Long projectId, String packageName);
+
+    /**
+     * 直下のサブパッケージの集計を取得する
+     * @param projectId プロジェクトID
+     * @param packageName パッケージ名（完全名、未指定の場合は最上位パッケージ）
+     * @return パッケージ集計DTOのリスト
+     */
+    List<PackageRollupDto> getChildPackageRollups(Long projectId, String packageName);
 }
 
@@ -1,5 +1,6 @@
 package com.example.springbootprojectanalyser.service;
 
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramCacheStatsDto;
 import com.example.springbootprojectanalyser.model.dto.ClassDiagramDto;
 
 import java.util.UUID;
@@ -16,5 +17,22 @@ public interface ClassDiagramService {
      * @return クラス図DTO
      */
     ClassDiagramDto generateClassDiagram(UUID selectedEndpointId, Long projectId);
+
+    /**
+     * 事前生成としてクラス図を生成する
+     * 生成したクラス図はキャッシュの件数上限・重み上限による追い出しの対象外の領域に保持する
+     * 
+     * @param selectedEndpointId 選択されたエンドポイントID
+     * @param projectId プロジェクトID
+     * @return クラス図DTO
+     */
+    ClassDiagramDto precomputeClassDiagram(UUID selectedEndpointId, Long projectId);
+    
+    /**
+     * クラス図キャッシュの統計情報を取得する
+     * 
+     * @return キャッシュ統計DTO
+     */
+    ClassDiagramCacheStatsDto getCacheStats();
 }
 
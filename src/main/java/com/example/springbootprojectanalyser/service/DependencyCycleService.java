@@ -0,0 +1,29 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.model.dto.DependencyCycleDto;
+import com.example.springbootprojectanalyser.model.entity.Project;
+
+import java.util.List;
+
+/**
+ * 依存関係の循環解析サービスインターフェース
+ */
+public interface DependencyCycleService {
+    /**
+     * 設定された依存種類フィルタごとにクラス単位・パッケージ単位の循環を検出して保存する（解析実行時に呼び出す）
+     * @param project プロジェクト
+     * @param graph 解析結果のグラフインデックス
+     */
+    void detectAndSave(Project project, ClassGraphIndex graph);
+
+    /**
+     * 循環を取得する
+     * 保存対象の依存種類フィルタの場合は保存済みの結果を返し、それ以外はその場で検出する
+     * @param projectId プロジェクトID
+     * @param scope 対象範囲（class: クラス単位、package: パッケージ単位）
+     * @param kindFilter 依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     * @return 循環DTOのリスト（ノード数の多い順）
+     */
+    List<DependencyCycleDto> getCycles(Long projectId, String scope, String kindFilter);
+}
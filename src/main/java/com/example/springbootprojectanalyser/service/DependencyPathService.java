@@ -0,0 +1,21 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.model.dto.DependencyPathDto;
+
+import java.util.List;
+
+/**
+ * 依存経路探索サービスインターフェース
+ */
+public interface DependencyPathService {
+    /**
+     * 開始クラスから終了クラスへ依存関係を辿る経路を短い順に求める
+     * @param projectId プロジェクトID
+     * @param fromClass 開始クラスの完全修飾名（一意に定まる場合は単純名も可）
+     * @param toClass 終了クラスの完全修飾名（一意に定まる場合は単純名も可）
+     * @param kindFilter 辿る依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     * @param k 求める経路数（未指定の場合は1）
+     * @return 依存経路DTOのリスト（経路がない場合は空）
+     */
+    List<DependencyPathDto> findPaths(Long projectId, String fromClass, String toClass, String kindFilter, Integer k);
+}
@@ -10,11 +10,31 @@ import java.util.List;
 public interface EndpointExtractionService {
     /**
      * エンドポイント情報を抽出する
+     * エンドポイントは解析実行時に検出・保存されるため、保存済みのエンドポイント一覧を返す
      * 
      * @param targetProjectPath 解析対象プロジェクトパス
      * @param targetPackagePattern 解析対象パッケージパターン
      * @return 抽出されたエンドポイント情報のリスト
      */
     List<EndpointDto> extractEndpoints(String targetProjectPath, String targetPackagePattern);
-}
 
+    /**
+     * 保存済みのエンドポイント一覧を取得する
+     * 
+     * @param projectId プロジェクトID
+     * @return エンドポイント情報のリスト（クラス完全修飾名、URI、HTTPメソッド順）
+     */
+    List<EndpointDto> getEndpoints(Long projectId);
+
+    /**
+     * 保存済みのエンドポイントをURIで検索する
+     * 
+     * @param projectId プロジェクトID
+     * @param mode 検索モード（all: 全件、path: リクエストパスに一致、prefix: 前方一致、
+     *             template: パステンプレートに一致、wildcard: ワイルドカード（*、**）に一致）
+     * @param query 検索条件（mode=allの場合は不要）
+     * @param httpMethod HTTPメソッド（未指定の場合は全て）
+     * @return 一致したエンドポイント情報のリスト（一覧と同じ順）
+     */
+    List<EndpointDto> searchEndpoints(Long projectId, String mode, String query, String httpMethod);
+}
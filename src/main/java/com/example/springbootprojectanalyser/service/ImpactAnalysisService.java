@@ -0,0 +1,19 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.model.dto.ImpactAnalysisDto;
+
+import java.util.List;
+
+/**
+ * 影響分析サービスインターフェース
+ */
+public interface ImpactAnalysisService {
+    /**
+     * 変更したクラスに直接・間接に依存しているクラスとエンドポイントを求める
+     * @param projectId プロジェクトID
+     * @param classNames 変更したクラスの完全修飾名（複数指定可）
+     * @param kindFilter 辿る依存種類コードのパターンのカンマ区切り（例: 001_*,002_*。未指定の場合は全て）
+     * @return 影響分析結果DTO
+     */
+    ImpactAnalysisDto analyzeImpact(Long projectId, List<String> classNames, String kindFilter);
+}
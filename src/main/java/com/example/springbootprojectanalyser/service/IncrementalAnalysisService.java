@@ -0,0 +1,31 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.model.dto.ChangedFilesAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.FileUpdateResultDto;
+
+import java.util.Collection;
+
+/**
+ * ファイル単位の再解析サービスインターフェース
+ * 直近の解析結果を基準に、変更されたファイルとそれに依存しているクラスのファイルのみを再解析する
+ */
+public interface IncrementalAnalysisService {
+    /**
+     * 基準リビジョンからの変更ファイルのみを再解析し、直近の解析結果からの依存関係の差分を求める
+     * （解析結果は更新しない）
+     * @param projectId プロジェクトID
+     * @param baseRef 基準リビジョン（ブランチ名、タグ名、コミットIDなど。直近の解析時のHEADのコミットを指すこと）
+     * @param limit 差分の各一覧の件数の上限（未指定の場合は既定値）
+     * @return 変更ファイル解析結果DTO
+     */
+    ChangedFilesAnalysisDto analyzeChangedFiles(Long projectId, String baseRef, Integer limit);
+
+    /**
+     * 更新・削除されたJavaファイルのみを再解析し、保存済みの解析結果を更新する
+     * （依存しているクラスのファイルの依存関係も再解析する。Javaファイル以外は無視する）
+     * @param projectId プロジェクトID
+     * @param paths 更新・削除されたファイル（プロジェクトのルートパスからの相対パス、区切り文字は「/」）
+     * @return ファイル更新の反映結果DTO
+     */
+    FileUpdateResultDto updateFiles(Long projectId, Collection<String> paths);
+}
@@ -0,0 +1,34 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.model.dto.BuildDependencyDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleRefreshResultDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleStructureDto;
+
+import java.util.List;
+
+/**
+ * モジュール解析サービスインターフェース
+ */
+public interface ModuleAnalysisService {
+    /**
+     * プロジェクトのモジュール構成（モジュールとモジュール間の依存関係）を取得する
+     * @param projectId プロジェクトID
+     * @return モジュール構成DTO
+     */
+    ModuleStructureDto getModules(Long projectId);
+
+    /**
+     * ソースが変更されたモジュールのみを再解析する（変更のないモジュールは再解析しない）
+     * モジュール構成またはビルドファイルが変更された場合はプロジェクト全体を再解析する
+     * @param projectId プロジェクトID
+     * @return モジュール単位の再解析結果DTO
+     */
+    ModuleRefreshResultDto refreshModules(Long projectId);
+
+    /**
+     * モジュールごとのビルド依存関係ツリー（ローカルリポジトリで解決した推移的な依存関係を含む）を取得する
+     * @param projectId プロジェクトID
+     * @return ビルド依存関係DTOのリスト（モジュールごとに依存関係ツリーの深さ優先の順）
+     */
+    List<BuildDependencyDto> getBuildDependencies(Long projectId);
+}
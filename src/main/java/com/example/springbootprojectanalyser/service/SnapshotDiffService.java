@@ -0,0 +1,28 @@
+package com.example.springbootprojectanalyser.service;
+
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+
+import java.util.List;
+
+/**
+ * スナップショット差分サービスインターフェース
+ */
+public interface SnapshotDiffService {
+    /**
+     * プロジェクトの保存済みのグラフスナップショットの一覧を取得する
+     * @param projectId プロジェクトID
+     * @return グラフスナップショットDTOのリスト（新しい順）
+     */
+    List<GraphSnapshotDto> getSnapshots(Long projectId);
+
+    /**
+     * 2つの解析のグラフスナップショットを比較する
+     * @param projectId プロジェクトID
+     * @param baseSnapshotId 比較元のスナップショットID（未指定の場合は比較先の1つ前）
+     * @param targetSnapshotId 比較先のスナップショットID（未指定の場合は最新）
+     * @param limit 各リストに含める件数の上限（未指定の場合は既定値）
+     * @return スナップショット差分DTO
+     */
+    SnapshotDiffDto diff(Long projectId, Long baseSnapshotId, Long targetSnapshotId, Integer limit);
+}
@@ -1,11 +1,37 @@
 package com.example.springbootprojectanalyser.service.impl;
 
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.ColumnarEdgeStore;
 import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
 import com.example.springbootprojectanalyser.model.dto.AnalysisResultDto;
+import com.example.springbootprojectanalyser.model.dto.PackageRollupDto;
 import com.example.springbootprojectanalyser.model.dto.PackageSummaryDto;
 import com.example.springbootprojectanalyser.model.entity.*;
 import com.example.springbootprojectanalyser.repository.*;
 import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.DependencyCycleService;
+import com.example.springbootprojectanalyser.service.support.AnalysisCompletedEvent;
+import com.example.springbootprojectanalyser.service.support.AnalysisGenerationTracker;
+import com.example.springbootprojectanalyser.service.support.AnalysisLock;
+import com.example.springbootprojectanalyser.service.support.AnalysisStartedEvent;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenModel;
+import com.example.springbootprojectanalyser.service.support.BytecodeDependencyExtractor;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
+import com.example.springbootprojectanalyser.service.support.EdgeStoreRegistry;
+import com.example.springbootprojectanalyser.service.support.EndpointDetector;
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector;
+import com.example.springbootprojectanalyser.service.support.JarAutoConfigurationScanner;
+import com.example.springbootprojectanalyser.service.support.MavenDependencyResolver;
+import com.example.springbootprojectanalyser.service.support.MavenDependencyResolver.ResolvedDependency;
+import com.example.springbootprojectanalyser.service.support.PackageRollupAccumulator;
+import com.example.springbootprojectanalyser.service.support.ProjectModuleScanner;
+import com.example.springbootprojectanalyser.service.support.ProjectModuleScanner.ProjectModule;
+import com.example.springbootprojectanalyser.service.support.SymbolDictionary;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleBuild;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleDependency;
+import com.example.springbootprojectanalyser.util.SourceLineIndex;
 import com.example.springbootprojectanalyser.util.SymbolSolverFactory;
 import com.example.springbootprojectanalyser.util.TypeResolver;
 import com.github.javaparser.JavaParser;
@@ -26,6 +52,8 @@ import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.type.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,16 +61,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import java.io.InputStream;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 
 /**
  * クラス依存関係解析サービス実装クラス
@@ -59,6 +84,33 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
     private final MemberTypeRepository memberTypeRepository;
     private final AnnotationRepository annotationRepository;
     private final AnnotationAttributeRepository annotationAttributeRepository;
+    private final PackageRollupRepository packageRollupRepository;
+    private final PackageDependencyKindRollupRepository packageDependencyKindRollupRepository;
+    private final DependencyCycleRepository dependencyCycleRepository;
+    private final EndpointRepository endpointRepository;
+    private final HttpMethodRepository httpMethodRepository;
+    private final SymbolRepository symbolRepository;
+    private final EdgeStoreRegistry edgeStoreRegistry;
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+    private final DependencyCycleService dependencyCycleService;
+    private final GitChangeDetector gitChangeDetector;
+    private final AnalysisGenerationTracker generationTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ModuleInfoRepository moduleInfoRepository;
+    private final ModuleDependencyRepository moduleDependencyRepository;
+    private final ProjectModuleScanner moduleScanner;
+    private final BuildModelCache buildModelCache;
+    private final BuildDependencyRepository buildDependencyRepository;
+    private final MavenDependencyResolver dependencyResolver;
+    private final JarAutoConfigurationScanner jarAutoConfigurationScanner;
+    private final AnalysisLock analysisLock;
+
+    /** モジュール単位で並列に依存関係を解析するスレッド数 */
+    private final int moduleThreads;
+    private final String defaultFrontend;
+
+    /** プロジェクトID -> 解析結果（世代番号付き） */
+    private final Map<Long, CachedAnalysisResult> analysisResultCache = new ConcurrentHashMap<>();
 
     public ClassDependencyAnalysisServiceImpl(
             ProjectRepository projectRepository,
@@ -69,7 +121,29 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
             MemberRepository memberRepository,
             MemberTypeRepository memberTypeRepository,
             AnnotationRepository annotationRepository,
-            AnnotationAttributeRepository annotationAttributeRepository) {
+            AnnotationAttributeRepository annotationAttributeRepository,
+            PackageRollupRepository packageRollupRepository,
+            PackageDependencyKindRollupRepository packageDependencyKindRollupRepository,
+            DependencyCycleRepository dependencyCycleRepository,
+            EndpointRepository endpointRepository,
+            HttpMethodRepository httpMethodRepository,
+            SymbolRepository symbolRepository,
+            EdgeStoreRegistry edgeStoreRegistry,
+            ClassGraphIndexRegistry graphIndexRegistry,
+            DependencyCycleService dependencyCycleService,
+            GitChangeDetector gitChangeDetector,
+            AnalysisGenerationTracker generationTracker,
+            ApplicationEventPublisher eventPublisher,
+            ModuleInfoRepository moduleInfoRepository,
+            ModuleDependencyRepository moduleDependencyRepository,
+            ProjectModuleScanner moduleScanner,
+            BuildModelCache buildModelCache,
+            BuildDependencyRepository buildDependencyRepository,
+            MavenDependencyResolver dependencyResolver,
+            JarAutoConfigurationScanner jarAutoConfigurationScanner,
+            AnalysisLock analysisLock,
+            @Value("${analysis.modules.threads:4}") int moduleThreads,
+            @Value("${analysis.frontend:source}") String defaultFrontend) {
         this.projectRepository = projectRepository;
         this.packageInfoRepository = packageInfoRepository;
         this.classEntityRepository = classEntityRepository;
@@ -79,11 +153,35 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         this.memberTypeRepository = memberTypeRepository;
         this.annotationRepository = annotationRepository;
         this.annotationAttributeRepository = annotationAttributeRepository;
+        this.packageRollupRepository = packageRollupRepository;
+        this.packageDependencyKindRollupRepository = packageDependencyKindRollupRepository;
+        this.dependencyCycleRepository = dependencyCycleRepository;
+        this.endpointRepository = endpointRepository;
+        this.httpMethodRepository = httpMethodRepository;
+        this.symbolRepository = symbolRepository;
+        this.edgeStoreRegistry = edgeStoreRegistry;
+        this.graphIndexRegistry = graphIndexRegistry;
+        this.dependencyCycleService = dependencyCycleService;
+        this.gitChangeDetector = gitChangeDetector;
+        this.generationTracker = generationTracker;
+        this.eventPublisher = eventPublisher;
+        this.moduleInfoRepository = moduleInfoRepository;
+        this.moduleDependencyRepository = moduleDependencyRepository;
+        this.moduleScanner = moduleScanner;
+        this.buildModelCache = buildModelCache;
+        this.buildDependencyRepository = buildDependencyRepository;
+        this.dependencyResolver = dependencyResolver;
+        this.jarAutoConfigurationScanner = jarAutoConfigurationScanner;
+        this.analysisLock = analysisLock;
+        this.moduleThreads = Math.max(moduleThreads, 1);
+        this.defaultFrontend = defaultFrontend;
     }
 
     @Override
     @Transactional
     public AnalysisResultDto executeAnalysis(AnalysisExecutionDto executionDto) {
+        // 他の解析・ファイル更新とはトランザクションの完了まで直列化する
+        analysisLock.lockUntilCompletion();
         String targetProjectPath = executionDto.targetProjectPath();
         // TODO: targetPackagePatternは将来の実装で使用予定
         @SuppressWarnings("unused")
@@ -95,7 +193,24 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
             throw new IllegalArgumentException("指定されたパスが存在しないか、ディレクトリではありません: " + targetProjectPath);
         }
 
+        // 解析方式の検証（bytecode: コンパイル済みのクラスファイルからクラス間の依存関係を抽出する）
+        String frontend = executionDto.frontend() == null || executionDto.frontend().isBlank()
+                ? defaultFrontend : executionDto.frontend();
+        if (!frontend.equals(AnalysisExecutionDto.FRONTEND_SOURCE) && !frontend.equals(AnalysisExecutionDto.FRONTEND_BYTECODE)) {
+            throw new IllegalArgumentException("解析方式はsourceまたはbytecodeを指定してください: " + frontend);
+        }
+
+        // 後続処理（クラス図の事前生成など）に解析開始を通知
+        eventPublisher.publishEvent(new AnalysisStartedEvent(targetProjectPath));
+
         // 既存データを削除
+        analysisResultCache.clear();
+        packageDependencyKindRollupRepository.deleteAllInBatch();
+        packageRollupRepository.deleteAllInBatch();
+        dependencyCycleRepository.deleteAllInBatch();
+        moduleDependencyRepository.deleteAllInBatch();
+        buildDependencyRepository.deleteAllInBatch();
+        endpointRepository.deleteAllInBatch();
         annotationAttributeRepository.deleteAll();
         annotationRepository.deleteAll();
         memberRepository.deleteAll();
@@ -103,11 +218,25 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         classEntityRepository.deleteAll();
         packageInfoRepository.deleteAll();
         projectRepository.deleteAll();
-
-        // プロジェクトを作成
+        // 削除を先に反映する（同一パスのプロジェクトを再登録する際の一意制約違反を防ぐ）
+        projectRepository.flush();
+        // モジュールはクラスの削除後に削除する（一括削除によりクラスが連鎖削除されるため）
+        moduleInfoRepository.deleteAllInBatch();
+        // シンボルは依存関係の削除後に削除する（依存関係から参照されているため）
+        symbolRepository.deleteAllInBatch();
+
+        // プロジェクトを作成（変更ファイル解析の基準リビジョンの検証のため、解析時のコミットを記録する）
         Project project = new Project(targetProjectPath);
+        project.setAnalyzedCommit(gitChangeDetector.headCommit(projectRoot).orElse(null));
+        // 再解析（ソース監視・モジュールの再解析）で同じ解析方式を使用するため、解析方式を記録する
+        project.setFrontend(frontend);
         project = projectRepository.save(project);
 
+        AnalysisRun run = new AnalysisRun(loadDependencyKinds());
+        run.rollupAccumulator = new PackageRollupAccumulator();
+        run.symbolDictionary = new SymbolDictionary(project, symbolRepository.findMaxId() + 1);
+        run.edgeStore = edgeStoreRegistry.isColumnar() ? new ColumnarEdgeStore() : null;
+
         // Javaファイルを収集
         List<Path> javaFiles = collectJavaFiles(projectRoot);
         System.out.println("Found " + javaFiles.size() + " Java files");
@@ -116,15 +245,23 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
             throw new IllegalArgumentException("Javaファイルが見つかりませんでした: " + targetProjectPath);
         }
 
+        // モジュール（pom.xmlの<modules>、settings.gradleのinclude）を検出し、Javaファイルをモジュールごとに分ける
+        List<ProjectModule> moduleLayouts = moduleScanner.discover(projectRoot);
+        Map<String, List<Path>> filesByModule = groupFilesByModule(javaFiles, projectRoot, moduleLayouts);
+        run.projectModules = saveModules(project, projectRoot, moduleLayouts, filesByModule);
+        System.out.println("Modules: " + run.projectModules.size());
+
         // パッケージとクラスを解析・登録
         Map<String, PackageInfo> packageMap = new HashMap<>();
         Map<String, ClassEntity> classMap = new HashMap<>();
+        Map<String, HttpMethod> httpMethodMap = new HashMap<>();
+        List<Endpoint> endpoints = new ArrayList<>();
 
         int parsedCount = 0;
         int errorCount = 0;
         for (Path javaFile : javaFiles) {
             try {
-                parseAndRegister(javaFile, project, projectRoot, packageMap, classMap);
+                parseAndRegister(run, javaFile, project, projectRoot, packageMap, classMap, httpMethodMap, endpoints);
                 parsedCount++;
             } catch (Exception e) {
                 // パースエラーはログに記録してスキップ
@@ -137,20 +274,60 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         System.out.println("Parsed: " + parsedCount + ", Errors: " + errorCount);
         System.out.println("Packages: " + packageMap.size() + ", Classes: " + classMap.size());
 
+        // エンドポイントを一括保存
+        saveEndpoints(endpoints);
+
         // メンバー情報を抽出・保存
         parseMembers(javaFiles, projectRoot, classMap);
 
-        // Symbol Solverを生成
-        JavaSymbolSolver symbolSolver = SymbolSolverFactory.createSymbolSolver(projectRoot);
-
-        // 依存関係を解析
-        parseDependencies(javaFiles, projectRoot, classMap, symbolSolver);
-        
-        // オートコンフィグ解析（pom.xmlとMETA-INF/spring.factories）
-        parseAutoConfiguration(projectRoot, project, classMap);
+        // 依存関係を解析（複数モジュールの場合はモジュール単位で並列に解析）
+        parseDependenciesByModule(run, filesByModule, projectRoot, classMap, frontend.equals(AnalysisExecutionDto.FRONTEND_BYTECODE));
         
-        // ビルド依存解析（pom.xml/build.gradle）
-        parseBuildDependencies(projectRoot, project, classMap);
+        Map<Long, Set<Long>> declaredModuleDependencies = new HashMap<>();
+        for (ProjectModule layout : moduleLayouts) {
+            ModuleInfo module = run.projectModules.get(layout.path());
+            Path moduleRoot = moduleRoot(projectRoot, module);
+
+            // ビルド依存解析（モジュールのpom.xml/build.gradle）
+            List<ResolvedDependency> buildTree = parseBuildDependencies(run, moduleRoot, project, module, classMap);
+
+            // オートコンフィグ解析（モジュールのpom.xml、META-INF/spring.factories・AutoConfiguration.imports、依存関係のJARファイル）
+            parseAutoConfiguration(run, moduleRoot, project, module, classMap, buildTree);
+
+            for (String targetPath : moduleScanner.declaredModuleDependencies(projectRoot, layout, moduleLayouts)) {
+                declaredModuleDependencies.computeIfAbsent(module.getId(), k -> new HashSet<>())
+                        .add(run.projectModules.get(targetPath).getId());
+            }
+        }
+
+        // モジュール間の依存関係を保存（列指向の依存関係ストアの場合は依存関係がテーブルにないため、ストアから集計する）
+        Map<Long, Map<Long, Long>> moduleDependencyCounts = run.edgeStore != null
+                ? countModuleDependencies(run.edgeStore, classMap.values())
+                : countModuleDependencies(project);
+        saveModuleDependencies(run, project, moduleDependencyCounts, declaredModuleDependencies);
+
+        // パッケージ階層と集計を保存
+        materializePackageRollups(run, project, classMap);
+
+        SymbolDictionary symbolDictionary = run.symbolDictionary;
+        System.out.println("Symbols: " + symbolDictionary.size() + ", references: " + symbolDictionary.referenceCount()
+                + ", characters stored/referenced: " + symbolDictionary.storedLength() + "/" + symbolDictionary.referencedLength());
+
+        // 解析世代を進める（世代単位のキャッシュを無効化）
+        long generation = generationTracker.advance(project.getId());
+        // 列指向の依存関係ストアを集約して保存（グラフインデックスの構築に使用する）
+        if (run.edgeStore != null) {
+            long edgeCount = run.edgeStore.totalCount();
+            run.edgeStore.compact();
+            edgeStoreRegistry.save(project.getId(), project.getRootPath(), generation, run.edgeStore);
+            System.out.println("Edge store: edges=" + edgeCount + ", compacted=" + run.edgeStore.size());
+        }
+        ClassGraphIndex graphIndex = graphIndexRegistry.build(project.getId(), generation);
+        // 依存関係の循環を検出して保存
+        dependencyCycleService.detectAndSave(project, graphIndex);
+        // コミット後にグラフスナップショットの書き出し等の後続処理を行う
+        // （ロールバックした解析のスナップショットを残さないよう、ここでは書き出さない）
+        eventPublisher.publishEvent(new AnalysisCompletedEvent(project.getId(), targetProjectPath, generation, graphIndex));
 
         return getAnalysisResult(targetProjectPath);
     }
@@ -161,14 +338,364 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         Project project = projectRepository.findByRootPath(projectPath)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectPath));
 
+        // 同一世代の集計結果がキャッシュされていれば再利用する
+        long generation = generationTracker.current(project.getId());
+        CachedAnalysisResult cached = analysisResultCache.get(project.getId());
+        if (cached != null && cached.generation() == generation) {
+            return cached.result();
+        }
+
         List<PackageInfo> packages = packageInfoRepository.findByProject(project);
-        
+
+        // クラス名をパッケージIDごとに一括取得（重複除去・ソート済み）
+        Map<Long, Set<String>> classNamesByPackage = new HashMap<>();
+        for (Object[] row : classEntityRepository.findPackageIdAndSimpleNameByProject(project)) {
+            classNamesByPackage.computeIfAbsent((Long) row[0], k -> new TreeSet<>()).add((String) row[1]);
+        }
+
+        // 依存関係の種類別件数をパッケージ集計から取得（依存種類コードでソート）
+        Map<Long, Map<String, Long>> kindCountsByPackage = new HashMap<>();
+        for (PackageDependencyKindRollup kindRollup : packageDependencyKindRollupRepository.findByProject(project)) {
+            if (kindRollup.getDependencyCount() > 0) {
+                kindCountsByPackage.computeIfAbsent(kindRollup.getPackageInfo().getId(), k -> new TreeMap<>())
+                        .put(kindRollup.getDependencyKindCode(), kindRollup.getDependencyCount());
+            }
+        }
+        Map<Long, PackageRollup> rollupByPackage = packageRollupRepository.findByProject(project).stream()
+                .collect(Collectors.toMap(r -> r.getPackageInfo().getId(), r -> r));
+
         List<PackageSummaryDto> packageSummaries = packages.stream()
-                .map(pkg -> createPackageSummary(pkg))
+                .map(pkg -> createPackageSummary(pkg,
+                        classNamesByPackage.getOrDefault(pkg.getId(), Collections.emptySet()),
+                        kindCountsByPackage.getOrDefault(pkg.getId(), Collections.emptyMap()),
+                        rollupByPackage.get(pkg.getId())))
                 .sorted(Comparator.comparing(PackageSummaryDto::packageName))
                 .collect(Collectors.toList());
 
-        return new AnalysisResultDto(projectPath, packageSummaries);
+        AnalysisResultDto result = new AnalysisResultDto(projectPath, packageSummaries);
+        analysisResultCache.put(project.getId(), new CachedAnalysisResult(generation, result));
+        return result;
+    }
+
+    /**
+     * 世代番号付きの解析結果キャッシュエントリ
+     */
+    private record CachedAnalysisResult(long generation, AnalysisResultDto result) {
+    }
+
+    /**
+     * 変更ファイル解析で収集したクラス間の依存関係
+     */
+    record CollectedDependency(String sourceClass, String targetClass, String kindCode) {
+    }
+
+    /**
+     * モジュール単位の並列解析で検出した保存前の依存関係
+     */
+    private record PendingDependency(ClassEntity sourceClass, String sourceFqn, String targetIdentifier, String kindCode) {
+    }
+
+    /**
+     * 解析実行ごとの状態（解析・ファイル更新・変更ファイル解析の呼び出しごとに生成し、解析の各処理に引き渡す）
+     * サービスはシングルトンのため、実行中の状態をフィールドに保持すると同時に実行された解析の状態が混ざる
+     */
+    static final class AnalysisRun {
+
+        /** 依存種類コード -> 依存種類（解析開始時に一括取得） */
+        final Map<String, DependencyKindEntity> dependencyKinds;
+
+        /** 解析中のプロジェクトのモジュール（モジュールのパス -> モジュール、クラスのモジュールの判定に使用） */
+        Map<String, ModuleInfo> projectModules = Map.of();
+
+        /** パッケージ集計（依存関係の書き込み時に加算しない場合はnull） */
+        PackageRollupAccumulator rollupAccumulator;
+
+        /** 依存関係文字列のシンボル辞書（依存関係を保存しない場合はnull） */
+        SymbolDictionary symbolDictionary;
+
+        /** 列指向の依存関係ストア（analysis.edge-store.mode=columnarの場合のみ） */
+        ColumnarEdgeStore edgeStore;
+
+        /** 変更ファイル解析で収集するクラス間の依存関係（設定中は依存関係を保存しない） */
+        List<CollectedDependency> collectedDependencies;
+
+        /** ファイル更新時に再利用する変更ファイルのクラス（マップキー -> 保存済みのクラス、設定中は再登録時にクラスIDを維持する） */
+        Map<String, ClassEntity> reusableClasses;
+
+        /** ファイル更新時に保存した依存先解決済みの依存関係（設定中はグラフインデックスの更新用に記録する） */
+        List<ClassDependency> updatedDependencies;
+
+        /** モジュール単位の並列解析中に検出した依存関係（解析スレッドごと、設定中は保存せず解析後にまとめて保存する） */
+        List<PendingDependency> pendingDependencies;
+
+        AnalysisRun(Map<String, DependencyKindEntity> dependencyKinds) {
+            this.dependencyKinds = dependencyKinds;
+        }
+
+        /**
+         * モジュール単位の並列解析のスレッドで使用する状態を生成する（依存関係は保存せずに保持する）
+         */
+        AnalysisRun forModuleWorker() {
+            AnalysisRun moduleRun = new AnalysisRun(dependencyKinds);
+            moduleRun.projectModules = projectModules;
+            moduleRun.pendingDependencies = new ArrayList<>();
+            return moduleRun;
+        }
+    }
+
+    Map<String, DependencyKindEntity> loadDependencyKinds() {
+        return dependencyKindRepository.findAll().stream()
+                .collect(Collectors.toMap(DependencyKindEntity::getCode, kind -> kind));
+    }
+
+    /**
+     * Javaファイルをモジュールごとに分ける（モジュールのパス -> Javaファイル、モジュールの検出順）
+     */
+    private Map<String, List<Path>> groupFilesByModule(List<Path> javaFiles, Path projectRoot, List<ProjectModule> moduleLayouts) {
+        Map<String, List<Path>> filesByModule = new LinkedHashMap<>();
+        for (ProjectModule layout : moduleLayouts) {
+            filesByModule.put(layout.path(), new ArrayList<>());
+        }
+        for (Path javaFile : javaFiles) {
+            String sourcePath = projectRoot.relativize(javaFile).toString().replace('\\', '/');
+            filesByModule.get(ProjectModuleScanner.owningModulePath(sourcePath, filesByModule.keySet())).add(javaFile);
+        }
+        return filesByModule;
+    }
+
+    /**
+     * 検出したモジュールを保存する
+     * @return モジュールのパス -> モジュール
+     */
+    private Map<String, ModuleInfo> saveModules(Project project, Path projectRoot, List<ProjectModule> moduleLayouts,
+                                                Map<String, List<Path>> filesByModule) {
+        Map<String, ModuleInfo> modules = new LinkedHashMap<>();
+        for (ProjectModule layout : moduleLayouts) {
+            List<String> sourcePaths = filesByModule.get(layout.path()).stream()
+                    .map(javaFile -> projectRoot.relativize(javaFile).toString().replace('\\', '/'))
+                    .toList();
+            ModuleInfo module = new ModuleInfo(project, layout.name(), layout.path(), layout.buildFile(), layout.artifactKey());
+            module.setFileCount(sourcePaths.size());
+            module.setSourceFingerprint(moduleScanner.sourceFingerprint(projectRoot, sourcePaths));
+            module.setBuildFingerprint(moduleScanner.buildFingerprint(projectRoot, layout));
+            modules.put(layout.path(), moduleInfoRepository.save(module));
+        }
+        return modules;
+    }
+
+    private static Path moduleRoot(Path projectRoot, ModuleInfo module) {
+        return module.getModulePath().isEmpty() ? projectRoot : projectRoot.resolve(module.getModulePath());
+    }
+
+    /**
+     * ソースファイルが属するモジュールを取得する（モジュールが未設定の場合はnull）
+     */
+    private ModuleInfo moduleOf(AnalysisRun run, String sourcePath) {
+        if (run.projectModules == null || run.projectModules.isEmpty()) {
+            return null;
+        }
+        return run.projectModules.get(ProjectModuleScanner.owningModulePath(sourcePath, run.projectModules.keySet()));
+    }
+
+    /**
+     * モジュール単位で依存関係を解析する
+     * 複数のモジュールがある場合はモジュールごとに解析スレッドとSymbol Solverを割り当てて並列に解析し、
+     * 検出した依存関係はモジュールの検出順にこのスレッドで保存する（エンティティの保存はトランザクションのスレッドで行う必要があるため）
+     * @param bytecode クラス間の構造的な依存関係をコンパイル済みのクラスファイルから抽出する場合true
+     */
+    private void parseDependenciesByModule(AnalysisRun run, Map<String, List<Path>> filesByModule, Path projectRoot, Map<String, ClassEntity> classMap,
+                                           boolean bytecode) {
+        List<Map.Entry<String, List<Path>>> units = filesByModule.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty()).toList();
+        long startTime = System.currentTimeMillis();
+        if (units.size() <= 1 || moduleThreads <= 1) {
+            JavaSymbolSolver symbolSolver = SymbolSolverFactory.createSymbolSolver(projectRoot);
+            for (Map.Entry<String, List<Path>> unit : units) {
+                parseModuleDependencies(run, unit.getKey(), unit.getValue(), projectRoot, classMap, symbolSolver, bytecode);
+            }
+            System.out.println("Dependencies parsed: frontend=" + (bytecode ? "bytecode" : "source")
+                    + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(moduleThreads, units.size()));
+        try {
+            List<Future<List<PendingDependency>>> futures = new ArrayList<>();
+            for (Map.Entry<String, List<Path>> unit : units) {
+                futures.add(executor.submit(() -> {
+                    AnalysisRun moduleRun = run.forModuleWorker();
+                    parseModuleDependencies(moduleRun, unit.getKey(), unit.getValue(), projectRoot, classMap,
+                            SymbolSolverFactory.createSymbolSolver(projectRoot), bytecode);
+                    return moduleRun.pendingDependencies;
+                }));
+            }
+            int dependencyCount = 0;
+            for (Future<List<PendingDependency>> future : futures) {
+                for (PendingDependency dependency : future.get()) {
+                    saveDependency(run, dependency.sourceClass(), dependency.sourceFqn(), dependency.targetIdentifier(),
+                            dependency.kindCode(), classMap);
+                    dependencyCount++;
+                }
+            }
+            System.out.println("Module dependencies parsed: modules=" + units.size() + ", dependencies=" + dependencyCount
+                    + ", frontend=" + (bytecode ? "bytecode" : "source") + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("依存関係の解析が中断されました", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("依存関係の解析に失敗しました: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * モジュールの依存関係を解析する
+     * bytecodeの場合、コンパイル済みのファイルのクラス間の構造的な依存関係（001_*）はクラスファイルから抽出し、
+     * それ以外の依存種類と、クラスファイルがない・ソースファイルより古いファイルはソースコードから解析する
+     */
+    private void parseModuleDependencies(AnalysisRun run, String modulePath, List<Path> javaFiles, Path projectRoot, Map<String, ClassEntity> classMap,
+                                         JavaSymbolSolver symbolSolver, boolean bytecode) {
+        Set<Path> compiledFiles = bytecode
+                ? parseCompiledDependencies(run, modulePath.isEmpty() ? projectRoot : projectRoot.resolve(modulePath), javaFiles, classMap)
+                : Set.of();
+        long startTime = System.currentTimeMillis();
+        parseDependencies(run, javaFiles, projectRoot, classMap, symbolSolver, compiledFiles);
+        if (bytecode) {
+            System.out.println("Source dependencies: module=" + modulePath + ", files=" + javaFiles.size()
+                    + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        }
+    }
+
+    /**
+     * コンパイル済みのクラスファイルからクラス間の構造的な依存関係（001_*）を抽出して保存する
+     * @param moduleRoot モジュールのルートパス
+     * @return クラスファイルから依存関係を抽出したJavaファイル
+     */
+    private Set<Path> parseCompiledDependencies(AnalysisRun run, Path moduleRoot, List<Path> javaFiles, Map<String, ClassEntity> classMap) {
+        long startTime = System.currentTimeMillis();
+        BytecodeDependencyExtractor.CompiledSources compiledSources;
+        try {
+            compiledSources = BytecodeDependencyExtractor.readCompiledSources(moduleRoot);
+        } catch (Exception e) {
+            System.err.println("Failed to read class files: " + moduleRoot + " - " + e.getMessage());
+            return Set.of();
+        }
+
+        Set<Path> compiledFiles = new HashSet<>();
+        int dependencyCount = 0;
+        for (Path javaFile : javaFiles) {
+            try {
+                BytecodeDependencyExtractor.CompiledSource compiledSource = compiledSources.find(javaFile);
+                if (compiledSource == null) {
+                    continue;
+                }
+                for (BytecodeDependencyExtractor.ExtractedDependency dependency : BytecodeDependencyExtractor.extract(compiledSource.classes())) {
+                    String mapKey = dependency.sourceClass().contains(".") ? dependency.sourceClass() : "<default>." + dependency.sourceClass();
+                    ClassEntity sourceClass = classMap.get(mapKey);
+                    // プロジェクト内のネストしたクラスは「パッケージ名.簡易名」で登録されているため、その形式で対応付ける
+                    String target = dependency.nestedTarget() != null && !classMap.containsKey(dependency.target())
+                            && classMap.containsKey(dependency.nestedTarget()) ? dependency.nestedTarget() : dependency.target();
+                    if (sourceClass != null && !isPrimitiveOrBasicType(target)) {
+                        saveDependency(run, sourceClass, sourceClass.getFullQualifiedName(), target, dependency.kindCode(), classMap);
+                        dependencyCount++;
+                    }
+                }
+                compiledFiles.add(javaFile);
+            } catch (Exception e) {
+                System.err.println("Failed to read class files of: " + javaFile + " - " + e.getMessage());
+            }
+        }
+        System.out.println("Bytecode dependencies: module=" + moduleRoot + ", compiled files=" + compiledFiles.size() + "/" + javaFiles.size()
+                + ", class files=" + compiledSources.classFileCount() + ", dependencies=" + dependencyCount
+                + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return compiledFiles;
+    }
+
+    /**
+     * 異なるモジュールのクラス間の依存関係の件数を保存済みの依存関係から集計する
+     * @return 依存元モジュールID -> 依存先モジュールID -> 件数
+     */
+    private Map<Long, Map<Long, Long>> countModuleDependencies(Project project) {
+        Map<Long, Map<Long, Long>> counts = new HashMap<>();
+        for (Object[] row : classDependencyRepository.countByProjectGroupByModules(project)) {
+            counts.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put((Long) row[1], (Long) row[2]);
+        }
+        return counts;
+    }
+
+    /**
+     * 異なるモジュールのクラス間の依存関係の件数を列指向の依存関係ストアから集計する（依存先が解決済みのもののみ）
+     * @param classes 解析したクラス（クラスID -> モジュールの対応付けに使用）
+     * @return 依存元モジュールID -> 依存先モジュールID -> 件数
+     */
+    private static Map<Long, Map<Long, Long>> countModuleDependencies(ColumnarEdgeStore edgeStore, Collection<ClassEntity> classes) {
+        Map<Long, Long> moduleIdByClassId = new HashMap<>();
+        for (ClassEntity classEntity : classes) {
+            if (classEntity.getModuleInfo() != null) {
+                moduleIdByClassId.put(classEntity.getId(), classEntity.getModuleInfo().getId());
+            }
+        }
+        Map<Long, Map<Long, Long>> counts = new HashMap<>();
+        for (int edge = 0; edge < edgeStore.size(); edge++) {
+            Long sourceModuleId = moduleIdByClassId.get(edgeStore.sourceId(edge));
+            Long targetModuleId = moduleIdByClassId.get(edgeStore.targetId(edge));
+            if (sourceModuleId != null && targetModuleId != null && !sourceModuleId.equals(targetModuleId)) {
+                counts.computeIfAbsent(sourceModuleId, k -> new HashMap<>()).merge(targetModuleId, (long) edgeStore.count(edge), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * モジュール間の依存関係（異なるモジュールのクラス間の依存関係の件数と、ビルドファイルでの依存の宣言有無）を保存する
+     * @param counts 依存元モジュールID -> 依存先モジュールID -> 異なるモジュールのクラス間の依存関係の件数
+     * @param declaredModuleDependencies 依存元モジュールID -> ビルドファイルで依存を宣言している依存先モジュールID
+     */
+    private void saveModuleDependencies(AnalysisRun run, Project project, Map<Long, Map<Long, Long>> counts,
+                                        Map<Long, Set<Long>> declaredModuleDependencies) {
+        List<ModuleDependency> moduleDependencies = new ArrayList<>();
+        for (ModuleInfo source : run.projectModules.values()) {
+            Map<Long, Long> targetCounts = counts.getOrDefault(source.getId(), Map.of());
+            Set<Long> declaredTargets = declaredModuleDependencies.getOrDefault(source.getId(), Set.of());
+            for (ModuleInfo target : run.projectModules.values()) {
+                long count = targetCounts.getOrDefault(target.getId(), 0L);
+                boolean declared = declaredTargets.contains(target.getId());
+                if (count > 0 || declared) {
+                    moduleDependencies.add(new ModuleDependency(project, source, target, count, declared));
+                }
+            }
+        }
+        moduleDependencyRepository.saveAll(moduleDependencies);
+        System.out.println("Module dependencies: " + moduleDependencies.size());
+    }
+
+    /**
+     * 変更ファイルのモジュールのフィンガープリントとモジュール間の依存関係を更新する（ビルドファイルでの依存の宣言は変わらない）
+     */
+    void updateModules(AnalysisRun run, Project project, Path projectRoot, Set<String> changedPaths) {
+        Set<String> changedModulePaths = new TreeSet<>();
+        for (String path : changedPaths) {
+            changedModulePaths.add(ProjectModuleScanner.owningModulePath(path, run.projectModules.keySet()));
+        }
+        for (String modulePath : changedModulePaths) {
+            ModuleInfo module = run.projectModules.get(modulePath);
+            if (module != null) {
+                List<String> sourcePaths = moduleScanner.sourceFiles(projectRoot, modulePath, run.projectModules.keySet());
+                module.setFileCount(sourcePaths.size());
+                module.setSourceFingerprint(moduleScanner.sourceFingerprint(projectRoot, sourcePaths));
+            }
+        }
+
+        Map<Long, Set<Long>> declaredModuleDependencies = new HashMap<>();
+        for (ModuleDependency dependency : moduleDependencyRepository.findByProject(project)) {
+            if (dependency.isDeclared()) {
+                declaredModuleDependencies.computeIfAbsent(dependency.getSourceModule().getId(), k -> new HashSet<>())
+                        .add(dependency.getTargetModule().getId());
+            }
+        }
+        moduleDependencyRepository.deleteAllInBatch();
+        saveModuleDependencies(run, project, countModuleDependencies(project), declaredModuleDependencies);
     }
 
     private List<Path> collectJavaFiles(Path root) {
@@ -185,11 +712,17 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         return javaFiles;
     }
 
-    private void parseAndRegister(Path javaFile, Project project, Path projectRoot,
+    void parseAndRegister(AnalysisRun run, Path javaFile, Project project, Path projectRoot,
                                   Map<String, PackageInfo> packageMap,
-                                  Map<String, ClassEntity> classMap) throws Exception {
+                                  Map<String, ClassEntity> classMap,
+                                  Map<String, HttpMethod> httpMethodMap,
+                                  List<Endpoint> endpoints) throws Exception {
+        // ファイル内容を1回だけ読み込み、パースとバイトオフセット算出に使用
+        byte[] content = Files.readAllBytes(javaFile);
         JavaParser parser = new JavaParser();
-        CompilationUnit cu = parser.parse(javaFile).getResult().orElseThrow();
+        CompilationUnit cu = parser.parse(new String(content, java.nio.charset.StandardCharsets.UTF_8)).getResult().orElseThrow();
+        SourceLineIndex lineIndex = SourceLineIndex.of(content);
+        String sourcePath = projectRoot.relativize(javaFile).toString().replace('\\', '/');
 
         // パッケージ情報を取得・登録
         String packageName = cu.getPackageDeclaration()
@@ -219,16 +752,53 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     : fullQualifiedName;
             
             if (!classMap.containsKey(mapKey)) {
-                ClassEntity classEntity = new ClassEntity(project, packageInfo, fullQualifiedName, className);
-                classEntity = classEntityRepository.save(classEntity);
-                classMap.put(mapKey, classEntity);
+                // ファイル更新時は保存済みのクラスを更新する（クラスIDを参照している依存関係やキャッシュを維持するため）
+                ClassEntity reusableClass = run.reusableClasses != null ? run.reusableClasses.remove(mapKey) : null;
+                ClassEntity classEntity = reusableClass != null
+                        ? reusableClass
+                        : new ClassEntity(project, packageInfo, fullQualifiedName, className);
+                // ソース位置を記録（クラス図のファイルパス参照で使用）
+                classEntity.setSourcePath(sourcePath);
+                classEntity.setModuleInfo(moduleOf(run, sourcePath));
+                classDecl.getRange().ifPresent(range -> {
+                    classEntity.setSourceStartLine(range.begin.line);
+                    classEntity.setSourceEndLine(range.end.line);
+                    classEntity.setSourceStartOffset(lineIndex.byteOffset(range.begin.line, range.begin.column));
+                    // 終了位置は最終文字の次のバイト
+                    classEntity.setSourceEndOffset(lineIndex.byteOffset(range.end.line, range.end.column + 1));
+                });
+                ClassEntity savedClass = classEntityRepository.save(classEntity);
+                classMap.put(mapKey, savedClass);
+            }
+
+            // 同じASTからエンドポイントを検出（保存は全ファイルの解析後に一括で行う）
+            ClassEntity ownerClass = classMap.get(mapKey);
+            for (EndpointDetector.DetectedEndpoint detected : EndpointDetector.detect(classDecl, fullQualifiedName, project.getRootPath())) {
+                HttpMethod httpMethod = httpMethodMap.computeIfAbsent(detected.httpMethod(), methodName ->
+                        httpMethodRepository.findByMethodName(methodName)
+                                .orElseGet(() -> httpMethodRepository.save(new HttpMethod(methodName))));
+                Endpoint endpoint = new Endpoint(ownerClass, detected.uri(), httpMethod);
+                endpoint.setEndpointId(detected.endpointId());
+                endpoints.add(endpoint);
             }
         });
     }
 
-    private void parseDependencies(List<Path> javaFiles, Path projectRoot,
+    /**
+     * 検出したエンドポイントを一括保存する
+     * IDは事前に採番済みのため、JDBCバッチでまとめてINSERTされる
+     */
+    void saveEndpoints(List<Endpoint> endpoints) {
+        long startTime = System.currentTimeMillis();
+        endpointRepository.saveAll(endpoints);
+        endpointRepository.flush();
+        System.out.println("Endpoints: " + endpoints.size() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+    }
+
+    void parseDependencies(AnalysisRun run, List<Path> javaFiles, Path projectRoot,
                                    Map<String, ClassEntity> classMap,
-                                   JavaSymbolSolver symbolSolver) {
+                                   JavaSymbolSolver symbolSolver,
+                                   Set<Path> compiledFiles) {
         // JavaParserの設定でSymbol Solverを有効化
         ParserConfiguration parserConfiguration = new ParserConfiguration();
         parserConfiguration.setSymbolResolver(symbolSolver);
@@ -258,167 +828,10 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         return;
                     }
 
-                    // 001_001: 継承（extends）
-                    classDecl.getExtendedTypes().forEach(extendedType -> {
-                        String targetFqn = TypeResolver.resolveFullyQualifiedName(extendedType, cu, packageName, classMap, symbolSolver);
-                        if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                            saveDependency(sourceClass, sourceFqn, targetFqn, "001_001", classMap);
-                        }
-                    });
-
-                    // 001_002: 実装（implements）
-                    classDecl.getImplementedTypes().forEach(implType -> {
-                        String targetFqn = TypeResolver.resolveFullyQualifiedName(implType, cu, packageName, classMap, symbolSolver);
-                        if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                            saveDependency(sourceClass, sourceFqn, targetFqn, "001_002", classMap);
-                        }
-                    });
-
-                    // 001_004: 例外型依存（throws句とcatch節）
-                    // throws句の例外型依存
-                    classDecl.findAll(MethodDeclaration.class).forEach(method -> {
-                        method.getThrownExceptions().forEach(exceptionType -> {
-                            String targetFqn = TypeResolver.resolveFullyQualifiedName(exceptionType, cu, packageName, classMap, symbolSolver);
-                            if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                saveDependency(sourceClass, sourceFqn, targetFqn, "001_004", classMap);
-                            }
-                        });
-                    });
-                    
-                    // catch節の例外型依存
-                    classDecl.findAll(CatchClause.class).forEach(catchClause -> {
-                        com.github.javaparser.ast.body.Parameter param = catchClause.getParameter();
-                        if (param != null) {
-                            Type exceptionType = param.getType();
-                            if (exceptionType != null) {
-                                String targetFqn = TypeResolver.resolveFullyQualifiedName(exceptionType, cu, packageName, classMap, symbolSolver);
-                                if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                    saveDependency(sourceClass, sourceFqn, targetFqn, "001_004", classMap);
-                                }
-                            }
-                        }
-                    });
-
-                    // 001_006: 戻り値型依存（このクラス内のメソッドのみ）
-                    classDecl.findAll(MethodDeclaration.class).forEach(method -> {
-                        Type returnType = method.getType();
-                        if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
-                            String targetFqn = TypeResolver.resolveFullyQualifiedName(returnType, cu, packageName, classMap, symbolSolver);
-                            if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                saveDependency(sourceClass, sourceFqn, targetFqn, "001_006", classMap);
-                            }
-                        }
-                    });
-
-                    // 001_003, 001_010: ジェネリクス型参照、集合保持（メソッドの戻り値型から抽出）
-                    classDecl.findAll(MethodDeclaration.class).forEach(method -> {
-                        Type returnType = method.getType();
-                        if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
-                            extractGenericTypes(returnType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
-                                if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
-                                    saveDependency(sourceClass, sourceFqn, genericType, "001_003", classMap);
-                                }
-                            });
-                        }
-                    });
-
-                    // 001_007: 引数型依存（このクラス内のメソッドのみ）
-                    classDecl.findAll(MethodDeclaration.class).forEach(method -> {
-                        method.getParameters().forEach(param -> {
-                            Type paramType = param.getType();
-                            if (paramType != null && !paramType.isPrimitiveType()) {
-                                String targetFqn = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
-                                if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                    saveDependency(sourceClass, sourceFqn, targetFqn, "001_007", classMap);
-                                }
-                            }
-                        });
-                    });
-
-                    // 001_003, 001_010: ジェネリクス型参照、集合保持（メソッドの引数型から抽出）
-                    classDecl.findAll(MethodDeclaration.class).forEach(method -> {
-                        method.getParameters().forEach(param -> {
-                            Type paramType = param.getType();
-                            if (paramType != null && !paramType.isPrimitiveType()) {
-                                extractGenericTypes(paramType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
-                                    if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
-                                        saveDependency(sourceClass, sourceFqn, genericType, "001_003", classMap);
-                                    }
-                                });
-                            }
-                        });
-                    });
-
-                    // 001_005: メソッド呼び出し（このクラス内のメソッド呼び出しのみ）
-                    classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
-                        Optional<Expression> scope = methodCall.getScope();
-                        if (scope.isPresent()) {
-                            Expression scopeExpr = scope.get();
-                            String targetClassName = extractClassNameFromScope(scopeExpr, classDecl, cu, packageName, classMap);
-                            if (targetClassName != null && !targetClassName.isEmpty() 
-                                    && !isPrimitiveOrBasicType(targetClassName)
-                                    && !targetClassName.equals(className)) { // 自分自身の呼び出しは除外
-                                saveDependency(sourceClass, sourceFqn, targetClassName, "001_005", classMap);
-                            }
-                        }
-                    });
-
-                    // 001_008: 静的メソッド依存（このクラス内の静的メソッド呼び出しのみ）
-                    classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
-                        Optional<Expression> scope = methodCall.getScope();
-                        if (scope.isPresent()) {
-                            Expression scopeExpr = scope.get();
-                            String staticClassName = extractStaticClassNameFromScope(scopeExpr, classDecl, cu, packageName, classMap);
-                            if (staticClassName != null && !staticClassName.isEmpty() 
-                                    && !isPrimitiveOrBasicType(staticClassName)
-                                    && !staticClassName.equals(className)) { // 自分自身の呼び出しは除外
-                                saveDependency(sourceClass, sourceFqn, staticClassName, "001_008", classMap);
-                            }
-                        }
-                    });
-
-                    // 001_011: 定数参照（このクラス内の定数参照のみ）
-                    // メソッド呼び出しのスコープとして使用されているFieldAccessExprを除外するため、
-                    // まず全てのMethodCallExprのスコープを収集
-                    Set<Expression> methodCallScopes = new HashSet<>();
-                    classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
-                        methodCall.getScope().ifPresent(methodCallScopes::add);
-                    });
-                    
-                    classDecl.findAll(FieldAccessExpr.class).forEach(fieldAccess -> {
-                        // メソッド呼び出しのスコープとして使用されている場合は除外
-                        if (methodCallScopes.contains(fieldAccess)) {
-                            return;
-                        }
-                        
-                        String constantClassName = extractConstantClassName(fieldAccess, classDecl, cu, packageName, classMap);
-                        if (constantClassName != null && !constantClassName.isEmpty() 
-                                && !isPrimitiveOrBasicType(constantClassName)
-                                && !constantClassName.equals(className)) { // 自分自身の定数参照は除外
-                            saveDependency(sourceClass, sourceFqn, constantClassName, "001_011", classMap);
-                        }
-                    });
-
-                    // 001_009: コンポジション（保持）（このクラス内のフィールドのみ）
-                    classDecl.findAll(FieldDeclaration.class).forEach(field -> {
-                        Type fieldType = field.getCommonType();
-                        if (fieldType != null && !fieldType.isPrimitiveType()) {
-                            String targetFqn = TypeResolver.resolveFullyQualifiedName(fieldType, cu, packageName, classMap, symbolSolver);
-                            if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                saveDependency(sourceClass, sourceFqn, targetFqn, "001_009", classMap);
-                            }
-                        }
-                    });
-
-                    // 001_003, 001_010: ジェネリクス型参照、集合保持（このクラス内のフィールドのみ）
-                    classDecl.findAll(FieldDeclaration.class).forEach(field -> {
-                        Type fieldType = field.getCommonType();
-                        extractGenericTypes(fieldType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
-                            if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
-                                saveDependency(sourceClass, sourceFqn, genericType, "001_003", classMap);
-                            }
-                        });
-                    });
+                    // 001_001〜001_011: クラス間の構造的な依存関係（コンパイル済みのファイルはクラスファイルから抽出する）
+                    if (!compiledFiles.contains(javaFile)) {
+                        parseCoreDependencies(run, classDecl, className, sourceClass, sourceFqn, cu, packageName, classMap, symbolSolver);
+                    }
 
                     // 002_001: SetterDI（@Autowiredかつset*命名のメソッド）
                     classDecl.findAll(MethodDeclaration.class).forEach(method -> {
@@ -428,7 +841,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (paramType != null && !paramType.isPrimitiveType()) {
                                     String targetFqn = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
                                     if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                        saveDependency(sourceClass, sourceFqn, targetFqn, "002_001", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, targetFqn, "002_001", classMap);
                                     }
                                 }
                             });
@@ -443,7 +856,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
                                     String targetFqn = TypeResolver.resolveFullyQualifiedName(returnType, cu, packageName, classMap, symbolSolver);
                                     if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                        saveDependency(sourceClass, sourceFqn, targetFqn, "002_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, targetFqn, "002_002", classMap);
                                     }
                                 }
                             }
@@ -459,7 +872,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (paramType != null && !paramType.isPrimitiveType()) {
                                     String targetFqn = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
                                     if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                        saveDependency(sourceClass, sourceFqn, targetFqn, "002_003", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, targetFqn, "002_003", classMap);
                                     }
                                 }
                             });
@@ -473,7 +886,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             if (fieldType != null && !fieldType.isPrimitiveType()) {
                                 String targetFqn = TypeResolver.resolveFullyQualifiedName(fieldType, cu, packageName, classMap, symbolSolver);
                                 if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
-                                    saveDependency(sourceClass, sourceFqn, targetFqn, "002_004", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, targetFqn, "002_004", classMap);
                                 }
                             }
                         }
@@ -482,13 +895,13 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     // 002_005: コントローラ定義（@RestController注釈）
                     if (hasAnnotation(classDecl, "RestController")) {
                         // コントローラ自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "002_005", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "002_005", classMap);
                     }
 
                     // 002_006: サービス層定義（@Service注釈）
                     if (hasAnnotation(classDecl, "Service")) {
                         // サービス層自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "002_006", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "002_006", classMap);
                     }
 
                     // 002_007: リポジトリ層定義（@Repositoryまたは*Repository命名/JpaRepository継承）
@@ -500,7 +913,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             });
                     if (isRepository) {
                         // リポジトリ層自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "002_007", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "002_007", classMap);
                     }
 
                     // 003_001: JPAリポジトリ（JpaRepositoryを継承しているクラス/インタフェース）
@@ -508,14 +921,14 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         String typeName = TypeResolver.resolveFullyQualifiedName(extendedType, cu, packageName, classMap, symbolSolver);
                         if (typeName != null && (typeName.equals("org.springframework.data.jpa.repository.JpaRepository") 
                                 || typeName.contains("JpaRepository"))) {
-                            saveDependency(sourceClass, sourceFqn, typeName, "003_001", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, typeName, "003_001", classMap);
                         }
                     });
 
                     // 003_002: JPAエンティティ（@Entity注釈を持つクラス）
                     if (hasAnnotation(classDecl, "Entity")) {
                         // エンティティ自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "003_002", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "003_002", classMap);
                     }
 
                     // 003_003: クエリメソッド（Repositoryインタフェース内のメソッド名規約/@Query）
@@ -540,7 +953,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || methodName.startsWith("delete")
                                     || methodName.startsWith("save")) {
                                 // クエリメソッド自体を依存関係として記録（依存先はメソッド名）
-                                saveDependency(sourceClass, sourceFqn, methodName, "003_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, methodName, "003_003", classMap);
                             }
                         });
                     }
@@ -551,13 +964,13 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     boolean isDtoClass = className.endsWith("Dto") || className.endsWith("DTO");
                     if (isDtoPackage || isDtoClass) {
                         // DTO自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "003_004", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "003_004", classMap);
                     }
 
                     // 003_005: マッパー（@Mapper/@Mapping注釈を持つクラス/インタフェース）
                     if (hasAnnotation(classDecl, "Mapper")) {
                         // マッパー自体を依存関係として記録（依存先は自身のクラス名）
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "003_005", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "003_005", classMap);
                         
                         // マッパーメソッドの引数と戻り値から変換関係を抽出
                         classDecl.findAll(MethodDeclaration.class).forEach(method -> {
@@ -568,7 +981,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     if (paramType != null && !paramType.isPrimitiveType()) {
                                         String sourceType = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
                                         if (sourceType != null && !sourceType.isEmpty() && !isPrimitiveOrBasicType(sourceType)) {
-                                            saveDependency(sourceClass, sourceFqn, sourceType, "003_005", classMap);
+                                            saveDependency(run, sourceClass, sourceFqn, sourceType, "003_005", classMap);
                                         }
                                     }
                                 });
@@ -578,7 +991,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
                                     String targetType = TypeResolver.resolveFullyQualifiedName(returnType, cu, packageName, classMap, symbolSolver);
                                     if (targetType != null && !targetType.isEmpty() && !isPrimitiveOrBasicType(targetType)) {
-                                        saveDependency(sourceClass, sourceFqn, targetType, "003_005", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, targetType, "003_005", classMap);
                                     }
                                 }
                             }
@@ -606,7 +1019,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     if (key.contains(":")) {
                                         key = key.substring(0, key.indexOf(":"));
                                     }
-                                    saveDependency(sourceClass, sourceFqn, key, "004_001", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, key, "004_001", classMap);
                                 }
                             }
                         }
@@ -630,7 +1043,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     if (key.contains(":")) {
                                         key = key.substring(0, key.indexOf(":"));
                                     }
-                                    saveDependency(sourceClass, sourceFqn, key, "004_001", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, key, "004_001", classMap);
                                 }
                             }
                         }
@@ -641,11 +1054,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         String prefix = extractAnnotationAttributeValue(classDecl, "ConfigurationProperties", "prefix");
                         if (prefix != null && !prefix.isEmpty()) {
                             // 構成プロパティ自体を依存関係として記録（依存先はprefix）
-                            saveDependency(sourceClass, sourceFqn, prefix, "004_002", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, prefix, "004_002", classMap);
                         } else {
                             // prefixが指定されていない場合、クラス名から推測（例: AppProperties → app）
                             String defaultPrefix = className.replaceAll("([A-Z])", "-$1").toLowerCase().replaceFirst("^-", "");
-                            saveDependency(sourceClass, sourceFqn, defaultPrefix, "004_002", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, defaultPrefix, "004_002", classMap);
                         }
                     }
 
@@ -654,7 +1067,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         String[] profiles = extractAnnotationAttributeArrayValue(classDecl, "Profile", "value");
                         if (profiles != null && profiles.length > 0) {
                             for (String profile : profiles) {
-                                saveDependency(sourceClass, sourceFqn, "profile:" + profile, "004_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "profile:" + profile, "004_003", classMap);
                             }
                         }
                     }
@@ -664,15 +1077,15 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         String[] conditions = extractAnnotationAttributeArrayValue(classDecl, "Conditional", "value");
                         if (conditions != null && conditions.length > 0) {
                             for (String condition : conditions) {
-                                saveDependency(sourceClass, sourceFqn, "condition:" + condition, "004_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "condition:" + condition, "004_003", classMap);
                             }
                         }
                     }
 
                     // 004_004: オートコンフィグ（@AutoConfiguration注釈を持つクラスを検出）
-                    // 注: pom.xmlとMETA-INF/spring.factoriesの解析はparseAutoConfigurationメソッドで実装
+                    // 注: pom.xmlとMETA-INF/spring.factories・AutoConfiguration.importsの解析はparseAutoConfigurationメソッドで実装
                     if (hasAnnotation(classDecl, "AutoConfiguration")) {
-                        saveDependency(sourceClass, sourceFqn, sourceFqn, "004_004", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, sourceFqn, "004_004", classMap);
                     }
 
                     // 004_005: ビルド依存
@@ -687,7 +1100,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (paramType != null && !paramType.isPrimitiveType()) {
                                     String eventType = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
                                     if (eventType != null && !eventType.isEmpty() && !isPrimitiveOrBasicType(eventType)) {
-                                        saveDependency(sourceClass, sourceFqn, eventType, "005_001", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, eventType, "005_001", classMap);
                                     }
                                 }
                             });
@@ -717,9 +1130,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             String typeName = TypeResolver.resolveFullyQualifiedName(fieldType, cu, packageName, classMap, symbolSolver);
                             if (typeName != null) {
                                 if (typeName.contains("WebClient")) {
-                                    saveDependency(sourceClass, sourceFqn, "WebClient", "005_002", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "WebClient", "005_002", classMap);
                                 } else if (typeName.contains("RestTemplate")) {
-                                    saveDependency(sourceClass, sourceFqn, "RestTemplate", "005_002", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "RestTemplate", "005_002", classMap);
                                 }
                             }
                         }
@@ -732,7 +1145,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         String targetIdentifier = serviceName != null && !serviceName.isEmpty() 
                                 ? serviceName 
                                 : (serviceUrl != null && !serviceUrl.isEmpty() ? serviceUrl : "FeignClient:" + className);
-                        saveDependency(sourceClass, sourceFqn, targetIdentifier, "005_002", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "005_002", classMap);
                     }
 
                     // 005_003: メッセージング（@KafkaListener/@RabbitListener等）
@@ -752,11 +1165,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 String topics = extractAnnotationValue(kafkaListenerAnnotation, "topics");
                                 String topicPattern = extractAnnotationValue(kafkaListenerAnnotation, "topicPattern");
                                 if (topics != null && !topics.isEmpty()) {
-                                    saveDependency(sourceClass, sourceFqn, "kafka:topic:" + topics, "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "kafka:topic:" + topics, "005_003", classMap);
                                 } else if (topicPattern != null && !topicPattern.isEmpty()) {
-                                    saveDependency(sourceClass, sourceFqn, "kafka:pattern:" + topicPattern, "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "kafka:pattern:" + topicPattern, "005_003", classMap);
                                 } else {
-                                    saveDependency(sourceClass, sourceFqn, "kafka:listener:" + method.getNameAsString(), "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "kafka:listener:" + method.getNameAsString(), "005_003", classMap);
                                 }
                             }
                         }
@@ -776,11 +1189,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 String queues = extractAnnotationValue(rabbitListenerAnnotation, "queues");
                                 String queue = extractAnnotationValue(rabbitListenerAnnotation, "queue");
                                 if (queues != null && !queues.isEmpty()) {
-                                    saveDependency(sourceClass, sourceFqn, "rabbitmq:queue:" + queues, "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "rabbitmq:queue:" + queues, "005_003", classMap);
                                 } else if (queue != null && !queue.isEmpty()) {
-                                    saveDependency(sourceClass, sourceFqn, "rabbitmq:queue:" + queue, "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "rabbitmq:queue:" + queue, "005_003", classMap);
                                 } else {
-                                    saveDependency(sourceClass, sourceFqn, "rabbitmq:listener:" + method.getNameAsString(), "005_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "rabbitmq:listener:" + method.getNameAsString(), "005_003", classMap);
                                 }
                             }
                         }
@@ -818,7 +1231,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (readOnly != null && !readOnly.isEmpty()) {
                                     targetIdentifier.append(":readOnly=").append(readOnly);
                                 }
-                                saveDependency(sourceClass, sourceFqn, targetIdentifier.toString(), "006_001", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, targetIdentifier.toString(), "006_001", classMap);
                             }
                         }
                     });
@@ -836,14 +1249,14 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 .orElse(null);
                         
                         if (transactionalAnnotation != null) {
-                            saveDependency(sourceClass, sourceFqn, "Transaction:class-level", "006_001", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, "Transaction:class-level", "006_001", classMap);
                         }
                     }
 
                     // 006_002: 横断的関心事（@Aspect/ポイントカットでの横断依存）
                     if (hasAnnotation(classDecl, "Aspect")) {
                         // @Aspectクラスを検出
-                        saveDependency(sourceClass, sourceFqn, "Aspect:" + className, "006_002", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, "Aspect:" + className, "006_002", classMap);
                         
                         // ポイントカット式を抽出
                         classDecl.findAll(MethodDeclaration.class).forEach(method -> {
@@ -871,9 +1284,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                         pointcut = extractAnnotationValue(adviceAnnotation, "pointcut");
                                     }
                                     if (pointcut != null && !pointcut.isEmpty()) {
-                                        saveDependency(sourceClass, sourceFqn, "Pointcut:" + pointcut, "006_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Pointcut:" + pointcut, "006_002", classMap);
                                     } else {
-                                        saveDependency(sourceClass, sourceFqn, "Advice:" + method.getNameAsString(), "006_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Advice:" + method.getNameAsString(), "006_002", classMap);
                                     }
                                 }
                             }
@@ -898,7 +1311,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 String name = extractAnnotationValue(timedAnnotation, "name");
                                 String metricName = value != null && !value.isEmpty() ? value 
                                         : (name != null && !name.isEmpty() ? name : method.getNameAsString());
-                                saveDependency(sourceClass, sourceFqn, "Metric:Timed:" + metricName, "006_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Metric:Timed:" + metricName, "006_003", classMap);
                             }
                         }
                         
@@ -918,7 +1331,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 String name = extractAnnotationValue(countedAnnotation, "name");
                                 String metricName = value != null && !value.isEmpty() ? value 
                                         : (name != null && !name.isEmpty() ? name : method.getNameAsString());
-                                saveDependency(sourceClass, sourceFqn, "Metric:Counted:" + metricName, "006_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Metric:Counted:" + metricName, "006_003", classMap);
                             }
                         }
                     });
@@ -930,7 +1343,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             if (typeName.contains("Logger") || typeName.contains("Log")) {
                                 if (typeName.contains("org.slf4j.Logger") || typeName.contains("org.apache.logging.log4j.Logger")
                                         || typeName.contains("java.util.logging.Logger")) {
-                                    saveDependency(sourceClass, sourceFqn, "Logger:" + typeName, "006_003", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "Logger:" + typeName, "006_003", classMap);
                                 }
                             }
                         });
@@ -970,7 +1383,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || annotationName.equals("javax.validation.constraints.Max")
                                     || annotationName.equals("javax.validation.constraints.Email")
                                     || annotationName.equals("javax.validation.constraints.Pattern")) {
-                                saveDependency(sourceClass, sourceFqn, "Validation:" + annotationName, "006_004", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Validation:" + annotationName, "006_004", classMap);
                             }
                         });
                     });
@@ -984,7 +1397,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (annotationName.equals("Valid") || annotationName.endsWith(".Valid")
                                         || annotationName.equals("jakarta.validation.Valid")
                                         || annotationName.equals("javax.validation.Valid")) {
-                                    saveDependency(sourceClass, sourceFqn, "Validation:@Valid:" + parameter.getNameAsString(), "006_004", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "Validation:@Valid:" + parameter.getNameAsString(), "006_004", classMap);
                                 }
                                 
                                 // パラメータのBean Validation注釈
@@ -1012,7 +1425,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                         || annotationName.equals("javax.validation.constraints.Max")
                                         || annotationName.equals("javax.validation.constraints.Email")
                                         || annotationName.equals("javax.validation.constraints.Pattern")) {
-                                    saveDependency(sourceClass, sourceFqn, "Validation:" + annotationName + ":" + parameter.getNameAsString(), "006_004", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "Validation:" + annotationName + ":" + parameter.getNameAsString(), "006_004", classMap);
                                 }
                             });
                         });
@@ -1023,7 +1436,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         if (hasAnnotation(method, "Bean")) {
                             String returnType = method.getType().asString();
                             if (returnType.contains("SecurityFilterChain")) {
-                                saveDependency(sourceClass, sourceFqn, "SecurityFilterChain:" + method.getNameAsString(), "007_001", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "SecurityFilterChain:" + method.getNameAsString(), "007_001", classMap);
                             }
                         }
                     });
@@ -1039,7 +1452,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || methodName.equals("hasRole") || methodName.equals("hasAnyRole")
                                     || methodName.equals("hasAuthority") || methodName.equals("hasAnyAuthority")
                                     || methodName.equals("access") || methodName.equals("denyAll")) {
-                                saveDependency(sourceClass, sourceFqn, "HttpSecurity:" + methodName, "007_002", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "HttpSecurity:" + methodName, "007_002", classMap);
                             }
                         });
                     });
@@ -1047,7 +1460,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     // 007_003: UserDetails（UserDetails実装クラス）
                     if (classDecl.getExtendedTypes().stream().anyMatch(type -> 
                             type.getNameAsString().contains("UserDetails"))) {
-                        saveDependency(sourceClass, sourceFqn, "UserDetails:implementation", "007_003", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, "UserDetails:implementation", "007_003", classMap);
                     }
                     
                     // GrantedAuthority供給箇所を検出
@@ -1056,7 +1469,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             String methodName = methodCall.getNameAsString();
                             if (methodName.equals("getAuthorities") || methodName.equals("getRoles")
                                     || methodName.contains("GrantedAuthority")) {
-                                saveDependency(sourceClass, sourceFqn, "GrantedAuthority:" + methodName, "007_003", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "GrantedAuthority:" + methodName, "007_003", classMap);
                             }
                         });
                     });
@@ -1064,12 +1477,12 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     // 007_004: UserDetailsService（loadUserByUsernameメソッドを持つ実装クラス）
                     if (classDecl.getImplementedTypes().stream().anyMatch(type -> 
                             type.getNameAsString().contains("UserDetailsService"))) {
-                        saveDependency(sourceClass, sourceFqn, "UserDetailsService:implementation", "007_004", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, "UserDetailsService:implementation", "007_004", classMap);
                     }
                     
                     classDecl.findAll(MethodDeclaration.class).forEach(method -> {
                         if (method.getNameAsString().equals("loadUserByUsername")) {
-                            saveDependency(sourceClass, sourceFqn, "UserDetailsService:loadUserByUsername", "007_004", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, "UserDetailsService:loadUserByUsername", "007_004", classMap);
                         }
                     });
 
@@ -1078,7 +1491,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         if (hasAnnotation(method, "Bean")) {
                             String returnType = method.getType().asString();
                             if (returnType.contains("PasswordEncoder")) {
-                                saveDependency(sourceClass, sourceFqn, "PasswordEncoder:@Bean:" + method.getNameAsString(), "007_005", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "PasswordEncoder:@Bean:" + method.getNameAsString(), "007_005", classMap);
                             }
                         }
                     });
@@ -1088,7 +1501,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         field.getVariables().forEach(variable -> {
                             String typeName = variable.getType().asString();
                             if (typeName.contains("PasswordEncoder")) {
-                                saveDependency(sourceClass, sourceFqn, "PasswordEncoder:field:" + variable.getNameAsString(), "007_005", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "PasswordEncoder:field:" + variable.getNameAsString(), "007_005", classMap);
                             }
                         });
                     });
@@ -1097,7 +1510,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         method.getParameters().forEach(parameter -> {
                             String typeName = parameter.getType().asString();
                             if (typeName.contains("PasswordEncoder")) {
-                                saveDependency(sourceClass, sourceFqn, "PasswordEncoder:parameter:" + parameter.getNameAsString(), "007_005", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "PasswordEncoder:parameter:" + parameter.getNameAsString(), "007_005", classMap);
                             }
                         });
                         
@@ -1106,7 +1519,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             String methodName = methodCall.getNameAsString();
                             if (methodName.contains("PasswordEncoder") || methodName.contains("BCrypt")
                                     || methodName.contains("Argon2") || methodName.contains("Pbkdf2")) {
-                                saveDependency(sourceClass, sourceFqn, "PasswordEncoder:new:" + methodName, "007_005", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "PasswordEncoder:new:" + methodName, "007_005", classMap);
                             }
                         });
                     });
@@ -1120,11 +1533,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (methodCall.getScope().isPresent()) {
                                     String scopeName = methodCall.getScope().get().toString();
                                     if (scopeName.contains("AuthenticationManager") || scopeName.contains("authenticationManager")) {
-                                        saveDependency(sourceClass, sourceFqn, "AuthenticationManager:authenticate", "007_006", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "AuthenticationManager:authenticate", "007_006", classMap);
                                     }
                                 } else {
                                     // スコープがない場合は、フィールドやパラメータから推測
-                                    saveDependency(sourceClass, sourceFqn, "AuthenticationManager:authenticate", "007_006", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "AuthenticationManager:authenticate", "007_006", classMap);
                                 }
                             }
                         });
@@ -1133,14 +1546,14 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     // 007_007: AuthenticationProvider（実装/Bean登録）
                     if (classDecl.getImplementedTypes().stream().anyMatch(type -> 
                             type.getNameAsString().contains("AuthenticationProvider"))) {
-                        saveDependency(sourceClass, sourceFqn, "AuthenticationProvider:implementation", "007_007", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, "AuthenticationProvider:implementation", "007_007", classMap);
                     }
                     
                     classDecl.findAll(MethodDeclaration.class).forEach(method -> {
                         if (hasAnnotation(method, "Bean")) {
                             String returnType = method.getType().asString();
                             if (returnType.contains("AuthenticationProvider")) {
-                                saveDependency(sourceClass, sourceFqn, "AuthenticationProvider:@Bean:" + method.getNameAsString(), "007_007", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "AuthenticationProvider:@Bean:" + method.getNameAsString(), "007_007", classMap);
                             }
                         }
                     });
@@ -1148,12 +1561,12 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     // 007_008: OncePerRequestFilter（継承/doFilterInternal実装）
                     if (classDecl.getExtendedTypes().stream().anyMatch(type -> 
                             type.getNameAsString().contains("OncePerRequestFilter"))) {
-                        saveDependency(sourceClass, sourceFqn, "OncePerRequestFilter:extends", "007_008", classMap);
+                        saveDependency(run, sourceClass, sourceFqn, "OncePerRequestFilter:extends", "007_008", classMap);
                     }
                     
                     classDecl.findAll(MethodDeclaration.class).forEach(method -> {
                         if (method.getNameAsString().equals("doFilterInternal")) {
-                            saveDependency(sourceClass, sourceFqn, "OncePerRequestFilter:doFilterInternal", "007_008", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, "OncePerRequestFilter:doFilterInternal", "007_008", classMap);
                         }
                     });
 
@@ -1176,7 +1589,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 String value = extractAnnotationValue(securityAnnotation, "value");
                                 String annotationName = securityAnnotation.getNameAsString();
                                 String targetIdentifier = annotationName + (value != null && !value.isEmpty() ? ":" + value : "");
-                                saveDependency(sourceClass, sourceFqn, targetIdentifier, "007_009", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "007_009", classMap);
                             }
                         }
                     });
@@ -1192,12 +1605,12 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     Expression arg = methodCall.getArguments().get(0);
                                     if (arg instanceof StringLiteralExpr) {
                                         String roleName = ((StringLiteralExpr) arg).getValue();
-                                        saveDependency(sourceClass, sourceFqn, "Role:" + roleName, "007_010", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Role:" + roleName, "007_010", classMap);
                                     } else {
-                                        saveDependency(sourceClass, sourceFqn, "Role:" + methodName, "007_010", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Role:" + methodName, "007_010", classMap);
                                     }
                                 } else {
-                                    saveDependency(sourceClass, sourceFqn, "Role:" + methodName, "007_010", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "Role:" + methodName, "007_010", classMap);
                                 }
                             }
                         });
@@ -1211,11 +1624,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (methodCall.getScope().isPresent()) {
                                     String scopeName = methodCall.getScope().get().toString();
                                     if (scopeName.contains("SecurityContextHolder")) {
-                                        saveDependency(sourceClass, sourceFqn, "SecurityContext:getContext", "007_011", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "SecurityContext:getContext", "007_011", classMap);
                                     }
                                 }
                             } else if (methodName.equals("getAuthentication") || methodName.equals("setAuthentication")) {
-                                saveDependency(sourceClass, sourceFqn, "SecurityContext:" + methodName, "007_011", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "SecurityContext:" + methodName, "007_011", classMap);
                             }
                         });
                     });
@@ -1225,7 +1638,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         method.findAll(MethodCallExpr.class).forEach(methodCall -> {
                             String methodName = methodCall.getNameAsString();
                             if (methodName.equals("sessionManagement") || methodName.equals("sessionCreationPolicy")) {
-                                saveDependency(sourceClass, sourceFqn, "SessionManagement:" + methodName, "007_012", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "SessionManagement:" + methodName, "007_012", classMap);
                             }
                         });
                     });
@@ -1241,7 +1654,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                         .anyMatch(arg -> arg.toString().contains("Authorization") 
                                                 || arg.toString().contains("Bearer"));
                                 if (hasAuthHeader || methodName.contains("Authorization") || methodName.contains("Bearer")) {
-                                    saveDependency(sourceClass, sourceFqn, "TokenExtraction:" + methodName, "007_013", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "TokenExtraction:" + methodName, "007_013", classMap);
                                 }
                             }
                         });
@@ -1255,7 +1668,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || methodName.contains("Verifier") || methodName.contains("Parser")
                                     || methodName.contains("verify") || methodName.contains("parse")
                                     || methodName.contains("Nimbus") || methodName.contains("JwtDecoder")) {
-                                saveDependency(sourceClass, sourceFqn, "JWT:" + methodName, "007_014", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "JWT:" + methodName, "007_014", classMap);
                             }
                         });
                     });
@@ -1267,7 +1680,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             if (typeName.contains("JWT") || typeName.contains("Jws") 
                                     || typeName.contains("JwtDecoder") || typeName.contains("JwtEncoder")
                                     || typeName.contains("Nimbus")) {
-                                saveDependency(sourceClass, sourceFqn, "JWT:type:" + typeName, "007_014", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "JWT:type:" + typeName, "007_014", classMap);
                             }
                         });
                     });
@@ -1279,7 +1692,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             if (methodName.contains("getClaim") || methodName.contains("getClaims")
                                     || (methodName.contains("GrantedAuthority") && methodCall.getArguments().size() > 0)) {
                                 // claimsから権限への変換を検出
-                                saveDependency(sourceClass, sourceFqn, "ClaimToAuthority:" + methodName, "007_015", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "ClaimToAuthority:" + methodName, "007_015", classMap);
                             }
                         });
                     });
@@ -1293,7 +1706,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || methodName.equals("loginProcessingUrl") || methodName.equals("defaultSuccessUrl")
                                     || methodName.equals("failureUrl") || methodName.equals("logoutUrl")
                                     || methodName.equals("logoutSuccessUrl")) {
-                                saveDependency(sourceClass, sourceFqn, "LoginLogout:" + methodName, "007_016", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "LoginLogout:" + methodName, "007_016", classMap);
                             }
                         });
                     });
@@ -1308,10 +1721,10 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || methodName.equals("disable") || methodName.equals("and")) {
                                 // disable()の前後でcors()やcsrf()が呼ばれているか確認
                                 if (methodName.equals("cors") || methodName.equals("csrf")) {
-                                    saveDependency(sourceClass, sourceFqn, "CorsCsrf:" + methodName, "007_017", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "CorsCsrf:" + methodName, "007_017", classMap);
                                 } else if (methodName.equals("disable")) {
                                     // 前のメソッド呼び出しを確認（簡易実装）
-                                    saveDependency(sourceClass, sourceFqn, "CorsCsrf:disable", "007_017", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "CorsCsrf:disable", "007_017", classMap);
                                 }
                             }
                         });
@@ -1334,7 +1747,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 || annotationName.endsWith(".EqualsAndHashCode") || annotationName.endsWith(".Slf4j")
                                 || annotationName.endsWith(".Log") || annotationName.endsWith(".Value")
                                 || annotationName.endsWith(".With")) {
-                            saveDependency(sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
                         }
                     });
                     
@@ -1345,7 +1758,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             if (annotationName.startsWith("lombok.") || annotationName.equals("Getter")
                                     || annotationName.equals("Setter") || annotationName.endsWith(".Getter")
                                     || annotationName.endsWith(".Setter")) {
-                                saveDependency(sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
                             }
                         });
                     });
@@ -1354,7 +1767,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                         method.getAnnotations().forEach(annotation -> {
                             String annotationName = annotation.getNameAsString();
                             if (annotationName.startsWith("lombok.")) {
-                                saveDependency(sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
                             }
                         });
                     });
@@ -1366,7 +1779,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || annotationName.equals("NoArgsConstructor") || annotationName.equals("RequiredArgsConstructor")
                                     || annotationName.endsWith(".AllArgsConstructor") || annotationName.endsWith(".NoArgsConstructor")
                                     || annotationName.endsWith(".RequiredArgsConstructor")) {
-                                saveDependency(sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Lombok:" + annotationName, "008_001", classMap);
                             }
                         });
                     });
@@ -1378,7 +1791,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             String typeName = variable.getType().asString();
                             if (typeName.contains("ObjectMapper") || typeName.contains("JsonNode")
                                     || typeName.contains("ObjectReader") || typeName.contains("ObjectWriter")) {
-                                saveDependency(sourceClass, sourceFqn, "Jackson:ObjectMapper:" + typeName, "008_002", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Jackson:ObjectMapper:" + typeName, "008_002", classMap);
                             }
                         });
                     });
@@ -1388,7 +1801,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                             String typeName = parameter.getType().asString();
                             if (typeName.contains("ObjectMapper") || typeName.contains("JsonNode")
                                     || typeName.contains("ObjectReader") || typeName.contains("ObjectWriter")) {
-                                saveDependency(sourceClass, sourceFqn, "Jackson:ObjectMapper:" + typeName, "008_002", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Jackson:ObjectMapper:" + typeName, "008_002", classMap);
                             }
                         });
                         
@@ -1402,10 +1815,10 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (methodCall.getScope().isPresent()) {
                                     String scopeName = methodCall.getScope().get().toString();
                                     if (scopeName.contains("ObjectMapper") || scopeName.contains("objectMapper")) {
-                                        saveDependency(sourceClass, sourceFqn, "Jackson:ObjectMapper:" + methodName, "008_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Jackson:ObjectMapper:" + methodName, "008_002", classMap);
                                     }
                                 } else {
-                                    saveDependency(sourceClass, sourceFqn, "Jackson:ObjectMapper:" + methodName, "008_002", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, "Jackson:ObjectMapper:" + methodName, "008_002", classMap);
                                 }
                             }
                         });
@@ -1424,7 +1837,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 || annotationName.endsWith(".JsonProperty") || annotationName.endsWith(".JsonManagedReference")
                                 || annotationName.endsWith(".JsonBackReference") || annotationName.endsWith(".JsonIdentityInfo")
                                 || annotationName.endsWith(".JsonTypeInfo") || annotationName.contains("com.fasterxml.jackson")) {
-                            saveDependency(sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
+                            saveDependency(run, sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
                         }
                     });
                     
@@ -1439,7 +1852,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || annotationName.endsWith(".JsonInclude") || annotationName.endsWith(".JsonFormat")
                                     || annotationName.endsWith(".JsonProperty") || annotationName.endsWith(".JsonManagedReference")
                                     || annotationName.endsWith(".JsonBackReference") || annotationName.contains("com.fasterxml.jackson")) {
-                                saveDependency(sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
                             }
                         });
                     });
@@ -1453,7 +1866,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     || annotationName.endsWith(".JsonIgnore") || annotationName.endsWith(".JsonIgnoreProperties")
                                     || annotationName.endsWith(".JsonInclude") || annotationName.endsWith(".JsonFormat")
                                     || annotationName.endsWith(".JsonProperty") || annotationName.contains("com.fasterxml.jackson")) {
-                                saveDependency(sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, "Jackson:annotation:" + annotationName, "008_002", classMap);
                             }
                         });
                     });
@@ -1485,12 +1898,12 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                                 variable.getType(), cu, packageName, classMap, symbolSolver);
                                         if (resolvedType != null && (resolvedType.contains("Service") || 
                                                 classMap.containsKey(resolvedType))) {
-                                            saveDependency(sourceClass, sourceFqn, resolvedType, "009_001", classMap);
+                                            saveDependency(run, sourceClass, sourceFqn, resolvedType, "009_001", classMap);
                                         }
                                     }
                                 } else if (typeName.contains("Service")) {
                                     // 型名にServiceが含まれる場合、簡易的に記録
-                                    saveDependency(sourceClass, sourceFqn, typeName, "009_001", classMap);
+                                    saveDependency(run, sourceClass, sourceFqn, typeName, "009_001", classMap);
                                 }
                             });
                         });
@@ -1503,9 +1916,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     String resolvedType = TypeResolver.resolveFullyQualifiedName(
                                             parameter.getType(), cu, packageName, classMap, symbolSolver);
                                     if (resolvedType != null) {
-                                        saveDependency(sourceClass, sourceFqn, resolvedType, "009_001", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, resolvedType, "009_001", classMap);
                                     } else {
-                                        saveDependency(sourceClass, sourceFqn, typeName, "009_001", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, typeName, "009_001", classMap);
                                     }
                                 }
                             });
@@ -1523,9 +1936,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     String resolvedType = TypeResolver.resolveFullyQualifiedName(
                                             variable.getType(), cu, packageName, classMap, symbolSolver);
                                     if (resolvedType != null) {
-                                        saveDependency(sourceClass, sourceFqn, resolvedType, "009_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, resolvedType, "009_002", classMap);
                                     } else {
-                                        saveDependency(sourceClass, sourceFqn, typeName, "009_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, typeName, "009_002", classMap);
                                     }
                                 }
                             });
@@ -1539,9 +1952,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                     String resolvedType = TypeResolver.resolveFullyQualifiedName(
                                             parameter.getType(), cu, packageName, classMap, symbolSolver);
                                     if (resolvedType != null) {
-                                        saveDependency(sourceClass, sourceFqn, resolvedType, "009_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, resolvedType, "009_002", classMap);
                                     } else {
-                                        saveDependency(sourceClass, sourceFqn, typeName, "009_002", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, typeName, "009_002", classMap);
                                     }
                                 }
                             });
@@ -1564,9 +1977,9 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                                     String resolvedEntityType = TypeResolver.resolveFullyQualifiedName(
                                                             entityType, cu, packageName, classMap, symbolSolver);
                                                     if (resolvedEntityType != null) {
-                                                        saveDependency(sourceClass, sourceFqn, resolvedEntityType, "009_003", classMap);
+                                                        saveDependency(run, sourceClass, sourceFqn, resolvedEntityType, "009_003", classMap);
                                                     } else {
-                                                        saveDependency(sourceClass, sourceFqn, entityTypeName, "009_003", classMap);
+                                                        saveDependency(run, sourceClass, sourceFqn, entityTypeName, "009_003", classMap);
                                                     }
                                                 }
                                             });
@@ -1602,7 +2015,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                         path = extractAnnotationValue(mappingAnnotation, "path");
                                     }
                                     if (path != null && !path.isEmpty()) {
-                                        saveDependency(sourceClass, sourceFqn, "Path:" + path, "009_004", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, "Path:" + path, "009_004", classMap);
                                     }
                                 }
                             }
@@ -1624,7 +2037,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                         if (value != null && !value.isEmpty()) {
                                             targetIdentifier += "=" + value;
                                         }
-                                        saveDependency(sourceClass, sourceFqn, targetIdentifier, "009_004", classMap);
+                                        saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "009_004", classMap);
                                     }
                                 });
                             });
@@ -1649,7 +2062,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                                 if (targetClasses != null && !targetClasses.isEmpty()) {
                                     targetIdentifier += ":" + targetClasses;
                                 }
-                                saveDependency(sourceClass, sourceFqn, targetIdentifier, "009_005", classMap);
+                                saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "009_005", classMap);
                             }
                         });
                     }
@@ -1661,56 +2074,244 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
     }
 
     /**
-     * オートコンフィグ解析（pom.xmlとMETA-INF/spring.factoriesの解析）
-     * @param projectRoot プロジェクトルートパス
+     * クラス間の構造的な依存関係（001_001〜001_011）を解析する
+     * @param classDecl クラス宣言
+     * @param className クラスの簡易名
+     * @param sourceClass 依存元のクラス
+     * @param sourceFqn 依存元の完全修飾名
+     * @param cu CompilationUnit（型解決に使用）
+     * @param packageName パッケージ名
+     * @param classMap クラスマップ
+     * @param symbolSolver JavaSymbolSolver
+     */
+    private void parseCoreDependencies(AnalysisRun run, ClassOrInterfaceDeclaration classDecl, String className, ClassEntity sourceClass, String sourceFqn,
+                                       CompilationUnit cu, String packageName, Map<String, ClassEntity> classMap,
+                                       JavaSymbolSolver symbolSolver) {
+        // 001_001: 継承（extends）
+        classDecl.getExtendedTypes().forEach(extendedType -> {
+            String targetFqn = TypeResolver.resolveFullyQualifiedName(extendedType, cu, packageName, classMap, symbolSolver);
+            if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_001", classMap);
+            }
+        });
+
+        // 001_002: 実装（implements）
+        classDecl.getImplementedTypes().forEach(implType -> {
+            String targetFqn = TypeResolver.resolveFullyQualifiedName(implType, cu, packageName, classMap, symbolSolver);
+            if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_002", classMap);
+            }
+        });
+
+        // 001_004: 例外型依存（throws句とcatch節）
+        // throws句の例外型依存
+        classDecl.findAll(MethodDeclaration.class).forEach(method -> {
+            method.getThrownExceptions().forEach(exceptionType -> {
+                String targetFqn = TypeResolver.resolveFullyQualifiedName(exceptionType, cu, packageName, classMap, symbolSolver);
+                if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                    saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_004", classMap);
+                }
+            });
+        });
+        
+        // catch節の例外型依存
+        classDecl.findAll(CatchClause.class).forEach(catchClause -> {
+            com.github.javaparser.ast.body.Parameter param = catchClause.getParameter();
+            if (param != null) {
+                Type exceptionType = param.getType();
+                if (exceptionType != null) {
+                    String targetFqn = TypeResolver.resolveFullyQualifiedName(exceptionType, cu, packageName, classMap, symbolSolver);
+                    if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                        saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_004", classMap);
+                    }
+                }
+            }
+        });
+
+        // 001_006: 戻り値型依存（このクラス内のメソッドのみ）
+        classDecl.findAll(MethodDeclaration.class).forEach(method -> {
+            Type returnType = method.getType();
+            if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
+                String targetFqn = TypeResolver.resolveFullyQualifiedName(returnType, cu, packageName, classMap, symbolSolver);
+                if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                    saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_006", classMap);
+                }
+            }
+        });
+
+        // 001_003, 001_010: ジェネリクス型参照、集合保持（メソッドの戻り値型から抽出）
+        classDecl.findAll(MethodDeclaration.class).forEach(method -> {
+            Type returnType = method.getType();
+            if (returnType != null && !returnType.isVoidType() && !returnType.isPrimitiveType()) {
+                extractGenericTypes(returnType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
+                    if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
+                        saveDependency(run, sourceClass, sourceFqn, genericType, "001_003", classMap);
+                    }
+                });
+            }
+        });
+
+        // 001_007: 引数型依存（このクラス内のメソッドのみ）
+        classDecl.findAll(MethodDeclaration.class).forEach(method -> {
+            method.getParameters().forEach(param -> {
+                Type paramType = param.getType();
+                if (paramType != null && !paramType.isPrimitiveType()) {
+                    String targetFqn = TypeResolver.resolveFullyQualifiedName(paramType, cu, packageName, classMap, symbolSolver);
+                    if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                        saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_007", classMap);
+                    }
+                }
+            });
+        });
+
+        // 001_003, 001_010: ジェネリクス型参照、集合保持（メソッドの引数型から抽出）
+        classDecl.findAll(MethodDeclaration.class).forEach(method -> {
+            method.getParameters().forEach(param -> {
+                Type paramType = param.getType();
+                if (paramType != null && !paramType.isPrimitiveType()) {
+                    extractGenericTypes(paramType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
+                        if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
+                            saveDependency(run, sourceClass, sourceFqn, genericType, "001_003", classMap);
+                        }
+                    });
+                }
+            });
+        });
+
+        // 001_005: メソッド呼び出し（このクラス内のメソッド呼び出しのみ）
+        classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
+            Optional<Expression> scope = methodCall.getScope();
+            if (scope.isPresent()) {
+                Expression scopeExpr = scope.get();
+                String targetClassName = extractClassNameFromScope(scopeExpr, classDecl, cu, packageName, classMap);
+                if (targetClassName != null && !targetClassName.isEmpty() 
+                        && !isPrimitiveOrBasicType(targetClassName)
+                        && !targetClassName.equals(className)) { // 自分自身の呼び出しは除外
+                    saveDependency(run, sourceClass, sourceFqn, targetClassName, "001_005", classMap);
+                }
+            }
+        });
+
+        // 001_008: 静的メソッド依存（このクラス内の静的メソッド呼び出しのみ）
+        classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
+            Optional<Expression> scope = methodCall.getScope();
+            if (scope.isPresent()) {
+                Expression scopeExpr = scope.get();
+                String staticClassName = extractStaticClassNameFromScope(scopeExpr, classDecl, cu, packageName, classMap);
+                if (staticClassName != null && !staticClassName.isEmpty() 
+                        && !isPrimitiveOrBasicType(staticClassName)
+                        && !staticClassName.equals(className)) { // 自分自身の呼び出しは除外
+                    saveDependency(run, sourceClass, sourceFqn, staticClassName, "001_008", classMap);
+                }
+            }
+        });
+
+        // 001_011: 定数参照（このクラス内の定数参照のみ）
+        // メソッド呼び出しのスコープとして使用されているFieldAccessExprを除外するため、
+        // まず全てのMethodCallExprのスコープを収集
+        Set<Expression> methodCallScopes = new HashSet<>();
+        classDecl.findAll(MethodCallExpr.class).forEach(methodCall -> {
+            methodCall.getScope().ifPresent(methodCallScopes::add);
+        });
+        
+        classDecl.findAll(FieldAccessExpr.class).forEach(fieldAccess -> {
+            // メソッド呼び出しのスコープとして使用されている場合は除外
+            if (methodCallScopes.contains(fieldAccess)) {
+                return;
+            }
+            
+            String constantClassName = extractConstantClassName(fieldAccess, classDecl, cu, packageName, classMap);
+            if (constantClassName != null && !constantClassName.isEmpty() 
+                    && !isPrimitiveOrBasicType(constantClassName)
+                    && !constantClassName.equals(className)) { // 自分自身の定数参照は除外
+                saveDependency(run, sourceClass, sourceFqn, constantClassName, "001_011", classMap);
+            }
+        });
+
+        // 001_009: コンポジション（保持）（このクラス内のフィールドのみ）
+        classDecl.findAll(FieldDeclaration.class).forEach(field -> {
+            Type fieldType = field.getCommonType();
+            if (fieldType != null && !fieldType.isPrimitiveType()) {
+                String targetFqn = TypeResolver.resolveFullyQualifiedName(fieldType, cu, packageName, classMap, symbolSolver);
+                if (targetFqn != null && !targetFqn.isEmpty() && !isPrimitiveOrBasicType(targetFqn)) {
+                    saveDependency(run, sourceClass, sourceFqn, targetFqn, "001_009", classMap);
+                }
+            }
+        });
+
+        // 001_003, 001_010: ジェネリクス型参照、集合保持（このクラス内のフィールドのみ）
+        classDecl.findAll(FieldDeclaration.class).forEach(field -> {
+            Type fieldType = field.getCommonType();
+            extractGenericTypes(fieldType, cu, packageName, classMap, symbolSolver).forEach(genericType -> {
+                if (genericType != null && !genericType.isEmpty() && !isPrimitiveOrBasicType(genericType)) {
+                    saveDependency(run, sourceClass, sourceFqn, genericType, "001_003", classMap);
+                }
+            });
+        });
+    }
+
+    /**
+     * オートコンフィグ解析（pom.xml、META-INF/spring.factories・AutoConfiguration.importsの解析）
+     * @param moduleRoot モジュールのルートパス（ルートのモジュールはプロジェクトルートパス）
      * @param project プロジェクトエンティティ
+     * @param module モジュール
      * @param classMap クラスマップ
+     * @param buildTree ビルド依存関係ツリー（JARファイル内のオートコンフィグの検索に使用）
      */
-    private void parseAutoConfiguration(Path projectRoot, Project project, Map<String, ClassEntity> classMap) {
+    private void parseAutoConfiguration(AnalysisRun run, Path moduleRoot, Project project, ModuleInfo module, Map<String, ClassEntity> classMap,
+                                        List<ResolvedDependency> buildTree) {
         try {
-            // 1. pom.xmlからspring-boot-starter-*を抽出
-            Path pomPath = projectRoot.resolve("pom.xml");
-            if (Files.exists(pomPath)) {
-                List<String> starters = extractSpringBootStarters(pomPath);
+            // 1. pom.xml・build.gradle(.kts)からspring-boot-starter-*を抽出
+            List<String> starters = extractSpringBootStarters(moduleRoot);
+            if (!starters.isEmpty()) {
                 for (String starter : starters) {
-                    // プロジェクト全体に対してオートコンフィグ依存関係を記録
-                    // sourceClassとして、プロジェクトのルートクラスを使用（便宜上、プロジェクト名を使用）
-                    String projectName = projectRoot.getFileName().toString();
-                    String sourceFqn = projectName + ".AutoConfiguration";
+                    // モジュール全体に対してオートコンフィグ依存関係を記録
+                    // sourceClassとして、モジュールのルートクラスを使用（便宜上、プロジェクト名・モジュール名を使用）
+                    String sourceFqn = moduleUnitName(project, module) + ".AutoConfiguration";
                     
                     // 既存のクラスから適切なsourceClassを見つける、または仮のクラスエンティティを使用
-                    ClassEntity sourceClass = findOrCreateProjectClass(project, classMap, sourceFqn, projectName);
-                    saveDependency(sourceClass, sourceFqn, "starter:" + starter, "004_004", classMap);
+                    ClassEntity sourceClass = findOrCreateProjectClass(project, module, classMap, sourceFqn, moduleSimpleName(project, module));
+                    saveDependency(run, sourceClass, sourceFqn, "starter:" + starter, "004_004", classMap);
                 }
             }
             
-            // 2. META-INF/spring.factoriesファイルを解析
-            // プロジェクト内のresources/META-INF/spring.factoriesを検索
-            Path resourcesPath = projectRoot.resolve("src/main/resources/META-INF/spring.factories");
-            if (Files.exists(resourcesPath)) {
-                parseSpringFactories(resourcesPath, project, classMap);
+            // 2. モジュールのMETA-INF/spring.factories・AutoConfiguration.importsを解析
+            // ソース（src/main/resources）とビルド後のファイル（target/classes、build/resources/main）を検索
+            Set<String> autoConfigurationClasses = new LinkedHashSet<>();
+            for (String resourceRoot : List.of("src/main/resources", "target/classes", "build/resources/main")) {
+                Path factoriesPath = moduleRoot.resolve(resourceRoot).resolve(JarAutoConfigurationScanner.SPRING_FACTORIES);
+                if (Files.exists(factoriesPath)) {
+                    autoConfigurationClasses.addAll(JarAutoConfigurationScanner.readSpringFactories(Files.readAllBytes(factoriesPath)));
+                }
+                Path importsPath = moduleRoot.resolve(resourceRoot).resolve(JarAutoConfigurationScanner.AUTO_CONFIGURATION_IMPORTS);
+                if (Files.exists(importsPath)) {
+                    autoConfigurationClasses.addAll(JarAutoConfigurationScanner.readAutoConfigurationImports(Files.readAllBytes(importsPath)));
+                }
             }
-            
-            // target/classes/META-INF/spring.factoriesも検索（ビルド後のファイル）
-            Path targetClassesPath = projectRoot.resolve("target/classes/META-INF/spring.factories");
-            if (Files.exists(targetClassesPath)) {
-                parseSpringFactories(targetClassesPath, project, classMap);
+
+            // 3. 依存関係のJARファイル（実行時のクラスパスに含まれるcompile・runtimeスコープ）内のオートコンフィグを検索
+            // JARファイルはセントラルディレクトリのみを読み取り、走査結果はJARファイルの内容ごとにキャッシュされる
+            long startTime = System.currentTimeMillis();
+            int jarCount = 0;
+            for (ResolvedDependency dependency : buildTree) {
+                if (!"compile".equals(dependency.scope()) && !"runtime".equals(dependency.scope())) {
+                    continue;
+                }
+                Path jarPath = dependencyResolver.artifactPath(dependency);
+                if (jarPath != null) {
+                    autoConfigurationClasses.addAll(jarAutoConfigurationScanner.scan(jarPath).allClasses());
+                    jarCount++;
+                }
             }
-            
-            // 依存関係のJARファイル内のMETA-INF/spring.factoriesも検索
-            // 注: 完全な実装にはMaven依存関係の解決が必要だが、簡易実装としてクラスパスを探索
-            Path targetPath = projectRoot.resolve("target");
-            if (Files.exists(targetPath)) {
-                try (Stream<Path> paths = Files.walk(targetPath)) {
-                    paths.filter(Files::isRegularFile)
-                            .filter(p -> p.toString().contains("META-INF/spring.factories"))
-                            .forEach(factoriesPath -> {
-                                try {
-                                    parseSpringFactories(factoriesPath, project, classMap);
-                                } catch (Exception e) {
-                                    System.err.println("Failed to parse spring.factories: " + factoriesPath + " - " + e.getMessage());
-                                }
-                            });
+            if (jarCount > 0) {
+                System.out.println("Auto-configuration jars scanned: " + jarCount + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+            }
+
+            if (!autoConfigurationClasses.isEmpty()) {
+                String sourceFqn = moduleUnitName(project, module) + ".AutoConfiguration";
+                ClassEntity sourceClass = findOrCreateProjectClass(project, module, classMap, sourceFqn, moduleSimpleName(project, module));
+                for (String className : autoConfigurationClasses) {
+                    saveDependency(run, sourceClass, sourceFqn, className, "004_004", classMap);
                 }
             }
         } catch (Exception e) {
@@ -1720,87 +2321,78 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
     }
 
     /**
-     * pom.xmlからspring-boot-starter-*の依存関係を抽出
-     * @param pomPath pom.xmlファイルのパス
+     * ビルドモデルからspring-boot-starter-*の依存関係を抽出
+     * @param moduleRoot モジュールのルートパス
      * @return spring-boot-starter-*のリスト
      */
-    private List<String> extractSpringBootStarters(Path pomPath) {
+    private List<String> extractSpringBootStarters(Path moduleRoot) {
         List<String> starters = new ArrayList<>();
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(pomPath.toFile());
-            
-            NodeList dependencies = doc.getElementsByTagName("dependency");
-            for (int i = 0; i < dependencies.getLength(); i++) {
-                Element dependency = (Element) dependencies.item(i);
-                NodeList groupIds = dependency.getElementsByTagName("groupId");
-                NodeList artifactIds = dependency.getElementsByTagName("artifactId");
-                
-                if (groupIds.getLength() > 0 && artifactIds.getLength() > 0) {
-                    String groupId = groupIds.item(0).getTextContent().trim();
-                    String artifactId = artifactIds.item(0).getTextContent().trim();
-                    
-                    // spring-boot-starter-*を抽出
-                    if ("org.springframework.boot".equals(groupId) && artifactId.startsWith("spring-boot-starter-")) {
-                        starters.add(artifactId);
+        Path pomPath = moduleRoot.resolve("pom.xml");
+        if (Files.exists(pomPath)) {
+            MavenModel model = buildModelCache.mavenModel(pomPath);
+            if (model != null) {
+                for (MavenDependency dependency : model.dependencies()) {
+                    if (isSpringBootStarter(dependency.groupId(), dependency.artifactId())) {
+                        starters.add(dependency.artifactId());
                     }
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Failed to parse pom.xml: " + pomPath + " - " + e.getMessage());
+        }
+        GradleBuild build = gradleBuild(moduleRoot);
+        if (build != null) {
+            for (GradleDependency dependency : build.dependencies()) {
+                if (isSpringBootStarter(dependency.group(), dependency.name()) && !starters.contains(dependency.name())) {
+                    starters.add(dependency.name());
+                }
+            }
         }
         return starters;
     }
 
+    private static boolean isSpringBootStarter(String groupId, String artifactId) {
+        return "org.springframework.boot".equals(groupId) && artifactId != null && artifactId.startsWith("spring-boot-starter-");
+    }
+
     /**
-     * META-INF/spring.factoriesファイルを解析
-     * @param factoriesPath spring.factoriesファイルのパス
-     * @param project プロジェクトエンティティ
-     * @param classMap クラスマップ
+     * モジュールのbuild.gradle（ない場合はbuild.gradle.kts）の読み取り結果を取得する
+     * @return 読み取り結果（ビルドファイルがない場合はnull）
      */
-    private void parseSpringFactories(Path factoriesPath, Project project, Map<String, ClassEntity> classMap) {
-        try {
-            Properties properties = new Properties();
-            try (InputStream is = Files.newInputStream(factoriesPath);
-                 BufferedReader reader = new BufferedReader(new InputStreamReader(is, java.nio.charset.StandardCharsets.UTF_8))) {
-                properties.load(reader);
+    private GradleBuild gradleBuild(Path moduleRoot) {
+        for (String buildFile : List.of("build.gradle", "build.gradle.kts")) {
+            Path buildFilePath = moduleRoot.resolve(buildFile);
+            if (Files.exists(buildFilePath)) {
+                return buildModelCache.gradleBuild(buildFilePath);
             }
-            
-            // org.springframework.boot.autoconfigure.EnableAutoConfiguration キーを取得
-            String autoConfigurationKey = "org.springframework.boot.autoconfigure.EnableAutoConfiguration";
-            String autoConfigurationClasses = properties.getProperty(autoConfigurationKey);
-            
-            if (autoConfigurationClasses != null && !autoConfigurationClasses.isEmpty()) {
-                // カンマ区切りで複数のクラスが指定されている場合がある
-                String[] classes = autoConfigurationClasses.split(",");
-                for (String className : classes) {
-                    className = className.trim();
-                    if (!className.isEmpty()) {
-                        String projectName = project.getRootPath();
-                        if (projectName.contains(java.io.File.separator)) {
-                            projectName = Paths.get(projectName).getFileName().toString();
-                        }
-                        String sourceFqn = projectName + ".AutoConfiguration";
-                        ClassEntity sourceClass = findOrCreateProjectClass(project, classMap, sourceFqn, projectName);
-                        saveDependency(sourceClass, sourceFqn, className, "004_004", classMap);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to parse spring.factories: " + factoriesPath + " - " + e.getMessage());
         }
+        return null;
+    }
+
+    /**
+     * モジュールのオートコンフィグ・ビルド依存の依存元とする仮のクラスの名前（パッケージ部分）を取得する
+     * ルートのモジュールはプロジェクト名、サブモジュールはプロジェクト名にモジュールのパスを「.」区切りで連結した名前
+     */
+    private String moduleUnitName(Project project, ModuleInfo module) {
+        String projectName = Paths.get(project.getRootPath()).getFileName().toString();
+        return module.getModulePath().isEmpty() ? projectName : projectName + "." + module.getModulePath().replace('/', '.');
+    }
+
+    /**
+     * モジュールのオートコンフィグ・ビルド依存の依存元とする仮のクラスの簡易名を取得する
+     */
+    private String moduleSimpleName(Project project, ModuleInfo module) {
+        return module.getModulePath().isEmpty() ? Paths.get(project.getRootPath()).getFileName().toString() : module.getName();
     }
 
     /**
      * プロジェクトクラスを見つけるか作成する
      * @param project プロジェクトエンティティ
+     * @param module クラスが属するモジュール
      * @param classMap クラスマップ
      * @param fullQualifiedName 完全修飾名
      * @param simpleName 簡易名
      * @return クラスエンティティ
      */
-    private ClassEntity findOrCreateProjectClass(Project project, Map<String, ClassEntity> classMap, 
+    private ClassEntity findOrCreateProjectClass(Project project, ModuleInfo module, Map<String, ClassEntity> classMap, 
                                                  String fullQualifiedName, String simpleName) {
         String mapKey = fullQualifiedName;
         if (!classMap.containsKey(mapKey)) {
@@ -1814,6 +2406,7 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                     });
             
             ClassEntity classEntity = new ClassEntity(project, packageInfo, fullQualifiedName, simpleName);
+            classEntity.setModuleInfo(module);
             classEntity = classEntityRepository.save(classEntity);
             classMap.put(mapKey, classEntity);
             return classEntity;
@@ -1823,235 +2416,112 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
 
     /**
      * ビルド依存解析（pom.xml/build.gradleの解析）
-     * @param projectRoot プロジェクトルートパス
+     * 宣言された依存関係を依存関係として記録し、ローカルリポジトリで解決した推移的な依存関係を含む依存関係ツリーを保存する
+     * @param moduleRoot モジュールのルートパス（ルートのモジュールはプロジェクトルートパス）
      * @param project プロジェクトエンティティ
+     * @param module モジュール
      * @param classMap クラスマップ
+     * @return 推移的な依存関係を含む依存関係ツリー（解決しない場合・解析に失敗した場合は空）
      */
-    private void parseBuildDependencies(Path projectRoot, Project project, Map<String, ClassEntity> classMap) {
+    private List<ResolvedDependency> parseBuildDependencies(AnalysisRun run, Path moduleRoot, Project project, ModuleInfo module, Map<String, ClassEntity> classMap) {
         try {
-            // 1. pom.xmlから依存関係を抽出
-            Path pomPath = projectRoot.resolve("pom.xml");
-            if (Files.exists(pomPath)) {
-                List<MavenDependency> dependencies = extractMavenDependencies(pomPath);
-                String projectName = projectRoot.getFileName().toString();
-                String sourceFqn = projectName + ".BuildDependencies";
-                ClassEntity sourceClass = findOrCreateProjectClass(project, classMap, sourceFqn, projectName);
+            List<MavenDependency> treeRoots = new ArrayList<>();
+            List<MavenDependency> treeManagement = new ArrayList<>();
+
+            // 1. pom.xmlから依存関係を抽出（親POMから継承した依存関係を含み、バージョンは依存関係管理・プロパティで解決済み）
+            // ローカルリポジトリの親POM・インポートしたBOMの依存関係管理も適用する
+            Path pomPath = moduleRoot.resolve("pom.xml");
+            MavenModel model = Files.exists(pomPath) ? dependencyResolver.effectiveModel(pomPath) : null;
+            if (model != null) {
+                treeRoots.addAll(model.dependencies());
+                treeManagement.addAll(model.managedDependencies());
+                String sourceFqn = moduleUnitName(project, module) + ".BuildDependencies";
+                ClassEntity sourceClass = findOrCreateProjectClass(project, module, classMap, sourceFqn, moduleSimpleName(project, module));
                 
-                for (MavenDependency dependency : dependencies) {
+                for (MavenDependency dependency : model.dependencies()) {
                     // 依存関係を記録（groupId:artifactId:version:scope形式）
                     String targetIdentifier = String.format("%s:%s:%s:%s",
-                            dependency.groupId,
-                            dependency.artifactId,
-                            dependency.version != null ? dependency.version : "",
-                            dependency.scope != null ? dependency.scope : "compile");
-                    saveDependency(sourceClass, sourceFqn, targetIdentifier, "004_005", classMap);
+                            dependency.groupId(),
+                            dependency.artifactId(),
+                            dependency.version() != null ? dependency.version() : "",
+                            dependency.scope());
+                    saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "004_005", classMap);
                 }
             }
             
-            // 2. build.gradleから依存関係を抽出（Gradleプロジェクトの場合）
-            Path buildGradlePath = projectRoot.resolve("build.gradle");
-            Path buildGradleKtsPath = projectRoot.resolve("build.gradle.kts");
-            if (Files.exists(buildGradlePath)) {
-                List<GradleDependency> gradleDependencies = extractGradleDependencies(buildGradlePath);
-                String projectName = projectRoot.getFileName().toString();
-                String sourceFqn = projectName + ".BuildDependencies";
-                ClassEntity sourceClass = findOrCreateProjectClass(project, classMap, sourceFqn, projectName);
+            // 2. build.gradle（ない場合はbuild.gradle.kts）から依存関係を抽出（Gradleプロジェクトの場合）
+            // 他のモジュールへの依存（project(':core')）はモジュール間依存関係として記録する
+            GradleBuild build = gradleBuild(moduleRoot);
+            if (build != null) {
+                String sourceFqn = moduleUnitName(project, module) + ".BuildDependencies";
+                ClassEntity sourceClass = findOrCreateProjectClass(project, module, classMap, sourceFqn, moduleSimpleName(project, module));
                 
-                for (GradleDependency dependency : gradleDependencies) {
+                for (GradleDependency dependency : build.dependencies()) {
                     String targetIdentifier = String.format("%s:%s:%s:%s",
-                            dependency.configuration != null ? dependency.configuration : "implementation",
-                            dependency.group != null ? dependency.group : "",
-                            dependency.name != null ? dependency.name : "",
-                            dependency.version != null ? dependency.version : "");
-                    saveDependency(sourceClass, sourceFqn, targetIdentifier, "004_005", classMap);
-                }
-            } else if (Files.exists(buildGradleKtsPath)) {
-                // build.gradle.ktsファイルも同様に処理（簡易実装）
-                List<GradleDependency> gradleDependencies = extractGradleDependencies(buildGradleKtsPath);
-                String projectName = projectRoot.getFileName().toString();
-                String sourceFqn = projectName + ".BuildDependencies";
-                ClassEntity sourceClass = findOrCreateProjectClass(project, classMap, sourceFqn, projectName);
-                
-                for (GradleDependency dependency : gradleDependencies) {
-                    String targetIdentifier = String.format("%s:%s:%s:%s",
-                            dependency.configuration != null ? dependency.configuration : "implementation",
-                            dependency.group != null ? dependency.group : "",
-                            dependency.name != null ? dependency.name : "",
-                            dependency.version != null ? dependency.version : "");
-                    saveDependency(sourceClass, sourceFqn, targetIdentifier, "004_005", classMap);
+                            dependency.configuration(),
+                            dependency.group() != null ? dependency.group() : "",
+                            dependency.name(),
+                            dependency.version() != null ? dependency.version() : "");
+                    saveDependency(run, sourceClass, sourceFqn, targetIdentifier, "004_005", classMap);
+                    if (dependency.group() != null) {
+                        treeRoots.add(new MavenDependency(dependency.group(), dependency.name(), dependency.version(), "jar",
+                                dependency.classifier(), gradleScope(dependency.configuration()), false, List.of()));
+                    }
                 }
             }
+
+            // 3. 推移的な依存関係を含む依存関係ツリーを保存
+            List<ResolvedDependency> tree = dependencyResolver.resolve(treeRoots, treeManagement);
+            saveBuildDependencyTree(project, module, tree, treeRoots);
+            return tree;
         } catch (Exception e) {
             System.err.println("Failed to parse build dependencies: " + e.getMessage());
             e.printStackTrace();
+            return List.of();
         }
     }
 
     /**
-     * Maven依存関係情報を保持する内部クラス
+     * 依存関係ツリーを保存する
+     * 推移的な依存関係を解決しない場合（無効の場合・ローカルリポジトリがない場合）は宣言された依存関係のみを保存する
+     * @param resolved 解決した依存関係ツリー
+     * @param declared 宣言された依存関係
      */
-    private static class MavenDependency {
-        String groupId;
-        String artifactId;
-        String version;
-        String scope;
-        
-        MavenDependency(String groupId, String artifactId, String version, String scope) {
-            this.groupId = groupId;
-            this.artifactId = artifactId;
-            this.version = version;
-            this.scope = scope;
-        }
-    }
-
-    /**
-     * Gradle依存関係情報を保持する内部クラス
-     */
-    private static class GradleDependency {
-        String configuration;
-        String group;
-        String name;
-        String version;
-        
-        GradleDependency(String configuration, String group, String name, String version) {
-            this.configuration = configuration;
-            this.group = group;
-            this.name = name;
-            this.version = version;
-        }
-    }
-
-    /**
-     * pom.xmlからMaven依存関係を抽出
-     * @param pomPath pom.xmlファイルのパス
-     * @return Maven依存関係のリスト
-     */
-    private List<MavenDependency> extractMavenDependencies(Path pomPath) {
-        List<MavenDependency> dependencies = new ArrayList<>();
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(pomPath.toFile());
-            
-            NodeList dependencyNodes = doc.getElementsByTagName("dependency");
-            for (int i = 0; i < dependencyNodes.getLength(); i++) {
-                Element dependency = (Element) dependencyNodes.item(i);
-                NodeList groupIds = dependency.getElementsByTagName("groupId");
-                NodeList artifactIds = dependency.getElementsByTagName("artifactId");
-                NodeList versions = dependency.getElementsByTagName("version");
-                NodeList scopes = dependency.getElementsByTagName("scope");
-                
-                if (groupIds.getLength() > 0 && artifactIds.getLength() > 0) {
-                    String groupId = groupIds.item(0).getTextContent().trim();
-                    String artifactId = artifactIds.item(0).getTextContent().trim();
-                    String version = versions.getLength() > 0 ? versions.item(0).getTextContent().trim() : null;
-                    String scope = scopes.getLength() > 0 ? scopes.item(0).getTextContent().trim() : null;
-                    
-                    // 親POMからの継承などでgroupIdが${...}の場合はスキップ
-                    if (!groupId.contains("${") && !artifactId.contains("${")) {
-                        dependencies.add(new MavenDependency(groupId, artifactId, version, scope));
-                    }
-                }
+    private void saveBuildDependencyTree(Project project, ModuleInfo module, List<ResolvedDependency> resolved, List<MavenDependency> declared) {
+        List<BuildDependency> tree = new ArrayList<>();
+        if (!resolved.isEmpty()) {
+            for (ResolvedDependency dependency : resolved) {
+                tree.add(new BuildDependency(project, module, tree.size(), dependency.depth(), dependency.groupId(), dependency.artifactId(),
+                        dependency.version(), dependency.scope(), dependency.classifier(), dependency.optional(),
+                        dependency.parent(), dependency.resolved()));
             }
-        } catch (Exception e) {
-            System.err.println("Failed to parse Maven dependencies from pom.xml: " + pomPath + " - " + e.getMessage());
-        }
-        return dependencies;
-    }
-
-    /**
-     * build.gradle/build.gradle.ktsからGradle依存関係を抽出
-     * @param gradlePath build.gradleファイルのパス
-     * @return Gradle依存関係のリスト
-     */
-    private List<GradleDependency> extractGradleDependencies(Path gradlePath) {
-        List<GradleDependency> dependencies = new ArrayList<>();
-        try {
-            List<String> lines = Files.readAllLines(gradlePath, java.nio.charset.StandardCharsets.UTF_8);
-            String currentConfiguration = null;
-            
-            for (String line : lines) {
-                line = line.trim();
-                
-                // 依存関係の設定ブロックを検出（implementation, compile, runtime, testImplementation等）
-                if (line.startsWith("implementation") || line.startsWith("compile") 
-                        || line.startsWith("runtime") || line.startsWith("testImplementation")
-                        || line.startsWith("testCompile") || line.startsWith("api")
-                        || line.startsWith("compileOnly") || line.startsWith("runtimeOnly")) {
-                    // configuration名を抽出
-                    int parenIndex = line.indexOf('(');
-                    if (parenIndex > 0) {
-                        currentConfiguration = line.substring(0, parenIndex).trim();
-                    }
-                }
-                
-                // 依存関係の定義を抽出
-                // 例: implementation 'org.springframework.boot:spring-boot-starter-web'
-                // 例: implementation group: 'org.springframework.boot', name: 'spring-boot-starter-web', version: '3.0.0'
-                if (line.contains("'") || line.contains("\"")) {
-                    String dependencyStr = extractDependencyString(line);
-                    if (dependencyStr != null && !dependencyStr.isEmpty()) {
-                        GradleDependency dependency = parseGradleDependency(currentConfiguration, dependencyStr);
-                        if (dependency != null) {
-                            dependencies.add(dependency);
-                        }
-                    }
+        } else {
+            for (MavenDependency dependency : declared) {
+                if (dependency.groupId() != null && dependency.artifactId() != null) {
+                    tree.add(new BuildDependency(project, module, tree.size(), 1, dependency.groupId(), dependency.artifactId(),
+                            dependency.version(), dependency.scope(), dependency.classifier(), dependency.optional(), null, false));
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Failed to parse Gradle dependencies from build.gradle: " + gradlePath + " - " + e.getMessage());
         }
-        return dependencies;
+        buildDependencyRepository.saveAll(tree);
     }
 
     /**
-     * Gradle依存関係の文字列を抽出
-     * @param line 行文字列
-     * @return 依存関係の文字列
+     * Gradleの構成名をMavenのスコープに対応付ける（推移的な依存関係のスコープの判定に使用）
      */
-    private String extractDependencyString(String line) {
-        // '...' または "..." の文字列を抽出
-        int startSingleQuote = line.indexOf("'");
-        int startDoubleQuote = line.indexOf("\"");
-        
-        int start = -1;
-        char quoteChar = 0;
-        if (startSingleQuote >= 0 && (startDoubleQuote < 0 || startSingleQuote < startDoubleQuote)) {
-            start = startSingleQuote + 1;
-            quoteChar = '\'';
-        } else if (startDoubleQuote >= 0) {
-            start = startDoubleQuote + 1;
-            quoteChar = '"';
+    private static String gradleScope(String configuration) {
+        if (configuration.startsWith("test")) {
+            return "test";
         }
-        
-        if (start >= 0) {
-            int end = line.indexOf(quoteChar, start);
-            if (end > start) {
-                return line.substring(start, end);
-            }
+        if (configuration.equals("runtimeOnly")) {
+            return "runtime";
         }
-        return null;
-    }
-
-    /**
-     * Gradle依存関係の文字列をパース
-     * @param configuration 依存関係の設定（implementation等）
-     * @param dependencyStr 依存関係の文字列（例: "org.springframework.boot:spring-boot-starter-web"）
-     * @return Gradle依存関係オブジェクト
-     */
-    private GradleDependency parseGradleDependency(String configuration, String dependencyStr) {
-        // group:name:version 形式をパース
-        String[] parts = dependencyStr.split(":");
-        if (parts.length >= 2) {
-            String group = parts[0];
-            String name = parts[1];
-            String version = parts.length >= 3 ? parts[2] : null;
-            return new GradleDependency(configuration, group, name, version);
+        if (configuration.equals("compileOnly") || configuration.equals("annotationProcessor")) {
+            return "provided";
         }
-        return null;
+        return "compile";
     }
 
-
     /**
      * ジェネリクス型引数を抽出する
      * @param type 型
@@ -2383,10 +2853,11 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
         return hasAnnotation(constructor.getAnnotations(), annotationName);
     }
 
-    private void saveDependency(ClassEntity sourceClass, String sourceFqn, String targetIdentifier, String kindCode, Map<String, ClassEntity> classMap) {
-        DependencyKindEntity kind = dependencyKindRepository.findByCode(kindCode)
-                .orElseThrow(() -> new IllegalArgumentException("Unknown dependency kind code: " + kindCode));
-        ClassDependency dependency = new ClassDependency(sourceClass, sourceFqn, targetIdentifier, kind);
+    private void saveDependency(AnalysisRun run, ClassEntity sourceClass, String sourceFqn, String targetIdentifier, String kindCode, Map<String, ClassEntity> classMap) {
+        DependencyKindEntity kind = run.dependencyKinds.get(kindCode);
+        if (kind == null) {
+            throw new IllegalArgumentException("Unknown dependency kind code: " + kindCode);
+        }
         
         // targetIdentifierからtargetClassを解決
         // パッケージ名が空の場合のマップキーも考慮
@@ -2401,11 +2872,46 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
             }
         }
         
-        if (targetClass != null) {
-            dependency.setTargetClass(targetClass);
+        if (run.pendingDependencies != null) {
+            // モジュール単位の並列解析中は保存せずに保持する（解析後に呼び出し元のスレッドでまとめて保存する）
+            run.pendingDependencies.add(new PendingDependency(sourceClass, sourceFqn, targetIdentifier, kindCode));
+            return;
+        }
+        if (run.collectedDependencies != null) {
+            // 変更ファイル解析ではクラス間の依存関係のみを収集する（保存しない）
+            if (targetClass != null) {
+                run.collectedDependencies.add(new CollectedDependency(sourceClass.getFullQualifiedName(),
+                        targetClass.getFullQualifiedName(), kindCode));
+            }
+            return;
+        }
+        if (run.edgeStore != null) {
+            // 列指向ストアにはクラスIDと依存種類のみを追記する
+            run.edgeStore.append(sourceClass.getId(), targetClass != null ? targetClass.getId() : ColumnarEdgeStore.UNRESOLVED, kindCode);
+        } else {
+            ClassDependency dependency = new ClassDependency(sourceClass, internSymbol(run, sourceFqn), internSymbol(run, targetIdentifier), kind);
+            if (targetClass != null) {
+                dependency.setTargetClass(targetClass);
+            }
+            classDependencyRepository.save(dependency);
+            if (run.updatedDependencies != null && targetClass != null) {
+                run.updatedDependencies.add(dependency);
+            }
+        }
+        if (run.rollupAccumulator != null) {
+            run.rollupAccumulator.recordDependency(sourceClass, targetClass, kindCode);
         }
-        
-        classDependencyRepository.save(dependency);
+    }
+
+    /**
+     * 文字列をシンボル辞書に登録する（未登録の場合のみシンボルを保存する）
+     */
+    private Symbol internSymbol(AnalysisRun run, String value) {
+        Symbol symbol = run.symbolDictionary.lookup(value);
+        if (symbol == null) {
+            symbol = symbolRepository.save(run.symbolDictionary.register(value));
+        }
+        return symbol;
     }
 
     /**
@@ -2503,41 +3009,124 @@ public class ClassDependencyAnalysisServiceImpl implements ClassDependencyAnalys
                 .orElse(null);
     }
 
-    private PackageSummaryDto createPackageSummary(PackageInfo packageInfo) {
-        List<ClassEntity> classes = classEntityRepository.findByPackageInfo(packageInfo);
-        
-        // 重複除去（fullQualifiedNameで比較）
-        Set<ClassEntity> uniqueClasses = new LinkedHashSet<>(classes);
-        List<String> classNames = uniqueClasses.stream()
-                .map(ClassEntity::getSimpleName)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
-        
+    private PackageSummaryDto createPackageSummary(PackageInfo packageInfo, Set<String> classNameSet,
+                                                   Map<String, Long> dependencyKindCounts, PackageRollup rollup) {
+        List<String> classNames = new ArrayList<>(classNameSet);
         int classCount = classNames.size();
 
-        // 依存関係の種類別件数（依存種類コードでソート）
-        Map<String, Long> dependencyKindCounts = new TreeMap<>();
-        List<DependencyKindEntity> allKinds = dependencyKindRepository.findAll();
-        for (DependencyKindEntity kind : allKinds) {
-            long count = classDependencyRepository.countByPackageInfoAndDependencyKindCode(packageInfo, kind.getCode());
-            if (count > 0) {
-                dependencyKindCounts.put(kind.getCode(), count);
-            }
-        }
-
         return new PackageSummaryDto(
                 packageInfo.getFullName(),
                 classCount,
                 classNames,
-                dependencyKindCounts
+                new TreeMap<>(dependencyKindCounts),
+                rollup != null ? rollup.getSubtreeClassCount() : classCount,
+                rollup != null ? rollup.getOutgoingEdgeCount() : 0L,
+                rollup != null ? rollup.getIncomingEdgeCount() : 0L
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PackageRollupDto getPackageRollup(Long projectId, String packageName) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        PackageInfo packageInfo = packageInfoRepository.findByProjectAndFullName(project, packageName)
+                .orElseThrow(() -> new IllegalArgumentException("Package not found: " + packageName));
+        PackageRollup rollup = packageRollupRepository.findByPackageInfo_Id(packageInfo.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Package rollup not found: " + packageName));
+        return toPackageRollupDtos(List.of(rollup)).get(0);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PackageRollupDto> getChildPackageRollups(Long projectId, String packageName) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+        List<PackageRollup> rollups;
+        if (packageName == null || packageName.isEmpty()) {
+            // パッケージ名未指定の場合は最上位パッケージを返す
+            rollups = packageRollupRepository.findTopLevelByProject(project);
+        } else {
+            PackageInfo packageInfo = packageInfoRepository.findByProjectAndFullName(project, packageName)
+                    .orElseThrow(() -> new IllegalArgumentException("Package not found: " + packageName));
+            rollups = packageRollupRepository.findByParentPackageId(packageInfo.getId());
+        }
+        return toPackageRollupDtos(rollups).stream()
+                .sorted(Comparator.comparing(PackageRollupDto::packageName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * パッケージ集計をDTOに変換する（依存種類別の集計は全パッケージ分を1回のクエリで取得する）
+     */
+    private List<PackageRollupDto> toPackageRollupDtos(List<PackageRollup> rollups) {
+        List<Long> packageIds = rollups.stream().map(rollup -> rollup.getPackageInfo().getId()).toList();
+        Map<Long, List<PackageDependencyKindRollup>> kindRollupsByPackage = packageIds.isEmpty()
+                ? Map.of()
+                : packageDependencyKindRollupRepository.findByPackageInfo_IdIn(packageIds).stream()
+                        .collect(Collectors.groupingBy(kindRollup -> kindRollup.getPackageInfo().getId()));
+
+        List<PackageRollupDto> result = new ArrayList<>();
+        for (PackageRollup rollup : rollups) {
+            PackageInfo packageInfo = rollup.getPackageInfo();
+            Map<String, Long> dependencyKindCounts = new TreeMap<>();
+            Map<String, Long> subtreeDependencyKindCounts = new TreeMap<>();
+            for (PackageDependencyKindRollup kindRollup : kindRollupsByPackage.getOrDefault(packageInfo.getId(), List.of())) {
+                if (kindRollup.getDependencyCount() > 0) {
+                    dependencyKindCounts.put(kindRollup.getDependencyKindCode(), kindRollup.getDependencyCount());
+                }
+                subtreeDependencyKindCounts.put(kindRollup.getDependencyKindCode(), kindRollup.getSubtreeDependencyCount());
+            }
+            result.add(new PackageRollupDto(
+                    packageInfo.getFullName(),
+                    rollup.getClassCount(),
+                    rollup.getSubtreeClassCount(),
+                    rollup.getOutgoingEdgeCount(),
+                    rollup.getIncomingEdgeCount(),
+                    rollup.getSubtreeOutgoingEdgeCount(),
+                    rollup.getSubtreeIncomingEdgeCount(),
+                    dependencyKindCounts,
+                    subtreeDependencyKindCounts
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * パッケージ階層（parent_package_id）を設定し、解析中に集計したパッケージ集計を保存する
+     * 親パッケージは登録済みパッケージのうち最も近い上位パッケージとする
+     */
+    void materializePackageRollups(AnalysisRun run, Project project, Map<String, ClassEntity> classMap) {
+        List<PackageInfo> packages = packageInfoRepository.findByProject(project);
+        Map<String, PackageInfo> packagesByName = new HashMap<>();
+        for (PackageInfo pkg : packages) {
+            packagesByName.put(pkg.getFullName(), pkg);
+        }
+
+        for (PackageInfo pkg : packages) {
+            PackageInfo parent = null;
+            String name = pkg.getFullName();
+            int lastDotIndex = name.lastIndexOf('.');
+            while (parent == null && lastDotIndex > 0) {
+                name = name.substring(0, lastDotIndex);
+                parent = packagesByName.get(name);
+                lastDotIndex = name.lastIndexOf('.');
+            }
+            pkg.setParentPackage(parent);
+        }
+        packageInfoRepository.saveAll(packages);
+
+        classMap.values().forEach(run.rollupAccumulator::recordClass);
+        PackageRollupAccumulator.Result result = run.rollupAccumulator.rollUp(packages);
+        packageRollupRepository.saveAll(result.rollups());
+        packageDependencyKindRollupRepository.saveAll(result.kindRollups());
+        System.out.println("Package rollups: " + result.rollups().size() + ", Kind rollups: " + result.kindRollups().size());
+    }
+
     /**
      * メンバー情報を抽出・保存する
      */
-    private void parseMembers(List<Path> javaFiles, Path projectRoot, Map<String, ClassEntity> classMap) {
+    void parseMembers(List<Path> javaFiles, Path projectRoot, Map<String, ClassEntity> classMap) {
         JavaParser parser = new JavaParser();
         
         for (Path javaFile : javaFiles) {
@@ -1,9 +1,13 @@
 package com.example.springbootprojectanalyser.service.impl;
 
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
 import com.example.springbootprojectanalyser.model.dto.*;
 import com.example.springbootprojectanalyser.model.entity.*;
 import com.example.springbootprojectanalyser.repository.*;
 import com.example.springbootprojectanalyser.service.ClassDiagramService;
+import com.example.springbootprojectanalyser.service.support.AnalysisGenerationTracker;
+import com.example.springbootprojectanalyser.service.support.ClassDiagramCache;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,179 +23,190 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
     private static final int MAX_DEPTH = 10;
 
     private final EndpointRepository endpointRepository;
-    private final ClassDependencyRepository classDependencyRepository;
     private final MemberRepository memberRepository;
-    private final ProjectRepository projectRepository;
+    private final ClassEntityRepository classEntityRepository;
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+    private final ClassDiagramCache classDiagramCache;
+    private final AnalysisGenerationTracker generationTracker;
 
     public ClassDiagramServiceImpl(
             EndpointRepository endpointRepository,
-            ClassDependencyRepository classDependencyRepository,
             MemberRepository memberRepository,
-            ProjectRepository projectRepository) {
+            ClassEntityRepository classEntityRepository,
+            ClassGraphIndexRegistry graphIndexRegistry,
+            ClassDiagramCache classDiagramCache,
+            AnalysisGenerationTracker generationTracker) {
         this.endpointRepository = endpointRepository;
-        this.classDependencyRepository = classDependencyRepository;
         this.memberRepository = memberRepository;
-        this.projectRepository = projectRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.graphIndexRegistry = graphIndexRegistry;
+        this.classDiagramCache = classDiagramCache;
+        this.generationTracker = generationTracker;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ClassDiagramDto generateClassDiagram(java.util.UUID selectedEndpointId, Long projectId) {
+        return generateClassDiagram(selectedEndpointId, projectId, false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClassDiagramDto precomputeClassDiagram(UUID selectedEndpointId, Long projectId) {
+        return generateClassDiagram(selectedEndpointId, projectId, true);
+    }
+
+    private ClassDiagramDto generateClassDiagram(UUID selectedEndpointId, Long projectId, boolean precompute) {
         // SPC-201.002-001: 起点クラスの選択
         Endpoint endpoint = endpointRepository.findById(selectedEndpointId.toString())
             .orElseThrow(() -> new IllegalArgumentException("エンドポイントが見つかりません: " + selectedEndpointId));
         
         ClassEntity startClass = endpoint.getClassEntity();
+        String endpointUri = endpoint.getUri();
+        String httpMethod = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().getMethodName() : "";
+        
+        // 同一解析世代で生成済みのクラス図があれば再利用する
+        ClassDiagramCache.Key cacheKey = new ClassDiagramCache.Key(projectId, startClass.getFullQualifiedName(),
+            endpointUri, httpMethod, MAX_DEPTH, generationTracker.current(projectId));
+        ClassDiagramDto cached = classDiagramCache.get(cacheKey);
+        if (cached != null) {
+            if (precompute) {
+                classDiagramCache.putPrecomputed(cacheKey, cached);
+            }
+            return cached;
+        }
+        
+        // 解析完了時に構築済みのグラフインデックスを使用（データベースへの問い合わせを行わない）
+        ClassGraphIndex graph = graphIndexRegistry.getIndex(projectId);
+        int startNode = graph.nodeOf(startClass.getId());
+        if (startNode < 0) {
+            throw new IllegalArgumentException("起点クラスが解析結果に存在しません: " + startClass.getFullQualifiedName());
+        }
         
         // SPC-201.003-001: 対象クラスの抽出
-        Set<ClassEntity> targetClasses = extractTargetClasses(startClass, projectId);
-        List<ClassInfoDto> targetClassList = targetClasses.stream()
-            .map(c -> new ClassInfoDto(c.getId(), c.getFullQualifiedName(), c.getSimpleName()))
+        List<Integer> targetNodes = extractTargetClasses(graph, startNode);
+        BitSet targetNodeSet = new BitSet(graph.nodeCount());
+        targetNodes.forEach(targetNodeSet::set);
+        List<ClassInfoDto> targetClassList = targetNodes.stream()
+            .map(node -> new ClassInfoDto(graph.classId(node), graph.fullQualifiedName(node), graph.simpleName(node)))
             .collect(Collectors.toList());
         
         // 依存関係マップの作成
-        Map<String, Map<String, List<String>>> dependencyMap = buildDependencyMap(targetClasses, projectId);
+        Map<String, Map<String, List<String>>> dependencyMap = buildDependencyMap(graph, targetNodes, targetNodeSet);
         
         // インターフェースクラスのセットを作成（実装関係「001_002」のターゲットになっているクラス）
-        Set<String> interfaceClassFqns = identifyInterfaceClasses(targetClasses, projectId);
+        Set<String> interfaceClassFqns = identifyInterfaceClasses(graph, targetNodes, targetNodeSet);
         
         // 起点クラスのFQNを保持（コントローラクラスを明示的に表現するため）
         String startClassFqn = startClass.getFullQualifiedName();
         
-        // エンドポイント情報を取得（URIとHTTPメソッド）
-        String endpointUri = endpoint.getUri();
-        String httpMethod = endpoint.getHttpMethod() != null ? endpoint.getHttpMethod().getMethodName() : "";
-        
         // SPC-201.004-001: クラスダイアログ記載事項の抽出
         // 注意: 現在の実装では、クラス依存関係解析時にメンバー情報は保存されていないため、
         // 依存関係から推測してメンバー情報を生成します
-        Map<String, List<MemberInfoDto>> classMemberMap = extractClassMembers(targetClasses, projectId);
-        
-        // プロジェクト情報を取得（ファイルパス生成のため）
-        com.example.springbootprojectanalyser.model.entity.Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません"));
+        Map<String, List<MemberInfoDto>> classMemberMap = extractClassMembers(graph, targetNodes, targetNodeSet);
         
         // 関連ファイルパス情報を生成
-        Map<String, String> classFilePaths = generateClassFilePaths(targetClasses, project.getRootPath());
+        Map<String, String> classFilePaths = generateClassFilePaths(targetClassList);
         
         // SPC-201.005-001: クラス図の書式生成
         String classDiagramText = generateMermaidClassDiagram(targetClassList, classMemberMap, dependencyMap, interfaceClassFqns, startClassFqn, endpointUri, httpMethod);
         
-        return new ClassDiagramDto(classDiagramText, targetClassList, classMemberMap, dependencyMap, classFilePaths);
+        ClassDiagramDto classDiagram = new ClassDiagramDto(classDiagramText, targetClassList, classMemberMap, dependencyMap, classFilePaths);
+        if (precompute) {
+            classDiagramCache.putPrecomputed(cacheKey, classDiagram);
+        } else {
+            classDiagramCache.put(cacheKey, classDiagram);
+        }
+        return classDiagram;
+    }
+
+    @Override
+    public ClassDiagramCacheStatsDto getCacheStats() {
+        return classDiagramCache.stats();
     }
 
     /**
      * 対象クラスを抽出する（再帰的に依存関係を追跡）
      * SPC-201.003-001に準拠
      * インターフェースクラスも含める（逆方向の依存関係も追跡）
+     * 深さごとのフロンティア（同一階層のクラス群）をまとめて展開する
+     * @return 対象クラスのノード番号（訪問順）
      */
-    private Set<ClassEntity> extractTargetClasses(ClassEntity startClass, Long projectId) {
+    private List<Integer> extractTargetClasses(ClassGraphIndex graph, int startNode) {
+        int implementsKind = graph.kindOf("001_002");
         // 訪問済みセットを初期化（対象クラスリストとして使用）
-        Set<ClassEntity> visited = new HashSet<>();
-        // 起点クラスをキューに追加
-        Queue<ClassEntity> queue = new LinkedList<>();
-        queue.offer(startClass);
-        // 起点クラスを対象クラスリストに追加
-        visited.add(startClass);
-        
-        int depth = 0;
-        // キューが空になるまで、または最大深度に達するまで処理
-        while (!queue.isEmpty() && depth < MAX_DEPTH) {
-            int levelSize = queue.size();
-            depth++;
+        BitSet visited = new BitSet(graph.nodeCount());
+        List<Integer> visitOrder = new ArrayList<>();
+        // 起点クラスを最初のフロンティアとし、対象クラスリストに追加
+        int[] frontier = new int[graph.nodeCount()];
+        int[] next = new int[graph.nodeCount()];
+        frontier[0] = startNode;
+        int frontierSize = 1;
+        visited.set(startNode);
+        visitOrder.add(startNode);
+        
+        // フロンティアが空になるまで、または最大深度に達するまで処理
+        for (int depth = 0; frontierSize > 0 && depth < MAX_DEPTH; depth++) {
+            int nextSize = 0;
             
-            for (int i = 0; i < levelSize; i++) {
-                // キューからクラスを取得
-                ClassEntity current = queue.poll();
-                if (current == null) {
-                    continue;
-                }
+            for (int i = 0; i < frontierSize; i++) {
+                int current = frontier[i];
                 
-                // 順方向の依存関係を取得（class_dependenciesテーブルを参照）
-                List<ClassDependency> outgoingDependencies = classDependencyRepository
-                    .findBySourceClass_Id(current.getId());
-                
-                // 順方向の依存関係を処理
-                if (outgoingDependencies != null && !outgoingDependencies.isEmpty()) {
-                    for (ClassDependency dep : outgoingDependencies) {
-                        // プロジェクト内のクラスで、targetClassが解決されているもののみ処理
-                        if (dep.getTargetClass() != null) {
-                            ClassEntity target = dep.getTargetClass();
-                            Long targetProjectId = target.getProject() != null ? target.getProject().getId() : null;
-                            
-                            if (targetProjectId != null && targetProjectId.equals(projectId)) {
-                                // テストクラスを除外（クラス名がTestで終わるもの）
-                                if (isTestClass(target)) {
-                                    continue;
-                                }
-                                
-                                // 未訪問の依存先クラスをキューに追加
-                                if (!visited.contains(target)) {
-                                    visited.add(target);
-                                    queue.offer(target);
-                                }
-                            }
-                        }
+                // 順方向の依存関係を処理（インデックスにはプロジェクト内のクラス間の依存関係のみ含まれる）
+                for (int e = graph.outStart(current); e < graph.outEnd(current); e++) {
+                    int target = graph.outTarget(e);
+                    // テストクラスを除外（クラス名がTestで終わるもの）
+                    if (visited.get(target) || isTestClass(graph, target)) {
+                        continue;
                     }
+                    // 未訪問の依存先クラスを次のフロンティアに追加
+                    visited.set(target);
+                    visitOrder.add(target);
+                    next[nextSize++] = target;
                 }
                 
-                // 逆方向の依存関係を取得（インターフェースクラスを含めるため）
-                // 例：実装クラスがインターフェースを実装している場合、そのインターフェースも含める
-                List<ClassDependency> incomingDependencies = classDependencyRepository
-                    .findByTargetClass_Id(current.getId());
-                
                 // 逆方向の依存関係を処理（実装関係「001_002」のみを対象）
-                if (incomingDependencies != null && !incomingDependencies.isEmpty()) {
-                    for (ClassDependency dep : incomingDependencies) {
-                        // 実装関係（001_002）のみを対象とする
-                        if (dep.getDependencyKind() == null || 
-                            !"001_002".equals(dep.getDependencyKind().getCode())) {
-                            continue;
-                        }
-                        
-                        // プロジェクト内のクラスで、sourceClassが解決されているもののみ処理
-                        if (dep.getSourceClass() != null) {
-                            ClassEntity source = dep.getSourceClass();
-                            
-                            // テストクラスを除外（クラス名がTestで終わるもの）
-                            if (isTestClass(source)) {
-                                continue;
-                            }
-                            
-                            Long sourceProjectId = source.getProject() != null ? source.getProject().getId() : null;
-                            
-                            if (sourceProjectId != null && sourceProjectId.equals(projectId)) {
-                                // 未訪問の依存元クラスをキューに追加
-                                // 実装関係（001_002）の場合のみ、インターフェースと実装クラスの両方を含める
-                                if (!visited.contains(source)) {
-                                    visited.add(source);
-                                    queue.offer(source);
-                                }
-                            }
-                        }
+                // 例：実装クラスがインターフェースを実装している場合、そのインターフェースも含める
+                if (implementsKind < 0) {
+                    continue;
+                }
+                for (int e = graph.inStart(current); e < graph.inEnd(current); e++) {
+                    if (graph.inKind(e) != implementsKind) {
+                        continue;
+                    }
+                    int source = graph.inSource(e);
+                    // テストクラスを除外（クラス名がTestで終わるもの）
+                    if (visited.get(source) || isTestClass(graph, source)) {
+                        continue;
                     }
+                    // 未訪問の依存元クラスを次のフロンティアに追加
+                    visited.set(source);
+                    visitOrder.add(source);
+                    next[nextSize++] = source;
                 }
             }
+            
+            // 次の階層へ（配列を入れ替えて再利用）
+            int[] swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
         }
         
-        return visited;
+        return visitOrder;
     }
 
     /**
      * テストクラスかどうかを判定する
      * クラス名がTestで終わるもの、またはパッケージ名にtestが含まれるものをテストクラスとみなす
      */
-    private boolean isTestClass(ClassEntity classEntity) {
-        if (classEntity == null) {
-            return false;
-        }
-        
-        String simpleName = classEntity.getSimpleName();
+    private boolean isTestClass(ClassGraphIndex graph, int node) {
+        String simpleName = graph.simpleName(node);
         if (simpleName != null && simpleName.endsWith("Test")) {
             return true;
         }
         
-        String fullQualifiedName = classEntity.getFullQualifiedName();
+        String fullQualifiedName = graph.fullQualifiedName(node);
         if (fullQualifiedName != null) {
             // パッケージ名にtestが含まれるかチェック
             String lowerFqn = fullQualifiedName.toLowerCase();
@@ -207,24 +222,19 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
      * インターフェースクラスを識別する
      * 実装関係（依存種類コード「001_002」）のターゲットになっているクラスをインターフェースとみなす
      */
-    private Set<String> identifyInterfaceClasses(Set<ClassEntity> classes, Long projectId) {
+    private Set<String> identifyInterfaceClasses(ClassGraphIndex graph, List<Integer> nodes, BitSet nodeSet) {
         Set<String> interfaceFqns = new HashSet<>();
+        int implementsKind = graph.kindOf("001_002");
+        if (implementsKind < 0) {
+            return interfaceFqns;
+        }
         
-        for (ClassEntity classEntity : classes) {
+        for (int node : nodes) {
             // このクラスをターゲットとする実装関係（001_002）を検索
-            List<ClassDependency> incomingDependencies = classDependencyRepository
-                .findByTargetClass_Id(classEntity.getId());
-            
-            for (ClassDependency dep : incomingDependencies) {
-                // 実装関係（001_002）のみを対象
-                if (dep.getDependencyKind() != null && 
-                    "001_002".equals(dep.getDependencyKind().getCode()) &&
-                    dep.getSourceClass() != null &&
-                    dep.getSourceClass().getProject() != null &&
-                    dep.getSourceClass().getProject().getId().equals(projectId) &&
-                    classes.contains(dep.getSourceClass())) {
+            for (int e = graph.inStart(node); e < graph.inEnd(node); e++) {
+                if (graph.inKind(e) == implementsKind && nodeSet.get(graph.inSource(e))) {
                     // このクラスが実装関係のターゲットになっている場合、インターフェースとみなす
-                    interfaceFqns.add(classEntity.getFullQualifiedName());
+                    interfaceFqns.add(graph.fullQualifiedName(node));
                     break; // 1つでも見つかればインターフェースと判定
                 }
             }
@@ -238,34 +248,28 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
      * 同じソース→ターゲットの組み合わせをまとめて、依存の種類をリストとして保持
      * 戻り値: ソースFQN -> ターゲットFQN -> 依存の種類ラベルのリスト
      */
-    private Map<String, Map<String, List<String>>> buildDependencyMap(Set<ClassEntity> classes, Long projectId) {
+    private Map<String, Map<String, List<String>>> buildDependencyMap(ClassGraphIndex graph, List<Integer> nodes, BitSet nodeSet) {
         // ソースFQN -> ターゲットFQN -> 依存の種類ラベルのリスト
         Map<String, Map<String, List<String>>> dependencyMap = new HashMap<>();
         
-        for (ClassEntity sourceClass : classes) {
-            List<ClassDependency> dependencies = classDependencyRepository
-                .findBySourceClass_Id(sourceClass.getId());
-            
-            String sourceFqn = sourceClass.getFullQualifiedName();
+        for (int source : nodes) {
+            String sourceFqn = graph.fullQualifiedName(source);
             Map<String, List<String>> targetMap = dependencyMap.computeIfAbsent(sourceFqn, k -> new HashMap<>());
             
-            for (ClassDependency dep : dependencies) {
-                if (dep.getTargetClass() != null && 
-                    dep.getTargetClass().getProject().getId().equals(projectId) &&
-                    classes.contains(dep.getTargetClass())) {
-                    
-                    String targetFqn = dep.getTargetClass().getFullQualifiedName();
-                    String dependencyKindCode = dep.getDependencyKind() != null ? 
-                        dep.getDependencyKind().getCode() : "";
-                    String dependencyKindDescription = dep.getDependencyKind() != null ? 
-                        dep.getDependencyKind().getDescription() : "";
-                    
-                    // 依存の種類ラベルを生成
-                    String dependencyLabel = formatDependencyLabel(dependencyKindCode, dependencyKindDescription);
-                    
-                    if (dependencyLabel != null && !dependencyLabel.isEmpty()) {
-                        targetMap.computeIfAbsent(targetFqn, k -> new ArrayList<>()).add(dependencyLabel);
-                    }
+            for (int e = graph.outStart(source); e < graph.outEnd(source); e++) {
+                int target = graph.outTarget(e);
+                if (!nodeSet.get(target)) {
+                    continue;
+                }
+                
+                String targetFqn = graph.fullQualifiedName(target);
+                int kind = graph.outKind(e);
+                
+                // 依存の種類ラベルを生成
+                String dependencyLabel = formatDependencyLabel(graph.kindCode(kind), graph.kindDescription(kind));
+                
+                if (dependencyLabel != null && !dependencyLabel.isEmpty()) {
+                    targetMap.computeIfAbsent(targetFqn, k -> new ArrayList<>()).add(dependencyLabel);
                 }
             }
         }
@@ -277,16 +281,18 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
      * クラスメンバーを抽出する（参照を受けるメンバーのみ）
      * メンバー情報がデータベースに保存されていない場合は、依存関係から推測する
      */
-    private Map<String, List<MemberInfoDto>> extractClassMembers(Set<ClassEntity> classes, Long projectId) {
+    private Map<String, List<MemberInfoDto>> extractClassMembers(ClassGraphIndex graph, List<Integer> nodes, BitSet nodeSet) {
         Map<String, List<MemberInfoDto>> classMemberMap = new HashMap<>();
         
-        for (ClassEntity classEntity : classes) {
-            // このクラスから他のクラスへの依存関係を取得（DIなどで使用されるメンバーを推測）
-            List<ClassDependency> outgoingDeps = classDependencyRepository
-                .findBySourceClass_Id(classEntity.getId());
-            
-            // メンバーを取得（データベースに保存されている場合）
-            List<Member> members = memberRepository.findByClassEntity_Id(classEntity.getId());
+        // 対象クラスのメンバーを一括取得（データベースに保存されている場合）
+        Map<Long, List<Member>> membersByClassId = new HashMap<>();
+        List<Long> classIds = nodes.stream().map(graph::classId).collect(Collectors.toList());
+        for (Member member : memberRepository.findByClassEntity_IdIn(classIds)) {
+            membersByClassId.computeIfAbsent(member.getClassEntity().getId(), k -> new ArrayList<>()).add(member);
+        }
+        
+        for (int node : nodes) {
+            List<Member> members = membersByClassId.getOrDefault(graph.classId(node), Collections.emptyList());
             
             List<MemberInfoDto> referencedMembers = new ArrayList<>();
             
@@ -305,50 +311,50 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
                 // メンバー情報がない場合、依存関係から推測
                 // すべての依存関係から、このクラス内で使用されている型を抽出
                 Set<String> processedTargets = new HashSet<>();
-                for (ClassDependency dep : outgoingDeps) {
-                    if (dep.getTargetClass() != null && 
-                        dep.getTargetClass().getProject().getId().equals(projectId) &&
-                        classes.contains(dep.getTargetClass())) {
-                        
-                        String targetFqn = dep.getTargetClass().getFullQualifiedName();
-                        if (processedTargets.contains(targetFqn)) {
-                            continue; // 重複を避ける
-                        }
-                        processedTargets.add(targetFqn);
-                        
-                        String targetName = dep.getTargetClass().getSimpleName();
-                        // フィールド名を推測（クラス名の最初の文字を小文字に）
-                        String memberName = Character.toLowerCase(targetName.charAt(0)) + targetName.substring(1);
-                        
-                        // 依存タイプからメンバータイプを推測
-                        String memberType = "FIELD";
-                        String depKind = dep.getDependencyKind().getCode();
-                        if ("002_003".equals(depKind)) {
-                            // コンストラクタDI
-                            memberType = "CONSTRUCTOR";
-                            memberName = targetName; // コンストラクタはクラス名と同じ
-                        } else if ("002_001".equals(depKind)) {
-                            // SetterDI
-                            memberType = "METHOD";
-                            memberName = "set" + targetName;
-                        } else if ("002_004".equals(depKind)) {
-                            // フィールドDI
-                            memberType = "FIELD";
-                        } else if ("001_009".equals(depKind) || "001_010".equals(depKind)) {
-                            // コンポジション、集合保持
-                            memberType = "FIELD";
-                        } else {
-                            // その他の依存関係もフィールドとして表示
-                            memberType = "FIELD";
-                        }
-                        
-                        referencedMembers.add(new MemberInfoDto(
-                            memberName,
-                            dep.getTargetClass().getFullQualifiedName(),
-                            "PRIVATE",
-                            memberType
-                        ));
+                for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+                    int target = graph.outTarget(e);
+                    if (!nodeSet.get(target)) {
+                        continue;
+                    }
+                    
+                    String targetFqn = graph.fullQualifiedName(target);
+                    if (processedTargets.contains(targetFqn)) {
+                        continue; // 重複を避ける
                     }
+                    processedTargets.add(targetFqn);
+                    
+                    String targetName = graph.simpleName(target);
+                    // フィールド名を推測（クラス名の最初の文字を小文字に）
+                    String memberName = Character.toLowerCase(targetName.charAt(0)) + targetName.substring(1);
+                    
+                    // 依存タイプからメンバータイプを推測
+                    String memberType = "FIELD";
+                    String depKind = graph.kindCode(graph.outKind(e));
+                    if ("002_003".equals(depKind)) {
+                        // コンストラクタDI
+                        memberType = "CONSTRUCTOR";
+                        memberName = targetName; // コンストラクタはクラス名と同じ
+                    } else if ("002_001".equals(depKind)) {
+                        // SetterDI
+                        memberType = "METHOD";
+                        memberName = "set" + targetName;
+                    } else if ("002_004".equals(depKind)) {
+                        // フィールドDI
+                        memberType = "FIELD";
+                    } else if ("001_009".equals(depKind) || "001_010".equals(depKind)) {
+                        // コンポジション、集合保持
+                        memberType = "FIELD";
+                    } else {
+                        // その他の依存関係もフィールドとして表示
+                        memberType = "FIELD";
+                    }
+                    
+                    referencedMembers.add(new MemberInfoDto(
+                        memberName,
+                        targetFqn,
+                        "PRIVATE",
+                        memberType
+                    ));
                 }
                 // 重複を削除
                 referencedMembers = referencedMembers.stream()
@@ -357,7 +363,7 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
             }
             
             // すべてのクラスにメンバー情報を追加（空の場合は空のリスト）
-            classMemberMap.put(classEntity.getFullQualifiedName(), referencedMembers);
+            classMemberMap.put(graph.fullQualifiedName(node), referencedMembers);
         }
         
         return classMemberMap;
@@ -586,126 +592,36 @@ public class ClassDiagramServiceImpl implements ClassDiagramService {
     }
 
     /**
-     * クラスのFQNから実際のファイルパスを検索する
-     * プロジェクトルートからJavaファイルを検索し、クラスのFQNと一致するファイルを見つける
+     * クラスのFQNからソースファイルパスを取得する
+     * 解析時にclassesテーブルへ記録したソースパスを一括で参照する（ファイル検索・パースは行わない）
+     * ソースパスが記録されていないクラスは、パッケージ名から予測したパスを使用する
      */
-    private Map<String, String> generateClassFilePaths(Set<ClassEntity> classes, String projectRootPath) {
+    private Map<String, String> generateClassFilePaths(List<ClassInfoDto> classes) {
         Map<String, String> filePaths = new HashMap<>();
-        java.nio.file.Path projectRoot = java.nio.file.Paths.get(projectRootPath);
-        
-        try {
-            // プロジェクトルートからJavaファイルを収集
-            List<java.nio.file.Path> javaFiles = new ArrayList<>();
-            try (java.util.stream.Stream<java.nio.file.Path> paths = java.nio.file.Files.walk(projectRoot)) {
-                paths.filter(java.nio.file.Files::isRegularFile)
-                    .filter(p -> p.toString().endsWith(".java"))
-                    .filter(p -> !p.toString().contains("target")) // targetディレクトリを除外
-                    .filter(p -> !p.toString().contains(".git")) // .gitディレクトリを除外
-                    .forEach(javaFiles::add);
+        List<Long> classIds = classes.stream().map(ClassInfoDto::id).collect(Collectors.toList());
+        for (Object[] row : classEntityRepository.findSourcePathsByIdIn(classIds)) {
+            filePaths.put((String) row[0], (String) row[1]);
+        }
+        
+        for (ClassInfoDto classInfo : classes) {
+            String fqn = classInfo.fullQualifiedName();
+            if (fqn == null || fqn.isEmpty() || filePaths.containsKey(fqn)) {
+                continue;
             }
             
-            // クラスFQNから実際のファイルパスを検索
-            for (ClassEntity classEntity : classes) {
-                String fqn = classEntity.getFullQualifiedName();
-                if (fqn == null || fqn.isEmpty()) {
-                    continue;
-                }
-                
-                // FQNからパッケージ名とクラス名を分離
-                int lastDotIndex = fqn.lastIndexOf('.');
-                String packageName = lastDotIndex >= 0 ? fqn.substring(0, lastDotIndex) : "";
-                String className = lastDotIndex >= 0 ? fqn.substring(lastDotIndex + 1) : fqn;
-                
-                // パッケージ名をディレクトリパスに変換
-                String packagePath = packageName.replace('.', '/');
-                
-                // 可能なファイルパスを生成（src/main/javaまたはsrc/test/javaを試行）
-                List<String> possiblePaths = new ArrayList<>();
-                if (packagePath.isEmpty()) {
-                    possiblePaths.add("src/main/java/" + className + ".java");
-                    possiblePaths.add("src/test/java/" + className + ".java");
-                } else {
-                    possiblePaths.add("src/main/java/" + packagePath + "/" + className + ".java");
-                    possiblePaths.add("src/test/java/" + packagePath + "/" + className + ".java");
-                }
-                
-                // 実際のファイルを検索
-                String foundPath = null;
-                for (java.nio.file.Path javaFile : javaFiles) {
-                    // プロジェクトルートからの相対パスを取得
-                    try {
-                        String relativePath = projectRoot.relativize(javaFile).toString().replace('\\', '/');
-                        
-                        // ファイル名で一致するか確認
-                        String fileName = javaFile.getFileName().toString();
-                        if (fileName.equals(className + ".java")) {
-                            // ファイル内容をパースしてFQNを確認
-                            try {
-                                com.github.javaparser.JavaParser parser = new com.github.javaparser.JavaParser();
-                                com.github.javaparser.ast.CompilationUnit cu = parser.parse(javaFile).getResult().orElse(null);
-                                if (cu != null) {
-                                    String filePackageName = cu.getPackageDeclaration()
-                                        .map(pd -> pd.getNameAsString())
-                                        .orElse("");
-                                    
-                                    // ラムダ式の代わりに通常のループを使用
-                                    List<com.github.javaparser.ast.body.ClassOrInterfaceDeclaration> classDecls = 
-                                        cu.findAll(com.github.javaparser.ast.body.ClassOrInterfaceDeclaration.class);
-                                    
-                                    for (com.github.javaparser.ast.body.ClassOrInterfaceDeclaration classDecl : classDecls) {
-                                        String fileClassName = classDecl.getNameAsString();
-                                        String fileFqn = filePackageName.isEmpty() 
-                                            ? fileClassName 
-                                            : filePackageName + "." + fileClassName;
-                                        if (fileFqn.equals(fqn)) {
-                                            foundPath = relativePath;
-                                            break;
-                                        }
-                                    }
-                                    
-                                    if (foundPath != null) {
-                                        break;
-                                    }
-                                }
-                            } catch (Exception e) {
-                                // パースエラーは無視して次のファイルへ
-                            }
-                        }
-                    } catch (Exception e) {
-                        // 相対パス取得エラーは無視
-                    }
-                }
-                
-                // ファイルが見つからない場合は、予測パスを使用
-                if (foundPath != null) {
-                    filePaths.put(fqn, foundPath);
-                } else if (!possiblePaths.isEmpty()) {
-                    // 最初の可能なパスを使用（実際のファイルが存在するかは後で確認）
-                    filePaths.put(fqn, possiblePaths.get(0));
-                }
-            }
-        } catch (Exception e) {
-            // エラーが発生した場合、予測パスのみを使用
-            for (ClassEntity classEntity : classes) {
-                String fqn = classEntity.getFullQualifiedName();
-                if (fqn == null || fqn.isEmpty()) {
-                    continue;
-                }
-                
-                int lastDotIndex = fqn.lastIndexOf('.');
-                String packageName = lastDotIndex >= 0 ? fqn.substring(0, lastDotIndex) : "";
-                String className = lastDotIndex >= 0 ? fqn.substring(lastDotIndex + 1) : fqn;
-                String packagePath = packageName.replace('.', '/');
-                
-                String filePath;
-                if (packagePath.isEmpty()) {
-                    filePath = "src/main/java/" + className + ".java";
-                } else {
-                    filePath = "src/main/java/" + packagePath + "/" + className + ".java";
-                }
-                
-                filePaths.put(fqn, filePath);
+            int lastDotIndex = fqn.lastIndexOf('.');
+            String packageName = lastDotIndex >= 0 ? fqn.substring(0, lastDotIndex) : "";
+            String className = lastDotIndex >= 0 ? fqn.substring(lastDotIndex + 1) : fqn;
+            String packagePath = packageName.replace('.', '/');
+            
+            String filePath;
+            if (packagePath.isEmpty()) {
+                filePath = "src/main/java/" + className + ".java";
+            } else {
+                filePath = "src/main/java/" + packagePath + "/" + className + ".java";
             }
+            
+            filePaths.put(fqn, filePath);
         }
         
         return filePaths;
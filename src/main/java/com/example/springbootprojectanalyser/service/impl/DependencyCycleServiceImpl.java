@@ -0,0 +1,146 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.model.dto.DependencyCycleDto;
+import com.example.springbootprojectanalyser.model.entity.DependencyCycle;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.ClassEntityRepository;
+import com.example.springbootprojectanalyser.repository.DependencyCycleRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.DependencyCycleService;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
+import com.example.springbootprojectanalyser.service.support.DependencyCycleDetector;
+import com.example.springbootprojectanalyser.service.support.DependencyCycleDetector.DetectedCycle;
+import com.example.springbootprojectanalyser.service.support.DependencyKindFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 依存関係の循環解析サービス実装クラス
+ * 解析実行時に設定された依存種類フィルタ（analysis.cycles.kind-filters）の循環を検出して保存し、
+ * 取得時は保存済みの結果を返す（それ以外の依存種類フィルタはグラフインデックスからその場で検出する）
+ */
+@Service
+public class DependencyCycleServiceImpl implements DependencyCycleService {
+
+    private final ProjectRepository projectRepository;
+    private final ClassEntityRepository classEntityRepository;
+    private final DependencyCycleRepository dependencyCycleRepository;
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+
+    /** 解析実行時に検出して保存する依存種類フィルタ（正規化済み） */
+    private final Set<String> savedKindFilters = new LinkedHashSet<>();
+
+    public DependencyCycleServiceImpl(
+            ProjectRepository projectRepository,
+            ClassEntityRepository classEntityRepository,
+            DependencyCycleRepository dependencyCycleRepository,
+            ClassGraphIndexRegistry graphIndexRegistry,
+            @Value("${analysis.cycles.kind-filters:*}") String kindFilters) {
+        this.projectRepository = projectRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.dependencyCycleRepository = dependencyCycleRepository;
+        this.graphIndexRegistry = graphIndexRegistry;
+        // 依存種類フィルタは「;」区切り（各フィルタ内のパターンはカンマ区切り）
+        for (String kindFilter : kindFilters.split(";")) {
+            if (!kindFilter.isBlank()) {
+                savedKindFilters.add(DependencyKindFilter.normalize(kindFilter));
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void detectAndSave(Project project, ClassGraphIndex graph) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, String> packageByClassId = findPackageNames(project);
+        List<DependencyCycle> entities = new ArrayList<>();
+        for (String kindFilter : savedKindFilters) {
+            List<DetectedCycle> classCycles = DependencyCycleDetector.detectClassCycles(graph, kindFilter);
+            List<DetectedCycle> packageCycles = DependencyCycleDetector.detectPackageCycles(graph, packageByClassId, kindFilter);
+            addEntities(entities, project, DependencyCycleDetector.SCOPE_CLASS, kindFilter, classCycles);
+            addEntities(entities, project, DependencyCycleDetector.SCOPE_PACKAGE, kindFilter, packageCycles);
+            System.out.println("Cycles [" + kindFilter + "]: classes=" + classCycles.size()
+                    + " (largest " + largest(classCycles) + "), packages=" + packageCycles.size()
+                    + " (largest " + largest(packageCycles) + ")");
+        }
+        dependencyCycleRepository.saveAll(entities);
+        System.out.println("Cycles saved: " + entities.size() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DependencyCycleDto> getCycles(Long projectId, String scope, String kindFilter) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+        String cycleScope = toScope(scope);
+        String normalizedFilter = DependencyKindFilter.normalize(kindFilter);
+
+        List<DependencyCycleDto> result = new ArrayList<>();
+        if (savedKindFilters.contains(normalizedFilter)) {
+            for (DependencyCycle cycle : dependencyCycleRepository.findByProjectAndScopeAndKindFilter(project, cycleScope, normalizedFilter)) {
+                result.add(new DependencyCycleDto(
+                    cycle.getScope(),
+                    cycle.getKindFilter(),
+                    cycle.getCycleIndex(),
+                    cycle.getMemberCount(),
+                    cycle.getEdgeCount(),
+                    Arrays.asList(cycle.getMembers().split("\n")),
+                    Arrays.asList(cycle.getExamplePath().split("\n"))
+                ));
+            }
+            return result;
+        }
+
+        ClassGraphIndex graph = graphIndexRegistry.getIndex(projectId);
+        List<DetectedCycle> cycles = cycleScope.equals(DependencyCycleDetector.SCOPE_CLASS)
+                ? DependencyCycleDetector.detectClassCycles(graph, normalizedFilter)
+                : DependencyCycleDetector.detectPackageCycles(graph, findPackageNames(project), normalizedFilter);
+        for (int i = 0; i < cycles.size(); i++) {
+            DetectedCycle cycle = cycles.get(i);
+            result.add(new DependencyCycleDto(cycleScope, normalizedFilter, i + 1, cycle.members().size(),
+                    cycle.edgeCount(), cycle.members(), cycle.examplePath()));
+        }
+        return result;
+    }
+
+    private String toScope(String scope) {
+        if (scope == null || scope.isBlank() || scope.equalsIgnoreCase("class")) {
+            return DependencyCycleDetector.SCOPE_CLASS;
+        }
+        if (scope.equalsIgnoreCase("package")) {
+            return DependencyCycleDetector.SCOPE_PACKAGE;
+        }
+        throw new IllegalArgumentException("対象範囲が不正です（class, packageのいずれか）: " + scope);
+    }
+
+    private Map<Long, String> findPackageNames(Project project) {
+        Map<Long, String> packageByClassId = new HashMap<>();
+        for (Object[] row : classEntityRepository.findIdAndPackageNameByProject(project)) {
+            packageByClassId.put((Long) row[0], (String) row[1]);
+        }
+        return packageByClassId;
+    }
+
+    private void addEntities(List<DependencyCycle> entities, Project project, String scope, String kindFilter,
+            List<DetectedCycle> cycles) {
+        for (int i = 0; i < cycles.size(); i++) {
+            DetectedCycle cycle = cycles.get(i);
+            entities.add(new DependencyCycle(project, scope, kindFilter, i + 1, cycle.members().size(),
+                    cycle.edgeCount(), String.join("\n", cycle.members()), String.join("\n", cycle.examplePath())));
+        }
+    }
+
+    private int largest(List<DetectedCycle> cycles) {
+        return cycles.isEmpty() ? 0 : cycles.get(0).members().size();
+    }
+}
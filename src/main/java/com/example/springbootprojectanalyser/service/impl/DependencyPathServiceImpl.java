@@ -0,0 +1,104 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.DependencyPathFinder;
+import com.example.springbootprojectanalyser.model.dto.DependencyPathDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyPathHopDto;
+import com.example.springbootprojectanalyser.service.DependencyPathService;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
+import com.example.springbootprojectanalyser.service.support.DependencyKindFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 依存経路探索サービス実装クラス
+ * グラフインデックス上の双方向幅優先探索で最短経路を求める（複数の経路はYenのアルゴリズムで求める）
+ */
+@Service
+public class DependencyPathServiceImpl implements DependencyPathService {
+
+    /** 一度に求める経路数の上限 */
+    private static final int MAX_PATHS = 20;
+
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+
+    public DependencyPathServiceImpl(ClassGraphIndexRegistry graphIndexRegistry) {
+        this.graphIndexRegistry = graphIndexRegistry;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DependencyPathDto> findPaths(Long projectId, String fromClass, String toClass, String kindFilter, Integer k) {
+        int pathCount = k != null ? k : 1;
+        if (pathCount < 1 || pathCount > MAX_PATHS) {
+            throw new IllegalArgumentException("経路数は1から" + MAX_PATHS + "の範囲で指定してください: " + pathCount);
+        }
+
+        long startTime = System.currentTimeMillis();
+        ClassGraphIndex graph = graphIndexRegistry.getIndex(projectId);
+        int source = resolveNode(graph, fromClass, "開始クラス");
+        int target = resolveNode(graph, toClass, "終了クラス");
+        if (source == target) {
+            throw new IllegalArgumentException("開始クラスと終了クラスに異なるクラスを指定してください");
+        }
+
+        String normalizedFilter = DependencyKindFilter.normalize(kindFilter);
+        DependencyPathFinder finder = new DependencyPathFinder(graph, DependencyKindFilter.matchKinds(graph, normalizedFilter));
+        List<DependencyPathDto> result = new ArrayList<>();
+        for (int[] path : finder.shortestPaths(source, target, pathCount)) {
+            List<String> classes = new ArrayList<>(path.length);
+            List<DependencyPathHopDto> hops = new ArrayList<>(path.length - 1);
+            for (int i = 0; i < path.length; i++) {
+                classes.add(graph.fullQualifiedName(path[i]));
+                if (i == 0) {
+                    continue;
+                }
+                List<String> kindCodes = new ArrayList<>();
+                List<String> kindDescriptions = new ArrayList<>();
+                for (int kind : finder.kindsBetween(path[i - 1], path[i])) {
+                    kindCodes.add(graph.kindCode(kind));
+                    kindDescriptions.add(graph.kindDescription(kind));
+                }
+                hops.add(new DependencyPathHopDto(graph.fullQualifiedName(path[i - 1]), graph.fullQualifiedName(path[i]),
+                        kindCodes, kindDescriptions));
+            }
+            result.add(new DependencyPathDto(path.length - 1, classes, hops));
+        }
+
+        System.out.println("Dependency paths: " + graph.fullQualifiedName(source) + " -> " + graph.fullQualifiedName(target)
+                + " [" + normalizedFilter + "] found=" + result.size() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return result;
+    }
+
+    /**
+     * クラス名からノード番号を求める（完全修飾名で見つからない場合は単純名が一意に一致するクラスを探す）
+     */
+    private int resolveNode(ClassGraphIndex graph, String className, String label) {
+        if (className == null || className.isBlank()) {
+            throw new IllegalArgumentException(label + "を指定してください");
+        }
+        String name = className.trim();
+        int node = graph.nodeOfFullQualifiedName(name);
+        if (node >= 0) {
+            return node;
+        }
+        List<String> candidates = new ArrayList<>();
+        for (int n = 0; n < graph.nodeCount(); n++) {
+            if (name.equals(graph.simpleName(n))) {
+                node = n;
+                candidates.add(graph.fullQualifiedName(n));
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException(label + "が見つかりません: " + name);
+        }
+        if (candidates.size() > 1) {
+            throw new IllegalArgumentException(label + "の単純名に一致するクラスが複数あります（完全修飾名で指定してください）: "
+                    + String.join(", ", candidates));
+        }
+        return node;
+    }
+}
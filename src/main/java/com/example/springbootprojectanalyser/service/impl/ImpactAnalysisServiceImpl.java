@@ -0,0 +1,98 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.ReverseReachability;
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.model.dto.ImpactAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.ImpactedClassDto;
+import com.example.springbootprojectanalyser.service.ImpactAnalysisService;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
+import com.example.springbootprojectanalyser.service.support.DependencyKindFilter;
+import com.example.springbootprojectanalyser.service.support.EndpointRouteIndexRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 影響分析サービス実装クラス
+ * グラフインデックスの逆方向の辺を辿り、変更したクラスに依存しているクラスを一度の探索で求める
+ */
+@Service
+public class ImpactAnalysisServiceImpl implements ImpactAnalysisService {
+
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+    private final EndpointRouteIndexRegistry routeIndexRegistry;
+
+    public ImpactAnalysisServiceImpl(
+            ClassGraphIndexRegistry graphIndexRegistry,
+            EndpointRouteIndexRegistry routeIndexRegistry) {
+        this.graphIndexRegistry = graphIndexRegistry;
+        this.routeIndexRegistry = routeIndexRegistry;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImpactAnalysisDto analyzeImpact(Long projectId, List<String> classNames, String kindFilter) {
+        Set<String> changedClasses = new LinkedHashSet<>();
+        if (classNames != null) {
+            for (String className : classNames) {
+                if (className != null && !className.isBlank()) {
+                    changedClasses.add(className.trim());
+                }
+            }
+        }
+        if (changedClasses.isEmpty()) {
+            throw new IllegalArgumentException("変更したクラスの完全修飾名を指定してください");
+        }
+
+        long startTime = System.currentTimeMillis();
+        ClassGraphIndex graph = graphIndexRegistry.getIndex(projectId);
+        String normalizedFilter = DependencyKindFilter.normalize(kindFilter);
+
+        List<String> foundClasses = new ArrayList<>();
+        List<String> unknownClasses = new ArrayList<>();
+        int[] startNodes = new int[changedClasses.size()];
+        int startCount = 0;
+        for (String className : changedClasses) {
+            int node = graph.nodeOfFullQualifiedName(className);
+            if (node < 0) {
+                unknownClasses.add(className);
+                continue;
+            }
+            foundClasses.add(className);
+            startNodes[startCount++] = node;
+        }
+
+        ReverseReachability reachability = ReverseReachability.compute(graph,
+                Arrays.copyOf(startNodes, startCount), DependencyKindFilter.matchKinds(graph, normalizedFilter));
+
+        List<ImpactedClassDto> affectedClasses = new ArrayList<>();
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            if (reachability.distance(node) > 0) {
+                affectedClasses.add(new ImpactedClassDto(graph.classId(node), graph.fullQualifiedName(node),
+                        graph.simpleName(node), reachability.distance(node)));
+            }
+        }
+        affectedClasses.sort(Comparator.comparingInt(ImpactedClassDto::distance)
+                .thenComparing(ImpactedClassDto::fullQualifiedName));
+
+        List<EndpointDto> affectedEndpoints = new ArrayList<>();
+        for (EndpointDto endpoint : routeIndexRegistry.getIndex(projectId).values()) {
+            int node = graph.nodeOf(endpoint.classId());
+            if (node >= 0 && reachability.isReached(node)) {
+                affectedEndpoints.add(endpoint);
+            }
+        }
+
+        System.out.println("Impact analysis: changed=" + foundClasses.size() + ", affected classes=" + affectedClasses.size()
+                + ", endpoints=" + affectedEndpoints.size() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return new ImpactAnalysisDto(foundClasses, unknownClasses, normalizedFilter, reachability.maxDistance(),
+                affectedClasses, affectedEndpoints);
+    }
+}
@@ -0,0 +1,603 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.ClassGraphPatch;
+import com.example.springbootprojectanalyser.graph.GraphSnapshotDiff;
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.model.dto.ChangedFilesAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.FileUpdateResultDto;
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.entity.*;
+import com.example.springbootprojectanalyser.repository.*;
+import com.example.springbootprojectanalyser.service.DependencyCycleService;
+import com.example.springbootprojectanalyser.service.IncrementalAnalysisService;
+import com.example.springbootprojectanalyser.service.impl.ClassDependencyAnalysisServiceImpl.AnalysisRun;
+import com.example.springbootprojectanalyser.service.impl.ClassDependencyAnalysisServiceImpl.CollectedDependency;
+import com.example.springbootprojectanalyser.service.support.AnalysisGenerationTracker;
+import com.example.springbootprojectanalyser.service.support.AnalysisLock;
+import com.example.springbootprojectanalyser.service.support.AnalysisUpdatedEvent;
+import com.example.springbootprojectanalyser.service.support.ClassGraphIndexRegistry;
+import com.example.springbootprojectanalyser.service.support.EdgeStoreRegistry;
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector;
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector.ChangedFile;
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector.GitChanges;
+import com.example.springbootprojectanalyser.service.support.GraphSnapshotRegistry;
+import com.example.springbootprojectanalyser.service.support.PackageRollupAccumulator;
+import com.example.springbootprojectanalyser.service.support.SnapshotDiffReporter;
+import com.example.springbootprojectanalyser.service.support.SymbolDictionary;
+import com.example.springbootprojectanalyser.service.support.SymbolSolverCache;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ファイル単位の再解析サービス実装クラス
+ * 変更ファイルの解析処理（クラスの登録、依存関係・メンバーの解析）は解析サービスと共有し、
+ * グラフインデックスは直近のグラフに再解析結果を反映して構築する（データベースから構築し直さない）
+ */
+@Service
+public class IncrementalAnalysisServiceImpl implements IncrementalAnalysisService {
+
+    /** 変更ファイル解析で変更を報告するビルドファイル名 */
+    private static final Set<String> BUILD_FILE_NAMES = Set.of(
+            "pom.xml", "build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts");
+
+    private final ClassDependencyAnalysisServiceImpl analysisService;
+    private final ProjectRepository projectRepository;
+    private final PackageInfoRepository packageInfoRepository;
+    private final ClassEntityRepository classEntityRepository;
+    private final ClassDependencyRepository classDependencyRepository;
+    private final MemberRepository memberRepository;
+    private final EndpointRepository endpointRepository;
+    private final PackageRollupRepository packageRollupRepository;
+    private final PackageDependencyKindRollupRepository packageDependencyKindRollupRepository;
+    private final DependencyCycleRepository dependencyCycleRepository;
+    private final ModuleInfoRepository moduleInfoRepository;
+    private final SymbolRepository symbolRepository;
+    private final EdgeStoreRegistry edgeStoreRegistry;
+    private final ClassGraphIndexRegistry graphIndexRegistry;
+    private final GraphSnapshotRegistry graphSnapshotRegistry;
+    private final DependencyCycleService dependencyCycleService;
+    private final GitChangeDetector gitChangeDetector;
+    private final AnalysisGenerationTracker generationTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnalysisLock analysisLock;
+    private final SymbolSolverCache symbolSolverCache;
+
+    public IncrementalAnalysisServiceImpl(
+            ClassDependencyAnalysisServiceImpl analysisService,
+            ProjectRepository projectRepository,
+            PackageInfoRepository packageInfoRepository,
+            ClassEntityRepository classEntityRepository,
+            ClassDependencyRepository classDependencyRepository,
+            MemberRepository memberRepository,
+            EndpointRepository endpointRepository,
+            PackageRollupRepository packageRollupRepository,
+            PackageDependencyKindRollupRepository packageDependencyKindRollupRepository,
+            DependencyCycleRepository dependencyCycleRepository,
+            ModuleInfoRepository moduleInfoRepository,
+            SymbolRepository symbolRepository,
+            EdgeStoreRegistry edgeStoreRegistry,
+            ClassGraphIndexRegistry graphIndexRegistry,
+            GraphSnapshotRegistry graphSnapshotRegistry,
+            DependencyCycleService dependencyCycleService,
+            GitChangeDetector gitChangeDetector,
+            AnalysisGenerationTracker generationTracker,
+            ApplicationEventPublisher eventPublisher,
+            AnalysisLock analysisLock,
+            SymbolSolverCache symbolSolverCache) {
+        this.analysisService = analysisService;
+        this.projectRepository = projectRepository;
+        this.packageInfoRepository = packageInfoRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.classDependencyRepository = classDependencyRepository;
+        this.memberRepository = memberRepository;
+        this.endpointRepository = endpointRepository;
+        this.packageRollupRepository = packageRollupRepository;
+        this.packageDependencyKindRollupRepository = packageDependencyKindRollupRepository;
+        this.dependencyCycleRepository = dependencyCycleRepository;
+        this.moduleInfoRepository = moduleInfoRepository;
+        this.symbolRepository = symbolRepository;
+        this.edgeStoreRegistry = edgeStoreRegistry;
+        this.graphIndexRegistry = graphIndexRegistry;
+        this.graphSnapshotRegistry = graphSnapshotRegistry;
+        this.dependencyCycleService = dependencyCycleService;
+        this.gitChangeDetector = gitChangeDetector;
+        this.generationTracker = generationTracker;
+        this.eventPublisher = eventPublisher;
+        this.analysisLock = analysisLock;
+        this.symbolSolverCache = symbolSolverCache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangedFilesAnalysisDto analyzeChangedFiles(Long projectId, String baseRef, Integer limit) {
+        // 解析・ファイル更新の途中の結果を参照しないよう直列化する
+        analysisLock.lockUntilCompletion();
+        int maxItems = SnapshotDiffReporter.resolveLimit(limit);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+        if (AnalysisExecutionDto.FRONTEND_BYTECODE.equals(project.getFrontend())) {
+            throw new IllegalArgumentException("クラスファイルから解析したプロジェクトは変更ファイルの解析に対応していません");
+        }
+        Path projectRoot = Paths.get(project.getRootPath());
+        long startTime = System.currentTimeMillis();
+
+        // 基準リビジョンからの変更ファイル（プロジェクトのルートパスからの相対パス）
+        GitChanges changes = gitChangeDetector.detectChanges(projectRoot, baseRef);
+        // 差分は直近の解析結果を基準リビジョンの状態とみなして求めるため、解析時のコミットと一致する必要がある
+        if (project.getAnalyzedCommit() == null) {
+            throw new IllegalArgumentException("直近の解析時のコミットが記録されていません（Gitリポジトリとして再解析してください）: "
+                    + project.getRootPath());
+        }
+        if (!project.getAnalyzedCommit().equals(changes.baseCommit())) {
+            throw new IllegalArgumentException("基準リビジョン（" + changes.baseCommit() + "）が直近の解析時のコミット（"
+                    + project.getAnalyzedCommit() + "）と一致しません");
+        }
+        List<String> changedJavaFiles = new ArrayList<>();
+        List<String> deletedJavaFiles = new ArrayList<>();
+        List<String> changedBuildFiles = new ArrayList<>();
+        for (ChangedFile file : changes.files()) {
+            String path = file.path();
+            String fileName = path.substring(path.lastIndexOf('/') + 1);
+            if (BUILD_FILE_NAMES.contains(fileName)) {
+                changedBuildFiles.add(path);
+            } else if (path.endsWith(".java") && !path.contains("target") && !path.contains(".git")) {
+                (file.status().equals(GitChangeDetector.DELETED) ? deletedJavaFiles : changedJavaFiles).add(path);
+            }
+        }
+        Set<String> changedPaths = new HashSet<>(changedJavaFiles);
+        changedPaths.addAll(deletedJavaFiles);
+
+        ClassGraphIndex baseGraph = graphIndexRegistry.getIndex(projectId);
+
+        // 変更ファイル以外のクラスは直近の解析結果を使用する
+        Map<String, ClassEntity> classMap = new HashMap<>();
+        Map<Long, String> sourcePathByClassId = new HashMap<>();
+        for (ClassEntity classEntity : classEntityRepository.findByProject(project)) {
+            if (classEntity.getSourcePath() != null) {
+                sourcePathByClassId.put(classEntity.getId(), classEntity.getSourcePath());
+                if (changedPaths.contains(classEntity.getSourcePath())) {
+                    continue;
+                }
+            }
+            String fullQualifiedName = classEntity.getFullQualifiedName();
+            classMap.putIfAbsent(fullQualifiedName.contains(".") ? fullQualifiedName : "<default>." + fullQualifiedName, classEntity);
+        }
+
+        // 変更ファイルのクラスに依存しているクラスのファイルも再解析する（依存先の解決結果が変わりうるため）
+        Set<String> dependantPaths = new TreeSet<>();
+        for (int node = 0; node < baseGraph.nodeCount(); node++) {
+            if (!changedPaths.contains(sourcePathByClassId.get(baseGraph.classId(node)))) {
+                continue;
+            }
+            for (int e = baseGraph.inStart(node); e < baseGraph.inEnd(node); e++) {
+                String path = sourcePathByClassId.get(baseGraph.classId(baseGraph.inSource(e)));
+                if (path != null && !changedPaths.contains(path) && Files.isRegularFile(projectRoot.resolve(path))) {
+                    dependantPaths.add(path);
+                }
+            }
+        }
+
+        // 変更ファイルのクラスを登録する（保存はしない）
+        List<ClassEntity> changedClasses = new ArrayList<>();
+        for (String path : changedJavaFiles) {
+            try {
+                CompilationUnit cu = new JavaParser().parse(projectRoot.resolve(path)).getResult().orElseThrow();
+                String packageName = cu.getPackageDeclaration().map(pd -> pd.getNameAsString()).orElse("");
+                for (ClassOrInterfaceDeclaration classDecl : cu.findAll(ClassOrInterfaceDeclaration.class)) {
+                    String className = classDecl.getNameAsString();
+                    String fullQualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+                    String mapKey = packageName.isEmpty() ? "<default>." + className : fullQualifiedName;
+                    if (!classMap.containsKey(mapKey)) {
+                        ClassEntity classEntity = new ClassEntity(project, null, fullQualifiedName, className);
+                        classEntity.setSourcePath(path);
+                        classMap.put(mapKey, classEntity);
+                        changedClasses.add(classEntity);
+                    }
+                }
+            } catch (Exception e) {
+                System.err.println("Failed to parse: " + path + " - " + e.getMessage());
+            }
+        }
+
+        // 変更ファイルと依存しているクラスのファイルの依存関係を収集する
+        List<Path> reparsedFiles = new ArrayList<>();
+        for (String path : changedJavaFiles) {
+            reparsedFiles.add(projectRoot.resolve(path));
+        }
+        for (String path : dependantPaths) {
+            reparsedFiles.add(projectRoot.resolve(path));
+        }
+        // 依存関係は保存せず、この呼び出しの一覧に収集する
+        AnalysisRun run = new AnalysisRun(analysisService.loadDependencyKinds());
+        List<CollectedDependency> dependencies = new ArrayList<>();
+        run.collectedDependencies = dependencies;
+        analysisService.parseDependencies(run, reparsedFiles, projectRoot, classMap,
+                symbolSolverCache.symbolSolver(projectRoot), Set.of());
+
+        // 直近の解析結果のグラフに変更ファイルの再解析結果を反映する
+        // 変更ファイルのクラスは仮のクラスID（負の値）で追加し、依存関係はクラス名で対応付ける
+        ClassGraphPatch patch = new ClassGraphPatch(baseGraph);
+        sourcePathByClassId.forEach((classId, path) -> {
+            if (changedPaths.contains(path)) {
+                patch.removeClass(classId);
+            } else if (dependantPaths.contains(path)) {
+                patch.reparseClass(classId);
+            }
+        });
+        for (int i = 0; i < changedClasses.size(); i++) {
+            ClassEntity classEntity = changedClasses.get(i);
+            patch.addClass(-(i + 1L), classEntity.getFullQualifiedName(), classEntity.getSimpleName());
+        }
+        for (CollectedDependency dependency : dependencies) {
+            patch.addEdge(dependency.sourceClass(), dependency.targetClass(), dependency.kindCode(),
+                    run.dependencyKinds.get(dependency.kindCode()).getDescription());
+        }
+        GraphSnapshotDiff diff = GraphSnapshotDiff.compare(baseGraph, patch.apply(baseGraph.generation()));
+
+        // 比較元は直近の解析で書き出したスナップショット（無効の場合はnull）
+        GraphSnapshotDto baseSnapshot = graphSnapshotRegistry.list(project.getRootPath()).stream()
+                .findFirst()
+                .map(snapshot -> new GraphSnapshotDto(snapshot.snapshotId(), snapshot.createdAt(),
+                        snapshot.nodeCount(), snapshot.edgeCount()))
+                .orElse(null);
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        System.out.println("Changed files analysis: base=" + changes.baseCommit() + ", changed=" + changedJavaFiles.size()
+                + ", deleted=" + deletedJavaFiles.size() + ", dependants=" + dependantPaths.size()
+                + ", build files=" + changedBuildFiles.size()
+                + ", classes +" + diff.addedClassCount() + "/-" + diff.removedClassCount()
+                + ", dependencies +" + diff.addedEdgeCount() + "/-" + diff.removedEdgeCount() + " (" + elapsedMillis + "ms)");
+        return new ChangedFilesAnalysisDto(baseRef.trim(), changes.baseCommit(), changedJavaFiles, deletedJavaFiles,
+                changedBuildFiles, dependantPaths.size(), elapsedMillis,
+                SnapshotDiffReporter.report(diff, baseSnapshot, null, maxItems));
+    }
+
+    @Override
+    @Transactional
+    public FileUpdateResultDto updateFiles(Long projectId, Collection<String> paths) {
+        // 他の解析・ファイル更新とはトランザクションの完了まで直列化する
+        analysisLock.lockUntilCompletion();
+        if (edgeStoreRegistry.isColumnar()) {
+            throw new IllegalArgumentException("依存関係の保存方式が列指向（columnar）の場合はファイル単位の更新に対応していません");
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+        if (AnalysisExecutionDto.FRONTEND_BYTECODE.equals(project.getFrontend())) {
+            throw new IllegalArgumentException("クラスファイルから解析したプロジェクトはファイル単位の更新に対応していません");
+        }
+        Path projectRoot = Paths.get(project.getRootPath());
+        long startTime = System.currentTimeMillis();
+        long previousGeneration = generationTracker.current(projectId);
+
+        // 更新ファイル（存在するもの）と削除ファイルに分ける
+        List<String> updatedFiles = new ArrayList<>();
+        List<String> deletedFiles = new ArrayList<>();
+        for (String path : new TreeSet<>(paths)) {
+            if (!path.endsWith(".java") || path.contains("target") || path.contains(".git")) {
+                continue;
+            }
+            (Files.isRegularFile(projectRoot.resolve(path)) ? updatedFiles : deletedFiles).add(path);
+        }
+        if (updatedFiles.isEmpty() && deletedFiles.isEmpty()) {
+            return new FileUpdateResultDto(updatedFiles, deletedFiles, 0, 0, 0, false, previousGeneration,
+                    System.currentTimeMillis() - startTime);
+        }
+        Set<String> changedPaths = new HashSet<>(updatedFiles);
+        changedPaths.addAll(deletedFiles);
+
+        // 変更ファイル以外のクラスは保存済みのクラスを使用し、変更ファイルのクラスは再登録時に再利用する
+        AnalysisRun run = new AnalysisRun(analysisService.loadDependencyKinds());
+        run.projectModules = new LinkedHashMap<>();
+        for (ModuleInfo module : moduleInfoRepository.findByProject(project)) {
+            run.projectModules.put(module.getModulePath(), module);
+        }
+        Map<String, PackageInfo> packageMap = new HashMap<>();
+        for (PackageInfo packageInfo : packageInfoRepository.findByProject(project)) {
+            packageMap.put(packageInfo.getFullName(), packageInfo);
+        }
+        int packageCount = packageMap.size();
+        List<ClassEntity> projectClasses = classEntityRepository.findByProject(project);
+        Map<String, ClassEntity> classMap = new HashMap<>();
+        Map<String, ClassEntity> changedClasses = new HashMap<>();
+        Map<Long, String> sourcePathByClassId = new HashMap<>();
+        for (ClassEntity classEntity : projectClasses) {
+            String fullQualifiedName = classEntity.getFullQualifiedName();
+            String mapKey = fullQualifiedName.contains(".") ? fullQualifiedName : "<default>." + fullQualifiedName;
+            if (classEntity.getSourcePath() != null) {
+                sourcePathByClassId.put(classEntity.getId(), classEntity.getSourcePath());
+                if (changedPaths.contains(classEntity.getSourcePath())) {
+                    changedClasses.putIfAbsent(mapKey, classEntity);
+                    continue;
+                }
+            }
+            classMap.putIfAbsent(mapKey, classEntity);
+        }
+
+        // 変更ファイルのクラスに依存しているクラスのファイルも再解析する（依存先の解決結果が変わりうるため）
+        ClassGraphIndex graph = graphIndexRegistry.getIndex(projectId);
+        Set<String> dependantPaths = new TreeSet<>();
+        for (ClassEntity classEntity : changedClasses.values()) {
+            int node = graph.nodeOf(classEntity.getId());
+            if (node < 0) {
+                continue;
+            }
+            for (int e = graph.inStart(node); e < graph.inEnd(node); e++) {
+                String path = sourcePathByClassId.get(graph.classId(graph.inSource(e)));
+                if (path != null && !changedPaths.contains(path) && Files.isRegularFile(projectRoot.resolve(path))) {
+                    dependantPaths.add(path);
+                }
+            }
+        }
+
+        // 変更ファイルのクラスのエンドポイントとメンバー（アノテーションを含む）を削除する
+        List<Long> changedClassIds = changedClasses.values().stream().map(ClassEntity::getId).toList();
+        if (!changedClassIds.isEmpty()) {
+            endpointRepository.deleteAllByIdInBatch(endpointRepository.findIdsByClassIdIn(changedClassIds));
+            memberRepository.deleteAllByIdInBatch(memberRepository.findIdsByClassIdIn(changedClassIds));
+        }
+
+        // パッケージ集計は保存済みの依存関係から集計し直すため、依存関係の書き込み時には加算しない
+        run.symbolDictionary = new SymbolDictionary(project, symbolRepository.findMaxId() + 1);
+        symbolRepository.findByProject(project).forEach(run.symbolDictionary::add);
+
+        // 更新ファイルのクラスを登録する（同じ完全修飾名のクラスは保存済みのクラスを更新する）
+        Set<String> registeredKeys = new HashSet<>(classMap.keySet());
+        registeredKeys.addAll(changedClasses.keySet());
+        Map<String, HttpMethod> httpMethodMap = new HashMap<>();
+        List<Endpoint> endpoints = new ArrayList<>();
+        List<ClassEntity> removedClasses;
+        run.reusableClasses = new HashMap<>(changedClasses);
+        for (String path : updatedFiles) {
+            try {
+                analysisService.parseAndRegister(run, projectRoot.resolve(path), project, projectRoot, packageMap, classMap,
+                        httpMethodMap, endpoints);
+            } catch (Exception e) {
+                System.err.println("Failed to parse: " + path + " - " + e.getMessage());
+            }
+        }
+        // 再登録されなかったクラスは削除されたクラス
+        removedClasses = new ArrayList<>(run.reusableClasses.values());
+        run.reusableClasses = null;
+        List<ClassEntity> addedClasses = classMap.entrySet().stream()
+                .filter(entry -> !registeredKeys.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        // 追加したクラスを依存先とする未解決の依存関係を解決する（依存元のファイルを再解析する）
+        List<ClassDependency> retargetedDependencies = new ArrayList<>();
+        for (ClassEntity addedClass : addedClasses) {
+            String simpleName = addedClass.getSimpleName();
+            for (ClassDependency dependency : classDependencyRepository.findUnresolvedByTargetName(
+                    project, addedClass.getFullQualifiedName(), simpleName, "%." + simpleName)) {
+                String path = dependency.getSourceClass().getSourcePath();
+                if (path == null) {
+                    // ソースファイルのない依存元（オートコンフィグなど）は依存先を直接設定する
+                    if (addedClass.getFullQualifiedName().equals(dependency.getTargetIdentifier())) {
+                        dependency.setTargetClass(addedClass);
+                        classDependencyRepository.save(dependency);
+                        retargetedDependencies.add(dependency);
+                    }
+                } else if (!changedPaths.contains(path) && Files.isRegularFile(projectRoot.resolve(path))) {
+                    dependantPaths.add(path);
+                }
+            }
+        }
+
+        // 再解析するファイルのクラスの依存関係を削除する
+        Set<Long> reparsedClassIds = new HashSet<>(changedClassIds);
+        sourcePathByClassId.forEach((classId, path) -> {
+            if (dependantPaths.contains(path)) {
+                reparsedClassIds.add(classId);
+            }
+        });
+        classDependencyRepository.deleteAllByIdInBatch(classDependencyRepository.findIdsBySourceClassIdIn(reparsedClassIds));
+
+        // 削除されたクラスを削除する（再解析しない依存元からの依存関係は依存先を未解決とする）
+        Set<Long> deletedPackageIds = Set.of();
+        if (!removedClasses.isEmpty()) {
+            List<Long> removedClassIds = removedClasses.stream().map(ClassEntity::getId).toList();
+            List<ClassDependency> incomingDependencies = classDependencyRepository.findByTargetClassIdIn(removedClassIds);
+            incomingDependencies.forEach(dependency -> dependency.setTargetClass(null));
+            classDependencyRepository.saveAll(incomingDependencies);
+            classDependencyRepository.flush();
+            classEntityRepository.deleteAllByIdInBatch(removedClassIds);
+            deletedPackageIds = deleteEmptyPackages(project, removedClasses, classMap);
+        }
+
+        // エンドポイント、メンバー、依存関係を再解析して保存する
+        analysisService.saveEndpoints(endpoints);
+        analysisService.parseMembers(updatedFiles.stream().map(projectRoot::resolve).toList(), projectRoot, classMap);
+        List<Path> reparsedFiles = new ArrayList<>();
+        for (String path : updatedFiles) {
+            reparsedFiles.add(projectRoot.resolve(path));
+        }
+        for (String path : dependantPaths) {
+            reparsedFiles.add(projectRoot.resolve(path));
+        }
+        List<ClassDependency> savedDependencies = new ArrayList<>(retargetedDependencies);
+        run.updatedDependencies = savedDependencies;
+        analysisService.parseDependencies(run, reparsedFiles, projectRoot, classMap,
+                symbolSolverCache.symbolSolver(projectRoot), Set.of());
+
+        // パッケージ集計を更新する
+        // パッケージが追加・削除された場合はパッケージ階層が変わるため全体を集計し直し、
+        // それ以外は件数が変わりうるパッケージ（変更・追加・削除・再解析したクラスと、その依存先のパッケージ）のみ集計し直す
+        if (packageMap.size() == packageCount && deletedPackageIds.isEmpty()) {
+            Map<Long, Long> packageIdByClassId = new HashMap<>();
+            for (ClassEntity classEntity : projectClasses) {
+                if (classEntity.getPackageInfo() != null) {
+                    packageIdByClassId.put(classEntity.getId(), classEntity.getPackageInfo().getId());
+                }
+            }
+            Set<Long> affectedClassIds = new HashSet<>(reparsedClassIds);
+            removedClasses.forEach(classEntity -> affectedClassIds.add(classEntity.getId()));
+            // 削除した依存関係の依存先（再解析したクラスの直近のグラフでの依存先）
+            for (Long classId : reparsedClassIds) {
+                int node = graph.nodeOf(classId);
+                if (node < 0) {
+                    continue;
+                }
+                for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+                    affectedClassIds.add(graph.classId(graph.outTarget(e)));
+                }
+            }
+            Set<Long> affectedPackageIds = new HashSet<>();
+            for (Long classId : affectedClassIds) {
+                Long packageId = packageIdByClassId.get(classId);
+                if (packageId != null) {
+                    affectedPackageIds.add(packageId);
+                }
+            }
+            addedClasses.forEach(classEntity -> affectedPackageIds.add(classEntity.getPackageInfo().getId()));
+            for (ClassDependency dependency : savedDependencies) {
+                affectedPackageIds.add(dependency.getTargetClass().getPackageInfo().getId());
+            }
+            reconcilePackageRollups(packageMap.values(), affectedPackageIds, classMap);
+        } else {
+            recomputePackageRollups(run, project, classMap);
+        }
+
+        // 変更ファイルのモジュールのフィンガープリントとモジュール間の依存関係を更新する
+        analysisService.updateModules(run, project, projectRoot, changedPaths);
+
+        // 解析世代を進め、グラフインデックス・循環を更新する
+        // グラフインデックスはデータベースから構築し直さず、直近のグラフに再解析した依存関係を反映する
+        // 循環は依存関係が変わった場合のみ検出し直す（クラスの本体のみの編集では依存関係は変わらない）
+        // スナップショットは書き出さない（編集ごとに書き出すと保持件数分の解析間の比較元が失われ、大きなグラフでは更新も遅くなる）
+        long generation = generationTracker.advance(projectId);
+        ClassGraphPatch patch = new ClassGraphPatch(graph);
+        removedClasses.forEach(classEntity -> patch.removeClass(classEntity.getId()));
+        addedClasses.stream().sorted(Comparator.comparing(ClassEntity::getId))
+                .forEach(classEntity -> patch.addClass(classEntity.getId(), classEntity.getFullQualifiedName(),
+                        classEntity.getSimpleName()));
+        reparsedClassIds.forEach(patch::reparseClass);
+        for (ClassDependency dependency : savedDependencies) {
+            DependencyKindEntity kind = dependency.getDependencyKind();
+            patch.addEdge(dependency.getSourceClass().getId(), dependency.getTargetClass().getId(),
+                    kind.getCode(), kind.getDescription());
+        }
+        ClassGraphIndex graphIndex = patch.apply(generation);
+        if (patch.changesEdges(graphIndex)) {
+            dependencyCycleRepository.deleteAllInBatch();
+            dependencyCycleService.detectAndSave(project, graphIndex);
+        }
+
+        // 影響を受けるキャッシュ（クラス図など）のみコミット後に破棄する
+        Set<String> changedClassNames = new HashSet<>();
+        for (ClassEntity classEntity : projectClasses) {
+            String path = classEntity.getSourcePath();
+            if (path != null && (changedPaths.contains(path) || dependantPaths.contains(path))) {
+                changedClassNames.add(classEntity.getFullQualifiedName());
+            }
+        }
+        addedClasses.forEach(classEntity -> changedClassNames.add(classEntity.getFullQualifiedName()));
+        eventPublisher.publishEvent(new AnalysisUpdatedEvent(projectId, project.getRootPath(), previousGeneration,
+                generation, changedClassNames, graphIndex));
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        System.out.println("Files updated: updated=" + updatedFiles.size() + ", deleted=" + deletedFiles.size()
+                + ", dependants=" + dependantPaths.size() + ", classes +" + addedClasses.size() + "/-" + removedClasses.size()
+                + " (" + elapsedMillis + "ms)");
+        return new FileUpdateResultDto(updatedFiles, deletedFiles, dependantPaths.size(), addedClasses.size(),
+                removedClasses.size(), false, generation, elapsedMillis);
+    }
+
+    /**
+     * 指定したパッケージの件数を保存済みの依存関係とクラスから集計し直し、保存済みのパッケージ集計（上位パッケージの合計値を含む）に反映する
+     */
+    private void reconcilePackageRollups(Collection<PackageInfo> packages, Set<Long> packageIds, Map<String, ClassEntity> classMap) {
+        if (packageIds.isEmpty()) {
+            return;
+        }
+        PackageRollupAccumulator accumulator = new PackageRollupAccumulator();
+        for (Object[] row : classDependencyRepository.countBySourcePackageIdInGroupByPackageAndDependencyKind(packageIds)) {
+            accumulator.recordOutgoingCount((Long) row[0], (String) row[1], (Long) row[2]);
+        }
+        for (Object[] row : classDependencyRepository.countByTargetPackageIdInGroupByTargetPackage(packageIds)) {
+            accumulator.recordIncomingCount((Long) row[0], (Long) row[1]);
+        }
+        for (ClassEntity classEntity : classMap.values()) {
+            if (classEntity.getPackageInfo() != null && packageIds.contains(classEntity.getPackageInfo().getId())) {
+                accumulator.recordClass(classEntity);
+            }
+        }
+
+        // 集計し直したパッケージと上位パッケージの保存済みの集計
+        List<PackageInfo> recountedPackages = packages.stream().filter(pkg -> packageIds.contains(pkg.getId())).toList();
+        Set<Long> rollupPackageIds = new HashSet<>();
+        for (PackageInfo pkg : recountedPackages) {
+            for (PackageInfo p = pkg; p != null; p = p.getParentPackage()) {
+                rollupPackageIds.add(p.getId());
+            }
+        }
+        Map<Long, PackageRollup> rollups = packageRollupRepository.findByPackageInfo_IdIn(rollupPackageIds).stream()
+                .collect(Collectors.toMap(rollup -> rollup.getPackageInfo().getId(), Function.identity()));
+        PackageRollupAccumulator.Reconciliation result = accumulator.reconcile(recountedPackages, rollups,
+                packageDependencyKindRollupRepository.findByPackageInfo_IdIn(rollupPackageIds));
+        packageRollupRepository.saveAll(result.rollups());
+        packageDependencyKindRollupRepository.saveAll(result.savedKindRollups());
+        packageDependencyKindRollupRepository.deleteAllInBatch(result.deletedKindRollups());
+        System.out.println("Package rollups reconciled: packages=" + recountedPackages.size()
+                + ", rollups=" + result.rollups().size() + ", kind rollups=" + result.savedKindRollups().size()
+                + "/-" + result.deletedKindRollups().size());
+    }
+
+    /**
+     * パッケージ集計をプロジェクト全体の保存済みの依存関係から集計し直す
+     */
+    private void recomputePackageRollups(AnalysisRun run, Project project, Map<String, ClassEntity> classMap) {
+        packageDependencyKindRollupRepository.deleteAllInBatch();
+        packageRollupRepository.deleteAllInBatch();
+        run.rollupAccumulator = new PackageRollupAccumulator();
+        for (Object[] row : classDependencyRepository.countByProjectGroupByPackageAndDependencyKind(project)) {
+            if (row[0] != null) {
+                run.rollupAccumulator.recordOutgoingCount((Long) row[0], (String) row[1], (Long) row[2]);
+            }
+        }
+        for (Object[] row : classDependencyRepository.countByProjectGroupByTargetPackage(project)) {
+            if (row[0] != null) {
+                run.rollupAccumulator.recordIncomingCount((Long) row[0], (Long) row[1]);
+            }
+        }
+        analysisService.materializePackageRollups(run, project, classMap);
+    }
+
+    /**
+     * 削除されたクラスのパッケージのうち、クラスがなくなったパッケージを削除する
+     * （サブパッケージを持つパッケージは、サブパッケージが連鎖削除されるため残す）
+     * @return 削除したパッケージのID
+     */
+    private Set<Long> deleteEmptyPackages(Project project, List<ClassEntity> removedClasses, Map<String, ClassEntity> classMap) {
+        Set<Long> usedPackageIds = new HashSet<>();
+        for (ClassEntity classEntity : classMap.values()) {
+            if (classEntity.getPackageInfo() != null) {
+                usedPackageIds.add(classEntity.getPackageInfo().getId());
+            }
+        }
+        for (PackageInfo packageInfo : packageInfoRepository.findByProject(project)) {
+            if (packageInfo.getParentPackage() != null) {
+                usedPackageIds.add(packageInfo.getParentPackage().getId());
+            }
+        }
+        Set<Long> emptyPackageIds = new HashSet<>();
+        for (ClassEntity classEntity : removedClasses) {
+            PackageInfo packageInfo = classEntity.getPackageInfo();
+            if (packageInfo != null && !usedPackageIds.contains(packageInfo.getId())) {
+                emptyPackageIds.add(packageInfo.getId());
+            }
+        }
+        packageInfoRepository.deleteAllByIdInBatch(emptyPackageIds);
+        return emptyPackageIds;
+    }
+}
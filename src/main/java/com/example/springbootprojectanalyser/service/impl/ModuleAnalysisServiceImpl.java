@@ -0,0 +1,192 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.model.dto.BuildDependencyDto;
+import com.example.springbootprojectanalyser.model.dto.FileUpdateResultDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleDependencyDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleRefreshResultDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleStructureDto;
+import com.example.springbootprojectanalyser.model.entity.BuildDependency;
+import com.example.springbootprojectanalyser.model.entity.ModuleDependency;
+import com.example.springbootprojectanalyser.model.entity.ModuleInfo;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.BuildDependencyRepository;
+import com.example.springbootprojectanalyser.repository.ClassEntityRepository;
+import com.example.springbootprojectanalyser.repository.ModuleDependencyRepository;
+import com.example.springbootprojectanalyser.repository.ModuleInfoRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.IncrementalAnalysisService;
+import com.example.springbootprojectanalyser.service.ModuleAnalysisService;
+import com.example.springbootprojectanalyser.service.support.EdgeStoreRegistry;
+import com.example.springbootprojectanalyser.service.support.ProjectModuleScanner;
+import com.example.springbootprojectanalyser.service.support.ProjectModuleScanner.ProjectModule;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * モジュール解析サービス実装クラス
+ * 解析時に保存したモジュールのソースのフィンガープリントと現在のファイルを比較し、
+ * 変更されたモジュールのファイルのみをファイル単位の更新で再解析する
+ */
+@Service
+public class ModuleAnalysisServiceImpl implements ModuleAnalysisService {
+
+    private final ProjectRepository projectRepository;
+    private final ModuleInfoRepository moduleInfoRepository;
+    private final ModuleDependencyRepository moduleDependencyRepository;
+    private final ClassEntityRepository classEntityRepository;
+    private final ClassDependencyAnalysisService analysisService;
+    private final IncrementalAnalysisService incrementalAnalysisService;
+    private final ProjectModuleScanner moduleScanner;
+    private final EdgeStoreRegistry edgeStoreRegistry;
+    private final BuildDependencyRepository buildDependencyRepository;
+
+    public ModuleAnalysisServiceImpl(
+            ProjectRepository projectRepository,
+            ModuleInfoRepository moduleInfoRepository,
+            ModuleDependencyRepository moduleDependencyRepository,
+            ClassEntityRepository classEntityRepository,
+            ClassDependencyAnalysisService analysisService,
+            IncrementalAnalysisService incrementalAnalysisService,
+            ProjectModuleScanner moduleScanner,
+            EdgeStoreRegistry edgeStoreRegistry,
+            BuildDependencyRepository buildDependencyRepository) {
+        this.projectRepository = projectRepository;
+        this.moduleInfoRepository = moduleInfoRepository;
+        this.moduleDependencyRepository = moduleDependencyRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.analysisService = analysisService;
+        this.incrementalAnalysisService = incrementalAnalysisService;
+        this.moduleScanner = moduleScanner;
+        this.edgeStoreRegistry = edgeStoreRegistry;
+        this.buildDependencyRepository = buildDependencyRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ModuleStructureDto getModules(Long projectId) {
+        Project project = findProject(projectId);
+        Map<Long, Long> classCounts = new HashMap<>();
+        for (Object[] row : classEntityRepository.countByProjectGroupByModule(project)) {
+            classCounts.put((Long) row[0], (Long) row[1]);
+        }
+        List<ModuleDto> modules = new ArrayList<>();
+        for (ModuleInfo module : moduleInfoRepository.findByProject(project)) {
+            modules.add(new ModuleDto(module.getName(), module.getModulePath(), module.getBuildFile(), module.getArtifactKey(),
+                    module.getFileCount(), classCounts.getOrDefault(module.getId(), 0L)));
+        }
+        List<ModuleDependencyDto> dependencies = new ArrayList<>();
+        for (ModuleDependency dependency : moduleDependencyRepository.findByProject(project)) {
+            dependencies.add(new ModuleDependencyDto(
+                    dependency.getSourceModule().getName(), dependency.getSourceModule().getModulePath(),
+                    dependency.getTargetModule().getName(), dependency.getTargetModule().getModulePath(),
+                    dependency.getDependencyCount(), dependency.isDeclared()));
+        }
+        return new ModuleStructureDto(projectId, modules, dependencies);
+    }
+
+    /**
+     * 再解析（ファイル単位の更新・全体の再解析）はそれぞれのトランザクションで実行する
+     * （全体の再解析ではプロジェクトが削除・再作成されるため、読み込み済みのモジュールと同一の永続化コンテキストで実行しない）
+     */
+    @Override
+    public ModuleRefreshResultDto refreshModules(Long projectId) {
+        long startTime = System.currentTimeMillis();
+        Project project = findProject(projectId);
+        Path projectRoot = Paths.get(project.getRootPath());
+        List<ModuleInfo> modules = moduleInfoRepository.findByProject(project);
+        List<ProjectModule> layouts = moduleScanner.discover(projectRoot);
+
+        // モジュール構成・ビルドファイルが変わった場合（列指向の依存関係ストア、クラスファイルから解析した場合も）は
+        // 同じ解析方式でプロジェクト全体を再解析する
+        String frontend = project.getFrontend();
+        if (edgeStoreRegistry.isColumnar() || AnalysisExecutionDto.FRONTEND_BYTECODE.equals(frontend)
+                || !isSameLayout(projectRoot, modules, layouts)) {
+            analysisService.executeAnalysis(new AnalysisExecutionDto(project.getRootPath(), "**", frontend));
+            List<String> moduleNames = layouts.stream().map(ProjectModule::name).toList();
+            System.out.println("Modules refreshed: full analysis (" + (System.currentTimeMillis() - startTime) + "ms)");
+            return new ModuleRefreshResultDto(moduleNames, List.of(), true, null, System.currentTimeMillis() - startTime);
+        }
+
+        // ソースのフィンガープリントが変わったモジュールのみ、モジュールの全ファイル（削除されたファイルを含む）を再解析する
+        Set<String> modulePaths = modules.stream().map(ModuleInfo::getModulePath).collect(Collectors.toSet());
+        List<String> changedModules = new ArrayList<>();
+        List<String> skippedModules = new ArrayList<>();
+        List<Long> changedModuleIds = new ArrayList<>();
+        Set<String> paths = new TreeSet<>();
+        for (ModuleInfo module : modules) {
+            List<String> sourcePaths = moduleScanner.sourceFiles(projectRoot, module.getModulePath(), modulePaths);
+            if (moduleScanner.sourceFingerprint(projectRoot, sourcePaths).equals(module.getSourceFingerprint())) {
+                skippedModules.add(module.getName());
+                continue;
+            }
+            changedModules.add(module.getName());
+            changedModuleIds.add(module.getId());
+            paths.addAll(sourcePaths);
+        }
+        FileUpdateResultDto update = null;
+        if (!changedModuleIds.isEmpty()) {
+            paths.addAll(classEntityRepository.findSourcePathsByModuleIdIn(changedModuleIds));
+            update = incrementalAnalysisService.updateFiles(projectId, paths);
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        System.out.println("Modules refreshed: changed=" + changedModules.size() + ", skipped=" + skippedModules.size()
+                + " (" + elapsedMillis + "ms)");
+        return new ModuleRefreshResultDto(changedModules, skippedModules, false, update, elapsedMillis);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BuildDependencyDto> getBuildDependencies(Long projectId) {
+        Project project = findProject(projectId);
+        List<BuildDependencyDto> dependencies = new ArrayList<>();
+        for (BuildDependency dependency : buildDependencyRepository.findByProject(project)) {
+            dependencies.add(new BuildDependencyDto(
+                    dependency.getModuleInfo().getName(), dependency.getModuleInfo().getModulePath(), dependency.getDepth(),
+                    dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getScope(),
+                    dependency.getClassifier(), dependency.isOptional(), dependency.getParentCoordinates(), dependency.isResolved()));
+        }
+        return dependencies;
+    }
+
+    /**
+     * 保存済みのモジュールと現在のモジュール構成・ビルドファイルが一致するか判定する
+     */
+    private boolean isSameLayout(Path projectRoot, List<ModuleInfo> modules, List<ProjectModule> layouts) {
+        if (modules.size() != layouts.size()) {
+            return false;
+        }
+        Map<String, ModuleInfo> modulesByPath = new HashMap<>();
+        modules.forEach(module -> modulesByPath.put(module.getModulePath(), module));
+        for (ProjectModule layout : layouts) {
+            ModuleInfo module = modulesByPath.get(layout.path());
+            if (module == null
+                    || !Objects.equals(module.getName(), layout.name())
+                    || !Objects.equals(module.getBuildFile(), layout.buildFile())
+                    || !Objects.equals(module.getArtifactKey(), layout.artifactKey())
+                    || !module.getBuildFingerprint().equals(moduleScanner.buildFingerprint(projectRoot, layout))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+    }
+}
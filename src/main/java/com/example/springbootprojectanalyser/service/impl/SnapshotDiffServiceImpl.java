@@ -0,0 +1,103 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.GraphSnapshotDiff;
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.SnapshotDiffService;
+import com.example.springbootprojectanalyser.service.support.GraphSnapshotRegistry;
+import com.example.springbootprojectanalyser.service.support.GraphSnapshotRegistry.SnapshotFile;
+import com.example.springbootprojectanalyser.service.support.SnapshotDiffReporter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * スナップショット差分サービス実装クラス
+ * 解析終了時に書き出したグラフスナップショット同士を比較する（データベースは参照しない）
+ */
+@Service
+public class SnapshotDiffServiceImpl implements SnapshotDiffService {
+
+    private final ProjectRepository projectRepository;
+    private final GraphSnapshotRegistry graphSnapshotRegistry;
+
+    public SnapshotDiffServiceImpl(
+            ProjectRepository projectRepository,
+            GraphSnapshotRegistry graphSnapshotRegistry) {
+        this.projectRepository = projectRepository;
+        this.graphSnapshotRegistry = graphSnapshotRegistry;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GraphSnapshotDto> getSnapshots(Long projectId) {
+        List<GraphSnapshotDto> result = new ArrayList<>();
+        for (SnapshotFile snapshot : graphSnapshotRegistry.list(findProject(projectId).getRootPath())) {
+            result.add(toDto(snapshot));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SnapshotDiffDto diff(Long projectId, Long baseSnapshotId, Long targetSnapshotId, Integer limit) {
+        int maxItems = SnapshotDiffReporter.resolveLimit(limit);
+        String projectPath = findProject(projectId).getRootPath();
+        List<SnapshotFile> snapshots = graphSnapshotRegistry.list(projectPath);
+
+        // 比較先は指定がなければ最新、比較元は指定がなければ比較先の1つ前
+        int targetPosition = targetSnapshotId != null ? indexOf(snapshots, targetSnapshotId) : 0;
+        if (targetPosition < 0 || targetPosition >= snapshots.size()) {
+            throw new IllegalArgumentException("比較先のスナップショットが見つかりません: "
+                    + (targetSnapshotId != null ? targetSnapshotId : "（スナップショットがありません）"));
+        }
+        int basePosition = baseSnapshotId != null ? indexOf(snapshots, baseSnapshotId) : targetPosition + 1;
+        if (basePosition < 0 || basePosition >= snapshots.size()) {
+            throw new IllegalArgumentException("比較元のスナップショットが見つかりません: "
+                    + (baseSnapshotId != null ? baseSnapshotId : "（比較先より前のスナップショットがありません）"));
+        }
+        SnapshotFile baseSnapshot = snapshots.get(basePosition);
+        SnapshotFile targetSnapshot = snapshots.get(targetPosition);
+
+        long startTime = System.currentTimeMillis();
+        ClassGraphIndex base = open(projectPath, baseSnapshot);
+        ClassGraphIndex target = open(projectPath, targetSnapshot);
+        GraphSnapshotDiff diff = GraphSnapshotDiff.compare(base, target);
+
+        SnapshotDiffDto result = SnapshotDiffReporter.report(diff, toDto(baseSnapshot), toDto(targetSnapshot), maxItems);
+
+        System.out.println("Snapshot diff: " + baseSnapshot.snapshotId() + " -> " + targetSnapshot.snapshotId()
+                + " classes +" + diff.addedClassCount() + "/-" + diff.removedClassCount()
+                + ", dependencies +" + diff.addedEdgeCount() + "/-" + diff.removedEdgeCount()
+                + ", layer +" + result.addedLayerDependencyCount() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return result;
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+    }
+
+    private int indexOf(List<SnapshotFile> snapshots, long snapshotId) {
+        for (int i = 0; i < snapshots.size(); i++) {
+            if (snapshots.get(i).snapshotId() == snapshotId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ClassGraphIndex open(String projectPath, SnapshotFile snapshot) {
+        return graphSnapshotRegistry.open(projectPath, snapshot.snapshotId())
+                .orElseThrow(() -> new IllegalArgumentException("スナップショットを開けません: " + snapshot.snapshotId()));
+    }
+
+    private GraphSnapshotDto toDto(SnapshotFile snapshot) {
+        return new GraphSnapshotDto(snapshot.snapshotId(), snapshot.createdAt(), snapshot.nodeCount(), snapshot.edgeCount());
+    }
+}
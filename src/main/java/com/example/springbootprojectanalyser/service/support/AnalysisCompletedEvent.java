@@ -0,0 +1,19 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+
+/**
+ * 解析完了イベント
+ * クラス依存関係解析が完了し、世代番号が進んだ時点で発行される
+ * @param projectId プロジェクトID
+ * @param projectPath プロジェクトのルートパス
+ * @param generation 解析世代番号
+ * @param graphIndex 解析結果から構築したグラフインデックス（コミット後にスナップショットに書き出す）
+ */
+public record AnalysisCompletedEvent(
+    Long projectId,
+    String projectPath,
+    long generation,
+    ClassGraphIndex graphIndex
+) {
+}
@@ -0,0 +1,47 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 解析世代管理コンポーネント
+ * 解析が完了するたびにプロジェクトごとの世代番号を進め、キャッシュの有効性判定に使用する
+ */
+@Component
+public class AnalysisGenerationTracker {
+
+    /**
+     * 全プロジェクト共通の世代番号（単調増加）
+     * 世代番号はグラフスナップショットにも記録するため、サーバ再起動前の世代番号と重複しないよう起動時刻から始める
+     */
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+
+    /** プロジェクトID -> 現在の世代番号 */
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * プロジェクトの世代を進める
+     * @param projectId プロジェクトID
+     * @return 新しい世代番号
+     */
+    public long advance(Long projectId) {
+        long generation = sequence.incrementAndGet();
+        generations.put(projectId, generation);
+        return generation;
+    }
+
+    /**
+     * プロジェクトの現在の世代を取得する
+     * @param projectId プロジェクトID
+     * @return 世代番号（未解析の場合は0）
+     */
+    public long current(Long projectId) {
+        if (projectId == null) {
+            return 0L;
+        }
+        return generations.getOrDefault(projectId, 0L);
+    }
+}
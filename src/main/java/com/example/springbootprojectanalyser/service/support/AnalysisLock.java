@@ -0,0 +1,42 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 解析ロックコンポーネント
+ * 解析の実行・ファイル更新・変更ファイル解析（HTTPリクエスト、ソース監視のスレッドから呼び出される）を直列化する
+ * 解析の実行は保存済みの全プロジェクトを削除して登録し直すため、プロジェクトごとではなく全体で1つのロックとする
+ */
+@Component
+public class AnalysisLock {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * ロックを取得し、実行中のトランザクションの完了時（コミット・ロールバックの後）に解放する
+     * コミット前に解放すると、後続の解析がコミット前のデータを参照・削除するため、メソッドの終了時には解放しない
+     * 同じスレッドからの再取得（解析の中からの解析の呼び出し）は可能
+     * @throws IllegalStateException トランザクション外で呼び出された場合
+     */
+    public void lockUntilCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("解析ロックはトランザクション内で取得してください");
+        }
+        lock.lock();
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+}
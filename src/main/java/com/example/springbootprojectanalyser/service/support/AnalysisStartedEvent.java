@@ -0,0 +1,11 @@
+package com.example.springbootprojectanalyser.service.support;
+
+/**
+ * 解析開始イベント
+ * クラス依存関係解析が既存データを削除する前に発行される
+ * @param projectPath 解析対象プロジェクトのルートパス
+ */
+public record AnalysisStartedEvent(
+    String projectPath
+) {
+}
@@ -0,0 +1,25 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+
+import java.util.Set;
+
+/**
+ * 解析結果更新イベント
+ * ファイル単位の再解析で解析結果を更新し、世代番号が進んだ時点で発行される
+ * @param projectId プロジェクトID
+ * @param projectPath プロジェクトのルートパス
+ * @param previousGeneration 更新前の解析世代番号
+ * @param generation 更新後の解析世代番号
+ * @param changedClasses 解析結果が変わりうるクラスの完全修飾名（更新・削除・追加したファイルのクラスと依存しているクラス）
+ * @param graphIndex 直近のグラフに再解析した依存関係を反映したグラフインデックス（スナップショットには書き出さない）
+ */
+public record AnalysisUpdatedEvent(
+    Long projectId,
+    String projectPath,
+    long previousGeneration,
+    long generation,
+    Set<String> changedClasses,
+    ClassGraphIndex graphIndex
+) {
+}
@@ -0,0 +1,424 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.util.GradleBuildReader;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleBuild;
+import com.example.springbootprojectanalyser.util.PomReader;
+import com.example.springbootprojectanalyser.util.PomReader.ParentReference;
+import com.example.springbootprojectanalyser.util.PomReader.RawDependency;
+import com.example.springbootprojectanalyser.util.PomReader.RawPom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ビルドモデルキャッシュコンポーネント
+ * pom.xml・build.gradle(.kts)を1回だけ読み取ったモデルを、ファイル内容のハッシュをキーとしてLRU方式で保持する
+ * （オートコンフィグ解析・ビルド依存解析・モジュール検出で同じモデルを共有する）
+ * pom.xmlはローカルの親POM（relativePath）の継承と${...}プレースホルダーの解決を行った実効モデルを返す
+ * build.gradle(.kts)はモジュールからプロジェクトのルート（settings.gradle(.kts)のあるディレクトリ）までのgradle.propertiesで変数を解決する
+ */
+@Component
+public class BuildModelCache {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static final int MAX_PARENT_DEPTH = 20;
+    private static final int MAX_INTERPOLATION_DEPTH = 10;
+    private static final String DEFAULT_SCOPE = "compile";
+    private static final String DEFAULT_TYPE = "jar";
+    private static final List<String> GRADLE_SETTINGS_FILES = List.of("settings.gradle", "settings.gradle.kts");
+
+    private final int maxEntries;
+
+    /** ファイル内容のハッシュ -> 読み取ったPOM（アクセス順、先頭が最も古い） */
+    private final LinkedHashMap<String, RawPom> rawPoms = new LinkedHashMap<>(16, 0.75f, true);
+    /** POMと親POMのパス・ハッシュ -> 実効モデル */
+    private final LinkedHashMap<String, MavenModel> mavenModels = new LinkedHashMap<>(16, 0.75f, true);
+    /** ビルドファイルとgradle.propertiesのハッシュ -> 読み取ったビルドファイル */
+    private final LinkedHashMap<String, GradleBuild> gradleBuilds = new LinkedHashMap<>(16, 0.75f, true);
+
+    public BuildModelCache(@Value("${analysis.build-model.cache.max-entries:512}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * pom.xmlの実効モデルを取得する（ローカルの親POMのみ継承する）
+     * @param pomPath pom.xmlのパス
+     * @return 実効モデル（読み取れない場合はnull）
+     */
+    public MavenModel mavenModel(Path pomPath) {
+        return mavenModel(pomPath, null);
+    }
+
+    /**
+     * pom.xmlの実効モデルを取得する
+     * @param pomPath pom.xmlのパス
+     * @param parentLocator ローカルに親POMがない場合に親POMのパスを求める関数（ローカルリポジトリの参照など、nullの場合は使用しない）
+     * @return 実効モデル（読み取れない場合はnull）
+     */
+    public MavenModel mavenModel(Path pomPath, Function<MavenArtifact, Path> parentLocator) {
+        // 親POMをたどる（存在し、artifactIdが一致する親POMのみ継承する）
+        List<Path> chainPaths = new ArrayList<>();
+        List<RawPom> chain = new ArrayList<>();
+        StringBuilder key = new StringBuilder();
+        Path current = pomPath.toAbsolutePath().normalize();
+        while (current != null && chain.size() < MAX_PARENT_DEPTH && !chainPaths.contains(current)) {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(current);
+            } catch (IOException e) {
+                if (chain.isEmpty()) {
+                    System.err.println("Failed to read pom.xml: " + current + " - " + e.getMessage());
+                    return null;
+                }
+                break;
+            }
+            String hash = sha256(content);
+            RawPom pom = rawPom(hash, content, current);
+            if (pom == null) {
+                if (chain.isEmpty()) {
+                    return null;
+                }
+                break;
+            }
+            if (!chain.isEmpty() && !matchesParent(chain.get(chain.size() - 1).parent(), pom)) {
+                break;
+            }
+            chainPaths.add(current);
+            chain.add(pom);
+            key.append(current).append('\0').append(hash).append('\n');
+            current = localParentPath(current, pom.parent());
+            if (current == null && parentLocator != null && pom.parent() != null) {
+                ParentReference parent = pom.parent();
+                current = parentLocator.apply(new MavenArtifact(parent.groupId(), parent.artifactId(), parent.version()));
+            }
+        }
+
+        String cacheKey = key.toString();
+        synchronized (this) {
+            MavenModel cached = mavenModels.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        MavenModel model = buildMavenModel(chainPaths, chain);
+        synchronized (this) {
+            put(mavenModels, cacheKey, model);
+        }
+        return model;
+    }
+
+    /**
+     * build.gradle(.kts)の読み取り結果を取得する
+     * @param buildFile ビルドファイルのパス
+     * @return 読み取り結果（読み取れない場合はnull）
+     */
+    public GradleBuild gradleBuild(Path buildFile) {
+        Path file = buildFile.toAbsolutePath().normalize();
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Failed to read build file: " + file + " - " + e.getMessage());
+            return null;
+        }
+        // ルート側のgradle.propertiesから順に読み込み、モジュール側で上書きする
+        List<String> propertyContents = new ArrayList<>();
+        for (Path directory = file.getParent(); directory != null; directory = directory.getParent()) {
+            Path propertiesFile = directory.resolve("gradle.properties");
+            if (Files.isRegularFile(propertiesFile)) {
+                try {
+                    propertyContents.add(0, Files.readString(propertiesFile, StandardCharsets.ISO_8859_1));
+                } catch (IOException e) {
+                    System.err.println("Failed to read gradle.properties: " + propertiesFile + " - " + e.getMessage());
+                }
+            }
+            Path settingsDirectory = directory;
+            if (GRADLE_SETTINGS_FILES.stream().anyMatch(name -> Files.isRegularFile(settingsDirectory.resolve(name)))) {
+                break;
+            }
+        }
+        StringBuilder key = new StringBuilder(sha256(content.getBytes(StandardCharsets.UTF_8)));
+        for (String propertyContent : propertyContents) {
+            key.append('\n').append(sha256(propertyContent.getBytes(StandardCharsets.ISO_8859_1)));
+        }
+
+        String cacheKey = key.toString();
+        synchronized (this) {
+            GradleBuild cached = gradleBuilds.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        propertyContents.forEach(propertyContent -> properties.putAll(GradleBuildReader.readProperties(propertyContent)));
+        GradleBuild model = GradleBuildReader.read(content, properties);
+        synchronized (this) {
+            put(gradleBuilds, cacheKey, model);
+        }
+        return model;
+    }
+
+    private RawPom rawPom(String hash, byte[] content, Path pomPath) {
+        synchronized (this) {
+            RawPom cached = rawPoms.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try {
+            RawPom pom = PomReader.read(content);
+            synchronized (this) {
+                put(rawPoms, hash, pom);
+            }
+            return pom;
+        } catch (Exception e) {
+            System.err.println("Failed to parse pom.xml: " + pomPath + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 親POMの参照からローカルの親POMのパスを求める（relativePathが空要素の場合・ファイルがない場合はnull）
+     */
+    private static Path localParentPath(Path pomPath, ParentReference parent) {
+        if (parent == null || (parent.relativePath() != null && parent.relativePath().isEmpty())) {
+            return null;
+        }
+        String relativePath = parent.relativePath() != null ? parent.relativePath() : "../pom.xml";
+        Path resolved = pomPath.getParent().resolve(relativePath).normalize();
+        if (Files.isDirectory(resolved)) {
+            resolved = resolved.resolve("pom.xml");
+        }
+        return Files.isRegularFile(resolved) ? resolved : null;
+    }
+
+    private static boolean matchesParent(ParentReference parent, RawPom pom) {
+        if (parent == null || !parent.artifactId().equals(pom.artifactId())) {
+            return false;
+        }
+        String groupId = pom.groupId() != null ? pom.groupId() : (pom.parent() != null ? pom.parent().groupId() : null);
+        return parent.groupId() == null || groupId == null || parent.groupId().equals(groupId);
+    }
+
+    /**
+     * 最上位の親POMから順に継承し、プレースホルダーを解決した実効モデルを組み立てる
+     * （プレースホルダーはMavenと同様に継承後の値（子のproject.*等）で解決する）
+     */
+    private static MavenModel buildMavenModel(List<Path> chainPaths, List<RawPom> chain) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        Map<String, RawDependency> managed = new LinkedHashMap<>();
+        Map<String, RawDependency> dependencies = new LinkedHashMap<>();
+        String groupId = null;
+        String version = null;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            RawPom pom = chain.get(i);
+            properties.putAll(pom.properties());
+            pom.managedDependencies().forEach(dependency -> managed.put(managementKey(dependency), dependency));
+            pom.dependencies().forEach(dependency -> dependencies.put(managementKey(dependency), dependency));
+            ParentReference parent = pom.parent();
+            groupId = pom.groupId() != null ? pom.groupId() : (parent != null && parent.groupId() != null ? parent.groupId() : groupId);
+            version = pom.version() != null ? pom.version() : (parent != null && parent.version() != null ? parent.version() : version);
+        }
+        RawPom pom = chain.get(0);
+        ParentReference parent = pom.parent();
+        String packaging = pom.packaging() != null ? pom.packaging() : DEFAULT_TYPE;
+        Path baseDirectory = chainPaths.get(0).getParent();
+
+        putIfNotNull(properties, "project.groupId", groupId);
+        putIfNotNull(properties, "project.artifactId", pom.artifactId());
+        putIfNotNull(properties, "project.version", version);
+        properties.put("project.packaging", packaging);
+        properties.put("project.basedir", baseDirectory.toString());
+        properties.put("basedir", baseDirectory.toString());
+        if (parent != null) {
+            putIfNotNull(properties, "project.parent.groupId", parent.groupId());
+            putIfNotNull(properties, "project.parent.artifactId", parent.artifactId());
+            putIfNotNull(properties, "project.parent.version", parent.version());
+        }
+        // 旧形式（pom.*）の参照も解決する
+        for (String name : List.copyOf(properties.keySet())) {
+            if (name.startsWith("project.")) {
+                properties.putIfAbsent("pom." + name.substring("project.".length()), properties.get(name));
+            }
+        }
+        Map<String, String> resolvedProperties = new LinkedHashMap<>();
+        properties.forEach((name, value) -> resolvedProperties.put(name, interpolate(value, properties)));
+
+        Map<String, MavenDependency> managedDependencies = new LinkedHashMap<>();
+        for (RawDependency dependency : managed.values()) {
+            MavenDependency resolved = resolveDependency(dependency, null, true, resolvedProperties);
+            managedDependencies.put(resolved.managementKey(), resolved);
+        }
+        List<MavenDependency> resolvedDependencies = new ArrayList<>();
+        for (RawDependency dependency : dependencies.values()) {
+            String key = resolveDependency(dependency, null, true, resolvedProperties).managementKey();
+            resolvedDependencies.add(resolveDependency(dependency, managedDependencies.get(key), false, resolvedProperties));
+        }
+
+        MavenArtifact parentArtifact = parent != null
+                ? new MavenArtifact(interpolate(parent.groupId(), resolvedProperties), parent.artifactId(),
+                        interpolate(parent.version(), resolvedProperties))
+                : null;
+        List<String> modules = pom.modules().stream().map(module -> interpolate(module, resolvedProperties)).toList();
+        return new MavenModel(
+                chainPaths.get(0),
+                interpolate(groupId, resolvedProperties),
+                interpolate(pom.artifactId(), resolvedProperties),
+                interpolate(version, resolvedProperties),
+                packaging,
+                parentArtifact,
+                List.copyOf(chainPaths.subList(1, chainPaths.size())),
+                Collections.unmodifiableMap(resolvedProperties),
+                modules,
+                resolvedDependencies,
+                List.copyOf(managedDependencies.values()));
+    }
+
+    /**
+     * 依存関係のプレースホルダーを解決し、依存関係管理（dependencyManagement）のバージョン・スコープ・除外を適用する
+     * @param managedEntry 依存関係管理の依存関係かどうか（スコープが未指定の場合はnullのままとする）
+     */
+    private static MavenDependency resolveDependency(RawDependency dependency, MavenDependency managed, boolean managedEntry,
+                                                     Map<String, String> properties) {
+        String version = interpolate(dependency.version(), properties);
+        String scope = interpolate(dependency.scope(), properties);
+        List<String> exclusions = new ArrayList<>();
+        dependency.exclusions().forEach(exclusion -> exclusions.add(interpolate(exclusion, properties)));
+        if (managed != null) {
+            version = version != null ? version : managed.version();
+            scope = scope != null ? scope : managed.scope();
+            managed.exclusions().stream().filter(exclusion -> !exclusions.contains(exclusion)).forEach(exclusions::add);
+        }
+        String type = interpolate(dependency.type(), properties);
+        return new MavenDependency(
+                interpolate(dependency.groupId(), properties),
+                interpolate(dependency.artifactId(), properties),
+                version,
+                type != null ? type : DEFAULT_TYPE,
+                interpolate(dependency.classifier(), properties),
+                scope != null || managedEntry ? scope : DEFAULT_SCOPE,
+                "true".equals(interpolate(dependency.optional(), properties)),
+                List.copyOf(exclusions));
+    }
+
+    private static String managementKey(RawDependency dependency) {
+        return dependency.groupId() + ":" + dependency.artifactId() + ":"
+                + (dependency.type() != null ? dependency.type() : DEFAULT_TYPE)
+                + (dependency.classifier() != null ? ":" + dependency.classifier() : "");
+    }
+
+    /**
+     * ${name}をプロパティで置き換える（解決できない場合はそのまま残す、循環参照は深さで打ち切る）
+     */
+    private static String interpolate(String value, Map<String, String> properties) {
+        if (value == null) {
+            return null;
+        }
+        String result = value;
+        for (int depth = 0; depth < MAX_INTERPOLATION_DEPTH && result.contains("${"); depth++) {
+            Matcher matcher = PLACEHOLDER.matcher(result);
+            StringBuilder replaced = new StringBuilder();
+            boolean changed = false;
+            while (matcher.find()) {
+                String resolved = properties.get(matcher.group(1).trim());
+                changed |= resolved != null;
+                matcher.appendReplacement(replaced, Matcher.quoteReplacement(resolved != null ? resolved : matcher.group()));
+            }
+            matcher.appendTail(replaced);
+            result = replaced.toString();
+            if (!changed) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static void putIfNotNull(Map<String, String> properties, String name, String value) {
+        if (value != null) {
+            properties.put(name, value);
+        }
+    }
+
+    private <V> void put(LinkedHashMap<String, V> entries, String key, V value) {
+        entries.put(key, value);
+        while (entries.size() > maxEntries) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * pom.xmlの実効モデル（親POMの継承・プレースホルダーの解決後）
+     * @param pomPath pom.xmlのパス
+     * @param parent 親POMの参照（ない場合はnull）
+     * @param localParents 継承したローカルの親POMのパス（近い順）
+     * @param properties プロパティ（継承後、project.*を含む）
+     * @param modules &lt;modules&gt;のモジュールのパス
+     * @param dependencies 依存関係（親POMから継承したものを含む、依存関係管理を適用済み）
+     * @param managedDependencies 依存関係管理の依存関係
+     */
+    public record MavenModel(
+            Path pomPath,
+            String groupId,
+            String artifactId,
+            String version,
+            String packaging,
+            MavenArtifact parent,
+            List<Path> localParents,
+            Map<String, String> properties,
+            List<String> modules,
+            List<MavenDependency> dependencies,
+            List<MavenDependency> managedDependencies) {
+    }
+
+    /**
+     * Mavenのアーティファクト座標
+     */
+    public record MavenArtifact(String groupId, String artifactId, String version) {
+    }
+
+    /**
+     * Mavenの依存関係（versionは未指定かつ依存関係管理にもない場合null）
+     * @param scope スコープ（未指定の場合はcompile、依存関係管理の依存関係は未指定の場合null）
+     * @param exclusions 除外する依存関係（groupId:artifactId形式）
+     */
+    public record MavenDependency(
+            String groupId,
+            String artifactId,
+            String version,
+            String type,
+            String classifier,
+            String scope,
+            boolean optional,
+            List<String> exclusions) {
+
+        /**
+         * 依存関係管理の照合キー（groupId:artifactId:type[:classifier]）
+         */
+        public String managementKey() {
+            return groupId + ":" + artifactId + ":" + type + (classifier != null ? ":" + classifier : "");
+        }
+    }
+}
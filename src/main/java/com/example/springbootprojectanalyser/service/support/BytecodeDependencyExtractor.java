@@ -0,0 +1,296 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.util.ClassFileReader;
+import com.example.springbootprojectanalyser.util.ClassFileReader.AnnotationInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.ClassFileInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.EnumConstant;
+import com.example.springbootprojectanalyser.util.ClassFileReader.FieldInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.MemberReference;
+import com.example.springbootprojectanalyser.util.ClassFileReader.MethodInfo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * バイトコード依存関係抽出クラス
+ * コンパイル済みのクラスファイル（target/classes、build/classes/java/main）から、ソースの解析と同じ種類の
+ * クラス間の依存関係（001_001〜001_011）を抽出する
+ * クラスファイルの参照はすべて完全修飾名のため、Symbol Solverによる型解決は行わない
+ * ソースの解析と同様に、ネストしたクラス・匿名クラスのメンバーは外側のクラスの依存関係にも含める
+ * （継承・実装はそのクラスのみ）
+ */
+public class BytecodeDependencyExtractor {
+
+    /** クラスファイルの出力ディレクトリ（モジュールのルートからの相対パス） */
+    public static final List<String> CLASS_OUTPUT_DIRECTORIES = List.of("target/classes", "build/classes/java/main");
+
+    private BytecodeDependencyExtractor() {
+    }
+
+    /**
+     * モジュールのクラスファイルを読み取り、ソースファイルごとに分ける
+     * ソースファイルはクラスファイルのSourceFile属性とパッケージから求める
+     * @param moduleRoot モジュールのルートパス
+     * @return コンパイル済みのソースファイル（クラスファイルの出力ディレクトリがない場合は空）
+     */
+    public static CompiledSources readCompiledSources(Path moduleRoot) throws IOException {
+        Map<String, List<ClassFileInfo>> classesBySource = new HashMap<>();
+        Map<String, Long> lastModified = new HashMap<>();
+        int classFileCount = 0;
+        for (String directory : CLASS_OUTPUT_DIRECTORIES) {
+            Path outputDirectory = moduleRoot.resolve(directory);
+            if (!Files.isDirectory(outputDirectory)) {
+                continue;
+            }
+            List<Path> classFiles;
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                classFiles = paths.filter(path -> path.toString().endsWith(".class") && Files.isRegularFile(path)).toList();
+            }
+            for (Path classFile : classFiles) {
+                ClassFileInfo classInfo = ClassFileReader.read(Files.readAllBytes(classFile));
+                classFileCount++;
+                if (classInfo.sourceFile() == null || classInfo.name().endsWith("package-info") || classInfo.name().equals("module-info")) {
+                    continue;
+                }
+                int separator = classInfo.name().lastIndexOf('.');
+                String sourcePath = (separator >= 0 ? classInfo.name().substring(0, separator).replace('.', '/') + "/" : "")
+                        + classInfo.sourceFile();
+                classesBySource.computeIfAbsent(sourcePath, k -> new ArrayList<>()).add(classInfo);
+                // ソースファイルより古いクラスファイルがあれば再コンパイルされていないとみなす（最も古いクラスファイルの更新日時で判定する）
+                lastModified.merge(sourcePath, Files.getLastModifiedTime(classFile).toMillis(), Math::min);
+            }
+        }
+        Map<String, CompiledSource> sources = new HashMap<>();
+        classesBySource.forEach((sourcePath, classes) ->
+                sources.put(sourcePath, new CompiledSource(sourcePath, lastModified.get(sourcePath), List.copyOf(classes))));
+        return new CompiledSources(sources, classFileCount);
+    }
+
+    /**
+     * ソースファイルのクラスファイルから依存関係を抽出する
+     * @param classes ソースファイルのクラスファイル
+     * @return 依存関係（依存元はソースの解析と同じ「パッケージ名.簡易名」形式、依存先はネストしたクラスを「.」区切りとした完全修飾名）
+     */
+    public static List<ExtractedDependency> extract(List<ClassFileInfo> classes) {
+        Map<String, ClassFileInfo> classesByName = new HashMap<>();
+        classes.forEach(classInfo -> classesByName.put(classInfo.name(), classInfo));
+        Set<ExtractedDependency> dependencies = new LinkedHashSet<>();
+        for (ClassFileInfo classInfo : classes) {
+            if ((classInfo.access() & ClassFileReader.ACC_SYNTHETIC) != 0) {
+                continue;
+            }
+            List<String> owners = namedOwners(classInfo, classesByName);
+            if (owners.isEmpty()) {
+                continue;
+            }
+
+            // 001_001: 継承（extends）、001_002: 実装（implements）（名前のあるクラスのみ、インターフェースの継承は001_001）
+            if (!classInfo.simpleName().isEmpty()) {
+                String self = sourceClassName(classInfo);
+                if (classInfo.isInterface()) {
+                    classInfo.interfaces().forEach(name -> add(dependencies, self, name, "001_001"));
+                } else {
+                    if (classInfo.superName() != null && (classInfo.access() & ClassFileReader.ACC_ENUM) == 0) {
+                        add(dependencies, self, classInfo.superName(), "001_001");
+                    }
+                    classInfo.interfaces().forEach(name -> add(dependencies, self, name, "001_002"));
+                }
+            }
+
+            // クラス自身・外側のクラスのメソッド呼び出し・定数参照は対象外とする
+            Set<String> selfNames = enclosingNames(classInfo, classesByName);
+            for (String owner : owners) {
+                collectClassDependencies(classInfo, owner, selfNames, dependencies);
+            }
+        }
+        return List.copyOf(dependencies);
+    }
+
+    /**
+     * クラスのメンバーとメソッド本体の依存関係を依存元（クラス自身または外側のクラス）の依存関係として収集する
+     */
+    private static void collectClassDependencies(ClassFileInfo classInfo, String owner, Set<String> selfNames,
+                                                 Set<ExtractedDependency> dependencies) {
+        collectAnnotationDependencies(classInfo.annotations(), owner, dependencies);
+
+        for (FieldInfo field : classInfo.fields()) {
+            if ((field.access() & ClassFileReader.ACC_SYNTHETIC) != 0) {
+                continue;
+            }
+            // 001_009: コンポジション（保持）、001_003: ジェネリクス型参照
+            add(dependencies, owner, ClassFileReader.descriptorClassName(field.descriptor()), "001_009");
+            if (field.signature() != null) {
+                ClassFileReader.typeArgumentClassNames(field.signature()).forEach(name -> add(dependencies, owner, name, "001_003"));
+            }
+            collectAnnotationDependencies(field.annotations(), owner, dependencies);
+        }
+
+        for (MethodInfo method : classInfo.methods()) {
+            if ((method.access() & ClassFileReader.ACC_BRIDGE) != 0) {
+                continue;
+            }
+            boolean declared = (method.access() & ClassFileReader.ACC_SYNTHETIC) == 0
+                    && !method.name().equals("<init>") && !method.name().equals("<clinit>");
+            if (declared) {
+                // 001_004: 例外型依存（throws句）
+                method.exceptions().forEach(name -> add(dependencies, owner, name, "001_004"));
+                // 001_006: 戻り値型依存、001_007: 引数型依存、001_003: ジェネリクス型参照
+                add(dependencies, owner, ClassFileReader.descriptorClassName(ClassFileReader.returnDescriptor(method.descriptor())), "001_006");
+                for (String parameter : ClassFileReader.parameterDescriptors(method.descriptor())) {
+                    add(dependencies, owner, ClassFileReader.descriptorClassName(parameter), "001_007");
+                }
+                if (method.signature() != null) {
+                    ClassFileReader.typeArgumentClassNames(ClassFileReader.returnSignature(method.signature()))
+                            .forEach(name -> add(dependencies, owner, name, "001_003"));
+                    for (String parameter : ClassFileReader.parameterSignatures(method.signature())) {
+                        ClassFileReader.typeArgumentClassNames(parameter).forEach(name -> add(dependencies, owner, name, "001_003"));
+                    }
+                }
+                collectAnnotationDependencies(method.annotations(), owner, dependencies);
+            }
+
+            // 001_004: 例外型依存（catch節）
+            method.catchTypes().forEach(name -> add(dependencies, owner, name, "001_004"));
+
+            for (MemberReference reference : method.references()) {
+                if (reference.owner().startsWith("[") || selfNames.contains(reference.owner())) {
+                    continue;
+                }
+                switch (reference.opcode()) {
+                    case ClassFileReader.INVOKEVIRTUAL, ClassFileReader.INVOKEINTERFACE, ClassFileReader.INVOKESPECIAL -> {
+                        // 001_005: メソッド呼び出し（コンストラクタ呼び出しは対象外）
+                        if (!reference.name().equals("<init>")) {
+                            add(dependencies, owner, reference.owner(), "001_005");
+                        }
+                    }
+                    case ClassFileReader.INVOKESTATIC -> {
+                        // 001_008: 静的メソッド依存（ソースの解析と同様にメソッド呼び出しとしても記録する）
+                        add(dependencies, owner, reference.owner(), "001_005");
+                        add(dependencies, owner, reference.owner(), "001_008");
+                    }
+                    // 001_011: 定数参照（コンパイル時定数はインライン化されるため、列挙型の定数・静的フィールドの参照のみ）
+                    case ClassFileReader.GETSTATIC -> add(dependencies, owner, reference.owner(), "001_011");
+                    default -> {
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * アノテーションの属性値の列挙型の定数を定数参照（001_011）として収集する
+     */
+    private static void collectAnnotationDependencies(List<AnnotationInfo> annotations, String owner, Set<ExtractedDependency> dependencies) {
+        for (AnnotationInfo annotation : annotations) {
+            for (Object value : annotation.attributes().values()) {
+                collectAnnotationValue(value, owner, dependencies);
+            }
+        }
+    }
+
+    private static void collectAnnotationValue(Object value, String owner, Set<ExtractedDependency> dependencies) {
+        if (value instanceof EnumConstant constant) {
+            add(dependencies, owner, constant.type(), "001_011");
+        } else if (value instanceof AnnotationInfo nested) {
+            collectAnnotationDependencies(List.of(nested), owner, dependencies);
+        } else if (value instanceof List<?> values) {
+            values.forEach(element -> collectAnnotationValue(element, owner, dependencies));
+        }
+    }
+
+    /**
+     * 依存関係の依存元とするクラス（名前のあるクラス自身と、その外側の名前のあるクラス）を求める
+     */
+    private static List<String> namedOwners(ClassFileInfo classInfo, Map<String, ClassFileInfo> classesByName) {
+        List<String> owners = new ArrayList<>();
+        Set<String> visited = new LinkedHashSet<>();
+        ClassFileInfo current = classInfo;
+        while (current != null && visited.add(current.name())) {
+            if (!current.simpleName().isEmpty()) {
+                owners.add(sourceClassName(current));
+            }
+            current = current.enclosingClass() != null ? classesByName.get(current.enclosingClass()) : null;
+        }
+        return owners;
+    }
+
+    /**
+     * クラス自身と外側のクラスのバイナリ名を求める
+     */
+    private static Set<String> enclosingNames(ClassFileInfo classInfo, Map<String, ClassFileInfo> classesByName) {
+        Set<String> names = new LinkedHashSet<>();
+        String name = classInfo.name();
+        while (name != null && names.add(name)) {
+            ClassFileInfo current = classesByName.get(name);
+            name = current != null ? current.enclosingClass() : null;
+        }
+        return names;
+    }
+
+    /**
+     * ソースの解析と同じ形式のクラス名（パッケージ名.簡易名、ネストしたクラスも簡易名）
+     */
+    private static String sourceClassName(ClassFileInfo classInfo) {
+        int separator = classInfo.name().lastIndexOf('.');
+        return separator >= 0 ? classInfo.name().substring(0, separator + 1) + classInfo.simpleName() : classInfo.simpleName();
+    }
+
+    private static void add(Set<ExtractedDependency> dependencies, String source, String binaryName, String kindCode) {
+        if (binaryName != null) {
+            // ネストしたクラスはソースの解析と同じ「パッケージ名.簡易名」形式でも対応付けられるようにする
+            int nestedSeparator = binaryName.lastIndexOf('$');
+            int packageSeparator = binaryName.lastIndexOf('.');
+            String nestedTarget = nestedSeparator > packageSeparator
+                    ? binaryName.substring(0, packageSeparator + 1) + binaryName.substring(nestedSeparator + 1)
+                    : null;
+            dependencies.add(new ExtractedDependency(source, binaryName.replace('$', '.'), nestedTarget, kindCode));
+        }
+    }
+
+    /**
+     * モジュールのコンパイル済みのソースファイル
+     * @param sources ソースファイルのパッケージからの相対パス（例: com/example/Foo.java） -> コンパイル済みのソースファイル
+     * @param classFileCount 読み取ったクラスファイルの数
+     */
+    public record CompiledSources(Map<String, CompiledSource> sources, int classFileCount) {
+
+        /**
+         * Javaファイルに対応するコンパイル済みのソースファイルを取得する
+         * @return コンパイル済みのソースファイル（クラスファイルがない場合・ソースファイルより古い場合はnull）
+         */
+        public CompiledSource find(Path javaFile) throws IOException {
+            String path = javaFile.toString().replace('\\', '/');
+            for (int separator = path.indexOf('/'); separator >= 0; separator = path.indexOf('/', separator + 1)) {
+                CompiledSource source = sources.get(path.substring(separator + 1));
+                if (source != null) {
+                    return source.lastModified() >= Files.getLastModifiedTime(javaFile).toMillis() ? source : null;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * コンパイル済みのソースファイル
+     * @param lastModified ソースファイルのクラスファイルのうち最も古い更新日時
+     */
+    public record CompiledSource(String sourcePath, long lastModified, List<ClassFileInfo> classes) {
+    }
+
+    /**
+     * 抽出した依存関係
+     * @param sourceClass 依存元（パッケージ名.簡易名）
+     * @param target 依存先の完全修飾名
+     * @param nestedTarget 依存先がネストしたクラスの場合の「パッケージ名.簡易名」（ネストしたクラスでない場合はnull）
+     */
+    public record ExtractedDependency(String sourceClass, String target, String nestedTarget, String kindCode) {
+    }
+}
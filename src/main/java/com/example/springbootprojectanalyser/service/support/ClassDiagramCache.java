@@ -0,0 +1,250 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramCacheStatsDto;
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramDto;
+import com.example.springbootprojectanalyser.model.dto.ClassInfoDto;
+import com.example.springbootprojectanalyser.model.dto.MemberInfoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * クラス図キャッシュコンポーネント
+ * 生成済みのクラス図をLRU方式で保持する（件数上限と重み上限の両方で追い出す）
+ * 事前生成したクラス図は全エンドポイント分を保持するため、LRUの上限の対象外の領域に保持する
+ * キーに解析世代を含むため、新しい解析の完了後は古い結果が参照されることはない
+ * ファイル単位の更新後は、変更されたクラスを含まないクラス図のみ新しい世代のキーで引き継ぐ
+ */
+@Component
+public class ClassDiagramCache {
+
+    private final int maxEntries;
+    private final long maxWeight;
+
+    /** アクセス順のLinkedHashMap（先頭が最も古い） */
+    private final LinkedHashMap<Key, CachedDiagram> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** 事前生成したクラス図（追い出さない。解析完了時に破棄する） */
+    private final Map<Key, CachedDiagram> precomputed = new HashMap<>();
+
+    private long totalWeight;
+    private long precomputedWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public ClassDiagramCache(
+            @Value("${classdiagram.cache.max-entries:256}") int maxEntries,
+            @Value("${classdiagram.cache.max-weight:33554432}") long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * キャッシュされたクラス図を取得する
+     * @param key キャッシュキー
+     * @return クラス図（存在しない場合はnull）
+     */
+    public synchronized ClassDiagramDto get(Key key) {
+        CachedDiagram cached = precomputed.get(key);
+        if (cached == null) {
+            cached = entries.get(key);
+        }
+        if (cached == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return cached.diagram();
+    }
+
+    /**
+     * クラス図をキャッシュに登録する
+     * 単体で重み上限を超えるクラス図は登録しない
+     * @param key キャッシュキー
+     * @param diagram クラス図
+     */
+    public synchronized void put(Key key, ClassDiagramDto diagram) {
+        long weight = weigh(diagram);
+        if (maxEntries <= 0 || weight > maxWeight || precomputed.containsKey(key)) {
+            return;
+        }
+        CachedDiagram previous = entries.put(key, new CachedDiagram(diagram, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+
+        // 上限を超えた分を古い順に追い出す
+        Iterator<CachedDiagram> iterator = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && iterator.hasNext()) {
+            totalWeight -= iterator.next().weight();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * 事前生成したクラス図を登録する（件数上限・重み上限による追い出しの対象外）
+     * @param key キャッシュキー
+     * @param diagram クラス図
+     */
+    public synchronized void putPrecomputed(Key key, ClassDiagramDto diagram) {
+        long weight = weigh(diagram);
+        CachedDiagram previous = precomputed.put(key, new CachedDiagram(diagram, weight));
+        if (previous != null) {
+            precomputedWeight -= previous.weight();
+        }
+        precomputedWeight += weight;
+        // LRU側に同じキーがある場合は二重に保持しない
+        CachedDiagram duplicate = entries.remove(key);
+        if (duplicate != null) {
+            totalWeight -= duplicate.weight();
+        }
+    }
+
+    /**
+     * 全てのエントリを破棄する（統計情報は保持する）
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+        precomputed.clear();
+        precomputedWeight = 0;
+    }
+
+    /**
+     * 解析完了時にキャッシュを破棄する
+     */
+    @TransactionalEventListener
+    public void onAnalysisCompleted(AnalysisCompletedEvent event) {
+        clear();
+    }
+
+    /**
+     * ファイル単位の更新時に、影響を受けるクラス図のみ破棄する
+     * 更新前の世代のクラス図のうち、変更されたクラスを含まないものは新しい世代のキーで引き継ぐ
+     * 事前生成したクラス図も同様に引き継ぐ（影響を受けたものは次回の生成時にLRU側に登録される）
+     */
+    @TransactionalEventListener
+    public synchronized void onAnalysisUpdated(AnalysisUpdatedEvent event) {
+        LinkedHashMap<Key, CachedDiagram> retained = new LinkedHashMap<>();
+        Map<Key, CachedDiagram> retainedPrecomputed = new HashMap<>();
+        int invalidatedCount = retain(entries, event, retained) + retain(precomputed, event, retainedPrecomputed);
+        // アクセス順を保って入れ替える（古い世代のエントリは参照されないため破棄する）
+        entries.clear();
+        totalWeight = 0;
+        for (Map.Entry<Key, CachedDiagram> entry : retained.entrySet()) {
+            entries.put(entry.getKey(), entry.getValue());
+            totalWeight += entry.getValue().weight();
+        }
+        precomputed.clear();
+        precomputedWeight = 0;
+        for (Map.Entry<Key, CachedDiagram> entry : retainedPrecomputed.entrySet()) {
+            precomputed.put(entry.getKey(), entry.getValue());
+            precomputedWeight += entry.getValue().weight();
+        }
+        System.out.println("Class diagram cache updated: retained=" + (retained.size() + retainedPrecomputed.size())
+                + ", invalidated=" + invalidatedCount);
+    }
+
+    /**
+     * 更新前の世代のクラス図のうち、変更されたクラスを含まないものを新しい世代のキーで格納する
+     * @return 破棄したクラス図の件数
+     */
+    private static int retain(Map<Key, CachedDiagram> source, AnalysisUpdatedEvent event, Map<Key, CachedDiagram> retained) {
+        int invalidatedCount = 0;
+        for (Map.Entry<Key, CachedDiagram> entry : source.entrySet()) {
+            Key key = entry.getKey();
+            if (!key.projectId().equals(event.projectId()) || key.generation() != event.previousGeneration()) {
+                continue;
+            }
+            if (containsAny(entry.getValue().diagram(), event.changedClasses())) {
+                invalidatedCount++;
+                continue;
+            }
+            retained.put(new Key(key.projectId(), key.startClassFqn(), key.endpointUri(), key.httpMethod(),
+                    key.maxDepth(), event.generation()), entry.getValue());
+        }
+        return invalidatedCount;
+    }
+
+    private static boolean containsAny(ClassDiagramDto diagram, Set<String> classNames) {
+        for (ClassInfoDto classInfo : diagram.targetClasses()) {
+            if (classNames.contains(classInfo.fullQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * キャッシュ統計情報を取得する
+     */
+    public synchronized ClassDiagramCacheStatsDto stats() {
+        long requestCount = hitCount + missCount;
+        double hitRate = requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        return new ClassDiagramCacheStatsDto(hitCount, missCount, hitRate, evictionCount,
+                entries.size(), totalWeight, maxEntries, maxWeight, precomputed.size(), precomputedWeight);
+    }
+
+    /**
+     * クラス図の重み（保持する文字列のおおよその文字数）を見積もる
+     */
+    static long weigh(ClassDiagramDto diagram) {
+        long weight = diagram.classDiagramText() != null ? diagram.classDiagramText().length() : 0;
+        for (ClassInfoDto classInfo : diagram.targetClasses()) {
+            weight += classInfo.fullQualifiedName().length() + classInfo.simpleName().length();
+        }
+        for (List<MemberInfoDto> members : diagram.classMemberMap().values()) {
+            for (MemberInfoDto member : members) {
+                weight += length(member.name()) + length(member.returnType());
+            }
+        }
+        for (Map<String, List<String>> targets : diagram.dependencyMap().values()) {
+            for (Map.Entry<String, List<String>> target : targets.entrySet()) {
+                weight += target.getKey().length();
+                for (String label : target.getValue()) {
+                    weight += label.length();
+                }
+            }
+        }
+        for (Map.Entry<String, String> filePath : diagram.classFilePaths().entrySet()) {
+            weight += filePath.getKey().length() + filePath.getValue().length();
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * キャッシュキー
+     * クラス図は起点クラスとURI・HTTPメソッドのみで決まるため、これらで識別する
+     * @param projectId プロジェクトID
+     * @param startClassFqn 起点クラスの完全修飾名
+     * @param endpointUri エンドポイントURI
+     * @param httpMethod HTTPメソッド
+     * @param maxDepth 依存関係の最大追跡深度
+     * @param generation 解析世代番号
+     */
+    public record Key(
+        Long projectId,
+        String startClassFqn,
+        String endpointUri,
+        String httpMethod,
+        int maxDepth,
+        long generation
+    ) {
+    }
+
+    private record CachedDiagram(ClassDiagramDto diagram, long weight) {
+    }
+}
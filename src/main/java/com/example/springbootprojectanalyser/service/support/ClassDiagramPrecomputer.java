@@ -0,0 +1,162 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.DiagramPrecomputeStatusDto;
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.service.ClassDiagramService;
+import com.example.springbootprojectanalyser.service.EndpointExtractionService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * クラス図事前生成コンポーネント
+ * 解析完了後（有効時のみ）に解析時に保存されたエンドポイント一覧を取得し、全エンドポイントのクラス図を
+ * 固定サイズのスレッドプールで並列に生成してクラス図キャッシュに格納する
+ * （LRUの上限で追い出されないよう、キャッシュの事前生成用の領域に格納する）
+ * 新しい解析が開始された場合は実行中の事前生成を中断する
+ */
+@Component
+public class ClassDiagramPrecomputer {
+
+    private final boolean enabled;
+    private final EndpointExtractionService endpointExtractionService;
+    private final ClassDiagramService classDiagramService;
+    private final AnalysisGenerationTracker generationTracker;
+
+    /** 事前生成全体を実行するスレッド（同時に1件のみ） */
+    private final ExecutorService coordinator;
+    /** クラス図を生成するスレッドプール */
+    private final ExecutorService workers;
+
+    private Future<?> currentRun;
+    private volatile DiagramPrecomputeStatusDto lastStatus;
+
+    public ClassDiagramPrecomputer(
+            @Value("${classdiagram.precompute.enabled:false}") boolean enabled,
+            @Value("${classdiagram.precompute.threads:4}") int threads,
+            EndpointExtractionService endpointExtractionService,
+            ClassDiagramService classDiagramService,
+            AnalysisGenerationTracker generationTracker) {
+        this.enabled = enabled;
+        this.endpointExtractionService = endpointExtractionService;
+        this.classDiagramService = classDiagramService;
+        this.generationTracker = generationTracker;
+        this.coordinator = Executors.newSingleThreadExecutor(daemonThreadFactory("diagram-precompute"));
+        this.workers = Executors.newFixedThreadPool(Math.max(threads, 1), daemonThreadFactory("diagram-precompute-worker"));
+    }
+
+    /**
+     * 解析開始時に実行中の事前生成を中断する（削除中のデータを参照させないため）
+     */
+    @EventListener
+    public void onAnalysisStarted(AnalysisStartedEvent event) {
+        cancelCurrentRun();
+    }
+
+    /**
+     * 解析完了（コミット後）に事前生成を開始する
+     */
+    @TransactionalEventListener
+    public synchronized void onAnalysisCompleted(AnalysisCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        cancelCurrentRun();
+        currentRun = coordinator.submit(() -> precompute(event));
+    }
+
+    /**
+     * 直近の事前生成のステータスを取得する
+     * @return ステータス（未実行の場合はnull）
+     */
+    public DiagramPrecomputeStatusDto getLastStatus() {
+        return lastStatus;
+    }
+
+    private synchronized void cancelCurrentRun() {
+        if (currentRun != null) {
+            currentRun.cancel(true);
+            currentRun = null;
+        }
+    }
+
+    private void precompute(AnalysisCompletedEvent event) {
+        long startTime = System.currentTimeMillis();
+        Long projectId = event.projectId();
+        long generation = event.generation();
+        lastStatus = new DiagramPrecomputeStatusDto(projectId, generation, "RUNNING", 0, 0, 0, 0L);
+
+        List<EndpointDto> endpoints;
+        try {
+            endpoints = endpointExtractionService.getEndpoints(projectId);
+        } catch (Exception e) {
+            System.err.println("Diagram precompute failed to load endpoints: " + e.getMessage());
+            lastStatus = new DiagramPrecomputeStatusDto(projectId, generation, "FAILED", 0, 0, 0,
+                    System.currentTimeMillis() - startTime);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (EndpointDto endpoint : endpoints) {
+            futures.add(workers.submit(() -> {
+                // 新しい解析が完了している場合は生成しない
+                if (generationTracker.current(projectId) == generation) {
+                    classDiagramService.precomputeClassDiagram(UUID.fromString(endpoint.endpointId()), projectId);
+                }
+            }));
+        }
+
+        int completedCount = 0;
+        int failedCount = 0;
+        String state = "COMPLETED";
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+                completedCount++;
+            } catch (InterruptedException | CancellationException e) {
+                // 中断された場合は残りのクラス図生成も取り消す
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                state = "CANCELLED";
+                break;
+            } catch (ExecutionException e) {
+                failedCount++;
+                System.err.println("Diagram precompute failed: " + e.getCause().getMessage());
+            }
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+        lastStatus = new DiagramPrecomputeStatusDto(projectId, generation, state, endpoints.size(),
+                completedCount, failedCount, elapsedMillis);
+        System.out.println("Diagram precompute " + state.toLowerCase() + ": endpoints=" + endpoints.size()
+                + ", completed=" + completedCount + ", failed=" + failedCount + " (" + elapsedMillis + "ms)");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.ColumnarEdgeStore;
+import com.example.springbootprojectanalyser.model.entity.DependencyKindEntity;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.ClassDependencyRepository;
+import com.example.springbootprojectanalyser.repository.ClassEntityRepository;
+import com.example.springbootprojectanalyser.repository.DependencyKindRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * クラス依存グラフインデックス管理コンポーネント
+ * 解析完了（コミット後）にグラフスナップショットを書き出し、プロジェクトのグラフインデックスとして保持する
+ * 保持中のインデックスが現在の解析世代と一致しない場合は再構築する
+ * グラフスナップショットがある場合はメモリマップして使用し、ない場合はデータベースから構築する
+ * 依存関係が列指向ストアに保存されている場合はストアから直接構築する
+ */
+@Component
+public class ClassGraphIndexRegistry {
+
+    /** プロジェクトID -> グラフインデックス */
+    private final Map<Long, ClassGraphIndex> indexes = new ConcurrentHashMap<>();
+
+    private final ProjectRepository projectRepository;
+    private final ClassEntityRepository classEntityRepository;
+    private final ClassDependencyRepository classDependencyRepository;
+    private final DependencyKindRepository dependencyKindRepository;
+    private final EdgeStoreRegistry edgeStoreRegistry;
+    private final GraphSnapshotRegistry graphSnapshotRegistry;
+    private final AnalysisGenerationTracker generationTracker;
+
+    public ClassGraphIndexRegistry(
+            ProjectRepository projectRepository,
+            ClassEntityRepository classEntityRepository,
+            ClassDependencyRepository classDependencyRepository,
+            DependencyKindRepository dependencyKindRepository,
+            EdgeStoreRegistry edgeStoreRegistry,
+            GraphSnapshotRegistry graphSnapshotRegistry,
+            AnalysisGenerationTracker generationTracker) {
+        this.projectRepository = projectRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.classDependencyRepository = classDependencyRepository;
+        this.dependencyKindRepository = dependencyKindRepository;
+        this.edgeStoreRegistry = edgeStoreRegistry;
+        this.graphSnapshotRegistry = graphSnapshotRegistry;
+        this.generationTracker = generationTracker;
+    }
+
+    /**
+     * 解析完了（コミット後）にグラフスナップショットを書き出し、メモリマップしたインデックスに入れ替える
+     * スナップショットを書き出せない場合は解析時に構築したインデックスをそのまま使用する
+     * 解析実行時に既存データは全て削除されるため、他プロジェクトのインデックスは破棄する
+     */
+    @TransactionalEventListener
+    public void onAnalysisCompleted(AnalysisCompletedEvent event) {
+        graphSnapshotRegistry.save(event.projectId(), event.projectPath(), event.graphIndex());
+        ClassGraphIndex index = graphSnapshotRegistry.open(event.projectId(), event.projectPath(), event.generation())
+                .orElse(event.graphIndex());
+        indexes.clear();
+        indexes.put(event.projectId(), index);
+    }
+
+    /**
+     * ファイル単位の更新時に、更新後のグラフインデックス（メモリ上で構築済み）に入れ替える
+     */
+    @TransactionalEventListener
+    public void onAnalysisUpdated(AnalysisUpdatedEvent event) {
+        indexes.put(event.projectId(), event.graphIndex());
+    }
+
+    /**
+     * プロジェクトのグラフインデックスを取得する（未構築または世代が古い場合は構築する）
+     * @param projectId プロジェクトID
+     * @return グラフインデックス
+     */
+    @Transactional(readOnly = true)
+    public ClassGraphIndex getIndex(Long projectId) {
+        long generation = generationTracker.current(projectId);
+        ClassGraphIndex index = indexes.get(projectId);
+        if (index != null && index.generation() == generation) {
+            return index;
+        }
+        index = load(projectId, generation);
+        indexes.put(projectId, index);
+        return index;
+    }
+
+    private ClassGraphIndex load(Long projectId, long generation) {
+        Project project = findProject(projectId);
+        Optional<ClassGraphIndex> snapshot = graphSnapshotRegistry.open(projectId, project.getRootPath(), generation);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        return build(project, generation);
+    }
+
+    /**
+     * データベース（または列指向ストア）からグラフインデックスを構築する
+     * 解析終了時のスナップショット作成に使用するため、保持中のインデックスは更新しない
+     * @param projectId プロジェクトID
+     * @param generation 解析世代
+     * @return グラフインデックス
+     */
+    public ClassGraphIndex build(Long projectId, long generation) {
+        return build(findProject(projectId), generation);
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+    }
+
+    private ClassGraphIndex build(Project project, long generation) {
+        long startTime = System.currentTimeMillis();
+        Long projectId = project.getId();
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(generation);
+        for (Object[] row : classEntityRepository.findIdAndNamesByProject(project)) {
+            builder.addNode((Long) row[0], (String) row[1], (String) row[2]);
+        }
+        Optional<ColumnarEdgeStore> edgeStore = edgeStoreRegistry.find(projectId, project.getRootPath(), generation);
+        if (edgeStore.isPresent()) {
+            addEdges(builder, edgeStore.get());
+        } else {
+            for (Object[] row : classDependencyRepository.findEdgesByProject(project)) {
+                builder.addEdge((Long) row[0], (Long) row[1], (String) row[2], (String) row[3]);
+            }
+        }
+        ClassGraphIndex index = builder.build();
+
+        System.out.println("Graph index built: nodes=" + index.nodeCount() + ", edges=" + index.edgeCount()
+                + ", kinds=" + index.kindCount() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return index;
+    }
+
+    private void addEdges(ClassGraphIndex.Builder builder, ColumnarEdgeStore edgeStore) {
+        Map<String, String> descriptions = dependencyKindRepository.findAll().stream()
+                .collect(Collectors.toMap(DependencyKindEntity::getCode, DependencyKindEntity::getDescription));
+        for (int edge = 0; edge < edgeStore.size(); edge++) {
+            long targetId = edgeStore.targetId(edge);
+            if (targetId == ColumnarEdgeStore.UNRESOLVED) {
+                continue;
+            }
+            String kindCode = edgeStore.kindCode(edgeStore.kind(edge));
+            builder.addEdge(edgeStore.sourceId(edge), targetId, kindCode, descriptions.get(kindCode));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.StronglyConnectedComponents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 依存関係の循環検出クラス
+ * クラス依存グラフ（またはクラスの依存関係をパッケージ単位にまとめたグラフ）を強連結成分分解し、
+ * 2件以上のノードからなる強連結成分を循環として検出する
+ * 自己依存（同一クラス・同一パッケージ内の依存）は循環として扱わない
+ */
+public class DependencyCycleDetector {
+
+    public static final String SCOPE_CLASS = "CLASS";
+    public static final String SCOPE_PACKAGE = "PACKAGE";
+
+    private DependencyCycleDetector() {
+    }
+
+    /**
+     * クラス単位の循環を検出する
+     * @param graph グラフインデックス
+     * @param kindFilter 正規化済みの依存種類フィルタ
+     * @return 循環（ノード数の多い順）
+     */
+    public static List<DetectedCycle> detectClassCycles(ClassGraphIndex graph, String kindFilter) {
+        BitSet edges = graph.outEdgesOfKinds(DependencyKindFilter.matchKinds(graph, kindFilter));
+        int nodeCount = graph.nodeCount();
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[edges.cardinality()];
+        int size = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            for (int e = edges.nextSetBit(graph.outStart(node)); e >= 0 && e < graph.outEnd(node); e = edges.nextSetBit(e + 1)) {
+                int target = graph.outTarget(e);
+                if (target != node) {
+                    targets[size++] = target;
+                }
+            }
+            offsets[node + 1] = size;
+        }
+        return detect(nodeCount, offsets, targets, graph::fullQualifiedName);
+    }
+
+    /**
+     * パッケージ単位の循環を検出する（クラスの依存関係を依存元・依存先のパッケージの依存関係として扱う）
+     * @param graph グラフインデックス
+     * @param packageByClassId クラスID -> パッケージ名（パッケージのないクラスは対象外）
+     * @param kindFilter 正規化済みの依存種類フィルタ
+     * @return 循環（ノード数の多い順）
+     */
+    public static List<DetectedCycle> detectPackageCycles(ClassGraphIndex graph, Map<Long, String> packageByClassId, String kindFilter) {
+        // クラスのノード番号 -> パッケージ番号
+        Map<String, Integer> packageNumbers = new HashMap<>();
+        List<String> packageNames = new ArrayList<>();
+        int[] packageOfNode = new int[graph.nodeCount()];
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            String packageName = packageByClassId.get(graph.classId(node));
+            if (packageName == null) {
+                packageOfNode[node] = -1;
+                continue;
+            }
+            packageOfNode[node] = packageNumbers.computeIfAbsent(packageName, name -> {
+                packageNames.add(name);
+                return packageNames.size() - 1;
+            });
+        }
+
+        // 計数ソートでパッケージ単位のCSR配列を構築する
+        BitSet edges = graph.outEdgesOfKinds(DependencyKindFilter.matchKinds(graph, kindFilter));
+        int packageCount = packageNames.size();
+        int[] offsets = new int[packageCount + 1];
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            int source = packageOfNode[node];
+            if (source < 0) {
+                continue;
+            }
+            for (int e = edges.nextSetBit(graph.outStart(node)); e >= 0 && e < graph.outEnd(node); e = edges.nextSetBit(e + 1)) {
+                int target = packageOfNode[graph.outTarget(e)];
+                if (target >= 0 && target != source) {
+                    offsets[source + 1]++;
+                }
+            }
+        }
+        for (int p = 0; p < packageCount; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        int[] targets = new int[offsets[packageCount]];
+        int[] cursor = Arrays.copyOf(offsets, packageCount);
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            int source = packageOfNode[node];
+            if (source < 0) {
+                continue;
+            }
+            for (int e = edges.nextSetBit(graph.outStart(node)); e >= 0 && e < graph.outEnd(node); e = edges.nextSetBit(e + 1)) {
+                int target = packageOfNode[graph.outTarget(e)];
+                if (target >= 0 && target != source) {
+                    targets[cursor[source]++] = target;
+                }
+            }
+        }
+        return detect(packageCount, offsets, targets, packageNames::get);
+    }
+
+    private static List<DetectedCycle> detect(int nodeCount, int[] offsets, int[] targets, IntFunction<String> names) {
+        StronglyConnectedComponents components = StronglyConnectedComponents.compute(nodeCount, offsets, targets);
+        List<DetectedCycle> cycles = new ArrayList<>();
+        int[] parent = new int[nodeCount];
+        Arrays.fill(parent, -1);
+        for (int component = 0; component < components.componentCount(); component++) {
+            if (components.size(component) < 2) {
+                continue;
+            }
+            int[] members = components.members(component);
+            int edgeCount = 0;
+            for (int member : members) {
+                for (int e = offsets[member]; e < offsets[member + 1]; e++) {
+                    if (components.componentOf(targets[e]) == component) {
+                        edgeCount++;
+                    }
+                }
+            }
+            // 循環の例は名前順で最初のノードから辿る
+            List<String> memberNames = new ArrayList<>(members.length);
+            int start = members[0];
+            String startName = null;
+            for (int member : members) {
+                String name = names.apply(member);
+                memberNames.add(name);
+                if (startName == null || name.compareTo(startName) < 0) {
+                    start = member;
+                    startName = name;
+                }
+            }
+            memberNames.sort(Comparator.naturalOrder());
+
+            List<String> examplePath = new ArrayList<>();
+            for (int node : shortestCycle(start, component, components, offsets, targets, parent)) {
+                examplePath.add(names.apply(node));
+            }
+            cycles.add(new DetectedCycle(memberNames, edgeCount, examplePath));
+        }
+        cycles.sort(Comparator.comparingInt((DetectedCycle cycle) -> cycle.members().size()).reversed()
+                .thenComparing(cycle -> cycle.members().get(0)));
+        return cycles;
+    }
+
+    /**
+     * 強連結成分内で開始ノードに戻る最短の経路を幅優先探索で求める
+     * parentは全要素が-1の作業用配列（呼び出し後も-1に戻す）
+     */
+    private static int[] shortestCycle(int start, int component, StronglyConnectedComponents components,
+            int[] offsets, int[] targets, int[] parent) {
+        int[] queue = new int[components.size(component)];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        parent[start] = start;
+        int last = -1;
+        while (head < tail && last < 0) {
+            int node = queue[head++];
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int target = targets[e];
+                if (target == start) {
+                    last = node;
+                    break;
+                }
+                if (parent[target] < 0 && components.componentOf(target) == component) {
+                    parent[target] = node;
+                    queue[tail++] = target;
+                }
+            }
+        }
+
+        // 開始ノード -> ... -> last -> 開始ノード
+        List<Integer> reversed = new ArrayList<>();
+        reversed.add(start);
+        for (int node = last; node != start; node = parent[node]) {
+            reversed.add(node);
+        }
+        reversed.add(start);
+        int[] path = new int[reversed.size()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = reversed.get(path.length - 1 - i);
+        }
+        for (int i = 0; i < tail; i++) {
+            parent[queue[i]] = -1;
+        }
+        return path;
+    }
+
+    /**
+     * 検出した循環
+     * @param members 循環を構成する名前（名前順）
+     * @param edgeCount 循環内の依存関係数
+     * @param examplePath 循環の一例（先頭と末尾が同じ）
+     */
+    public record DetectedCycle(List<String> members, int edgeCount, List<String> examplePath) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 依存種類フィルタ
+ * 依存種類コードのパターン（「*」は任意の文字列に一致）のカンマ区切り（例: 001_*,002_*）で
+ * グラフ探索の対象とする依存種類を指定する
+ */
+public class DependencyKindFilter {
+
+    /** 全ての依存種類を対象とする依存種類フィルタ */
+    public static final String ALL_KINDS = "*";
+
+    private DependencyKindFilter() {
+    }
+
+    /**
+     * 依存種類フィルタを正規化する（パターンの前後の空白を除き、重複を除いて名前順にカンマ区切りで連結する）
+     * @param kindFilter 依存種類コードのパターンのカンマ区切り
+     * @return 正規化した依存種類フィルタ（未指定または「*」を含む場合は「*」）
+     */
+    public static String normalize(String kindFilter) {
+        if (kindFilter == null || kindFilter.isBlank()) {
+            return ALL_KINDS;
+        }
+        TreeSet<String> patterns = new TreeSet<>();
+        for (String pattern : kindFilter.split(",")) {
+            String trimmed = pattern.trim();
+            if (trimmed.equals(ALL_KINDS)) {
+                return ALL_KINDS;
+            }
+            if (!trimmed.isEmpty()) {
+                patterns.add(trimmed);
+            }
+        }
+        return patterns.isEmpty() ? ALL_KINDS : String.join(",", patterns);
+    }
+
+    /**
+     * 依存種類フィルタに一致するグラフインデックスの依存種類IDの集合を求める
+     * @param graph グラフインデックス
+     * @param kindFilter 正規化済みの依存種類フィルタ
+     * @return 依存種類IDの集合
+     */
+    public static BitSet matchKinds(ClassGraphIndex graph, String kindFilter) {
+        BitSet kinds = new BitSet(graph.kindCount());
+        if (ALL_KINDS.equals(kindFilter)) {
+            kinds.set(0, graph.kindCount());
+            return kinds;
+        }
+        List<Pattern> patterns = new ArrayList<>();
+        for (String pattern : kindFilter.split(",")) {
+            patterns.add(toGlob(pattern));
+        }
+        for (int kind = 0; kind < graph.kindCount(); kind++) {
+            String kindCode = graph.kindCode(kind);
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(kindCode).matches()) {
+                    kinds.set(kind);
+                    break;
+                }
+            }
+        }
+        return kinds;
+    }
+
+    private static Pattern toGlob(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        String[] parts = pattern.split("\\*", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append(".*");
+            }
+            if (!parts[i].isEmpty()) {
+                regex.append(Pattern.quote(parts[i]));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ColumnarEdgeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 列指向依存関係ストア管理コンポーネント
+ * 依存関係の保存方式が列指向（analysis.edge-store.mode=columnar）の場合に、
+ * 解析で作成した依存関係ストアをバイナリファイルに書き出し、プロジェクトごとに保持する
+ * ファイルにはプロジェクトのルートパスと解析世代を記録し、読み込み時に一致しないファイルは使用しない
+ * （インメモリDBのプロジェクトIDはサーバ再起動で1から振り直されるため、ファイル名だけでは判別できない）
+ */
+@Component
+public class EdgeStoreRegistry {
+
+    private static final String FILE_SUFFIX = ".edges";
+    private static final long FILE_MAGIC = 0x5342454447454844L;
+
+    private final boolean columnar;
+    private final Path directory;
+
+    /** プロジェクトID -> 依存関係ストア */
+    private final Map<Long, StoredEdges> stores = new ConcurrentHashMap<>();
+
+    public EdgeStoreRegistry(
+            @Value("${analysis.edge-store.mode:jpa}") String mode,
+            @Value("${analysis.edge-store.directory:${java.io.tmpdir}/springbootprojectanalyser/edges}") String directory) {
+        if (!mode.equals("jpa") && !mode.equals("columnar")) {
+            throw new IllegalArgumentException("analysis.edge-store.modeにはjpaまたはcolumnarを指定してください: " + mode);
+        }
+        this.columnar = mode.equals("columnar");
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 依存関係を列指向ストアに保存するかどうか
+     */
+    public boolean isColumnar() {
+        return columnar;
+    }
+
+    /**
+     * 解析で作成した依存関係ストアを保存する
+     * 解析実行時に既存データは全て削除されるため、他プロジェクトのストアは破棄する
+     * 保存先のディレクトリは他のサーバと共有されうるため、削除するファイルはこのサーバが保存したプロジェクトのものに限る
+     * @param projectId プロジェクトID
+     * @param projectPath プロジェクトのルートパス
+     * @param generation 解析世代
+     * @param store 依存関係ストア（compact済み）
+     */
+    public void save(Long projectId, String projectPath, long generation, ColumnarEdgeStore store) {
+        for (Long previousProjectId : stores.keySet()) {
+            if (!previousProjectId.equals(projectId)) {
+                deleteQuietly(fileOf(previousProjectId));
+            }
+        }
+        stores.clear();
+        stores.put(projectId, new StoredEdges(projectPath, generation, store));
+        try {
+            Files.createDirectories(directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fileOf(projectId))))) {
+                out.writeLong(FILE_MAGIC);
+                out.writeUTF(projectPath);
+                out.writeLong(generation);
+                store.writeTo(out);
+            }
+        } catch (IOException e) {
+            // ファイルに書き出せない場合もメモリ上のストアは利用できる
+            System.err.println("Failed to write edge store: " + fileOf(projectId) + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * プロジェクトの依存関係ストアを取得する（メモリ上にない場合はファイルから読み込む）
+     * @param projectId プロジェクトID
+     * @param projectPath プロジェクトのルートパス（保存時と異なる場合は使用しない）
+     * @param generation 解析世代（保存時と異なる場合は使用しない）
+     * @return 依存関係ストア（列指向で保存されていない場合は空）
+     */
+    public Optional<ColumnarEdgeStore> find(Long projectId, String projectPath, long generation) {
+        if (!columnar) {
+            return Optional.empty();
+        }
+        StoredEdges stored = stores.get(projectId);
+        if (stored == null) {
+            stored = read(fileOf(projectId));
+            if (stored == null) {
+                return Optional.empty();
+            }
+        }
+        if (!stored.projectPath().equals(projectPath) || stored.generation() != generation) {
+            System.err.println("Edge store mismatch: project=" + projectId + " (stored=" + stored.projectPath() + "@"
+                    + stored.generation() + ", current=" + projectPath + "@" + generation + ")");
+            return Optional.empty();
+        }
+        stores.put(projectId, stored);
+        return Optional.of(stored.store());
+    }
+
+    private StoredEdges read(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readLong() != FILE_MAGIC) {
+                throw new IOException("依存関係ストアファイルの形式が不正です");
+            }
+            String projectPath = in.readUTF();
+            long generation = in.readLong();
+            return new StoredEdges(projectPath, generation, ColumnarEdgeStore.readFrom(in));
+        } catch (IOException e) {
+            System.err.println("Failed to read edge store: " + file + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete edge store: " + file + " - " + e.getMessage());
+        }
+    }
+
+    private Path fileOf(Long projectId) {
+        return directory.resolve("project-" + projectId + FILE_SUFFIX);
+    }
+
+    /**
+     * 保持中の依存関係ストア（作成元のプロジェクトと解析世代を含む）
+     */
+    private record StoredEdges(String projectPath, long generation, ColumnarEdgeStore store) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * エンドポイント検出クラス
+ * 解析時に共有のASTからコントローラクラスのリクエストマッピングを検出する
+ */
+public class EndpointDetector {
+
+    private static final Set<String> CONTROLLER_ANNOTATIONS = Set.of(
+        "Controller", "RestController", "org.springframework.stereotype.Controller",
+        "org.springframework.web.bind.annotation.RestController"
+    );
+
+    private static final Set<String> MAPPING_ANNOTATIONS = Set.of(
+        "GetMapping", "PostMapping", "PutMapping", "DeleteMapping", "PatchMapping", "RequestMapping",
+        "org.springframework.web.bind.annotation.GetMapping",
+        "org.springframework.web.bind.annotation.PostMapping",
+        "org.springframework.web.bind.annotation.PutMapping",
+        "org.springframework.web.bind.annotation.DeleteMapping",
+        "org.springframework.web.bind.annotation.PatchMapping",
+        "org.springframework.web.bind.annotation.RequestMapping"
+    );
+
+    private EndpointDetector() {
+    }
+
+    /**
+     * コントローラクラスのエンドポイントを検出する
+     * @param classDecl クラス宣言
+     * @param classFqn クラスの完全修飾名
+     * @param projectRootPath プロジェクトのルートパス（エンドポイントIDの生成に使用）
+     * @return 検出したエンドポイント（コントローラでない場合は空）
+     */
+    public static List<DetectedEndpoint> detect(ClassOrInterfaceDeclaration classDecl, String classFqn, String projectRootPath) {
+        List<DetectedEndpoint> endpoints = new ArrayList<>();
+        if (!isController(classDecl)) {
+            return endpoints;
+        }
+
+        // クラスレベルのRequestMappingを取得
+        String basePath = getBasePath(classDecl);
+
+        // メソッドレベルのマッピングを処理
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (MethodDeclaration method : classDecl.getMethods()) {
+            for (AnnotationExpr ann : method.getAnnotations()) {
+                String annName = ann.getNameAsString();
+                if (MAPPING_ANNOTATIONS.contains(annName) || annName.endsWith("Mapping")) {
+                    String httpMethod = determineHttpMethod(annName);
+                    String fullPath = combinePaths(basePath, extractPathFromAnnotation(ann));
+
+                    // プロジェクト・クラス・ハンドラメソッド・HTTPメソッド・URIから決定的なIDを生成する
+                    // （同一解析結果に対しては常に同じIDとなり、再抽出による振り直しが発生しない）
+                    String identity = projectRootPath + "|" + classFqn + "#" + method.getDeclarationAsString(false, false, false)
+                            + "|" + httpMethod + " " + fullPath;
+                    int occurrence = occurrences.merge(identity, 1, Integer::sum);
+                    String endpointId = UUID.nameUUIDFromBytes((identity + "|" + occurrence).getBytes(StandardCharsets.UTF_8)).toString();
+
+                    endpoints.add(new DetectedEndpoint(endpointId, fullPath, httpMethod));
+                }
+            }
+        }
+        return endpoints;
+    }
+
+    private static boolean isController(ClassOrInterfaceDeclaration classDecl) {
+        return classDecl.getAnnotations().stream()
+            .anyMatch(ann -> {
+                String name = ann.getNameAsString();
+                return CONTROLLER_ANNOTATIONS.contains(name) ||
+                       name.endsWith("Controller") ||
+                       name.endsWith("RestController");
+            });
+    }
+
+    private static String getBasePath(ClassOrInterfaceDeclaration classDecl) {
+        return classDecl.getAnnotations().stream()
+            .filter(ann -> ann.getNameAsString().equals("RequestMapping") ||
+                          ann.getNameAsString().endsWith("RequestMapping"))
+            .findFirst()
+            .map(EndpointDetector::extractPathFromAnnotation)
+            .orElse("");
+    }
+
+    private static String determineHttpMethod(String annotationName) {
+        if (annotationName.contains("GetMapping") || annotationName.endsWith("GetMapping")) {
+            return "GET";
+        } else if (annotationName.contains("PostMapping") || annotationName.endsWith("PostMapping")) {
+            return "POST";
+        } else if (annotationName.contains("PutMapping") || annotationName.endsWith("PutMapping")) {
+            return "PUT";
+        } else if (annotationName.contains("DeleteMapping") || annotationName.endsWith("DeleteMapping")) {
+            return "DELETE";
+        } else if (annotationName.contains("PatchMapping") || annotationName.endsWith("PatchMapping")) {
+            return "PATCH";
+        } else {
+            return "GET"; // RequestMappingのデフォルト
+        }
+    }
+
+    private static String extractPathFromAnnotation(AnnotationExpr ann) {
+        if (ann instanceof SingleMemberAnnotationExpr) {
+            SingleMemberAnnotationExpr singleAnn = (SingleMemberAnnotationExpr) ann;
+            if (singleAnn.getMemberValue() instanceof StringLiteralExpr) {
+                return ((StringLiteralExpr) singleAnn.getMemberValue()).getValue();
+            }
+        } else if (ann instanceof NormalAnnotationExpr) {
+            NormalAnnotationExpr normalAnn = (NormalAnnotationExpr) ann;
+            Optional<MemberValuePair> valuePair = normalAnn.getPairs().stream()
+                .filter(pair -> pair.getNameAsString().equals("value") ||
+                               pair.getNameAsString().equals("path"))
+                .findFirst();
+
+            if (valuePair.isPresent() && valuePair.get().getValue() instanceof StringLiteralExpr) {
+                return ((StringLiteralExpr) valuePair.get().getValue()).getValue();
+            }
+        }
+        return "";
+    }
+
+    private static String combinePaths(String basePath, String path) {
+        if (basePath.isEmpty()) {
+            return path.isEmpty() ? "/" : path;
+        }
+        if (path.isEmpty()) {
+            return basePath;
+        }
+        String combined = basePath + path;
+        return combined.replaceAll("/+", "/");
+    }
+
+    /**
+     * 検出したエンドポイント
+     * @param endpointId エンドポイントID（決定的に生成）
+     * @param uri URI
+     * @param httpMethod HTTPメソッド名
+     */
+    public record DetectedEndpoint(String endpointId, String uri, String httpMethod) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.model.entity.Endpoint;
+import com.example.springbootprojectanalyser.repository.EndpointRepository;
+import com.example.springbootprojectanalyser.util.RouteTrie;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * エンドポイントルートインデックス管理コンポーネント
+ * 解析完了（コミット後）にプロジェクトのエンドポイントからURIルートトライを構築して保持する
+ * 保持中のインデックスが現在の解析世代と一致しない場合は再構築する
+ */
+@Component
+public class EndpointRouteIndexRegistry {
+
+    /** プロジェクトID -> ルートインデックス */
+    private final Map<Long, RouteIndex> indexes = new ConcurrentHashMap<>();
+
+    private final EndpointRepository endpointRepository;
+    private final AnalysisGenerationTracker generationTracker;
+
+    public EndpointRouteIndexRegistry(
+            EndpointRepository endpointRepository,
+            AnalysisGenerationTracker generationTracker) {
+        this.endpointRepository = endpointRepository;
+        this.generationTracker = generationTracker;
+    }
+
+    /**
+     * 解析完了時にルートインデックスを構築する
+     * 解析実行時に既存データは全て削除されるため、他プロジェクトのインデックスは破棄する
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAnalysisCompleted(AnalysisCompletedEvent event) {
+        indexes.clear();
+        indexes.put(event.projectId(), new RouteIndex(event.generation(), load(event.projectId())));
+    }
+
+    /**
+     * ファイル単位の更新時にルートインデックスを構築し直す
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAnalysisUpdated(AnalysisUpdatedEvent event) {
+        indexes.put(event.projectId(), new RouteIndex(event.generation(), load(event.projectId())));
+    }
+
+    /**
+     * プロジェクトのルートトライを取得する（未構築または世代が古い場合は構築する）
+     * 値は保存済みのエンドポイント一覧の順（クラス完全修飾名、URI、HTTPメソッド順）に登録される
+     * @param projectId プロジェクトID
+     * @return ルートトライ
+     */
+    @Transactional(readOnly = true)
+    public RouteTrie<EndpointDto> getIndex(Long projectId) {
+        long generation = generationTracker.current(projectId);
+        RouteIndex index = indexes.get(projectId);
+        if (index != null && index.generation() == generation) {
+            return index.trie();
+        }
+        index = new RouteIndex(generation, load(projectId));
+        indexes.put(projectId, index);
+        return index.trie();
+    }
+
+    private RouteTrie<EndpointDto> load(Long projectId) {
+        long startTime = System.currentTimeMillis();
+        RouteTrie.Builder<EndpointDto> builder = RouteTrie.builder();
+        for (Endpoint endpoint : endpointRepository.findByProjectIdOrdered(projectId)) {
+            EndpointDto dto = new EndpointDto(
+                endpoint.getEndpointId(),
+                endpoint.getClassEntity().getId(),
+                endpoint.getClassEntity().getSimpleName(),
+                endpoint.getUri(),
+                endpoint.getHttpMethod().getId(),
+                endpoint.getHttpMethod().getMethodName()
+            );
+            builder.add(dto.uri(), dto.httpMethodName(), dto);
+        }
+        RouteTrie<EndpointDto> trie = builder.build();
+
+        System.out.println("Route index built: routes=" + trie.size()
+                + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return trie;
+    }
+
+    private record RouteIndex(long generation, RouteTrie<EndpointDto> trie) {
+    }
+}
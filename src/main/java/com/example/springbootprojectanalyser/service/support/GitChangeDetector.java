@@ -0,0 +1,152 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gitの変更ファイル検出コンポーネント
+ * プロジェクトのローカルリポジトリ（.gitディレクトリ）に対してgitコマンドを実行し、
+ * 基準リビジョンから作業ツリーまでに変更されたファイルを求める（リモートには接続しない）
+ */
+@Component
+public class GitChangeDetector {
+
+    /** 変更ファイルの状態 */
+    public static final String ADDED = "A";
+    public static final String MODIFIED = "M";
+    public static final String DELETED = "D";
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final String gitExecutable;
+
+    public GitChangeDetector(@Value("${analysis.git.executable:git}") String gitExecutable) {
+        this.gitExecutable = gitExecutable;
+    }
+
+    /**
+     * 基準リビジョンから作業ツリーまでの変更ファイルを求める（コミット済み・未コミット・未追跡のファイルを含む）
+     * @param projectRoot プロジェクトのルートパス（リポジトリのサブディレクトリでもよい）
+     * @param baseRef 基準リビジョン（ブランチ名、タグ名、コミットIDなど）
+     * @return 変更ファイル（パスはプロジェクトのルートパスからの相対パス）
+     */
+    public GitChanges detectChanges(Path projectRoot, String baseRef) {
+        if (baseRef == null || baseRef.isBlank()) {
+            throw new IllegalArgumentException("基準リビジョンを指定してください");
+        }
+        String ref = baseRef.trim();
+        // オプションとして解釈されないようにする
+        if (ref.startsWith("-")) {
+            throw new IllegalArgumentException("基準リビジョンが不正です: " + ref);
+        }
+
+        GitResult revParse = run(projectRoot, "rev-parse", "--verify", "--quiet", ref + "^{commit}");
+        if (revParse.exitCode() != 0) {
+            GitResult insideWorkTree = run(projectRoot, "rev-parse", "--is-inside-work-tree");
+            if (insideWorkTree.exitCode() != 0) {
+                throw new IllegalArgumentException("Gitリポジトリではありません: " + projectRoot);
+            }
+            throw new IllegalArgumentException("基準リビジョンが見つかりません: " + ref);
+        }
+        String baseCommit = revParse.output().trim();
+
+        // パスはプロジェクトのルートパスからの相対パス（ルートパス外の変更は含まない）
+        Map<String, String> changes = new LinkedHashMap<>();
+        GitResult diff = run(projectRoot, "diff", "--name-status", "--no-renames", "--relative", "-z", baseCommit, "--");
+        if (diff.exitCode() != 0) {
+            throw new IllegalArgumentException("変更ファイルを取得できません: " + ref);
+        }
+        String[] entries = diff.output().split("\0");
+        for (int i = 0; i + 1 < entries.length; i += 2) {
+            String status = entries[i].isEmpty() ? MODIFIED : entries[i].substring(0, 1);
+            changes.put(entries[i + 1], status.equals(ADDED) || status.equals(DELETED) ? status : MODIFIED);
+        }
+        GitResult untracked = run(projectRoot, "ls-files", "--others", "--exclude-standard", "-z");
+        if (untracked.exitCode() == 0) {
+            for (String path : untracked.output().split("\0")) {
+                if (!path.isEmpty()) {
+                    changes.put(path, ADDED);
+                }
+            }
+        }
+
+        List<ChangedFile> files = new ArrayList<>();
+        changes.forEach((path, status) -> files.add(new ChangedFile(path, status)));
+        return new GitChanges(baseCommit, files);
+    }
+
+    /**
+     * 作業ツリーのHEADのコミットIDを取得する
+     * @param projectRoot プロジェクトのルートパス（リポジトリのサブディレクトリでもよい）
+     * @return コミットID（Gitリポジトリでない、コミットがない、gitコマンドを実行できない場合は空）
+     */
+    public Optional<String> headCommit(Path projectRoot) {
+        try {
+            GitResult revParse = run(projectRoot, "rev-parse", "--verify", "--quiet", "HEAD^{commit}");
+            return revParse.exitCode() == 0 ? Optional.of(revParse.output().trim()) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private GitResult run(Path directory, String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(gitExecutable);
+        command.addAll(List.of(arguments));
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        // 認証の入力待ちにならないようにする
+        builder.environment().put("GIT_TERMINAL_PROMPT", "0");
+        try {
+            Process process = builder.start();
+            byte[] output;
+            try (InputStream in = process.getInputStream()) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                in.transferTo(buffer);
+                output = buffer.toByteArray();
+            }
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalArgumentException("gitコマンドがタイムアウトしました: " + String.join(" ", command));
+            }
+            return new GitResult(process.exitValue(), new String(output, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("gitコマンドを実行できません: " + gitExecutable + " - " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException("gitコマンドの実行が中断されました", e);
+        }
+    }
+
+    private record GitResult(int exitCode, String output) {
+    }
+
+    /**
+     * 変更ファイル
+     * @param path プロジェクトのルートパスからの相対パス（区切り文字は「/」）
+     * @param status 状態（A: 追加、M: 変更、D: 削除）
+     */
+    public record ChangedFile(String path, String status) {
+    }
+
+    /**
+     * 基準リビジョンからの変更
+     * @param baseCommit 基準リビジョンのコミットID
+     * @param files 変更ファイル
+     */
+    public record GitChanges(String baseCommit, List<ChangedFile> files) {
+    }
+}
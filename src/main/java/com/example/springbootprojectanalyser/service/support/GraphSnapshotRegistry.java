@@ -0,0 +1,266 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.GraphSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * グラフスナップショット管理コンポーネント
+ * 解析のコミット後にクラス依存グラフのスナップショットファイルを書き出し、
+ * グラフインデックスの構築時にはスナップショットをメモリマップして使用する
+ * スナップショットには解析世代を記録し、現在の解析世代と一致しないスナップショット（書き出しに失敗した場合の
+ * 以前の解析のスナップショット、同じプロジェクトIDを再利用した別の解析のスナップショット等）は使用しない
+ * 解析間の差分を求められるよう、プロジェクト（ルートパス）ごとに直近の一定件数のスナップショットを保持する
+ * 出力先ディレクトリ全体のファイル数にも上限を設け、ルートパスが存在しなくなったプロジェクトのスナップショットは削除する
+ */
+@Component
+public class GraphSnapshotRegistry {
+
+    private static final String FILE_SUFFIX = ".graph";
+
+    private final boolean enabled;
+    private final Path directory;
+    /** プロジェクトごとに保持するスナップショット数 */
+    private final int history;
+    /** 全プロジェクトで保持するスナップショット数の上限 */
+    private final int maxFiles;
+
+    public GraphSnapshotRegistry(
+            @Value("${analysis.graph-snapshot.enabled:true}") boolean enabled,
+            @Value("${analysis.graph-snapshot.directory:${java.io.tmpdir}/springbootprojectanalyser/snapshots}") String directory,
+            @Value("${analysis.graph-snapshot.history:10}") int history,
+            @Value("${analysis.graph-snapshot.max-files:100}") int maxFiles) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.history = Math.max(history, 1);
+        this.maxFiles = Math.max(maxFiles, 1);
+    }
+
+    /**
+     * グラフスナップショットを使用するかどうか
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * グラフスナップショットを書き出す
+     * プロジェクト（ルートパス）ごと・全体それぞれで新しい順に保持件数を超えたスナップショットは削除する
+     * メモリマップ中のファイルは上書きできない環境があるため、書き出しごとに新しいファイル名を使用する
+     * @param projectId プロジェクトID
+     * @param projectPath プロジェクトのルートパス
+     * @param index グラフインデックス
+     */
+    public void save(Long projectId, String projectPath, ClassGraphIndex index) {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        Path file = directory.resolve("project-" + projectId + "-" + startTime + FILE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            GraphSnapshot.write(index, projectPath, file);
+            System.out.println("Graph snapshot written: " + file + " (" + Files.size(file) + " bytes, "
+                    + (System.currentTimeMillis() - startTime) + "ms)");
+        } catch (IOException e) {
+            // 書き出せない場合はデータベースからグラフインデックスを構築する
+            System.err.println("Failed to write graph snapshot: " + file + " - " + e.getMessage());
+            deleteQuietly(file);
+        }
+        deleteExpired();
+    }
+
+    /**
+     * プロジェクトのグラフスナップショットの一覧を取得する
+     * @param projectPath プロジェクトのルートパス
+     * @return スナップショットの一覧（新しい順）
+     */
+    public List<SnapshotFile> list(String projectPath) {
+        List<SnapshotFile> result = new ArrayList<>();
+        for (SnapshotFile snapshot : listAll()) {
+            if (snapshot.projectPath().equals(projectPath)) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * スナップショットIDを指定してグラフスナップショットを開く
+     * @param projectPath プロジェクトのルートパス
+     * @param snapshotId スナップショットID
+     * @return メモリマップしたグラフインデックス（スナップショットがない場合は空）
+     */
+    public Optional<ClassGraphIndex> open(String projectPath, long snapshotId) {
+        for (SnapshotFile snapshot : list(projectPath)) {
+            if (snapshot.snapshotId() == snapshotId) {
+                try {
+                    return Optional.of(GraphSnapshot.open(snapshot.file()).index());
+                } catch (IOException e) {
+                    System.err.println("Failed to open graph snapshot: " + snapshot.file() + " - " + e.getMessage());
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * プロジェクトの最新のグラフスナップショットを開く
+     * @param projectId プロジェクトID
+     * @param projectPath プロジェクトのルートパス（スナップショット作成時と異なる場合は使用しない）
+     * @param generation 解析世代（スナップショット作成時と異なる場合は使用しない）
+     * @return メモリマップしたグラフインデックス（スナップショットがない場合は空）
+     */
+    public Optional<ClassGraphIndex> open(Long projectId, String projectPath, long generation) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<Path> file = findLatest(projectId);
+        if (file.isEmpty()) {
+            return Optional.empty();
+        }
+        long startTime = System.currentTimeMillis();
+        GraphSnapshot snapshot;
+        try {
+            snapshot = GraphSnapshot.open(file.get());
+        } catch (IOException e) {
+            System.err.println("Failed to open graph snapshot: " + file.get() + " - " + e.getMessage());
+            return Optional.empty();
+        }
+        if (!snapshot.projectPath().equals(projectPath)) {
+            return Optional.empty();
+        }
+        if (snapshot.generation() != generation) {
+            System.err.println("Graph snapshot generation mismatch: " + file.get() + " (snapshot=" + snapshot.generation()
+                    + ", current=" + generation + ")");
+            return Optional.empty();
+        }
+        ClassGraphIndex index = snapshot.index();
+        System.out.println("Graph snapshot opened: nodes=" + index.nodeCount() + ", edges=" + index.edgeCount()
+                + ", kinds=" + index.kindCount() + " (" + (System.currentTimeMillis() - startTime) + "ms)");
+        return Optional.of(index);
+    }
+
+    /**
+     * 全てのグラフスナップショットを新しい順に取得する（読み込めないファイルは削除する）
+     */
+    private List<SnapshotFile> listAll() {
+        List<SnapshotFile> result = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return result;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "project-*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long time;
+                try {
+                    time = Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - FILE_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    // 命名規則に合わないファイルは無視する
+                    continue;
+                }
+                try {
+                    GraphSnapshot.Header header = GraphSnapshot.readHeader(file);
+                    result.add(new SnapshotFile(time, file, header.projectPath(), header.nodeCount(), header.edgeCount(),
+                            header.generation()));
+                } catch (IOException e) {
+                    System.err.println("Failed to read graph snapshot: " + file + " - " + e.getMessage());
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to list graph snapshots: " + directory + " - " + e.getMessage());
+        }
+        result.sort(Comparator.comparingLong(SnapshotFile::snapshotId).reversed());
+        return result;
+    }
+
+    /**
+     * 保持件数を超えた古いスナップショットと、ルートパスが存在しなくなったプロジェクトのスナップショットを削除する
+     */
+    private void deleteExpired() {
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, Boolean> existingPaths = new HashMap<>();
+        int kept = 0;
+        for (SnapshotFile snapshot : listAll()) {
+            boolean exists = existingPaths.computeIfAbsent(snapshot.projectPath(), path -> Files.isDirectory(Paths.get(path)));
+            if (!exists || counts.merge(snapshot.projectPath(), 1, Integer::sum) > history || kept >= maxFiles) {
+                deleteQuietly(snapshot.file());
+            } else {
+                kept++;
+            }
+        }
+    }
+
+    private Optional<Path> findLatest(Long projectId) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        String prefix = "project-" + projectId + "-";
+        Path latest = null;
+        long latestTime = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    long time = Long.parseLong(name.substring(prefix.length(), name.length() - FILE_SUFFIX.length()));
+                    if (time > latestTime) {
+                        latest = file;
+                        latestTime = time;
+                    }
+                } catch (NumberFormatException e) {
+                    // 命名規則に合わないファイルは無視する
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to list graph snapshots: " + directory + " - " + e.getMessage());
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // メモリマップ中で削除できない場合は次回の書き出し時に削除する
+            System.err.println("Failed to delete graph snapshot: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * グラフスナップショットファイル
+     * @param snapshotId スナップショットID（書き出し時刻のエポックミリ秒）
+     * @param file ファイル
+     * @param projectPath プロジェクトのルートパス
+     * @param nodeCount クラス数
+     * @param edgeCount 依存関係数
+     * @param generation 解析世代
+     */
+    public record SnapshotFile(long snapshotId, Path file, String projectPath, int nodeCount, int edgeCount,
+                               long generation) {
+
+        /**
+         * 書き出し日時を取得する
+         */
+        public LocalDateTime createdAt() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshotId), ZoneId.systemDefault());
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * JARファイルのオートコンフィグ走査コンポーネント
+ * JARファイルのZIPセントラルディレクトリのみを読み取ってMETA-INF/spring.factoriesと
+ * META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.importsを探し、該当するエントリのみを展開する
+ * 走査結果はセントラルディレクトリのSHA-256（全エントリのCRC-32を含むため、JARの内容が変わると変わる）をキーとしてLRU方式で保持する
+ */
+@Component
+public class JarAutoConfigurationScanner {
+
+    public static final String SPRING_FACTORIES = "META-INF/spring.factories";
+    public static final String AUTO_CONFIGURATION_IMPORTS = "META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports";
+
+    private static final String ENABLE_AUTO_CONFIGURATION = "org.springframework.boot.autoconfigure.EnableAutoConfiguration";
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final long ZIP64_MAGIC = 0xffffffffL;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private final int maxEntries;
+
+    /** セントラルディレクトリのSHA-256 -> 走査結果（アクセス順、先頭が最も古い） */
+    private final LinkedHashMap<String, JarAutoConfigurations> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public JarAutoConfigurationScanner(@Value("${analysis.autoconfig.jar-cache.max-entries:2048}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * JARファイルのオートコンフィグクラスを取得する
+     * @param jarPath JARファイルのパス
+     * @return オートコンフィグクラス（読み取れない場合は空）
+     */
+    public JarAutoConfigurations scan(Path jarPath) {
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            ByteBuffer centralDirectory = readCentralDirectory(channel);
+            String checksum = sha256(centralDirectory.duplicate());
+            synchronized (this) {
+                JarAutoConfigurations cached = entries.get(checksum);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            JarAutoConfigurations scanned = scanEntries(jarPath, channel, centralDirectory);
+            synchronized (this) {
+                entries.put(checksum, scanned);
+                while (entries.size() > maxEntries) {
+                    entries.remove(entries.keySet().iterator().next());
+                }
+            }
+            return scanned;
+        } catch (IOException | DataFormatException e) {
+            System.err.println("Failed to scan jar: " + jarPath + " - " + e.getMessage());
+            return JarAutoConfigurations.EMPTY;
+        }
+    }
+
+    /**
+     * 保持している走査結果の件数を取得する
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * spring.factoriesのEnableAutoConfigurationに指定されたクラスを取得する
+     * @param content ファイル内容
+     * @return オートコンフィグクラス（宣言順）
+     */
+    public static List<String> readSpringFactories(byte[] content) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        List<String> classes = new ArrayList<>();
+        String value = properties.getProperty(ENABLE_AUTO_CONFIGURATION);
+        if (value != null) {
+            // カンマ区切りで複数のクラスが指定されている場合がある
+            for (String className : value.split(",")) {
+                if (!className.isBlank()) {
+                    classes.add(className.trim());
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * AutoConfiguration.importsに指定されたクラスを取得する（1行に1クラス、「#」以降はコメント）
+     * @param content ファイル内容
+     * @return オートコンフィグクラス（宣言順）
+     */
+    public static List<String> readAutoConfigurationImports(byte[] content) {
+        List<String> classes = new ArrayList<>();
+        for (String line : new String(content, StandardCharsets.UTF_8).split("\\R")) {
+            int comment = line.indexOf('#');
+            String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (!className.isEmpty()) {
+                classes.add(className);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 末尾のセントラルディレクトリ終端レコード（ZIP64の場合はZIP64終端レコード）からセントラルディレクトリを読み込む
+     */
+    private static ByteBuffer readCentralDirectory(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tailSize = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE + ZIP64_LOCATOR_SIZE);
+        ByteBuffer tail = read(channel, size - tailSize, tailSize);
+        int end = -1;
+        for (int position = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY) {
+                end = position;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new IOException("ZIP形式ではありません");
+        }
+        long directorySize = Integer.toUnsignedLong(tail.getInt(end + 12));
+        long directoryOffset = Integer.toUnsignedLong(tail.getInt(end + 16));
+        if (directoryOffset == ZIP64_MAGIC || directorySize == ZIP64_MAGIC) {
+            int locator = end - ZIP64_LOCATOR_SIZE;
+            if (locator < 0 || tail.getInt(locator) != ZIP64_LOCATOR) {
+                throw new IOException("ZIP64終端レコードが見つかりません");
+            }
+            ByteBuffer zip64End = read(channel, tail.getLong(locator + 8), 56);
+            if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                throw new IOException("ZIP64終端レコードが不正です");
+            }
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+        if (directorySize > Integer.MAX_VALUE || directoryOffset + directorySize > size) {
+            throw new IOException("セントラルディレクトリが不正です");
+        }
+        return read(channel, directoryOffset, (int) directorySize);
+    }
+
+    /**
+     * セントラルディレクトリから対象のエントリを探し、該当するエントリのみを展開する
+     */
+    private static JarAutoConfigurations scanEntries(Path jarPath, FileChannel channel, ByteBuffer centralDirectory)
+            throws IOException, DataFormatException {
+        byte[] factoriesName = SPRING_FACTORIES.getBytes(StandardCharsets.UTF_8);
+        byte[] importsName = AUTO_CONFIGURATION_IMPORTS.getBytes(StandardCharsets.UTF_8);
+        List<String> factoriesClasses = List.of();
+        List<String> importedClasses = List.of();
+        int position = 0;
+        while (position + 46 <= centralDirectory.limit() && centralDirectory.getInt(position) == CENTRAL_DIRECTORY_HEADER) {
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(centralDirectory.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort(position + 32));
+            boolean factories = nameEquals(centralDirectory, position + 46, nameLength, factoriesName);
+            boolean imports = !factories && nameEquals(centralDirectory, position + 46, nameLength, importsName);
+            if (factories || imports) {
+                byte[] content = readEntry(jarPath, channel, centralDirectory, position, factories ? SPRING_FACTORIES : AUTO_CONFIGURATION_IMPORTS);
+                if (factories) {
+                    factoriesClasses = readSpringFactories(content);
+                } else {
+                    importedClasses = readAutoConfigurationImports(content);
+                }
+            }
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return new JarAutoConfigurations(List.copyOf(factoriesClasses), List.copyOf(importedClasses));
+    }
+
+    /**
+     * セントラルディレクトリのヘッダが示すエントリを展開する（CRC-32で内容を検証する）
+     * ZIP64のサイズ・オフセットを持つエントリはZipFileで読み込む
+     */
+    private static byte[] readEntry(Path jarPath, FileChannel channel, ByteBuffer centralDirectory, int header, String name)
+            throws IOException, DataFormatException {
+        int method = Short.toUnsignedInt(centralDirectory.getShort(header + 10));
+        long crc = Integer.toUnsignedLong(centralDirectory.getInt(header + 16));
+        long compressedSize = Integer.toUnsignedLong(centralDirectory.getInt(header + 20));
+        long size = Integer.toUnsignedLong(centralDirectory.getInt(header + 24));
+        long localHeaderOffset = Integer.toUnsignedLong(centralDirectory.getInt(header + 42));
+        if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+            try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+                ZipEntry entry = zipFile.getEntry(name);
+                return entry != null ? zipFile.getInputStream(entry).readAllBytes() : new byte[0];
+            }
+        }
+        ByteBuffer localHeader = read(channel, localHeaderOffset, 30);
+        if (localHeader.getInt(0) != LOCAL_FILE_HEADER) {
+            throw new IOException("ローカルファイルヘッダが不正です: " + name);
+        }
+        long dataOffset = localHeaderOffset + 30
+                + Short.toUnsignedInt(localHeader.getShort(26)) + Short.toUnsignedInt(localHeader.getShort(28));
+        byte[] compressed = new byte[(int) compressedSize];
+        read(channel, dataOffset, (int) compressedSize).get(compressed);
+
+        byte[] content;
+        if (method == STORED) {
+            content = compressed;
+        } else if (method == DEFLATED) {
+            content = new byte[(int) size];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(compressed);
+                int length = 0;
+                while (length < content.length && !inflater.finished()) {
+                    int inflated = inflater.inflate(content, length, content.length - length);
+                    if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    length += inflated;
+                }
+            } finally {
+                inflater.end();
+            }
+        } else {
+            throw new IOException("未対応の圧縮方式です: " + method + " (" + name + ")");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if (checksum.getValue() != crc) {
+            throw new IOException("CRC-32が一致しません: " + name);
+        }
+        return content;
+    }
+
+    private static boolean nameEquals(ByteBuffer buffer, int offset, int length, byte[] name) {
+        if (length != name.length || offset + length > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("ファイルの終端に達しました");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static String sha256(ByteBuffer content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * JARファイルのオートコンフィグクラス
+     * @param springFactories META-INF/spring.factoriesのEnableAutoConfigurationに指定されたクラス
+     * @param autoConfigurationImports META-INF/spring/...AutoConfiguration.importsに指定されたクラス
+     */
+    public record JarAutoConfigurations(List<String> springFactories, List<String> autoConfigurationImports) {
+
+        static final JarAutoConfigurations EMPTY = new JarAutoConfigurations(List.of(), List.of());
+
+        /**
+         * 両方のファイルのクラスを重複なく取得する（spring.factoriesのクラスが先）
+         */
+        public Set<String> allClasses() {
+            Set<String> classes = new LinkedHashSet<>(springFactories);
+            classes.addAll(autoConfigurationImports);
+            return classes;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenArtifact;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenModel;
+import com.example.springbootprojectanalyser.service.support.MavenPomIndex.PomSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maven依存関係解決コンポーネント
+ * ローカルリポジトリ（~/.m2/repository）のPOMのみを参照して推移的な依存関係をオフラインで解決する
+ * Mavenと同様に、深さの浅い依存関係（同じ深さでは先に宣言された依存関係）を採用し、
+ * ルートの依存関係管理（インポートしたBOMを含む）のバージョン・除外と、経路上の除外を適用する
+ * POMの読み込みは深さごとに並列に行い、解決結果はPOMインデックスに保存して次回以降の解析で再利用する
+ */
+@Component
+public class MavenDependencyResolver {
+
+    private static final String SCOPE_COMPILE = "compile";
+    private static final String SCOPE_RUNTIME = "runtime";
+    private static final String SCOPE_IMPORT = "import";
+
+    private final BuildModelCache buildModelCache;
+    private final MavenPomIndex pomIndex;
+    private final boolean enabled;
+    private final Path repository;
+    private final int threads;
+
+    public MavenDependencyResolver(
+            BuildModelCache buildModelCache,
+            MavenPomIndex pomIndex,
+            @Value("${analysis.maven.transitive.enabled:true}") boolean enabled,
+            @Value("${analysis.maven.repository:${user.home}/.m2/repository}") String repository,
+            @Value("${analysis.maven.transitive.threads:4}") int threads) {
+        this.buildModelCache = buildModelCache;
+        this.pomIndex = pomIndex;
+        this.enabled = enabled;
+        this.repository = Paths.get(repository);
+        this.threads = Math.max(threads, 1);
+    }
+
+    /**
+     * 推移的な依存関係を解決するかどうか（無効の場合・ローカルリポジトリがない場合は解決しない）
+     */
+    public boolean isEnabled() {
+        return enabled && Files.isDirectory(repository);
+    }
+
+    /**
+     * プロジェクトのpom.xmlの実効モデルを取得する
+     * 解決が有効な場合は、ローカルリポジトリの親POMの継承とBOMのインポートを行った依存関係管理でバージョンを補う
+     * @param pomPath pom.xmlのパス
+     * @return 実効モデル（読み取れない場合はnull）
+     */
+    public MavenModel effectiveModel(Path pomPath) {
+        if (!isEnabled()) {
+            return buildModelCache.mavenModel(pomPath);
+        }
+        MavenModel model = buildModelCache.mavenModel(pomPath, this::pomPath);
+        if (model == null) {
+            return null;
+        }
+        Session session = new Session(null);
+        Map<String, MavenDependency> management = importBoms(model.managedDependencies(), new ArrayList<>(), new HashSet<>(), session);
+        return new MavenModel(model.pomPath(), model.groupId(), model.artifactId(), model.version(), model.packaging(),
+                model.parent(), model.localParents(), model.properties(), model.modules(),
+                applyManagement(model.dependencies(), management), List.copyOf(management.values()));
+    }
+
+    /**
+     * 推移的な依存関係を解決する
+     * @param dependencies 直接の依存関係
+     * @param managedDependencies ルートの依存関係管理（推移的な依存関係のバージョン・除外に適用する）
+     * @return 依存関係ツリー（深さ優先の順、直接の依存関係の深さは1）
+     */
+    public List<ResolvedDependency> resolve(List<MavenDependency> dependencies, List<MavenDependency> managedDependencies) {
+        if (!isEnabled() || dependencies.isEmpty()) {
+            return List.of();
+        }
+        long startTime = System.currentTimeMillis();
+        Map<String, MavenDependency> management = new LinkedHashMap<>();
+        managedDependencies.forEach(dependency -> management.putIfAbsent(dependency.managementKey(), dependency));
+
+        ExecutorService executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        Session session = new Session(executor);
+        List<Node> roots = new ArrayList<>();
+        try {
+            // 深さごとに（幅優先で）解決する（先に採用されたgroupId:artifactIdは以降の深さでは採用しない）
+            Set<String> selected = new HashSet<>();
+            List<Node> level = new ArrayList<>();
+            for (MavenDependency dependency : dependencies) {
+                if (dependency.groupId() != null && dependency.artifactId() != null && selected.add(versionlessKey(dependency))) {
+                    Node node = new Node(dependency, dependency.scope(), 1, null, new LinkedHashSet<>(dependency.exclusions()));
+                    roots.add(node);
+                    level.add(node);
+                }
+            }
+            while (!level.isEmpty()) {
+                session.loadAll(level);
+                List<Node> next = new ArrayList<>();
+                for (Node node : level) {
+                    PomSummary summary = session.summary(node.dependency);
+                    node.resolved = summary != null;
+                    if (summary == null) {
+                        continue;
+                    }
+                    for (MavenDependency child : summary.dependencies()) {
+                        String scope = mediateScope(node.scope, child.scope());
+                        if (scope == null || child.optional() || child.groupId() == null || child.artifactId() == null
+                                || isExcluded(node.exclusions, child) || selected.contains(versionlessKey(child))) {
+                            continue;
+                        }
+                        MavenDependency managed = management.get(child.managementKey());
+                        Set<String> exclusions = new LinkedHashSet<>(node.exclusions);
+                        exclusions.addAll(child.exclusions());
+                        MavenDependency effective = child;
+                        if (managed != null) {
+                            exclusions.addAll(managed.exclusions());
+                            if (managed.version() != null) {
+                                effective = withVersion(child, managed.version());
+                            }
+                            if (managed.scope() != null && !managed.scope().equals(SCOPE_IMPORT)) {
+                                scope = managed.scope();
+                            }
+                        }
+                        selected.add(versionlessKey(child));
+                        Node childNode = new Node(effective, scope, node.depth + 1, node, exclusions);
+                        node.children.add(childNode);
+                        next.add(childNode);
+                    }
+                }
+                level = next;
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        pomIndex.save();
+
+        List<ResolvedDependency> result = new ArrayList<>();
+        roots.forEach(root -> flatten(root, result));
+        System.out.println("Transitive dependencies resolved: " + result.size() + " (poms=" + session.summaries.size()
+                + ", index hits=" + session.indexHits.get() + ", parsed=" + session.parsedCount.get()
+                + ", missing=" + session.missingCount.get() + ", " + (System.currentTimeMillis() - startTime) + "ms)");
+        return result;
+    }
+
+    /**
+     * 解決した依存関係のJARファイルのパスを求める
+     * @param dependency 解決した依存関係
+     * @return ローカルリポジトリのJARファイルのパス（ファイルがない場合はnull）
+     */
+    public Path artifactPath(ResolvedDependency dependency) {
+        if (!isResolvable(dependency.groupId(), dependency.artifactId(), dependency.version())) {
+            return null;
+        }
+        String fileName = dependency.artifactId() + "-" + dependency.version()
+                + (dependency.classifier() != null ? "-" + dependency.classifier() : "") + ".jar";
+        Path path = repository.resolve(dependency.groupId().replace('.', '/'))
+                .resolve(dependency.artifactId())
+                .resolve(dependency.version())
+                .resolve(fileName);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    /**
+     * ローカルリポジトリのPOMのパスを求める
+     * @return POMのパス（座標が不完全な場合・ファイルがない場合はnull）
+     */
+    private Path pomPath(MavenArtifact artifact) {
+        if (!isResolvable(artifact.groupId(), artifact.artifactId(), artifact.version())) {
+            return null;
+        }
+        Path path = repository.resolve(artifact.groupId().replace('.', '/'))
+                .resolve(artifact.artifactId())
+                .resolve(artifact.version())
+                .resolve(artifact.artifactId() + "-" + artifact.version() + ".pom");
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    /**
+     * ローカルリポジトリのPOMを読み込み、依存関係管理（インポートしたBOMを含む）で依存関係のバージョンを補った解決結果を求める
+     * 解決結果はPOMインデックスに保存する
+     */
+    private PomSummary loadSummary(String groupId, String artifactId, String version, Set<String> visiting, Session session) {
+        String coordinates = groupId + ":" + artifactId + ":" + version;
+        Optional<PomSummary> loaded = session.summaries.get(coordinates);
+        if (loaded != null) {
+            return loaded.orElse(null);
+        }
+        if (!visiting.add(coordinates)) {
+            return null;
+        }
+        PomSummary summary = pomIndex.get(coordinates);
+        if (summary != null) {
+            session.indexHits.incrementAndGet();
+        } else {
+            Path pomPath = pomPath(new MavenArtifact(groupId, artifactId, version));
+            MavenModel model = pomPath != null ? buildModelCache.mavenModel(pomPath, this::pomPath) : null;
+            if (model == null) {
+                session.missingCount.incrementAndGet();
+            } else {
+                session.parsedCount.incrementAndGet();
+                List<Path> files = new ArrayList<>();
+                files.add(pomPath);
+                files.addAll(model.localParents());
+                Map<String, MavenDependency> management = importBoms(model.managedDependencies(), files, visiting, session);
+                summary = new PomSummary(model.groupId(), model.artifactId(), model.version(), model.packaging(),
+                        applyManagement(model.dependencies(), management), List.copyOf(management.values()));
+                pomIndex.put(coordinates, files, summary);
+            }
+        }
+        visiting.remove(coordinates);
+        session.summaries.put(coordinates, Optional.ofNullable(summary));
+        return summary;
+    }
+
+    /**
+     * 依存関係管理のBOMのインポート（scope=import）を展開する
+     * 宣言された依存関係管理が優先され、インポートしたBOM同士では先に宣言されたBOMが優先される
+     * @param files 解決に使用したファイル（インポートしたBOMのPOMを追加する）
+     */
+    private Map<String, MavenDependency> importBoms(List<MavenDependency> managedDependencies, List<Path> files,
+                                                    Set<String> visiting, Session session) {
+        Map<String, MavenDependency> management = new LinkedHashMap<>();
+        List<MavenDependency> imports = new ArrayList<>();
+        for (MavenDependency dependency : managedDependencies) {
+            if (SCOPE_IMPORT.equals(dependency.scope()) && "pom".equals(dependency.type())) {
+                imports.add(dependency);
+            } else {
+                management.putIfAbsent(dependency.managementKey(), dependency);
+            }
+        }
+        for (MavenDependency bom : imports) {
+            PomSummary summary = loadSummary(bom.groupId(), bom.artifactId(), bom.version(), visiting, session);
+            if (summary == null) {
+                continue;
+            }
+            Path bomPath = pomPath(new MavenArtifact(bom.groupId(), bom.artifactId(), bom.version()));
+            if (bomPath != null) {
+                files.add(bomPath);
+            }
+            summary.managedDependencies().forEach(dependency -> management.putIfAbsent(dependency.managementKey(), dependency));
+        }
+        return management;
+    }
+
+    /**
+     * バージョンが未指定の依存関係に依存関係管理のバージョン・除外を適用する
+     */
+    private static List<MavenDependency> applyManagement(List<MavenDependency> dependencies, Map<String, MavenDependency> management) {
+        List<MavenDependency> result = new ArrayList<>();
+        for (MavenDependency dependency : dependencies) {
+            MavenDependency managed = management.get(dependency.managementKey());
+            if (dependency.version() == null && managed != null && managed.version() != null) {
+                List<String> exclusions = new ArrayList<>(dependency.exclusions());
+                managed.exclusions().stream().filter(exclusion -> !exclusions.contains(exclusion)).forEach(exclusions::add);
+                dependency = new MavenDependency(dependency.groupId(), dependency.artifactId(), managed.version(), dependency.type(),
+                        dependency.classifier(), dependency.scope(), dependency.optional(), List.copyOf(exclusions));
+            }
+            result.add(dependency);
+        }
+        return result;
+    }
+
+    /**
+     * 推移的な依存関係のスコープを求める（推移しない場合はnull）
+     * compileの依存関係は依存元のスコープ、runtimeの依存関係はruntime（依存元がprovided・testの場合は依存元のスコープ）となり、
+     * provided・test・systemの依存関係は推移しない
+     */
+    private static String mediateScope(String parentScope, String scope) {
+        if (SCOPE_COMPILE.equals(scope)) {
+            return parentScope;
+        }
+        if (SCOPE_RUNTIME.equals(scope)) {
+            return SCOPE_COMPILE.equals(parentScope) ? SCOPE_RUNTIME : parentScope;
+        }
+        return null;
+    }
+
+    /**
+     * 経路上の除外（groupId:artifactId形式、「*」はすべてに一致）に一致するかどうか
+     */
+    private static boolean isExcluded(Set<String> exclusions, MavenDependency dependency) {
+        for (String exclusion : exclusions) {
+            int separator = exclusion.indexOf(':');
+            String groupId = separator >= 0 ? exclusion.substring(0, separator) : exclusion;
+            String artifactId = separator >= 0 ? exclusion.substring(separator + 1) : "*";
+            if ((groupId.equals("*") || groupId.equals(dependency.groupId()))
+                    && (artifactId.equals("*") || artifactId.equals(dependency.artifactId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isResolvable(String groupId, String artifactId, String version) {
+        return groupId != null && artifactId != null && version != null
+                && !(groupId + artifactId + version).contains("${")
+                && !version.startsWith("[") && !version.startsWith("(");
+    }
+
+    private static String versionlessKey(MavenDependency dependency) {
+        return dependency.groupId() + ":" + dependency.artifactId();
+    }
+
+    private static MavenDependency withVersion(MavenDependency dependency, String version) {
+        return new MavenDependency(dependency.groupId(), dependency.artifactId(), version, dependency.type(),
+                dependency.classifier(), dependency.scope(), dependency.optional(), dependency.exclusions());
+    }
+
+    private static void flatten(Node node, List<ResolvedDependency> result) {
+        MavenDependency dependency = node.dependency;
+        String parent = node.parent != null
+                ? node.parent.dependency.groupId() + ":" + node.parent.dependency.artifactId()
+                        + (node.parent.dependency.version() != null ? ":" + node.parent.dependency.version() : "")
+                : null;
+        result.add(new ResolvedDependency(dependency.groupId(), dependency.artifactId(), dependency.version(),
+                dependency.classifier(), node.scope, dependency.optional(), node.depth, parent, node.resolved));
+        node.children.forEach(child -> flatten(child, result));
+    }
+
+    /**
+     * 1回の解決で読み込んだPOMの解決結果（並列に読み込むためスレッドセーフなマップで保持する）
+     */
+    private class Session {
+
+        private final ExecutorService executor;
+        private final Map<String, Optional<PomSummary>> summaries = new ConcurrentHashMap<>();
+        private final AtomicInteger indexHits = new AtomicInteger();
+        private final AtomicInteger parsedCount = new AtomicInteger();
+        private final AtomicInteger missingCount = new AtomicInteger();
+
+        Session(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * 同じ深さの依存関係のPOMを並列に読み込む
+         */
+        void loadAll(List<Node> nodes) {
+            Set<String> pending = new LinkedHashSet<>();
+            List<MavenDependency> targets = new ArrayList<>();
+            for (Node node : nodes) {
+                MavenDependency dependency = node.dependency;
+                String coordinates = dependency.groupId() + ":" + dependency.artifactId() + ":" + dependency.version();
+                if (!summaries.containsKey(coordinates) && pending.add(coordinates)) {
+                    targets.add(dependency);
+                }
+            }
+            if (executor == null || targets.size() <= 1) {
+                targets.forEach(this::summary);
+                return;
+            }
+            List<Future<PomSummary>> futures = new ArrayList<>();
+            for (MavenDependency dependency : targets) {
+                futures.add(executor.submit(() -> summary(dependency)));
+            }
+            for (Future<PomSummary> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("依存関係の解決が中断されました", e);
+                } catch (ExecutionException e) {
+                    System.err.println("Failed to load pom: " + e.getCause().getMessage());
+                }
+            }
+        }
+
+        PomSummary summary(MavenDependency dependency) {
+            if (!isResolvable(dependency.groupId(), dependency.artifactId(), dependency.version())) {
+                return null;
+            }
+            return loadSummary(dependency.groupId(), dependency.artifactId(), dependency.version(), new HashSet<>(), this);
+        }
+    }
+
+    private static class Node {
+
+        private final MavenDependency dependency;
+        private final String scope;
+        private final int depth;
+        private final Node parent;
+        private final Set<String> exclusions;
+        private final List<Node> children = new ArrayList<>();
+        private boolean resolved;
+
+        Node(MavenDependency dependency, String scope, int depth, Node parent, Set<String> exclusions) {
+            this.dependency = dependency;
+            this.scope = scope;
+            this.depth = depth;
+            this.parent = parent;
+            this.exclusions = exclusions;
+        }
+    }
+
+    /**
+     * 解決した依存関係
+     * @param scope 推移後のスコープ
+     * @param depth 深さ（直接の依存関係は1）
+     * @param parent 依存元（groupId:artifactId:version形式、直接の依存関係はnull）
+     * @param resolved ローカルリポジトリでPOMが見つかったかどうか（見つからない場合は推移的な依存関係を含まない）
+     */
+    public record ResolvedDependency(
+            String groupId,
+            String artifactId,
+            String version,
+            String classifier,
+            String scope,
+            boolean optional,
+            int depth,
+            String parent,
+            boolean resolved) {
+    }
+}
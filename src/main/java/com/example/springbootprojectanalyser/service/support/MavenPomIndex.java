@@ -0,0 +1,265 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ローカルリポジトリのPOMインデックスコンポーネント
+ * ローカルリポジトリのPOMを解決した結果（依存関係・依存関係管理）を、解決に使用したファイル（POM・親POM・インポートしたBOM）の
+ * サイズ・更新日時とともにファイルに保存し、次回以降の解析ではファイルが変わっていなければPOMを読み取らずに使用する
+ */
+@Component
+public class MavenPomIndex {
+
+    private static final long MAGIC = 0x53424d56504f4d00L;
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    /** groupId:artifactId:version -> 解決結果 */
+    private final Map<String, IndexedPom> entries = new ConcurrentHashMap<>();
+    private boolean loaded;
+    private volatile boolean dirty;
+
+    public MavenPomIndex(
+            @Value("${analysis.maven.index-file:${java.io.tmpdir}/springbootprojectanalyser/maven-pom-index.bin}") String file) {
+        this.file = Paths.get(file);
+    }
+
+    /**
+     * 解決結果を取得する（解決に使用したファイルが変わっている場合は取得しない）
+     * @param coordinates groupId:artifactId:version
+     * @return 解決結果（ない場合・ファイルが変わっている場合はnull）
+     */
+    public PomSummary get(String coordinates) {
+        load();
+        IndexedPom indexed = entries.get(coordinates);
+        if (indexed == null) {
+            return null;
+        }
+        for (SourceFile sourceFile : indexed.files()) {
+            if (!sourceFile.isCurrent()) {
+                entries.remove(coordinates, indexed);
+                dirty = true;
+                return null;
+            }
+        }
+        return indexed.summary();
+    }
+
+    /**
+     * 解決結果を登録する
+     * @param coordinates groupId:artifactId:version
+     * @param files 解決に使用したファイル
+     * @param summary 解決結果
+     */
+    public void put(String coordinates, List<Path> files, PomSummary summary) {
+        load();
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (Path path : files) {
+            SourceFile sourceFile = SourceFile.of(path);
+            if (sourceFile == null) {
+                return;
+            }
+            sourceFiles.add(sourceFile);
+        }
+        entries.put(coordinates, new IndexedPom(List.copyOf(sourceFiles), summary));
+        dirty = true;
+    }
+
+    /**
+     * 登録件数を取得する
+     */
+    public int size() {
+        load();
+        return entries.size();
+    }
+
+    /**
+     * 変更があればインデックスファイルに書き出す（一時ファイルに書き出してから置き換える）
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeLong(MAGIC);
+                out.writeInt(VERSION);
+                List<Map.Entry<String, IndexedPom>> snapshot = new ArrayList<>(entries.entrySet());
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, IndexedPom> entry : snapshot) {
+                    out.writeUTF(entry.getKey());
+                    writeEntry(out, entry.getValue());
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            System.err.println("Failed to write maven pom index: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * インデックスファイルを読み込む（初回のみ、読み込めない場合は空のインデックスから開始する）
+     */
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readLong() != MAGIC || in.readInt() != VERSION) {
+                System.err.println("Ignoring incompatible maven pom index: " + file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                entries.put(in.readUTF(), readEntry(in));
+            }
+            System.out.println("Maven pom index loaded: " + file + " (" + count + " poms)");
+        } catch (NoSuchFileException e) {
+            // 初回はインデックスファイルがない
+        } catch (IOException e) {
+            System.err.println("Failed to read maven pom index: " + file + " - " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, IndexedPom indexed) throws IOException {
+        out.writeInt(indexed.files().size());
+        for (SourceFile sourceFile : indexed.files()) {
+            out.writeUTF(sourceFile.path());
+            out.writeLong(sourceFile.size());
+            out.writeLong(sourceFile.lastModified());
+        }
+        PomSummary summary = indexed.summary();
+        writeNullable(out, summary.groupId());
+        writeNullable(out, summary.artifactId());
+        writeNullable(out, summary.version());
+        writeNullable(out, summary.packaging());
+        writeDependencies(out, summary.dependencies());
+        writeDependencies(out, summary.managedDependencies());
+    }
+
+    private static IndexedPom readEntry(DataInputStream in) throws IOException {
+        int fileCount = in.readInt();
+        List<SourceFile> files = new ArrayList<>(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            files.add(new SourceFile(in.readUTF(), in.readLong(), in.readLong()));
+        }
+        PomSummary summary = new PomSummary(readNullable(in), readNullable(in), readNullable(in), readNullable(in),
+                readDependencies(in), readDependencies(in));
+        return new IndexedPom(List.copyOf(files), summary);
+    }
+
+    private static void writeDependencies(DataOutputStream out, List<MavenDependency> dependencies) throws IOException {
+        out.writeInt(dependencies.size());
+        for (MavenDependency dependency : dependencies) {
+            writeNullable(out, dependency.groupId());
+            writeNullable(out, dependency.artifactId());
+            writeNullable(out, dependency.version());
+            writeNullable(out, dependency.type());
+            writeNullable(out, dependency.classifier());
+            writeNullable(out, dependency.scope());
+            out.writeBoolean(dependency.optional());
+            out.writeInt(dependency.exclusions().size());
+            for (String exclusion : dependency.exclusions()) {
+                out.writeUTF(exclusion);
+            }
+        }
+    }
+
+    private static List<MavenDependency> readDependencies(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<MavenDependency> dependencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String groupId = readNullable(in);
+            String artifactId = readNullable(in);
+            String version = readNullable(in);
+            String type = readNullable(in);
+            String classifier = readNullable(in);
+            String scope = readNullable(in);
+            boolean optional = in.readBoolean();
+            int exclusionCount = in.readInt();
+            List<String> exclusions = new ArrayList<>(exclusionCount);
+            for (int j = 0; j < exclusionCount; j++) {
+                exclusions.add(in.readUTF());
+            }
+            dependencies.add(new MavenDependency(groupId, artifactId, version, type, classifier, scope, optional, List.copyOf(exclusions)));
+        }
+        return List.copyOf(dependencies);
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * ローカルリポジトリのPOMの解決結果
+     * @param dependencies 依存関係（依存関係管理・プロパティで解決済み）
+     * @param managedDependencies 依存関係管理（インポートしたBOMの依存関係管理を含む）
+     */
+    public record PomSummary(
+            String groupId,
+            String artifactId,
+            String version,
+            String packaging,
+            List<MavenDependency> dependencies,
+            List<MavenDependency> managedDependencies) {
+    }
+
+    private record IndexedPom(List<SourceFile> files, PomSummary summary) {
+    }
+
+    /**
+     * 解決に使用したファイル（サイズ・更新日時で変更を検出する）
+     */
+    private record SourceFile(String path, long size, long lastModified) {
+
+        static SourceFile of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new SourceFile(path.toString(), attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        boolean isCurrent() {
+            SourceFile current = of(Paths.get(path));
+            return current != null && current.size == size && current.lastModified == lastModified;
+        }
+    }
+}
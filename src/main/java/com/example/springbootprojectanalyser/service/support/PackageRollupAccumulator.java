@@ -0,0 +1,235 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.entity.ClassEntity;
+import com.example.springbootprojectanalyser.model.entity.PackageDependencyKindRollup;
+import com.example.springbootprojectanalyser.model.entity.PackageInfo;
+import com.example.springbootprojectanalyser.model.entity.PackageRollup;
+
+import java.util.*;
+
+/**
+ * パッケージ集計アキュムレータ
+ * 解析中に依存関係の書き込みと並行してパッケージ単位の件数を加算し、
+ * 解析完了時にパッケージ階層をたどってサブパッケージを含めた合計値を算出する
+ * ファイル単位の再解析では、影響を受けるパッケージの件数を保存済みの依存関係から集計し直し、保存済みの集計に差分を反映する
+ * （パッケージが追加・削除された場合は、保存済みの依存関係の集計件数を加算して全体を集計し直す）
+ * 1回の解析実行ごとに生成して使用する（スレッドセーフではない）
+ */
+public class PackageRollupAccumulator {
+
+    /** パッケージID -> 件数 */
+    private final Map<Long, Counter> counters = new HashMap<>();
+
+    /**
+     * 依存関係1件を加算する
+     * @param sourceClass 依存元クラス
+     * @param targetClass 依存先クラス（プロジェクト外の場合はnull）
+     * @param kindCode 依存種類コード
+     */
+    public void recordDependency(ClassEntity sourceClass, ClassEntity targetClass, String kindCode) {
+        PackageInfo sourcePackage = sourceClass.getPackageInfo();
+        if (sourcePackage != null) {
+            Counter counter = counter(sourcePackage.getId());
+            counter.outgoing++;
+            counter.kindCounts.merge(kindCode, 1L, Long::sum);
+        }
+        if (targetClass != null && targetClass.getPackageInfo() != null) {
+            counter(targetClass.getPackageInfo().getId()).incoming++;
+        }
+    }
+
+    /**
+     * 依存元パッケージ・依存種類ごとの依存関係件数を加算する
+     * @param packageId 依存元クラスのパッケージID
+     * @param kindCode 依存種類コード
+     * @param count 件数
+     */
+    public void recordOutgoingCount(Long packageId, String kindCode, long count) {
+        Counter counter = counter(packageId);
+        counter.outgoing += count;
+        counter.kindCounts.merge(kindCode, count, Long::sum);
+    }
+
+    /**
+     * 依存先パッケージごとの依存関係件数を加算する
+     * @param packageId 依存先クラスのパッケージID
+     * @param count 件数
+     */
+    public void recordIncomingCount(Long packageId, long count) {
+        counter(packageId).incoming += count;
+    }
+
+    /**
+     * クラス1件を加算する（同一パッケージ内の同名クラスは1件として数える）
+     * @param classEntity クラス
+     */
+    public void recordClass(ClassEntity classEntity) {
+        if (classEntity.getPackageInfo() != null) {
+            Counter counter = counter(classEntity.getPackageInfo().getId());
+            if (counter.classNames.add(classEntity.getSimpleName())) {
+                counter.classCount++;
+            }
+        }
+    }
+
+    /**
+     * パッケージ階層をたどって集計エンティティを生成する
+     * 親パッケージ（parentPackage）は事前に設定済みであること
+     * @param packages プロジェクト内の全パッケージ
+     * @return 集計結果
+     */
+    public Result rollUp(Collection<PackageInfo> packages) {
+        // 深い階層から順に処理し、子の合計を親へ加算する
+        List<PackageInfo> ordered = new ArrayList<>(packages);
+        ordered.sort(Comparator.comparingInt(PackageRollupAccumulator::depth).reversed());
+
+        Map<Long, Counter> subtreeCounters = new HashMap<>();
+        for (PackageInfo pkg : ordered) {
+            Counter subtree = subtreeCounters.computeIfAbsent(pkg.getId(), k -> new Counter());
+            subtree.add(counters.getOrDefault(pkg.getId(), Counter.EMPTY));
+            PackageInfo parent = pkg.getParentPackage();
+            if (parent != null) {
+                subtreeCounters.computeIfAbsent(parent.getId(), k -> new Counter()).add(subtree);
+            }
+        }
+
+        List<PackageRollup> rollups = new ArrayList<>();
+        List<PackageDependencyKindRollup> kindRollups = new ArrayList<>();
+        for (PackageInfo pkg : packages) {
+            Counter own = counters.getOrDefault(pkg.getId(), Counter.EMPTY);
+            Counter subtree = subtreeCounters.get(pkg.getId());
+            rollups.add(new PackageRollup(pkg, own.classCount, own.outgoing, own.incoming,
+                    subtree.classCount, subtree.outgoing, subtree.incoming));
+            for (Map.Entry<String, Long> entry : subtree.kindCounts.entrySet()) {
+                kindRollups.add(new PackageDependencyKindRollup(pkg, entry.getKey(),
+                        own.kindCounts.getOrDefault(entry.getKey(), 0L), entry.getValue()));
+            }
+        }
+        return new Result(rollups, kindRollups);
+    }
+
+    /**
+     * 集計し直したパッケージの件数を保存済みの集計に反映する
+     * 集計し直したパッケージの自パッケージの件数を置き換え、保存済みの件数との差分を自パッケージと上位パッケージの合計値に加算する
+     * （集計し直したパッケージの件数は全て記録済みであること）
+     * @param recountedPackages 集計し直したパッケージ（親パッケージは設定済みであること）
+     * @param rollups 集計し直したパッケージと上位パッケージの保存済みの集計（パッケージID -> 集計）
+     * @param kindRollups 同パッケージの保存済みの依存種類別集計
+     * @return 反映結果
+     */
+    public Reconciliation reconcile(Collection<PackageInfo> recountedPackages, Map<Long, PackageRollup> rollups,
+                                    Collection<PackageDependencyKindRollup> kindRollups) {
+        Map<Long, Map<String, PackageDependencyKindRollup>> kindRollupsByPackage = new HashMap<>();
+        for (PackageDependencyKindRollup kindRollup : kindRollups) {
+            kindRollupsByPackage.computeIfAbsent(kindRollup.getPackageInfo().getId(), k -> new HashMap<>())
+                    .put(kindRollup.getDependencyKindCode(), kindRollup);
+        }
+        Set<PackageRollup> changedRollups = new LinkedHashSet<>();
+        Set<PackageDependencyKindRollup> changedKindRollups = new LinkedHashSet<>();
+        for (PackageInfo pkg : recountedPackages) {
+            Counter own = counters.getOrDefault(pkg.getId(), Counter.EMPTY);
+            PackageRollup rollup = rollups.get(pkg.getId());
+            int classDelta = own.classCount - rollup.getClassCount();
+            long outgoingDelta = own.outgoing - rollup.getOutgoingEdgeCount();
+            long incomingDelta = own.incoming - rollup.getIncomingEdgeCount();
+            rollup.setClassCount(own.classCount);
+            rollup.setOutgoingEdgeCount(own.outgoing);
+            rollup.setIncomingEdgeCount(own.incoming);
+            changedRollups.add(rollup);
+
+            Map<String, PackageDependencyKindRollup> ownKindRollups =
+                    kindRollupsByPackage.computeIfAbsent(pkg.getId(), k -> new HashMap<>());
+            Map<String, Long> kindDeltas = new HashMap<>(own.kindCounts);
+            for (PackageDependencyKindRollup kindRollup : ownKindRollups.values()) {
+                kindDeltas.merge(kindRollup.getDependencyKindCode(), -kindRollup.getDependencyCount(), Long::sum);
+            }
+            for (String kindCode : kindDeltas.keySet()) {
+                PackageDependencyKindRollup kindRollup = ownKindRollups.computeIfAbsent(kindCode,
+                        code -> new PackageDependencyKindRollup(pkg, code, 0L, 0L));
+                kindRollup.setDependencyCount(own.kindCounts.getOrDefault(kindCode, 0L));
+                changedKindRollups.add(kindRollup);
+            }
+
+            // 上位パッケージを含めた合計値に差分を加算する
+            for (PackageInfo p = pkg; p != null; p = p.getParentPackage()) {
+                PackageRollup subtree = rollups.get(p.getId());
+                subtree.setSubtreeClassCount(subtree.getSubtreeClassCount() + classDelta);
+                subtree.setSubtreeOutgoingEdgeCount(subtree.getSubtreeOutgoingEdgeCount() + outgoingDelta);
+                subtree.setSubtreeIncomingEdgeCount(subtree.getSubtreeIncomingEdgeCount() + incomingDelta);
+                changedRollups.add(subtree);
+                PackageInfo subtreePackage = p;
+                Map<String, PackageDependencyKindRollup> subtreeKindRollups =
+                        kindRollupsByPackage.computeIfAbsent(p.getId(), k -> new HashMap<>());
+                for (Map.Entry<String, Long> delta : kindDeltas.entrySet()) {
+                    if (delta.getValue() == 0L) {
+                        continue;
+                    }
+                    PackageDependencyKindRollup kindRollup = subtreeKindRollups.computeIfAbsent(delta.getKey(),
+                            code -> new PackageDependencyKindRollup(subtreePackage, code, 0L, 0L));
+                    kindRollup.setSubtreeDependencyCount(kindRollup.getSubtreeDependencyCount() + delta.getValue());
+                    changedKindRollups.add(kindRollup);
+                }
+            }
+        }
+
+        // 合計値が0になった依存種類別集計は削除する（全体を集計した場合と同じく、サブパッケージを含めて依存関係のある種類のみ保持する）
+        List<PackageDependencyKindRollup> savedKindRollups = new ArrayList<>();
+        List<PackageDependencyKindRollup> deletedKindRollups = new ArrayList<>();
+        for (PackageDependencyKindRollup kindRollup : changedKindRollups) {
+            if (kindRollup.getSubtreeDependencyCount() > 0) {
+                savedKindRollups.add(kindRollup);
+            } else if (kindRollup.getId() != null) {
+                deletedKindRollups.add(kindRollup);
+            }
+        }
+        return new Reconciliation(new ArrayList<>(changedRollups), savedKindRollups, deletedKindRollups);
+    }
+
+    private Counter counter(Long packageId) {
+        return counters.computeIfAbsent(packageId, k -> new Counter());
+    }
+
+    private static int depth(PackageInfo pkg) {
+        int depth = 0;
+        for (PackageInfo p = pkg.getParentPackage(); p != null; p = p.getParentPackage()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * 集計結果
+     */
+    public record Result(List<PackageRollup> rollups, List<PackageDependencyKindRollup> kindRollups) {
+    }
+
+    /**
+     * 保存済みの集計への反映結果
+     * @param rollups 更新した集計
+     * @param savedKindRollups 更新・追加した依存種類別集計
+     * @param deletedKindRollups 削除する依存種類別集計
+     */
+    public record Reconciliation(List<PackageRollup> rollups, List<PackageDependencyKindRollup> savedKindRollups,
+                                 List<PackageDependencyKindRollup> deletedKindRollups) {
+    }
+
+    /**
+     * パッケージ単位の件数
+     */
+    private static class Counter {
+        static final Counter EMPTY = new Counter();
+
+        int classCount;
+        long outgoing;
+        long incoming;
+        final Map<String, Long> kindCounts = new HashMap<>();
+        final Set<String> classNames = new HashSet<>();
+
+        void add(Counter other) {
+            classCount += other.classCount;
+            outgoing += other.outgoing;
+            incoming += other.incoming;
+            other.kindCounts.forEach((code, count) -> kindCounts.merge(code, count, Long::sum));
+        }
+    }
+}
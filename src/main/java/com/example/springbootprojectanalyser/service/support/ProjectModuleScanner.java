@@ -0,0 +1,319 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenModel;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleBuild;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * マルチモジュールプロジェクトのモジュール検出コンポーネント
+ * Mavenはpom.xmlの&lt;modules&gt;を再帰的に、Gradleはsettings.gradle(.kts)のincludeを読み取ってモジュールを求める
+ * ルートのモジュールは常に含める（モジュール構成のないプロジェクトはルートのモジュールのみ）
+ * あわせて、モジュールのソース・ビルドファイルのフィンガープリントと、ビルドファイルで宣言されたモジュール間の依存を求める
+ * ビルドファイルはビルドモデルキャッシュで読み取る（プレースホルダー・ローカルの親POMを解決済みのモデルを使用する）
+ */
+@Component
+public class ProjectModuleScanner {
+
+    private static final String POM_FILE = "pom.xml";
+    private static final List<String> GRADLE_BUILD_FILES = List.of("build.gradle", "build.gradle.kts");
+    private static final List<String> GRADLE_SETTINGS_FILES = List.of("settings.gradle", "settings.gradle.kts");
+
+    private static final Pattern GRADLE_INCLUDE = Pattern.compile("^\\s*include\\b(.*)$");
+    private static final Pattern GRADLE_ROOT_PROJECT_NAME = Pattern.compile("rootProject\\.name\\s*=\\s*['\"]([^'\"]+)['\"]");
+    private static final Pattern QUOTED = Pattern.compile("['\"]([^'\"]+)['\"]");
+
+    private final BuildModelCache buildModelCache;
+
+    public ProjectModuleScanner(BuildModelCache buildModelCache) {
+        this.buildModelCache = buildModelCache;
+    }
+
+    /**
+     * プロジェクトのモジュールを検出する
+     * @param projectRoot プロジェクトのルートパス
+     * @return モジュール（パス順、先頭はルートのモジュール）
+     */
+    public List<ProjectModule> discover(Path projectRoot) {
+        List<ProjectModule> modules = new ArrayList<>();
+        if (Files.isRegularFile(projectRoot.resolve(POM_FILE))) {
+            discoverMaven(projectRoot, "", null, modules, new HashSet<>());
+        } else {
+            discoverGradle(projectRoot, modules);
+        }
+        modules.sort(Comparator.comparing(ProjectModule::path));
+        return modules;
+    }
+
+    /**
+     * ファイルが属するモジュール（パスが最も長く一致するモジュール）のパスを求める
+     * @param relativePath プロジェクトのルートパスからの相対パス（区切り文字は「/」）
+     * @param modulePaths モジュールのパス（ルートのモジュールの空文字を含むこと）
+     * @return モジュールのパス
+     */
+    public static String owningModulePath(String relativePath, Collection<String> modulePaths) {
+        String owner = "";
+        for (String modulePath : modulePaths) {
+            if (modulePath.length() > owner.length() && relativePath.startsWith(modulePath + "/")) {
+                owner = modulePath;
+            }
+        }
+        return owner;
+    }
+
+    /**
+     * モジュールのJavaファイル（サブモジュールのファイルを除く）を求める
+     * 解析対象のファイルと同じ条件（targetディレクトリ、.gitディレクトリを除外）で収集する
+     * @return プロジェクトのルートパスからの相対パス（区切り文字は「/」）
+     */
+    public List<String> sourceFiles(Path projectRoot, String modulePath, Collection<String> modulePaths) {
+        Path moduleRoot = modulePath.isEmpty() ? projectRoot : projectRoot.resolve(modulePath);
+        List<String> files = new ArrayList<>();
+        if (!Files.isDirectory(moduleRoot)) {
+            return files;
+        }
+        try (Stream<Path> paths = Files.walk(moduleRoot)) {
+            paths.filter(Files::isRegularFile)
+                    .filter(p -> p.toString().endsWith(".java"))
+                    .filter(p -> !p.toString().contains("target"))
+                    .filter(p -> !p.toString().contains(".git"))
+                    .map(p -> projectRoot.relativize(p).toString().replace('\\', '/'))
+                    .filter(path -> owningModulePath(path, modulePaths).equals(modulePath))
+                    .forEach(files::add);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("モジュールのファイルを取得できません: " + moduleRoot + " - " + e.getMessage(), e);
+        }
+        return files;
+    }
+
+    /**
+     * Javaファイルのパス・サイズ・更新日時からソースのフィンガープリントを求める
+     * @param relativePaths プロジェクトのルートパスからの相対パス
+     */
+    public String sourceFingerprint(Path projectRoot, Collection<String> relativePaths) {
+        MessageDigest digest = sha256();
+        for (String path : relativePaths.stream().sorted().toList()) {
+            String entry = path;
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(projectRoot.resolve(path), BasicFileAttributes.class);
+                entry += "\0" + attributes.size() + "\0" + attributes.lastModifiedTime().toMillis();
+            } catch (IOException e) {
+                // 読み取れないファイルはパスのみで区別する
+            }
+            digest.update((entry + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * ビルドファイルの内容からフィンガープリントを求める（ルートのモジュールはsettings.gradle(.kts)を含む）
+     */
+    public String buildFingerprint(Path projectRoot, ProjectModule module) {
+        MessageDigest digest = sha256();
+        Path moduleRoot = module.path().isEmpty() ? projectRoot : projectRoot.resolve(module.path());
+        List<String> fileNames = new ArrayList<>();
+        if (module.buildFile() != null) {
+            fileNames.add(module.buildFile());
+        }
+        if (module.path().isEmpty()) {
+            fileNames.addAll(GRADLE_SETTINGS_FILES);
+        }
+        for (String fileName : fileNames) {
+            Path file = moduleRoot.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                try {
+                    digest.update((fileName + "\n").getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                } catch (IOException e) {
+                    System.err.println("Failed to read build file: " + file + " - " + e.getMessage());
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * モジュールのビルドファイルで依存が宣言されている他のモジュールを求める
+     * （Maven: dependencyのartifactId（groupIdが一致するかプレースホルダーの場合）、Gradle: project(':path')）
+     * @return 依存先モジュールのパス
+     */
+    public Set<String> declaredModuleDependencies(Path projectRoot, ProjectModule module, List<ProjectModule> modules) {
+        Set<String> targets = new LinkedHashSet<>();
+        if (module.buildFile() == null) {
+            return targets;
+        }
+        Path moduleRoot = module.path().isEmpty() ? projectRoot : projectRoot.resolve(module.path());
+        Path buildFile = moduleRoot.resolve(module.buildFile());
+        if (POM_FILE.equals(module.buildFile())) {
+            MavenModel model = buildModelCache.mavenModel(buildFile);
+            if (model == null) {
+                return targets;
+            }
+            for (MavenDependency dependency : model.dependencies()) {
+                String groupId = dependency.groupId();
+                String artifactId = dependency.artifactId();
+                for (ProjectModule target : modules) {
+                    if (target == module || target.artifactKey() == null || artifactId == null) {
+                        continue;
+                    }
+                    String targetGroupId = target.artifactKey().substring(0, target.artifactKey().indexOf(':'));
+                    if (target.name().equals(artifactId)
+                            && (groupId == null || groupId.contains("${") || groupId.equals(targetGroupId))) {
+                        targets.add(target.path());
+                    }
+                }
+            }
+        } else {
+            GradleBuild build = buildModelCache.gradleBuild(buildFile);
+            if (build == null) {
+                return targets;
+            }
+            for (String projectPath : build.projectDependencies()) {
+                for (ProjectModule target : modules) {
+                    if (target != module && projectPath.equals(target.artifactKey())) {
+                        targets.add(target.path());
+                    }
+                }
+            }
+        }
+        return targets;
+    }
+
+    private void discoverMaven(Path projectRoot, String path, String parentGroupId, List<ProjectModule> modules, Set<String> visited) {
+        if (!visited.add(path)) {
+            return;
+        }
+        Path moduleRoot = path.isEmpty() ? projectRoot : projectRoot.resolve(path);
+        // groupIdは親POMから継承する
+        MavenModel model = buildModelCache.mavenModel(moduleRoot.resolve(POM_FILE));
+        String artifactId = model != null ? model.artifactId() : null;
+        String groupId = model != null ? model.groupId() : null;
+        if (groupId == null) {
+            groupId = parentGroupId;
+        }
+        String name = artifactId != null ? artifactId : directoryName(projectRoot, path);
+        modules.add(new ProjectModule(name, path, POM_FILE,
+                groupId != null && artifactId != null ? groupId + ":" + artifactId : null));
+
+        if (model == null) {
+            return;
+        }
+        for (String location : model.modules()) {
+            // モジュールにはPOMファイルのパスを指定することもできる
+            if (location.endsWith(".xml")) {
+                location = location.contains("/") ? location.substring(0, location.lastIndexOf('/')) : "";
+            }
+            String childPath = resolveModulePath(projectRoot, moduleRoot, location);
+            if (childPath != null && Files.isRegularFile(projectRoot.resolve(childPath).resolve(POM_FILE))) {
+                discoverMaven(projectRoot, childPath, groupId, modules, visited);
+            }
+        }
+    }
+
+    private void discoverGradle(Path projectRoot, List<ProjectModule> modules) {
+        String rootName = directoryName(projectRoot, "");
+        List<String> includes = new ArrayList<>();
+        for (String settingsFile : GRADLE_SETTINGS_FILES) {
+            Path settingsPath = projectRoot.resolve(settingsFile);
+            if (!Files.isRegularFile(settingsPath)) {
+                continue;
+            }
+            try {
+                for (String line : Files.readAllLines(settingsPath, StandardCharsets.UTF_8)) {
+                    Matcher rootNameMatcher = GRADLE_ROOT_PROJECT_NAME.matcher(line);
+                    if (rootNameMatcher.find()) {
+                        rootName = rootNameMatcher.group(1);
+                    }
+                    // include 'a', ':b:c' / include("a", ":b:c")
+                    Matcher includeMatcher = GRADLE_INCLUDE.matcher(line);
+                    if (includeMatcher.matches()) {
+                        Matcher quoted = QUOTED.matcher(includeMatcher.group(1));
+                        while (quoted.find()) {
+                            includes.add(quoted.group(1));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to read settings file: " + settingsPath + " - " + e.getMessage());
+            }
+            break;
+        }
+
+        modules.add(new ProjectModule(rootName, "", gradleBuildFile(projectRoot), ":"));
+        Set<String> paths = new HashSet<>();
+        for (String include : includes) {
+            String projectPath = include.startsWith(":") ? include : ":" + include;
+            String childPath = resolveModulePath(projectRoot, projectRoot, projectPath.substring(1).replace(':', '/'));
+            if (childPath != null && Files.isDirectory(projectRoot.resolve(childPath)) && paths.add(childPath)) {
+                modules.add(new ProjectModule(directoryName(projectRoot, childPath), childPath,
+                        gradleBuildFile(projectRoot.resolve(childPath)), projectPath));
+            }
+        }
+    }
+
+    private static String gradleBuildFile(Path moduleRoot) {
+        for (String buildFile : GRADLE_BUILD_FILES) {
+            if (Files.isRegularFile(moduleRoot.resolve(buildFile))) {
+                return buildFile;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * モジュールのパスをプロジェクトのルートパスからの相対パスに正規化する（ルートパス外・ルートパス自身の場合はnull）
+     */
+    private static String resolveModulePath(Path projectRoot, Path baseDirectory, String location) {
+        if (location.isEmpty()) {
+            return null;
+        }
+        Path root = projectRoot.toAbsolutePath().normalize();
+        Path resolved = baseDirectory.toAbsolutePath().resolve(location).normalize();
+        if (!resolved.startsWith(root) || resolved.equals(root)) {
+            return null;
+        }
+        return root.relativize(resolved).toString().replace('\\', '/');
+    }
+
+    private static String directoryName(Path projectRoot, String path) {
+        Path directory = (path.isEmpty() ? projectRoot : projectRoot.resolve(path)).toAbsolutePath().normalize();
+        return directory.getFileName() != null ? directory.getFileName().toString() : directory.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 検出したモジュール
+     * @param name モジュール名（Maven: artifactId、Gradle: ディレクトリ名（ルートはrootProject.name））
+     * @param path プロジェクトのルートパスからの相対パス（ルートのモジュールは空文字、区切り文字は「/」）
+     * @param buildFile ビルドファイル名（ない場合はnull）
+     * @param artifactKey 他のモジュールから依存を宣言する際の識別子（Maven: groupId:artifactId、Gradle: プロジェクトパス）
+     */
+    public record ProjectModule(String name, String path, String buildFile, String artifactKey) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.GraphSnapshotDiff;
+import com.example.springbootprojectanalyser.model.dto.DependencyChangeDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyKindChangeDto;
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * グラフ差分の報告作成クラス
+ * 件数は全件を数え、クラス・依存関係の一覧は先頭から上限件数までに絞った差分DTOを作成する
+ */
+public class SnapshotDiffReporter {
+
+    /** レイヤー間の依存関係の依存種類コードの接頭辞 */
+    public static final String LAYER_KIND_PREFIX = "009_";
+    private static final int DEFAULT_LIMIT = 200;
+    private static final int MAX_LIMIT = 10000;
+
+    private SnapshotDiffReporter() {
+    }
+
+    /**
+     * 一覧の件数の上限を検証する
+     * @param limit 件数の上限（未指定の場合は既定値）
+     * @return 件数の上限
+     */
+    public static int resolveLimit(Integer limit) {
+        int maxItems = limit != null ? limit : DEFAULT_LIMIT;
+        if (maxItems < 0 || maxItems > MAX_LIMIT) {
+            throw new IllegalArgumentException("件数の上限は0から" + MAX_LIMIT + "の範囲で指定してください: " + maxItems);
+        }
+        return maxItems;
+    }
+
+    /**
+     * 差分DTOを作成する
+     * @param diff グラフの差分
+     * @param baseSnapshot 比較元のスナップショット（スナップショット以外と比較する場合はnull）
+     * @param targetSnapshot 比較先のスナップショット（スナップショット以外と比較する場合はnull）
+     * @param limit 各一覧の件数の上限
+     * @return スナップショット差分DTO
+     */
+    public static SnapshotDiffDto report(GraphSnapshotDiff diff, GraphSnapshotDto baseSnapshot,
+            GraphSnapshotDto targetSnapshot, int limit) {
+        List<String> addedClasses = new ArrayList<>();
+        for (int i = 0; i < Math.min(diff.addedClassCount(), limit); i++) {
+            addedClasses.add(diff.addedClass(i));
+        }
+        List<String> removedClasses = new ArrayList<>();
+        for (int i = 0; i < Math.min(diff.removedClassCount(), limit); i++) {
+            removedClasses.add(diff.removedClass(i));
+        }
+
+        List<DependencyKindChangeDto> kindChanges = new ArrayList<>();
+        int addedLayerCount = 0;
+        for (int kind = 0; kind < diff.kindCount(); kind++) {
+            if (diff.addedEdgeCount(kind) > 0 || diff.removedEdgeCount(kind) > 0) {
+                kindChanges.add(new DependencyKindChangeDto(diff.kindCode(kind), diff.kindDescription(kind),
+                        diff.addedEdgeCount(kind), diff.removedEdgeCount(kind)));
+            }
+            if (diff.kindCode(kind).startsWith(LAYER_KIND_PREFIX)) {
+                addedLayerCount += diff.addedEdgeCount(kind);
+            }
+        }
+
+        List<DependencyChangeDto> addedLayerDependencies = new ArrayList<>();
+        for (int i = 0; i < diff.addedEdgeCount() && addedLayerDependencies.size() < Math.min(addedLayerCount, limit); i++) {
+            if (diff.kindCode(diff.addedEdgeKind(i)).startsWith(LAYER_KIND_PREFIX)) {
+                addedLayerDependencies.add(toDto(diff, diff.addedEdge(i)));
+            }
+        }
+        List<DependencyChangeDto> addedDependencies = new ArrayList<>();
+        for (int i = 0; i < Math.min(diff.addedEdgeCount(), limit); i++) {
+            addedDependencies.add(toDto(diff, diff.addedEdge(i)));
+        }
+        List<DependencyChangeDto> removedDependencies = new ArrayList<>();
+        for (int i = 0; i < Math.min(diff.removedEdgeCount(), limit); i++) {
+            removedDependencies.add(toDto(diff, diff.removedEdge(i)));
+        }
+
+        return new SnapshotDiffDto(baseSnapshot, targetSnapshot,
+                diff.addedClassCount(), diff.removedClassCount(), diff.addedEdgeCount(), diff.removedEdgeCount(), addedLayerCount,
+                addedClasses, removedClasses, kindChanges, addedLayerDependencies, addedDependencies, removedDependencies, limit);
+    }
+
+    private static DependencyChangeDto toDto(GraphSnapshotDiff diff, GraphSnapshotDiff.Edge edge) {
+        return new DependencyChangeDto(edge.sourceClass(), edge.targetClass(),
+                diff.kindCode(edge.kind()), diff.kindDescription(edge.kind()));
+    }
+}
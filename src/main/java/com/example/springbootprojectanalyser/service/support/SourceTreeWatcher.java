@@ -0,0 +1,325 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.model.dto.FileUpdateResultDto;
+import com.example.springbootprojectanalyser.model.dto.SourceWatchStatusDto;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.IncrementalAnalysisService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ソース監視コンポーネント
+ * プロジェクトのディレクトリをWatchServiceで監視し、Javaファイルの変更を解析結果に反映する
+ * 変更イベントは猶予時間（analysis.watch.debounce-ms）の間に続けて発生したものをまとめ、
+ * 変更されたファイルのみを再解析する（ビルドファイルの変更やイベントの取りこぼし時はプロジェクト全体を再解析する）
+ * 全体の再解析でプロジェクトIDが変わるため、監視はプロジェクトのルートパスごとに行う
+ */
+@Component
+public class SourceTreeWatcher {
+
+    /** 変更時にプロジェクト全体を再解析するビルドファイル名 */
+    private static final Set<String> BUILD_FILE_NAMES = Set.of(
+            "pom.xml", "build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts");
+
+    private final long debounceMillis;
+    private final ProjectRepository projectRepository;
+    private final ClassDependencyAnalysisService analysisService;
+    private final IncrementalAnalysisService incrementalAnalysisService;
+    private final EdgeStoreRegistry edgeStoreRegistry;
+    private final AnalysisGenerationTracker generationTracker;
+
+    /** プロジェクトのルートパス -> 監視 */
+    private final Map<String, WatchSession> sessions = new ConcurrentHashMap<>();
+
+    public SourceTreeWatcher(
+            @Value("${analysis.watch.debounce-ms:150}") long debounceMillis,
+            ProjectRepository projectRepository,
+            ClassDependencyAnalysisService analysisService,
+            IncrementalAnalysisService incrementalAnalysisService,
+            EdgeStoreRegistry edgeStoreRegistry,
+            AnalysisGenerationTracker generationTracker) {
+        this.debounceMillis = Math.max(debounceMillis, 0);
+        this.projectRepository = projectRepository;
+        this.analysisService = analysisService;
+        this.incrementalAnalysisService = incrementalAnalysisService;
+        this.edgeStoreRegistry = edgeStoreRegistry;
+        this.generationTracker = generationTracker;
+    }
+
+    /**
+     * プロジェクトの監視を開始する（監視中の場合は何もしない）
+     * @param projectId プロジェクトID
+     * @return 監視ステータス
+     */
+    public SourceWatchStatusDto start(Long projectId) {
+        Project project = findProject(projectId);
+        WatchSession session = sessions.computeIfAbsent(project.getRootPath(), this::openSession);
+        return toStatus(project, session);
+    }
+
+    /**
+     * プロジェクトの監視を停止する
+     * @param projectId プロジェクトID
+     * @return 監視ステータス
+     */
+    public SourceWatchStatusDto stop(Long projectId) {
+        Project project = findProject(projectId);
+        WatchSession session = sessions.remove(project.getRootPath());
+        if (session != null) {
+            session.close();
+        }
+        return toStatus(project, null);
+    }
+
+    /**
+     * プロジェクトの監視ステータスを取得する
+     * @param projectId プロジェクトID
+     * @return 監視ステータス
+     */
+    public SourceWatchStatusDto getStatus(Long projectId) {
+        Project project = findProject(projectId);
+        return toStatus(project, sessions.get(project.getRootPath()));
+    }
+
+    /**
+     * 別のプロジェクトの解析開始時に監視を停止する（既存の解析結果は削除されるため）
+     */
+    @EventListener
+    public void onAnalysisStarted(AnalysisStartedEvent event) {
+        sessions.entrySet().removeIf(entry -> {
+            if (entry.getKey().equals(event.projectPath())) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessions.values().forEach(WatchSession::close);
+        sessions.clear();
+    }
+
+    private WatchSession openSession(String rootPath) {
+        if (!Files.isDirectory(Paths.get(rootPath))) {
+            throw new IllegalArgumentException("指定されたパスが存在しないか、ディレクトリではありません: " + rootPath);
+        }
+        try {
+            WatchSession session = new WatchSession(rootPath);
+            session.thread.start();
+            System.out.println("Source watch started: " + rootPath + " (directories=" + session.directories.size() + ")");
+            return session;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("ソースの監視を開始できません: " + rootPath + " - " + e.getMessage(), e);
+        }
+    }
+
+    private Project findProject(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + projectId));
+    }
+
+    private SourceWatchStatusDto toStatus(Project project, WatchSession session) {
+        if (session == null) {
+            return new SourceWatchStatusDto(project.getId(), project.getRootPath(), false, debounceMillis, 0, 0, null, null);
+        }
+        return new SourceWatchStatusDto(project.getId(), project.getRootPath(), !session.closed, debounceMillis,
+                session.directories.size(), session.updateCount, session.lastUpdate, session.lastError);
+    }
+
+    /**
+     * 監視対象外のパス（collectJavaFilesと同じ条件）
+     */
+    private static boolean isExcluded(String relativePath) {
+        return relativePath.contains("target") || relativePath.contains(".git");
+    }
+
+    /**
+     * 1プロジェクトの監視
+     * 監視スレッドでイベントを受け取り、猶予時間の間に新しいイベントがなければ変更をまとめて反映する
+     */
+    private final class WatchSession implements Runnable {
+
+        private final String rootPath;
+        private final Path root;
+        private final WatchService watchService;
+        /** 監視キー -> 監視中のディレクトリ */
+        private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+        private final Thread thread;
+
+        private volatile boolean closed;
+        private volatile long updateCount;
+        private volatile FileUpdateResultDto lastUpdate;
+        private volatile String lastError;
+
+        private WatchSession(String rootPath) throws IOException {
+            this.rootPath = rootPath;
+            this.root = Paths.get(rootPath);
+            this.watchService = FileSystems.getDefault().newWatchService();
+            try {
+                registerTree(root, null);
+            } catch (IOException e) {
+                watchService.close();
+                throw e;
+            }
+            this.thread = new Thread(this, "source-watch-" + root.getFileName());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Set<String> pendingPaths = new TreeSet<>();
+            boolean fullAnalysis = false;
+            try {
+                while (!closed) {
+                    // 変更がない間は待機し、変更がある間は猶予時間だけ次のイベントを待つ
+                    WatchKey key = pendingPaths.isEmpty() && !fullAnalysis
+                            ? watchService.take()
+                            : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                    if (key == null) {
+                        apply(pendingPaths, fullAnalysis);
+                        pendingPaths.clear();
+                        fullAnalysis = false;
+                        continue;
+                    }
+                    Path directory = directories.get(key);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                            // イベントを取りこぼした場合は変更ファイルを特定できない
+                            fullAnalysis = true;
+                            continue;
+                        }
+                        fullAnalysis |= collect(directory.resolve((Path) event.context()), event.kind(), pendingPaths);
+                    }
+                    if (!key.reset()) {
+                        directories.remove(key);
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // 監視の停止
+            }
+        }
+
+        /**
+         * 変更イベントのパスを反映対象に加える
+         * @return プロジェクト全体の再解析が必要な場合はtrue
+         */
+        private boolean collect(Path path, WatchEvent.Kind<?> kind, Set<String> pendingPaths) {
+            String relativePath = root.relativize(path).toString().replace('\\', '/');
+            if (isExcluded(relativePath)) {
+                return false;
+            }
+            if (BUILD_FILE_NAMES.contains(path.getFileName().toString())) {
+                return true;
+            }
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                // 追加されたディレクトリを監視し、監視開始前に作成されたファイルも反映対象とする
+                try {
+                    registerTree(path, pendingPaths);
+                } catch (IOException e) {
+                    return true;
+                }
+                return false;
+            }
+            if (kind == StandardWatchEventKinds.ENTRY_DELETE && directories.containsValue(path)) {
+                // 削除されたディレクトリ内のファイルは特定できない
+                return true;
+            }
+            if (relativePath.endsWith(".java")) {
+                pendingPaths.add(relativePath);
+            }
+            return false;
+        }
+
+        /**
+         * ディレクトリ配下を監視対象に登録する
+         * @param pendingPaths 配下のJavaファイルを反映対象に加える場合に指定する（nullの場合は加えない）
+         */
+        private void registerTree(Path start, Set<String> pendingPaths) throws IOException {
+            Files.walkFileTree(start, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(root) && isExcluded(root.relativize(dir).toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    directories.put(key, dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String relativePath = root.relativize(file).toString().replace('\\', '/');
+                    if (pendingPaths != null && relativePath.endsWith(".java")) {
+                        pendingPaths.add(relativePath);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+
+        /**
+         * まとめた変更を解析結果に反映する
+         */
+        private void apply(Set<String> pendingPaths, boolean fullAnalysis) {
+            long startTime = System.currentTimeMillis();
+            try {
+                Project project = projectRepository.findByRootPath(rootPath)
+                        .orElseThrow(() -> new IllegalArgumentException("プロジェクトが見つかりません: " + rootPath));
+                // クラスファイルから解析したプロジェクトはファイル単位で更新できないため、同じ解析方式で全体を再解析する
+                String frontend = project.getFrontend();
+                if (fullAnalysis || edgeStoreRegistry.isColumnar() || AnalysisExecutionDto.FRONTEND_BYTECODE.equals(frontend)) {
+                    analysisService.executeAnalysis(new AnalysisExecutionDto(rootPath, null, frontend));
+                    Long projectId = projectRepository.findByRootPath(rootPath).map(Project::getId).orElse(project.getId());
+                    lastUpdate = new FileUpdateResultDto(new ArrayList<>(pendingPaths), new ArrayList<>(), 0, 0, 0, true,
+                            generationTracker.current(projectId), System.currentTimeMillis() - startTime);
+                } else {
+                    lastUpdate = incrementalAnalysisService.updateFiles(project.getId(), pendingPaths);
+                }
+                lastError = null;
+                updateCount++;
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                System.err.println("Source watch failed to apply changes: " + rootPath + " - " + e.getMessage());
+            }
+        }
+
+        private void close() {
+            closed = true;
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close watch service: " + rootPath + " - " + e.getMessage());
+            }
+            thread.interrupt();
+        }
+    }
+}
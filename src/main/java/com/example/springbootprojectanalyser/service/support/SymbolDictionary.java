@@ -0,0 +1,101 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.model.entity.Symbol;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * シンボル辞書クラス
+ * 解析中に出現した文字列をシンボルIDに置き換え、同じ文字列に対しては同じSymbolを返す
+ * （依存関係ごとに文字列を複製せず、1つのインスタンスを共有する）
+ */
+public class SymbolDictionary {
+
+    private final Project project;
+    private final Map<String, Symbol> symbols = new HashMap<>();
+    private long nextId;
+    private long referenceCount;
+    private long referencedLength;
+
+    /**
+     * @param project 対象プロジェクト
+     * @param firstId 最初に採番するシンボルID
+     */
+    public SymbolDictionary(Project project, long firstId) {
+        this.project = project;
+        this.nextId = firstId;
+    }
+
+    /**
+     * 登録済みのシンボルを取得する（参照件数を記録する）
+     * @param value 文字列
+     * @return シンボル（未登録の場合はnull）
+     */
+    public Symbol lookup(String value) {
+        Symbol symbol = symbols.get(value);
+        if (symbol != null) {
+            recordReference(value);
+        }
+        return symbol;
+    }
+
+    /**
+     * 保存済みのシンボルを登録する（参照件数は記録しない）
+     * ファイル単位の再解析で、既存のシンボルを再利用するために使用する
+     * @param symbol 保存済みのシンボル
+     */
+    public void add(Symbol symbol) {
+        symbols.putIfAbsent(symbol.getValue(), symbol);
+    }
+
+    /**
+     * 新しいシンボルを採番して登録する（参照件数を記録する）
+     * @param value 文字列
+     * @return 登録したシンボル（未保存）
+     */
+    public Symbol register(String value) {
+        Symbol symbol = new Symbol(nextId++, project, value);
+        symbols.put(value, symbol);
+        recordReference(value);
+        return symbol;
+    }
+
+    private void recordReference(String value) {
+        referenceCount++;
+        referencedLength += value.length();
+    }
+
+    /**
+     * 登録されたシンボル数を取得する
+     */
+    public int size() {
+        return symbols.size();
+    }
+
+    /**
+     * シンボルの参照件数を取得する
+     */
+    public long referenceCount() {
+        return referenceCount;
+    }
+
+    /**
+     * 参照された文字列の合計文字数を取得する（辞書化しない場合に保持される文字数）
+     */
+    public long referencedLength() {
+        return referencedLength;
+    }
+
+    /**
+     * 辞書に保持している文字列の合計文字数を取得する
+     */
+    public long storedLength() {
+        long length = 0;
+        for (String value : symbols.keySet()) {
+            length += value.length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.resolution.cache.Cache;
+import com.github.javaparser.resolution.cache.CacheStats;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.cache.DefaultCacheStats;
+import com.github.javaparser.symbolsolver.cache.InMemoryCache;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Symbol Solverキャッシュコンポーネント
+ * ファイル単位の再解析（ファイル更新・変更ファイル解析）で使用するSymbol Solverの型解決用のソースファイルのパース結果を
+ * プロジェクト（ルートパス）ごとにLRU方式で保持し、呼び出しのたびにプロジェクト全体をパースし直さないようにする
+ * パース結果はファイルの最終更新日時・サイズが変わるまで再利用する
+ * 型の検索結果・ディレクトリの一覧はファイルの追加・削除で変わるため、Symbol Solverの取得ごとに作り直す
+ */
+@Component
+public class SymbolSolverCache {
+
+    private final int maxProjects;
+
+    /** プロジェクトのルートパス -> ソースファイルのパース結果（アクセス順、先頭が最も古い） */
+    private final LinkedHashMap<Path, ParsedFileCache> parsedFiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    public SymbolSolverCache(@Value("${analysis.symbol-solver.cache.max-projects:4}") int maxProjects) {
+        this.maxProjects = Math.max(maxProjects, 1);
+    }
+
+    /**
+     * プロジェクトのSymbol Solverを取得する（ソースファイルのパース結果はキャッシュを使用する）
+     * @param projectRoot プロジェクトのルートパス
+     * @return JavaSymbolSolver
+     */
+    public JavaSymbolSolver symbolSolver(Path projectRoot) {
+        Path root = projectRoot.toAbsolutePath().normalize();
+        CombinedTypeSolver typeSolver = new CombinedTypeSolver();
+        // Java標準ライブラリの型解決
+        typeSolver.add(new ReflectionTypeSolver());
+        // プロジェクト内のソースコードの型解決
+        typeSolver.add(new JavaParserTypeSolver(root, new JavaParser(new ParserConfiguration()), parsedFileCache(root),
+                InMemoryCache.create(), InMemoryCache.create()));
+        return new JavaSymbolSolver(typeSolver);
+    }
+
+    /**
+     * 解析の開始時にプロジェクトのパース結果を破棄する
+     */
+    @EventListener
+    public void onAnalysisStarted(AnalysisStartedEvent event) {
+        synchronized (parsedFiles) {
+            parsedFiles.remove(Path.of(event.projectPath()).toAbsolutePath().normalize());
+        }
+    }
+
+    private ParsedFileCache parsedFileCache(Path root) {
+        synchronized (parsedFiles) {
+            ParsedFileCache cache = parsedFiles.computeIfAbsent(root, k -> new ParsedFileCache());
+            while (parsedFiles.size() > maxProjects) {
+                Path eldest = parsedFiles.keySet().iterator().next();
+                parsedFiles.remove(eldest);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * ソースファイルのパース結果のキャッシュ（最終更新日時・サイズが変わったファイルのパース結果は使用しない）
+     */
+    static final class ParsedFileCache implements Cache<Path, Optional<CompilationUnit>> {
+
+        /** ファイルの絶対パス -> パース結果 */
+        private final Map<Path, ParsedFile> files = new ConcurrentHashMap<>();
+
+        @Override
+        public void put(Path file, Optional<CompilationUnit> compilationUnit) {
+            files.put(file, new ParsedFile(version(file), compilationUnit));
+        }
+
+        @Override
+        public Optional<Optional<CompilationUnit>> get(Path file) {
+            ParsedFile parsed = files.get(file);
+            if (parsed == null) {
+                return Optional.empty();
+            }
+            if (!parsed.version().equals(version(file))) {
+                files.remove(file, parsed);
+                return Optional.empty();
+            }
+            return Optional.of(parsed.compilationUnit());
+        }
+
+        @Override
+        public void remove(Path file) {
+            files.remove(file);
+        }
+
+        @Override
+        public void removeAll() {
+            files.clear();
+        }
+
+        @Override
+        public boolean contains(Path file) {
+            return get(file).isPresent();
+        }
+
+        @Override
+        public long size() {
+            return files.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return files.isEmpty();
+        }
+
+        @Override
+        public CacheStats stats() {
+            return new DefaultCacheStats();
+        }
+
+        private static String version(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.lastModifiedTime() + "/" + attributes.size();
+            } catch (IOException e) {
+                // 存在しないファイルのパース結果（空）はファイルが作成されるまで使用する
+                return "";
+            }
+        }
+    }
+
+    /**
+     * パース結果
+     * @param version パース時のファイルの最終更新日時とサイズ（存在しない場合は空文字列）
+     * @param compilationUnit パース結果（パースできなかった場合は空）
+     */
+    private record ParsedFile(String version, Optional<CompilationUnit> compilationUnit) {
+    }
+}
@@ -0,0 +1,653 @@
+package com.example.springbootprojectanalyser.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * クラスファイル読み取りクラス
+ * クラスファイル（.class）を1回だけ走査し、依存関係の解析に使用する情報のみを取り出す
+ * （継承・実装、フィールド・メソッドの型とジェネリクスのシグネチャ、throws句、アノテーションと属性値、
+ * メソッド本体のメソッド呼び出し・フィールド参照・catch節の例外型）
+ * クラス名はすべて「.」区切りのバイナリ名（ネストしたクラスは「Outer$Inner」）で返す
+ */
+public class ClassFileReader {
+
+    private static final int MAGIC = 0xcafebabe;
+
+    public static final int ACC_STATIC = 0x0008;
+    public static final int ACC_BRIDGE = 0x0040;
+    public static final int ACC_INTERFACE = 0x0200;
+    public static final int ACC_SYNTHETIC = 0x1000;
+    public static final int ACC_ANNOTATION = 0x2000;
+    public static final int ACC_ENUM = 0x4000;
+
+    public static final int GETSTATIC = 0xb2;
+    public static final int PUTSTATIC = 0xb3;
+    public static final int GETFIELD = 0xb4;
+    public static final int PUTFIELD = 0xb5;
+    public static final int INVOKEVIRTUAL = 0xb6;
+    public static final int INVOKESPECIAL = 0xb7;
+    public static final int INVOKESTATIC = 0xb8;
+    public static final int INVOKEINTERFACE = 0xb9;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    /** オペコード -> 命令長（0は可変長・未定義の命令） */
+    private static final byte[] INSTRUCTION_LENGTHS = createInstructionLengths();
+
+    private ClassFileReader() {
+    }
+
+    /**
+     * クラスファイルの内容を読み取る
+     * @param content ファイル内容
+     * @return 読み取ったクラス
+     * @throws IOException クラスファイルとして読み取れない場合
+     */
+    public static ClassFileInfo read(byte[] content) throws IOException {
+        try {
+            return new Parser(ByteBuffer.wrap(content)).parse();
+        } catch (RuntimeException e) {
+            throw new IOException("クラスファイルを読み取れません: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 型記述子（例: Ljava/util/List;、[I）の参照型のクラス名を取得する（配列は要素の型、基本型の場合はnull）
+     */
+    public static String descriptorClassName(String descriptor) {
+        int start = 0;
+        while (start < descriptor.length() && descriptor.charAt(start) == '[') {
+            start++;
+        }
+        if (start < descriptor.length() && descriptor.charAt(start) == 'L') {
+            return descriptor.substring(start + 1, descriptor.indexOf(';', start)).replace('/', '.');
+        }
+        return null;
+    }
+
+    /**
+     * メソッド記述子の引数の型記述子を取得する
+     */
+    public static List<String> parameterDescriptors(String methodDescriptor) {
+        List<String> parameters = new ArrayList<>();
+        int position = 1;
+        while (methodDescriptor.charAt(position) != ')') {
+            int end = position;
+            while (methodDescriptor.charAt(end) == '[') {
+                end++;
+            }
+            end = methodDescriptor.charAt(end) == 'L' ? methodDescriptor.indexOf(';', end) + 1 : end + 1;
+            parameters.add(methodDescriptor.substring(position, end));
+            position = end;
+        }
+        return parameters;
+    }
+
+    /**
+     * メソッド記述子の戻り値の型記述子を取得する
+     */
+    public static String returnDescriptor(String methodDescriptor) {
+        return methodDescriptor.substring(methodDescriptor.indexOf(')') + 1);
+    }
+
+    /**
+     * ジェネリクスのシグネチャ（フィールドの型、またはメソッドの引数・戻り値の型）の型引数のクラス名を取得する
+     * ソースの解析と同様に、最上位の型の直接の型引数のうちクラス・インターフェース型のみを対象とする
+     * （型変数・ワイルドカード・配列の型引数は対象外）
+     * @param typeSignature 型のシグネチャ（例: Ljava/util/Map<Ljava/lang/String;Lcom/example/Foo;>;）
+     * @return 型引数のクラス名
+     */
+    public static List<String> typeArgumentClassNames(String typeSignature) {
+        List<String> classNames = new ArrayList<>();
+        if (typeSignature.isEmpty() || typeSignature.charAt(0) != 'L') {
+            return classNames;
+        }
+        int position = 1;
+        while (position < typeSignature.length() && typeSignature.charAt(position) != '<' && typeSignature.charAt(position) != ';') {
+            position++;
+        }
+        if (position >= typeSignature.length() || typeSignature.charAt(position) != '<') {
+            return classNames;
+        }
+        position++;
+        while (typeSignature.charAt(position) != '>') {
+            char c = typeSignature.charAt(position);
+            if (c == '*') {
+                position++;
+                continue;
+            }
+            if (c == '+' || c == '-') {
+                position = skipTypeSignature(typeSignature, position + 1);
+                continue;
+            }
+            if (c == 'L') {
+                int nameEnd = position + 1;
+                while (typeSignature.charAt(nameEnd) != '<' && typeSignature.charAt(nameEnd) != ';' && typeSignature.charAt(nameEnd) != '.') {
+                    nameEnd++;
+                }
+                classNames.add(typeSignature.substring(position + 1, nameEnd).replace('/', '.'));
+            }
+            position = skipTypeSignature(typeSignature, position);
+        }
+        return classNames;
+    }
+
+    /**
+     * メソッドのシグネチャ（例: <T:Ljava/lang/Object;>(Ljava/util/List<TT;>;)Ljava/util/Set<TT;>;）の引数の型のシグネチャを取得する
+     */
+    public static List<String> parameterSignatures(String methodSignature) {
+        List<String> parameters = new ArrayList<>();
+        int position = methodSignature.indexOf('(') + 1;
+        while (methodSignature.charAt(position) != ')') {
+            int end = skipTypeSignature(methodSignature, position);
+            parameters.add(methodSignature.substring(position, end));
+            position = end;
+        }
+        return parameters;
+    }
+
+    /**
+     * メソッドのシグネチャの戻り値の型のシグネチャを取得する
+     */
+    public static String returnSignature(String methodSignature) {
+        int start = methodSignature.indexOf(')') + 1;
+        return methodSignature.substring(start, skipTypeSignature(methodSignature, start));
+    }
+
+    /**
+     * 型のシグネチャの終端の次の位置を求める
+     */
+    private static int skipTypeSignature(String signature, int position) {
+        char c = signature.charAt(position);
+        if (c == '[') {
+            return skipTypeSignature(signature, position + 1);
+        }
+        if (c == 'T') {
+            return signature.indexOf(';', position) + 1;
+        }
+        if (c != 'L') {
+            return position + 1;
+        }
+        int depth = 0;
+        for (int i = position + 1; i < signature.length(); i++) {
+            char current = signature.charAt(i);
+            if (current == '<') {
+                depth++;
+            } else if (current == '>') {
+                depth--;
+            } else if (current == ';' && depth == 0) {
+                return i + 1;
+            }
+        }
+        return signature.length();
+    }
+
+    private static byte[] createInstructionLengths() {
+        byte[] lengths = new byte[256];
+        // 既定は1バイト（オペコードのみ）
+        for (int opcode = 0x00; opcode <= 0xc9; opcode++) {
+            lengths[opcode] = 1;
+        }
+        lengths[0x10] = 2; // bipush
+        lengths[0x11] = 3; // sipush
+        lengths[0x12] = 2; // ldc
+        lengths[0x13] = 3; // ldc_w
+        lengths[0x14] = 3; // ldc2_w
+        for (int opcode = 0x15; opcode <= 0x19; opcode++) {
+            lengths[opcode] = 2; // iload〜aload
+        }
+        for (int opcode = 0x36; opcode <= 0x3a; opcode++) {
+            lengths[opcode] = 2; // istore〜astore
+        }
+        lengths[0x84] = 3; // iinc
+        for (int opcode = 0x99; opcode <= 0xa8; opcode++) {
+            lengths[opcode] = 3; // if*、goto、jsr
+        }
+        lengths[0xa9] = 2; // ret
+        lengths[0xaa] = 0; // tableswitch
+        lengths[0xab] = 0; // lookupswitch
+        for (int opcode = 0xb2; opcode <= 0xb8; opcode++) {
+            lengths[opcode] = 3; // getstatic〜invokestatic
+        }
+        lengths[0xb9] = 5; // invokeinterface
+        lengths[0xba] = 5; // invokedynamic
+        lengths[0xbb] = 3; // new
+        lengths[0xbc] = 2; // newarray
+        lengths[0xbd] = 3; // anewarray
+        lengths[0xc0] = 3; // checkcast
+        lengths[0xc1] = 3; // instanceof
+        lengths[0xc4] = 0; // wide
+        lengths[0xc5] = 4; // multianewarray
+        lengths[0xc6] = 3; // ifnull
+        lengths[0xc7] = 3; // ifnonnull
+        lengths[0xc8] = 5; // goto_w
+        lengths[0xc9] = 5; // jsr_w
+        return lengths;
+    }
+
+    /**
+     * クラスファイルを先頭から順に読み取る
+     */
+    private static class Parser {
+
+        private final ByteBuffer buffer;
+        private int[] offsets;
+        private byte[] tags;
+        private String[] strings;
+
+        Parser(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        ClassFileInfo parse() throws IOException {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("クラスファイルではありません");
+            }
+            buffer.getShort(); // minor_version
+            buffer.getShort(); // major_version
+            readConstantPool();
+
+            int access = u2();
+            String name = className(u2());
+            int superIndex = u2();
+            String superName = superIndex != 0 ? className(superIndex) : null;
+            int interfaceCount = u2();
+            List<String> interfaces = new ArrayList<>(interfaceCount);
+            for (int i = 0; i < interfaceCount; i++) {
+                interfaces.add(className(u2()));
+            }
+
+            int fieldCount = u2();
+            List<FieldInfo> fields = new ArrayList<>(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                fields.add(readField());
+            }
+            int methodCount = u2();
+            List<MethodInfo> methods = new ArrayList<>(methodCount);
+            for (int i = 0; i < methodCount; i++) {
+                methods.add(readMethod());
+            }
+
+            String signature = null;
+            String sourceFile = null;
+            String simpleName = null;
+            String outerClass = null;
+            String enclosingClass = null;
+            List<AnnotationInfo> annotations = new ArrayList<>();
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String attributeName = utf8(u2());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                switch (attributeName) {
+                    case "Signature" -> signature = utf8(u2());
+                    case "SourceFile" -> sourceFile = utf8(u2());
+                    case "RuntimeVisibleAnnotations", "RuntimeInvisibleAnnotations" -> readAnnotations(annotations);
+                    case "EnclosingMethod" -> enclosingClass = className(u2());
+                    case "InnerClasses" -> {
+                        int classCount = u2();
+                        for (int j = 0; j < classCount; j++) {
+                            int innerIndex = u2();
+                            int outerIndex = u2();
+                            int nameIndex = u2();
+                            u2(); // inner_class_access_flags
+                            if (className(innerIndex).equals(name)) {
+                                outerClass = outerIndex != 0 ? className(outerIndex) : null;
+                                simpleName = nameIndex != 0 ? utf8(nameIndex) : "";
+                            }
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                buffer.position(end);
+            }
+            if (simpleName == null) {
+                // トップレベルのクラス
+                simpleName = name.substring(name.lastIndexOf('.') + 1);
+            }
+            return new ClassFileInfo(name, simpleName, outerClass != null ? outerClass : enclosingClass, access, superName,
+                    List.copyOf(interfaces), signature, sourceFile, List.copyOf(annotations), List.copyOf(fields), List.copyOf(methods));
+        }
+
+        private void readConstantPool() {
+            int count = u2();
+            offsets = new int[count];
+            tags = new byte[count];
+            strings = new String[count];
+            for (int index = 1; index < count; index++) {
+                int tag = u1();
+                tags[index] = (byte) tag;
+                offsets[index] = buffer.position();
+                switch (tag) {
+                    case CONSTANT_UTF8 -> buffer.position(buffer.position() + 2 + u2());
+                    case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF, CONSTANT_INTERFACE_METHODREF,
+                         CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC, CONSTANT_INVOKE_DYNAMIC -> buffer.position(buffer.position() + 4);
+                    case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                        buffer.position(buffer.position() + 8);
+                        index++; // 8バイトの定数は2つのエントリを使用する
+                    }
+                    case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE ->
+                            buffer.position(buffer.position() + 2);
+                    case CONSTANT_METHOD_HANDLE -> buffer.position(buffer.position() + 3);
+                    default -> throw new IllegalStateException("不明な定数プールのタグです: " + tag);
+                }
+            }
+        }
+
+        private FieldInfo readField() {
+            int access = u2();
+            String name = utf8(u2());
+            String descriptor = utf8(u2());
+            String signature = null;
+            List<AnnotationInfo> annotations = new ArrayList<>();
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String attributeName = utf8(u2());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                switch (attributeName) {
+                    case "Signature" -> signature = utf8(u2());
+                    case "RuntimeVisibleAnnotations", "RuntimeInvisibleAnnotations" -> readAnnotations(annotations);
+                    default -> {
+                    }
+                }
+                buffer.position(end);
+            }
+            return new FieldInfo(access, name, descriptor, signature, List.copyOf(annotations));
+        }
+
+        private MethodInfo readMethod() {
+            int access = u2();
+            String name = utf8(u2());
+            String descriptor = utf8(u2());
+            String signature = null;
+            List<String> exceptions = new ArrayList<>();
+            List<AnnotationInfo> annotations = new ArrayList<>();
+            List<MemberReference> references = new ArrayList<>();
+            List<String> catchTypes = new ArrayList<>();
+            int attributeCount = u2();
+            for (int i = 0; i < attributeCount; i++) {
+                String attributeName = utf8(u2());
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                switch (attributeName) {
+                    case "Signature" -> signature = utf8(u2());
+                    case "Exceptions" -> {
+                        int exceptionCount = u2();
+                        for (int j = 0; j < exceptionCount; j++) {
+                            exceptions.add(className(u2()));
+                        }
+                    }
+                    case "RuntimeVisibleAnnotations", "RuntimeInvisibleAnnotations" -> readAnnotations(annotations);
+                    case "RuntimeVisibleParameterAnnotations", "RuntimeInvisibleParameterAnnotations" -> {
+                        int parameterCount = u1();
+                        for (int j = 0; j < parameterCount; j++) {
+                            readAnnotations(annotations);
+                        }
+                    }
+                    case "Code" -> readCode(references, catchTypes);
+                    default -> {
+                    }
+                }
+                buffer.position(end);
+            }
+            return new MethodInfo(access, name, descriptor, signature, List.copyOf(exceptions), List.copyOf(annotations),
+                    List.copyOf(references), List.copyOf(catchTypes));
+        }
+
+        /**
+         * メソッド本体の命令を走査し、メソッド呼び出し・フィールド参照とcatch節の例外型を取り出す
+         */
+        private void readCode(List<MemberReference> references, List<String> catchTypes) {
+            u2(); // max_stack
+            u2(); // max_locals
+            int codeLength = buffer.getInt();
+            int codeStart = buffer.position();
+            int position = 0;
+            while (position < codeLength) {
+                int opcode = Byte.toUnsignedInt(buffer.get(codeStart + position));
+                if (opcode >= GETSTATIC && opcode <= INVOKEINTERFACE) {
+                    references.add(memberReference(opcode, Short.toUnsignedInt(buffer.getShort(codeStart + position + 1))));
+                }
+                position += instructionLength(codeStart, position, opcode);
+            }
+            buffer.position(codeStart + codeLength);
+            int exceptionCount = u2();
+            for (int i = 0; i < exceptionCount; i++) {
+                buffer.position(buffer.position() + 6); // start_pc, end_pc, handler_pc
+                int catchType = u2();
+                if (catchType != 0) {
+                    catchTypes.add(className(catchType));
+                }
+            }
+            // Code属性の属性（LineNumberTableなど）は読み飛ばす（呼び出し元で属性の終端に移動する）
+        }
+
+        private int instructionLength(int codeStart, int position, int opcode) {
+            int length = INSTRUCTION_LENGTHS[opcode];
+            if (length > 0) {
+                return length;
+            }
+            if (opcode == 0xc4) {
+                // wide: iinc（6バイト）、それ以外（4バイト）
+                return Byte.toUnsignedInt(buffer.get(codeStart + position + 1)) == 0x84 ? 6 : 4;
+            }
+            // tableswitch・lookupswitch: オペコードの後に4バイト境界までのパディングがある
+            int operands = (position + 4) & ~3;
+            if (opcode == 0xaa) {
+                int low = buffer.getInt(codeStart + operands + 4);
+                int high = buffer.getInt(codeStart + operands + 8);
+                return operands - position + 12 + (high - low + 1) * 4;
+            }
+            if (opcode == 0xab) {
+                int pairs = buffer.getInt(codeStart + operands + 4);
+                return operands - position + 8 + pairs * 8;
+            }
+            throw new IllegalStateException("不明な命令です: " + opcode);
+        }
+
+        private MemberReference memberReference(int opcode, int index) {
+            int offset = offsets[index];
+            String owner = className(Short.toUnsignedInt(buffer.getShort(offset)));
+            int nameAndType = offsets[Short.toUnsignedInt(buffer.getShort(offset + 2))];
+            return new MemberReference(opcode, owner,
+                    utf8(Short.toUnsignedInt(buffer.getShort(nameAndType))),
+                    utf8(Short.toUnsignedInt(buffer.getShort(nameAndType + 2))));
+        }
+
+        private void readAnnotations(List<AnnotationInfo> annotations) {
+            int count = u2();
+            for (int i = 0; i < count; i++) {
+                annotations.add(readAnnotation());
+            }
+        }
+
+        private AnnotationInfo readAnnotation() {
+            String type = descriptorClassName(utf8(u2()));
+            int pairCount = u2();
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            for (int i = 0; i < pairCount; i++) {
+                String name = utf8(u2());
+                attributes.put(name, readElementValue());
+            }
+            return new AnnotationInfo(type, attributes);
+        }
+
+        /**
+         * アノテーションの属性値を読み取る
+         * 定数はString・Integerなど、列挙型の定数はEnumConstant、クラスリテラルはClassLiteral、
+         * ネストしたアノテーションはAnnotationInfo、配列はListで返す
+         */
+        private Object readElementValue() {
+            char tag = (char) u1();
+            return switch (tag) {
+                case 'B', 'C', 'I', 'S', 'Z' -> buffer.getInt(offsets[u2()]);
+                case 'J' -> buffer.getLong(offsets[u2()]);
+                case 'F' -> buffer.getFloat(offsets[u2()]);
+                case 'D' -> buffer.getDouble(offsets[u2()]);
+                case 's' -> utf8(u2());
+                case 'e' -> {
+                    String type = descriptorClassName(utf8(u2()));
+                    yield new EnumConstant(type, utf8(u2()));
+                }
+                case 'c' -> new ClassLiteral(descriptorClassName(utf8(u2())));
+                case '@' -> readAnnotation();
+                case '[' -> {
+                    int count = u2();
+                    List<Object> values = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        values.add(readElementValue());
+                    }
+                    yield values;
+                }
+                default -> throw new IllegalStateException("不明なアノテーションの属性値です: " + tag);
+            };
+        }
+
+        private String className(int index) {
+            String name = utf8(Short.toUnsignedInt(buffer.getShort(offsets[index])));
+            return name.replace('/', '.');
+        }
+
+        /**
+         * 定数プールの文字列（修正UTF-8）を取得する
+         */
+        private String utf8(int index) {
+            String value = strings[index];
+            if (value != null) {
+                return value;
+            }
+            int offset = offsets[index];
+            int length = Short.toUnsignedInt(buffer.getShort(offset));
+            char[] chars = new char[length];
+            int count = 0;
+            int position = offset + 2;
+            int end = position + length;
+            while (position < end) {
+                int b = Byte.toUnsignedInt(buffer.get(position++));
+                if (b < 0x80) {
+                    chars[count++] = (char) b;
+                } else if ((b & 0xe0) == 0xc0) {
+                    chars[count++] = (char) (((b & 0x1f) << 6) | (buffer.get(position++) & 0x3f));
+                } else {
+                    int b2 = buffer.get(position++) & 0x3f;
+                    int b3 = buffer.get(position++) & 0x3f;
+                    chars[count++] = (char) (((b & 0x0f) << 12) | (b2 << 6) | b3);
+                }
+            }
+            value = new String(chars, 0, count);
+            strings[index] = value;
+            return value;
+        }
+
+        private int u1() {
+            return Byte.toUnsignedInt(buffer.get());
+        }
+
+        private int u2() {
+            return Short.toUnsignedInt(buffer.getShort());
+        }
+    }
+
+    /**
+     * 読み取ったクラス
+     * @param name バイナリ名（例: com.example.Outer$Inner）
+     * @param simpleName 簡易名（匿名クラスの場合は空文字）
+     * @param enclosingClass 外側のクラス（InnerClasses・EnclosingMethod属性から取得、トップレベルのクラスはnull）
+     * @param signature ジェネリクスのシグネチャ（ない場合はnull）
+     * @param sourceFile ソースファイル名（SourceFile属性、ない場合はnull）
+     */
+    public record ClassFileInfo(
+            String name,
+            String simpleName,
+            String enclosingClass,
+            int access,
+            String superName,
+            List<String> interfaces,
+            String signature,
+            String sourceFile,
+            List<AnnotationInfo> annotations,
+            List<FieldInfo> fields,
+            List<MethodInfo> methods) {
+
+        public boolean isInterface() {
+            return (access & ACC_INTERFACE) != 0;
+        }
+    }
+
+    /**
+     * フィールド
+     * @param signature ジェネリクスのシグネチャ（ない場合はnull）
+     */
+    public record FieldInfo(int access, String name, String descriptor, String signature, List<AnnotationInfo> annotations) {
+    }
+
+    /**
+     * メソッド
+     * @param signature ジェネリクスのシグネチャ（ない場合はnull）
+     * @param exceptions throws句の例外型
+     * @param annotations メソッドと引数のアノテーション
+     * @param references メソッド本体のメソッド呼び出し・フィールド参照（出現順）
+     * @param catchTypes メソッド本体のcatch節の例外型
+     */
+    public record MethodInfo(
+            int access,
+            String name,
+            String descriptor,
+            String signature,
+            List<String> exceptions,
+            List<AnnotationInfo> annotations,
+            List<MemberReference> references,
+            List<String> catchTypes) {
+    }
+
+    /**
+     * メソッド呼び出し・フィールド参照
+     * @param opcode 命令（INVOKEVIRTUAL、GETSTATICなど）
+     * @param owner 参照先のクラス（配列のメソッドの場合は配列の型記述子）
+     */
+    public record MemberReference(int opcode, String owner, String name, String descriptor) {
+    }
+
+    /**
+     * アノテーション
+     * @param attributes 属性名 -> 属性値（明示的に指定された属性のみ）
+     */
+    public record AnnotationInfo(String type, Map<String, Object> attributes) {
+    }
+
+    /**
+     * アノテーションの属性値の列挙型の定数
+     */
+    public record EnumConstant(String type, String name) {
+    }
+
+    /**
+     * アノテーションの属性値のクラスリテラル
+     * @param type クラス名（基本型・voidの場合はnull）
+     */
+    public record ClassLiteral(String type) {
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.springbootprojectanalyser.util;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * build.gradle/build.gradle.kts読み取りクラス
+ * コメントと文字列リテラルを区別しながらブロック（{...}）の入れ子を追跡し、
+ * トップレベルのdependenciesブロックの宣言のみを依存関係として取り出す（buildscript・allprojects・subprojectsのブロックは対象外）
+ * 文字列中の$name・${name}は、gradle.propertiesのプロパティとビルドファイル中の変数（def/val/ext）で解決する
+ */
+public class GradleBuildReader {
+
+    private static final Pattern STATEMENT = Pattern.compile("^([A-Za-z_]\\w*)\\s*(.*)$", Pattern.DOTALL);
+    private static final Pattern BLOCK_NAME = Pattern.compile("^([A-Za-z_][\\w.]*)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'([^']*)'|\"([^\"]*)\"");
+    /** group: 'g'、name = "n"、version: versionVariable */
+    private static final Pattern MAP_ENTRY = Pattern.compile("(\\w+)\\s*[:=]\\s*(?:'([^']*)'|\"([^\"]*)\"|([A-Za-z_][\\w.]*))");
+    private static final Pattern MAP_NOTATION = Pattern.compile("^(?:group|name)\\s*[:=]");
+    /** project(':core')、project(path: ':core')、project(path = ":core") */
+    private static final Pattern PROJECT_REFERENCE = Pattern.compile("^project\\s*\\(\\s*(?:path\\s*[:=]\\s*)?['\"]([^'\"]*)['\"]");
+    /** def name = 'value'、val name = "value"、ext.name = 'value'、ext["name"] = 'value'、extra["name"] = "value" */
+    private static final Pattern VARIABLE = Pattern.compile(
+            "^(?:(?:def|val|var)\\s+(\\w+)|ext\\.(\\w+)|(?:ext|extra)\\[\\s*['\"](\\w+)['\"]\\s*])\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")$");
+    /** extブロック内の name = 'value' */
+    private static final Pattern EXT_ASSIGNMENT = Pattern.compile("^(?:set\\s*\\(\\s*['\"](\\w+)['\"]\\s*,|(\\w+)\\s*=)\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\)?$");
+    private static final Pattern INTERPOLATION = Pattern.compile("\\$\\{([^}]+)}|\\$([A-Za-z_][\\w.]*)");
+    private static final List<String> VARIABLE_PREFIXES = List.of("rootProject.ext.", "rootProject.", "project.ext.", "project.", "ext.", "extra.");
+
+    private GradleBuildReader() {
+    }
+
+    /**
+     * ビルドファイルの内容を読み取る
+     * @param content ビルドファイルの内容
+     * @param properties gradle.propertiesのプロパティ（ビルドファイル中の変数が優先される）
+     * @return 読み取ったビルドファイル
+     */
+    public static GradleBuild read(String content, Map<String, String> properties) {
+        Map<String, String> variables = new LinkedHashMap<>(properties);
+        List<GradleDependency> dependencies = new ArrayList<>();
+        List<String> projectDependencies = new ArrayList<>();
+
+        String source = stripComments(content);
+        List<String> blocks = new ArrayList<>();
+        StringBuilder statement = new StringBuilder();
+        int parenDepth = 0;
+        char quote = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (quote != 0) {
+                statement.append(c);
+                if (c == '\\' && i + 1 < source.length()) {
+                    statement.append(source.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\'', '"' -> {
+                    quote = c;
+                    statement.append(c);
+                }
+                case '(' -> {
+                    parenDepth++;
+                    statement.append(c);
+                }
+                case ')' -> {
+                    parenDepth = Math.max(0, parenDepth - 1);
+                    statement.append(c);
+                }
+                case '{' -> {
+                    // 依存関係の宣言に続くクロージャ（exclude等）の場合も、宣言自体は依存関係として扱う
+                    String text = statement.toString().trim();
+                    handleStatement(text, blocks, variables, dependencies, projectDependencies);
+                    Matcher nameMatcher = BLOCK_NAME.matcher(text);
+                    blocks.add(nameMatcher.find() ? nameMatcher.group(1) : "");
+                    statement.setLength(0);
+                    parenDepth = 0;
+                }
+                case '}' -> {
+                    handleStatement(statement.toString().trim(), blocks, variables, dependencies, projectDependencies);
+                    if (!blocks.isEmpty()) {
+                        blocks.remove(blocks.size() - 1);
+                    }
+                    statement.setLength(0);
+                    parenDepth = 0;
+                }
+                case '\n', ';' -> {
+                    String text = statement.toString().trim();
+                    // 括弧内の改行・行末がカンマの場合は宣言が続く
+                    if (parenDepth > 0 || (c == '\n' && text.endsWith(","))) {
+                        statement.append(' ');
+                    } else {
+                        handleStatement(text, blocks, variables, dependencies, projectDependencies);
+                        statement.setLength(0);
+                    }
+                }
+                default -> statement.append(c);
+            }
+        }
+        handleStatement(statement.toString().trim(), blocks, variables, dependencies, projectDependencies);
+        return new GradleBuild(List.copyOf(dependencies), List.copyOf(projectDependencies), Collections.unmodifiableMap(variables));
+    }
+
+    /**
+     * gradle.propertiesの内容からプロパティを読み取る
+     */
+    public static Map<String, String> readProperties(String content) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        Properties loaded = new Properties();
+        try {
+            loaded.load(new StringReader(content));
+        } catch (IOException e) {
+            return properties;
+        }
+        loaded.stringPropertyNames().stream().sorted().forEach(name -> properties.put(name, loaded.getProperty(name)));
+        return properties;
+    }
+
+    private static void handleStatement(String statement, List<String> blocks, Map<String, String> variables,
+                                        List<GradleDependency> dependencies, List<String> projectDependencies) {
+        if (statement.isEmpty()) {
+            return;
+        }
+        if (blocks.isEmpty()) {
+            Matcher variable = VARIABLE.matcher(statement);
+            if (variable.matches()) {
+                String name = firstNonNull(variable.group(1), variable.group(2), variable.group(3));
+                putVariable(variables, name, variable.group(4), variable.group(5));
+            }
+        } else if (blocks.size() == 1 && (blocks.get(0).equals("ext") || blocks.get(0).equals("extra"))) {
+            Matcher assignment = EXT_ASSIGNMENT.matcher(statement);
+            if (assignment.matches()) {
+                putVariable(variables, firstNonNull(assignment.group(1), assignment.group(2)), assignment.group(3), assignment.group(4));
+            }
+        } else if (blocks.size() == 1 && blocks.get(0).equals("dependencies")) {
+            parseDependency(statement, variables, dependencies, projectDependencies);
+        }
+    }
+
+    private static void putVariable(Map<String, String> variables, String name, String singleQuoted, String doubleQuoted) {
+        variables.put(name, singleQuoted != null ? singleQuoted : interpolate(doubleQuoted, variables));
+    }
+
+    /**
+     * dependenciesブロック内の宣言を解析する
+     * implementation 'g:n:v'、implementation("g:n:v")、implementation group: 'g', name: 'n', version: 'v'、
+     * implementation(platform("g:n:v"))、implementation project(':core') の形式に対応する
+     */
+    private static void parseDependency(String statement, Map<String, String> variables,
+                                        List<GradleDependency> dependencies, List<String> projectDependencies) {
+        Matcher matcher = STATEMENT.matcher(statement);
+        if (!matcher.matches()) {
+            return;
+        }
+        String configuration = matcher.group(1);
+        String notation = unwrap(matcher.group(2).trim());
+        for (String wrapper : List.of("platform", "enforcedPlatform", "testFixtures")) {
+            if (notation.startsWith(wrapper + "(")) {
+                notation = unwrap(notation.substring(wrapper.length()));
+            }
+        }
+
+        Matcher projectReference = PROJECT_REFERENCE.matcher(notation);
+        if (projectReference.find()) {
+            String path = projectReference.group(1);
+            projectDependencies.add(path.startsWith(":") ? path : ":" + path);
+            return;
+        }
+        if (MAP_NOTATION.matcher(notation).find()) {
+            Map<String, String> entries = new LinkedHashMap<>();
+            Matcher entry = MAP_ENTRY.matcher(notation);
+            while (entry.find()) {
+                String value = entry.group(2) != null ? entry.group(2)
+                        : entry.group(3) != null ? interpolate(entry.group(3), variables) : lookup(entry.group(4), variables);
+                entries.put(entry.group(1), value);
+            }
+            if (entries.get("name") != null && !entries.get("name").isEmpty()) {
+                dependencies.add(new GradleDependency(configuration, entries.get("group"), entries.get("name"),
+                        entries.get("version"), entries.get("classifier")));
+            }
+            return;
+        }
+        if (!(notation.startsWith("'") || notation.startsWith("\""))) {
+            // files()、fileTree()、バージョンカタログ（libs.*）等は対象外
+            return;
+        }
+        Matcher literal = STRING_LITERAL.matcher(notation);
+        while (literal.find()) {
+            String value = literal.group(1) != null ? literal.group(1) : interpolate(literal.group(2), variables);
+            GradleDependency dependency = parseNotation(configuration, value);
+            if (dependency != null) {
+                dependencies.add(dependency);
+            }
+        }
+    }
+
+    /**
+     * group:name:version:classifier@extension 形式の文字列を解析する
+     */
+    private static GradleDependency parseNotation(String configuration, String notation) {
+        int extensionIndex = notation.indexOf('@');
+        if (extensionIndex >= 0) {
+            notation = notation.substring(0, extensionIndex);
+        }
+        String[] parts = notation.split(":", -1);
+        if (parts.length < 2 || parts[1].isEmpty()) {
+            return null;
+        }
+        return new GradleDependency(configuration, parts[0],
+                parts[1],
+                parts.length >= 3 && !parts[2].isEmpty() ? parts[2] : null,
+                parts.length >= 4 && !parts[3].isEmpty() ? parts[3] : null);
+    }
+
+    /**
+     * 外側の括弧（implementation(...)の括弧）を取り除く
+     */
+    private static String unwrap(String notation) {
+        if (notation.startsWith("(") && notation.endsWith(")")) {
+            return notation.substring(1, notation.length() - 1).trim();
+        }
+        return notation;
+    }
+
+    /**
+     * 文字列中の$name・${name}を変数で置き換える（解決できない場合はそのまま残す）
+     */
+    private static String interpolate(String value, Map<String, String> variables) {
+        if (value == null || value.indexOf('$') < 0) {
+            return value;
+        }
+        Matcher matcher = INTERPOLATION.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1) != null ? matcher.group(1).trim() : matcher.group(2);
+            String resolved = lookup(name, variables);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(resolved != null ? resolved : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String lookup(String name, Map<String, String> variables) {
+        if (variables.containsKey(name)) {
+            return variables.get(name);
+        }
+        for (String prefix : VARIABLE_PREFIXES) {
+            if (name.startsWith(prefix) && variables.containsKey(name.substring(prefix.length()))) {
+                return variables.get(name.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 行コメント・ブロックコメントを取り除く（文字列リテラル内は対象外、改行は残す）
+     */
+    private static String stripComments(String content) {
+        StringBuilder result = new StringBuilder(content.length());
+        char quote = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            char next = i + 1 < content.length() ? content.charAt(i + 1) : 0;
+            if (quote != 0) {
+                result.append(c);
+                if (c == '\\' && next != 0) {
+                    result.append(next);
+                    i++;
+                } else if (c == quote || c == '\n') {
+                    quote = 0;
+                }
+            } else if (c == '/' && next == '/') {
+                while (i + 1 < content.length() && content.charAt(i + 1) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && next == '*') {
+                int end = content.indexOf("*/", i + 2);
+                int stop = end < 0 ? content.length() : end + 2;
+                for (int j = i; j < stop; j++) {
+                    if (content.charAt(j) == '\n') {
+                        result.append('\n');
+                    }
+                }
+                i = stop - 1;
+            } else {
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 読み取ったビルドファイル
+     * @param dependencies 外部ライブラリへの依存関係（宣言順）
+     * @param projectDependencies 依存を宣言したプロジェクトのパス（「:core」形式）
+     * @param variables 解決に使用した変数（gradle.propertiesのプロパティとビルドファイル中の変数）
+     */
+    public record GradleBuild(List<GradleDependency> dependencies, List<String> projectDependencies, Map<String, String> variables) {
+    }
+
+    /**
+     * Gradleの依存関係（未指定の要素はnull）
+     * @param configuration 依存関係の設定（implementation等）
+     */
+    public record GradleDependency(String configuration, String group, String name, String version, String classifier) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.springbootprojectanalyser.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * pom.xml読み取りクラス
+ * StAX（ストリーミング）でpom.xmlを1回だけ走査し、解析に使用する要素のみを取り出す
+ * 値はプレースホルダー（${...}）を含んだまま保持する（親POMの継承・プレースホルダーの解決は呼び出し側で行う）
+ * プロファイル・プラグインの依存関係は対象外とする
+ */
+public class PomReader {
+
+    private static final String DEPENDENCY = "project/dependencies/dependency";
+    private static final String MANAGED_DEPENDENCY = "project/dependencyManagement/dependencies/dependency";
+    private static final String EXCLUSION = "/exclusions/exclusion";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private PomReader() {
+    }
+
+    /**
+     * pom.xmlの内容を読み取る
+     * @param content ファイル内容
+     * @return 読み取ったPOM
+     * @throws XMLStreamException XMLとして読み取れない場合
+     */
+    public static RawPom read(byte[] content) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(content));
+        try {
+            return new Handler().read(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 要素のパス（「project/dependencies/dependency」形式）で値の格納先を振り分ける
+     */
+    private static class Handler {
+
+        private final List<String> path = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private final Map<String, String> projectFields = new HashMap<>();
+        private final Map<String, String> parentFields = new HashMap<>();
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private final List<String> modules = new ArrayList<>();
+        private final List<RawDependency> dependencies = new ArrayList<>();
+        private final List<RawDependency> managedDependencies = new ArrayList<>();
+
+        private Map<String, String> dependencyFields;
+        private List<String> exclusions;
+        private Map<String, String> exclusionFields;
+
+        RawPom read(XMLStreamReader reader) throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> startElement(reader.getLocalName());
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text.append(reader.getText());
+                    case XMLStreamConstants.END_ELEMENT -> endElement();
+                    default -> {
+                    }
+                }
+            }
+            ParentReference parent = parentFields.containsKey("artifactId")
+                    ? new ParentReference(parentFields.get("groupId"), parentFields.get("artifactId"),
+                            parentFields.get("version"), parentFields.get("relativePath"))
+                    : null;
+            return new RawPom(projectFields.get("groupId"), projectFields.get("artifactId"), projectFields.get("version"),
+                    projectFields.get("packaging"), parent, properties, modules, dependencies, managedDependencies);
+        }
+
+        private void startElement(String name) {
+            path.add(name);
+            text.setLength(0);
+            String key = String.join("/", path);
+            if (key.equals(DEPENDENCY) || key.equals(MANAGED_DEPENDENCY)) {
+                dependencyFields = new HashMap<>();
+                exclusions = new ArrayList<>();
+            } else if (dependencyFields != null && (key.equals(DEPENDENCY + EXCLUSION) || key.equals(MANAGED_DEPENDENCY + EXCLUSION))) {
+                exclusionFields = new HashMap<>();
+            }
+        }
+
+        private void endElement() {
+            String key = String.join("/", path);
+            String value = text.toString().trim();
+            String name = path.get(path.size() - 1);
+            String parentKey = path.size() > 1 ? key.substring(0, key.length() - name.length() - 1) : "";
+
+            if (parentKey.equals("project")) {
+                projectFields.put(name, value);
+            } else if (parentKey.equals("project/parent")) {
+                parentFields.put(name, value);
+            } else if (parentKey.equals("project/properties")) {
+                properties.put(name, value);
+            } else if (key.equals("project/modules/module")) {
+                modules.add(value);
+            } else if (exclusionFields != null && (parentKey.equals(DEPENDENCY + EXCLUSION) || parentKey.equals(MANAGED_DEPENDENCY + EXCLUSION))) {
+                exclusionFields.put(name, value);
+            } else if (exclusionFields != null && (key.equals(DEPENDENCY + EXCLUSION) || key.equals(MANAGED_DEPENDENCY + EXCLUSION))) {
+                exclusions.add(exclusionFields.getOrDefault("groupId", "*") + ":" + exclusionFields.getOrDefault("artifactId", "*"));
+                exclusionFields = null;
+            } else if (dependencyFields != null && (parentKey.equals(DEPENDENCY) || parentKey.equals(MANAGED_DEPENDENCY))) {
+                dependencyFields.put(name, value);
+            } else if (dependencyFields != null && (key.equals(DEPENDENCY) || key.equals(MANAGED_DEPENDENCY))) {
+                RawDependency dependency = new RawDependency(dependencyFields.get("groupId"), dependencyFields.get("artifactId"),
+                        dependencyFields.get("version"), dependencyFields.get("type"), dependencyFields.get("classifier"),
+                        dependencyFields.get("scope"), dependencyFields.get("optional"), List.copyOf(exclusions));
+                (key.equals(DEPENDENCY) ? dependencies : managedDependencies).add(dependency);
+                dependencyFields = null;
+            }
+            path.remove(path.size() - 1);
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * 読み取ったPOM（値は未解決のまま、未指定の要素はnull）
+     * @param properties &lt;properties&gt;の要素（宣言順）
+     * @param modules &lt;modules&gt;のモジュールのパス
+     * @param dependencies &lt;dependencies&gt;の依存関係
+     * @param managedDependencies &lt;dependencyManagement&gt;の依存関係
+     */
+    public record RawPom(
+            String groupId,
+            String artifactId,
+            String version,
+            String packaging,
+            ParentReference parent,
+            Map<String, String> properties,
+            List<String> modules,
+            List<RawDependency> dependencies,
+            List<RawDependency> managedDependencies) {
+    }
+
+    /**
+     * 親POMの参照
+     * @param relativePath 親POMの相対パス（未指定の場合はnull、空要素の場合は空文字）
+     */
+    public record ParentReference(String groupId, String artifactId, String version, String relativePath) {
+    }
+
+    /**
+     * 依存関係（値は未解決のまま、未指定の要素はnull）
+     * @param exclusions 除外する依存関係（groupId:artifactId形式）
+     */
+    public record RawDependency(
+            String groupId,
+            String artifactId,
+            String version,
+            String type,
+            String classifier,
+            String scope,
+            String optional,
+            List<String> exclusions) {
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.springbootprojectanalyser.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * URIルートトライ（不変）
+ * エンドポイントのURIを「/」区切りのセグメント単位でトライに格納し、
+ * パス・前方一致・テンプレート・ワイルドカードによる検索を行う
+ * パス変数（{id}、{id:正規表現}）と「*」は1セグメントの変数、「**」は0個以上のセグメントとして扱う
+ * 検索結果は登録順に並ぶ
+ *
+ * @param <T> ルートに対応付ける値の型
+ */
+public final class RouteTrie<T> {
+
+    private final Node root;
+    private final List<T> values;
+    private final String[] httpMethods;
+
+    private RouteTrie(Node root, List<T> values, String[] httpMethods) {
+        this.root = root;
+        this.values = values;
+        this.httpMethods = httpMethods;
+    }
+
+    /**
+     * ビルダーを生成する
+     * @return ビルダー
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 登録されたルート数を取得する
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 登録された全ての値を登録順に取得する
+     */
+    public List<T> values() {
+        return values;
+    }
+
+    /**
+     * 全てのルートを取得する
+     * @param httpMethod HTTPメソッド（nullまたは空の場合は全て）
+     * @return ルートの値
+     */
+    public List<T> findAll(String httpMethod) {
+        if (httpMethod == null || httpMethod.isBlank()) {
+            return values;
+        }
+        BitSet result = new BitSet(values.size());
+        result.set(0, values.size());
+        return collect(result, httpMethod);
+    }
+
+    /**
+     * 実際のリクエストパス（例: /orders/42/items）に一致するルートを検索する
+     * @param path リクエストパス
+     * @param httpMethod HTTPメソッド（nullまたは空の場合は全て）
+     * @return 一致したルートの値
+     */
+    public List<T> match(String path, String httpMethod) {
+        BitSet result = new BitSet(values.size());
+        matchPath(root, segments(path), 0, result);
+        return collect(result, httpMethod);
+    }
+
+    /**
+     * 指定したセグメントで始まるルートを検索する（例: /orders は /orders/{id}/items に一致）
+     * @param prefix 前方一致させるパス（パス変数・「*」・「**」はルートの同種セグメントに一致）
+     * @param httpMethod HTTPメソッド（nullまたは空の場合は全て）
+     * @return 一致したルートの値
+     */
+    public List<T> findByPrefix(String prefix, String httpMethod) {
+        BitSet result = new BitSet(values.size());
+        Node node = descend(prefix);
+        if (node != null) {
+            collectSubtree(node, result);
+        }
+        return collect(result, httpMethod);
+    }
+
+    /**
+     * テンプレートと同じ形のルートを検索する（パス変数名は区別しない）
+     * 例: /orders/{orderId}/items は /orders/{id}/items に一致する
+     * @param template パステンプレート
+     * @param httpMethod HTTPメソッド（nullまたは空の場合は全て）
+     * @return 一致したルートの値
+     */
+    public List<T> findByTemplate(String template, String httpMethod) {
+        BitSet result = new BitSet(values.size());
+        Node node = descend(template);
+        if (node != null) {
+            node.routes.forEach(result::set);
+        }
+        return collect(result, httpMethod);
+    }
+
+    /**
+     * ワイルドカードパターンに一致するルートを検索する
+     * 「*」は任意の1セグメント、「**」は0個以上の任意のセグメント、
+     * セグメント内の「*」（例: item*）は任意の文字列に一致する
+     * @param pattern ワイルドカードパターン
+     * @param httpMethod HTTPメソッド（nullまたは空の場合は全て）
+     * @return 一致したルートの値
+     */
+    public List<T> findByWildcard(String pattern, String httpMethod) {
+        BitSet result = new BitSet(values.size());
+        List<String> segments = segments(pattern);
+        Pattern[] globs = new Pattern[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (segment.contains("*") && !segment.equals("*") && !segment.equals("**")) {
+                globs[i] = toGlob(segment);
+            }
+        }
+        matchWildcard(root, segments, globs, 0, result);
+        return collect(result, httpMethod);
+    }
+
+    private void matchPath(Node node, List<String> segments, int index, BitSet result) {
+        if (node.catchAll != null) {
+            // 「**」は残りのセグメント全体（0個を含む）に一致し、後続セグメントがある場合は任意の位置から一致を試みる
+            node.catchAll.routes.forEach(result::set);
+            for (int i = index; i < segments.size(); i++) {
+                matchPath(node.catchAll, segments, i, result);
+            }
+        }
+        if (index == segments.size()) {
+            node.routes.forEach(result::set);
+            return;
+        }
+        Node literal = node.literals.get(segments.get(index));
+        if (literal != null) {
+            matchPath(literal, segments, index + 1, result);
+        }
+        if (node.variable != null) {
+            matchPath(node.variable, segments, index + 1, result);
+        }
+    }
+
+    private void matchWildcard(Node node, List<String> segments, Pattern[] globs, int index, BitSet result) {
+        if (index == segments.size()) {
+            node.routes.forEach(result::set);
+            return;
+        }
+        String segment = segments.get(index);
+        if (segment.equals("**")) {
+            // 連続する「**」は1つとして扱う
+            int next = index + 1;
+            while (next < segments.size() && segments.get(next).equals("**")) {
+                next++;
+            }
+            // 0個のセグメントに一致する場合と、1個以上のセグメントを読み進める場合
+            matchWildcard(node, segments, globs, next, result);
+            for (Node child : node.children) {
+                matchWildcard(child, segments, globs, index, result);
+            }
+        } else if (segment.equals("*")) {
+            for (Node child : node.children) {
+                matchWildcard(child, segments, globs, index + 1, result);
+            }
+        } else if (globs[index] != null) {
+            for (Map.Entry<String, Node> entry : node.literals.entrySet()) {
+                if (globs[index].matcher(entry.getKey()).matches()) {
+                    matchWildcard(entry.getValue(), segments, globs, index + 1, result);
+                }
+            }
+        } else {
+            Node child = node.child(segment);
+            if (child != null) {
+                matchWildcard(child, segments, globs, index + 1, result);
+            }
+        }
+    }
+
+    private Node descend(String path) {
+        Node node = root;
+        for (String segment : segments(path)) {
+            node = node.child(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void collectSubtree(Node node, BitSet result) {
+        node.routes.forEach(result::set);
+        for (Node child : node.children) {
+            collectSubtree(child, result);
+        }
+    }
+
+    private List<T> collect(BitSet result, String httpMethod) {
+        List<T> matched = new ArrayList<>(result.cardinality());
+        boolean allMethods = httpMethod == null || httpMethod.isBlank();
+        for (int route = result.nextSetBit(0); route >= 0; route = result.nextSetBit(route + 1)) {
+            if (allMethods || httpMethods[route].equalsIgnoreCase(httpMethod)) {
+                matched.add(values.get(route));
+            }
+        }
+        return matched;
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        if (path == null) {
+            return segments;
+        }
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"));
+    }
+
+    private static Pattern toGlob(String segment) {
+        StringBuilder regex = new StringBuilder();
+        String[] parts = segment.split("\\*", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                regex.append(".*");
+            }
+            if (!parts[i].isEmpty()) {
+                regex.append(Pattern.quote(parts[i]));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * トライのノード（1セグメント分）
+     */
+    private static final class Node {
+        /** リテラルセグメント -> 子ノード */
+        private final Map<String, Node> literals = new HashMap<>();
+        /** パス変数（{id}・*）の子ノード */
+        private Node variable;
+        /** 「**」の子ノード */
+        private Node catchAll;
+        /** このノードで終わるルートの登録番号 */
+        private final List<Integer> routes = new ArrayList<>(1);
+        /** 全ての子ノード（リテラル・パス変数・「**」） */
+        private Node[] children = new Node[0];
+
+        private Node child(String segment) {
+            if (segment.equals("**")) {
+                return catchAll;
+            }
+            if (isVariable(segment)) {
+                return variable;
+            }
+            return literals.get(segment);
+        }
+
+        private Node childOrCreate(String segment) {
+            if (segment.equals("**")) {
+                if (catchAll == null) {
+                    catchAll = new Node();
+                }
+                return catchAll;
+            }
+            if (isVariable(segment)) {
+                if (variable == null) {
+                    variable = new Node();
+                }
+                return variable;
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        /**
+         * 子ノードの一覧を確定する（構築完了時に呼び出す）
+         */
+        private void freeze() {
+            List<Node> all = new ArrayList<>(literals.size() + 2);
+            all.addAll(literals.values());
+            if (variable != null) {
+                all.add(variable);
+            }
+            if (catchAll != null) {
+                all.add(catchAll);
+            }
+            children = all.toArray(new Node[0]);
+            for (Node child : children) {
+                child.freeze();
+            }
+        }
+    }
+
+    /**
+     * URIルートトライのビルダー
+     */
+    public static final class Builder<T> {
+
+        private final Node root = new Node();
+        private final List<T> values = new ArrayList<>();
+        private final List<String> httpMethods = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * ルートを登録する
+         * @param uri URI（パス変数を含むテンプレート）
+         * @param httpMethod HTTPメソッド
+         * @param value 対応付ける値
+         */
+        public Builder<T> add(String uri, String httpMethod, T value) {
+            Node node = root;
+            for (String segment : segments(uri)) {
+                node = node.childOrCreate(segment);
+            }
+            node.routes.add(values.size());
+            values.add(value);
+            httpMethods.add(httpMethod != null ? httpMethod : "");
+            return this;
+        }
+
+        public RouteTrie<T> build() {
+            root.freeze();
+            return new RouteTrie<>(root, Collections.unmodifiableList(new ArrayList<>(values)),
+                    httpMethods.toArray(new String[0]));
+        }
+    }
+}
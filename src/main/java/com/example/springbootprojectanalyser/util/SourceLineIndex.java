@@ -0,0 +1,62 @@
+package com.example.springbootprojectanalyser.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ソースファイル行インデックスクラス
+ * UTF-8のファイル内容から各行の開始バイト位置を保持し、
+ * JavaParserの位置情報（行・桁）をファイル先頭からのバイトオフセットに変換する
+ */
+public class SourceLineIndex {
+
+    private final byte[] content;
+    /** 行番号（0始まり） -> 行の開始バイト位置 */
+    private final int[] lineStarts;
+    private final int lineCount;
+
+    private SourceLineIndex(byte[] content, int[] lineStarts, int lineCount) {
+        this.content = content;
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * ファイル内容（UTF-8）から行インデックスを生成する
+     * 改行はLF・CRLF・CRのいずれにも対応する
+     * @param content ファイル内容
+     * @return 行インデックス
+     */
+    public static SourceLineIndex of(byte[] content) {
+        int[] lineStarts = new int[64];
+        int lineCount = 1;
+        for (int i = 0; i < content.length; i++) {
+            boolean lineBreak = content[i] == '\n'
+                    || (content[i] == '\r' && (i + 1 >= content.length || content[i + 1] != '\n'));
+            if (lineBreak) {
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                }
+                lineStarts[lineCount++] = i + 1;
+            }
+        }
+        return new SourceLineIndex(content, lineStarts, lineCount);
+    }
+
+    /**
+     * 行・桁（いずれも1始まり、桁は文字単位）をバイトオフセットに変換する
+     * @param line 行番号
+     * @param column 桁番号
+     * @return ファイル先頭からのバイトオフセット
+     */
+    public long byteOffset(int line, int column) {
+        if (line < 1 || line > lineCount) {
+            throw new IllegalArgumentException("行番号が範囲外です: " + line);
+        }
+        int lineStart = lineStarts[line - 1];
+        int lineEnd = line < lineCount ? lineStarts[line] : content.length;
+        String lineText = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+        int chars = Math.min(Math.max(column - 1, 0), lineText.length());
+        return lineStart + (long) lineText.substring(0, chars).getBytes(StandardCharsets.UTF_8).length;
+    }
+}
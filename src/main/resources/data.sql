@@ -2,11 +2,15 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 
 -- 全テーブルのデータを削除（AUTO_INCREMENTもリセット）
+TRUNCATE TABLE dependency_cycles;
+TRUNCATE TABLE package_dependency_kind_rollups;
+TRUNCATE TABLE package_rollups;
 TRUNCATE TABLE annotation_attributes;
 TRUNCATE TABLE annotations;
 TRUNCATE TABLE endpoints;
 TRUNCATE TABLE members;
 TRUNCATE TABLE class_dependencies;
+TRUNCATE TABLE symbols;
 TRUNCATE TABLE classes;
 TRUNCATE TABLE packages;
 TRUNCATE TABLE projects;
@@ -8,7 +8,9 @@ CREATE TABLE IF NOT EXISTS dependency_kinds (
 CREATE TABLE IF NOT EXISTS projects (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     root_path VARCHAR(1000) NOT NULL UNIQUE,
-    created_at TIMESTAMP NOT NULL
+    created_at TIMESTAMP NOT NULL,
+    analyzed_commit VARCHAR(64),
+    frontend VARCHAR(20)
 );
 
 -- パッケージテーブル
@@ -22,15 +24,44 @@ CREATE TABLE IF NOT EXISTS packages (
     FOREIGN KEY (parent_package_id) REFERENCES packages(id) ON DELETE CASCADE
 );
 
+-- モジュールテーブル（マルチモジュールプロジェクトのMaven/Gradleモジュール、ルートのモジュールを含む）
+CREATE TABLE IF NOT EXISTS modules (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    name VARCHAR(500) NOT NULL,
+    module_path VARCHAR(1000) NOT NULL,
+    build_file VARCHAR(100),
+    artifact_key VARCHAR(1000),
+    file_count INT NOT NULL,
+    source_fingerprint VARCHAR(64) NOT NULL,
+    build_fingerprint VARCHAR(64) NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
 -- クラステーブル
 CREATE TABLE IF NOT EXISTS classes (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     project_id BIGINT NOT NULL,
     package_id BIGINT,
+    module_id BIGINT,
     full_qualified_name VARCHAR(1000) NOT NULL,
     simple_name VARCHAR(500) NOT NULL,
+    source_path VARCHAR(2000),
+    source_start_line INT,
+    source_end_line INT,
+    source_start_offset BIGINT,
+    source_end_offset BIGINT,
     FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
-    FOREIGN KEY (package_id) REFERENCES packages(id) ON DELETE CASCADE
+    FOREIGN KEY (package_id) REFERENCES packages(id) ON DELETE CASCADE,
+    FOREIGN KEY (module_id) REFERENCES modules(id) ON DELETE CASCADE
+);
+
+-- シンボルテーブル（依存関係で繰り返し出現する文字列の辞書）
+CREATE TABLE IF NOT EXISTS symbols (
+    id BIGINT NOT NULL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    symbol_value VARCHAR(1000) NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
 );
 
 -- クラス依存関係テーブル
@@ -38,12 +69,14 @@ CREATE TABLE IF NOT EXISTS class_dependencies (
     dependency_record_id VARCHAR(36) NOT NULL PRIMARY KEY,
     source_class_id BIGINT NOT NULL,
     target_class_id BIGINT,
-    source_class_fqn VARCHAR(1000) NOT NULL,
-    target_identifier VARCHAR(1000) NOT NULL,
+    source_class_fqn_symbol_id BIGINT NOT NULL,
+    target_identifier_symbol_id BIGINT NOT NULL,
     dependency_kind_code VARCHAR(50) NOT NULL,
     detected_at TIMESTAMP NOT NULL,
     FOREIGN KEY (source_class_id) REFERENCES classes(id) ON DELETE CASCADE,
     FOREIGN KEY (target_class_id) REFERENCES classes(id) ON DELETE CASCADE,
+    FOREIGN KEY (source_class_fqn_symbol_id) REFERENCES symbols(id) ON DELETE CASCADE,
+    FOREIGN KEY (target_identifier_symbol_id) REFERENCES symbols(id) ON DELETE CASCADE,
     FOREIGN KEY (dependency_kind_code) REFERENCES dependency_kinds(code) ON DELETE RESTRICT
 );
 
@@ -107,11 +140,83 @@ CREATE TABLE IF NOT EXISTS annotation_attributes (
     FOREIGN KEY (annotation_id) REFERENCES annotations(id) ON DELETE CASCADE
 );
 
+-- パッケージ集計テーブル
+CREATE TABLE IF NOT EXISTS package_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    package_id BIGINT NOT NULL UNIQUE,
+    class_count INT NOT NULL,
+    outgoing_edge_count BIGINT NOT NULL,
+    incoming_edge_count BIGINT NOT NULL,
+    subtree_class_count INT NOT NULL,
+    subtree_outgoing_edge_count BIGINT NOT NULL,
+    subtree_incoming_edge_count BIGINT NOT NULL,
+    FOREIGN KEY (package_id) REFERENCES packages(id) ON DELETE CASCADE
+);
+
+-- パッケージ×依存種類集計テーブル
+CREATE TABLE IF NOT EXISTS package_dependency_kind_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    package_id BIGINT NOT NULL,
+    dependency_kind_code VARCHAR(50) NOT NULL,
+    dependency_count BIGINT NOT NULL,
+    subtree_dependency_count BIGINT NOT NULL,
+    FOREIGN KEY (package_id) REFERENCES packages(id) ON DELETE CASCADE,
+    FOREIGN KEY (dependency_kind_code) REFERENCES dependency_kinds(code) ON DELETE RESTRICT
+);
+
+-- 依存関係の循環テーブル
+CREATE TABLE IF NOT EXISTS dependency_cycles (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    scope VARCHAR(20) NOT NULL,
+    kind_filter VARCHAR(500) NOT NULL,
+    cycle_index INT NOT NULL,
+    member_count INT NOT NULL,
+    edge_count INT NOT NULL,
+    members CLOB NOT NULL,
+    example_path CLOB NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+-- モジュール間依存関係テーブル（クラス間の依存関係の件数と、ビルドファイルでの依存の宣言有無）
+CREATE TABLE IF NOT EXISTS module_dependencies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    source_module_id BIGINT NOT NULL,
+    target_module_id BIGINT NOT NULL,
+    dependency_count BIGINT NOT NULL,
+    declared BOOLEAN NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (source_module_id) REFERENCES modules(id) ON DELETE CASCADE,
+    FOREIGN KEY (target_module_id) REFERENCES modules(id) ON DELETE CASCADE
+);
+
+-- ビルド依存関係ツリーテーブル（ローカルリポジトリで解決した推移的な依存関係を含む、tree_positionは深さ優先の順）
+CREATE TABLE IF NOT EXISTS build_dependencies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    module_id BIGINT NOT NULL,
+    tree_position INT NOT NULL,
+    depth INT NOT NULL,
+    group_id VARCHAR(255) NOT NULL,
+    artifact_id VARCHAR(255) NOT NULL,
+    version VARCHAR(100),
+    scope VARCHAR(20),
+    classifier VARCHAR(100),
+    optional BOOLEAN NOT NULL,
+    parent_coordinates VARCHAR(600),
+    resolved BOOLEAN NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    FOREIGN KEY (module_id) REFERENCES modules(id) ON DELETE CASCADE
+);
+
 -- インデックス作成
 CREATE INDEX IF NOT EXISTS idx_packages_project_id ON packages(project_id);
 CREATE INDEX IF NOT EXISTS idx_packages_parent_package_id ON packages(parent_package_id);
+CREATE INDEX IF NOT EXISTS idx_packages_full_name ON packages(full_name);
 CREATE INDEX IF NOT EXISTS idx_classes_project_id ON classes(project_id);
 CREATE INDEX IF NOT EXISTS idx_classes_package_id ON classes(package_id);
+CREATE INDEX IF NOT EXISTS idx_classes_module_id ON classes(module_id);
 CREATE INDEX IF NOT EXISTS idx_classes_full_qualified_name ON classes(full_qualified_name);
 CREATE INDEX IF NOT EXISTS idx_class_dependencies_source_class_id ON class_dependencies(source_class_id);
 CREATE INDEX IF NOT EXISTS idx_class_dependencies_target_class_id ON class_dependencies(target_class_id);
@@ -122,4 +227,8 @@ CREATE INDEX IF NOT EXISTS idx_endpoints_http_method_id ON endpoints(http_method
 CREATE INDEX IF NOT EXISTS idx_annotations_member_id ON annotations(member_id);
 CREATE INDEX IF NOT EXISTS idx_annotations_class_id ON annotations(class_id);
 CREATE INDEX IF NOT EXISTS idx_annotation_attributes_annotation_id ON annotation_attributes(annotation_id);
-
+CREATE INDEX IF NOT EXISTS idx_package_dependency_kind_rollups_package_id ON package_dependency_kind_rollups(package_id);
+CREATE INDEX IF NOT EXISTS idx_dependency_cycles_project_id ON dependency_cycles(project_id, scope, kind_filter);
+CREATE INDEX IF NOT EXISTS idx_modules_project_id ON modules(project_id);
+CREATE INDEX IF NOT EXISTS idx_module_dependencies_project_id ON module_dependencies(project_id);
+CREATE INDEX IF NOT EXISTS idx_build_dependencies_project_id ON build_dependencies(project_id, module_id);
@@ -113,5 +113,138 @@ document.addEventListener('DOMContentLoaded', function() {
             endpointSelect.selectedIndex = selectedIndex;
         }
     }
+    
+    // エンドポイント検索（URIの前方一致、「*」を含む場合はワイルドカード）
+    const endpointSearchInput = document.getElementById('endpoint-search');
+    const endpointSearchMethod = document.getElementById('endpoint-search-method');
+    const projectIdInput = document.querySelector('input[name="projectId"]');
+    
+    if (endpointSelect && endpointSearchInput && projectIdInput) {
+        let searchTimer = null;
+        
+        const applySearch = function() {
+            const query = endpointSearchInput.value.trim();
+            const httpMethod = endpointSearchMethod ? endpointSearchMethod.value : '';
+            const params = new URLSearchParams();
+            if (query) {
+                params.append('mode', query.includes('*') ? 'wildcard' : 'prefix');
+                params.append('q', query);
+            }
+            if (httpMethod) {
+                params.append('method', httpMethod);
+            }
+            
+            fetch('/api/projects/' + encodeURIComponent(projectIdInput.value) + '/endpoints?' + params.toString())
+                .then(function(response) {
+                    return response.ok ? response.json() : [];
+                })
+                .then(function(endpoints) {
+                    // 一致したエンドポイントのみ表示する（先頭の未選択オプションは常に表示）
+                    const matchedIds = new Set(endpoints.map(function(endpoint) { return endpoint.endpointId; }));
+                    for (let i = 1; i < endpointSelect.options.length; i++) {
+                        const option = endpointSelect.options[i];
+                        option.hidden = !matchedIds.has(option.value);
+                    }
+                })
+                .catch(function(error) {
+                    console.error('Endpoint search error:', error);
+                });
+        };
+        
+        const scheduleSearch = function() {
+            clearTimeout(searchTimer);
+            searchTimer = setTimeout(applySearch, 200);
+        };
+        
+        endpointSearchInput.addEventListener('input', scheduleSearch);
+        if (endpointSearchMethod) {
+            endpointSearchMethod.addEventListener('change', scheduleSearch);
+        }
+    }
+    
+    // 依存経路検索（開始クラスから終了クラスへの経路を短い順に表示する）
+    const pathSearchButton = document.getElementById('path-search-btn');
+    const pathProjectIdInput = document.getElementById('path-project-id');
+    const pathResult = document.getElementById('path-result');
+    
+    if (pathSearchButton && pathProjectIdInput && pathResult) {
+        const showPathMessage = function(message) {
+            pathResult.textContent = '';
+            const paragraph = document.createElement('p');
+            paragraph.textContent = message;
+            pathResult.appendChild(paragraph);
+        };
+        
+        const renderPaths = function(paths) {
+            if (paths.length === 0) {
+                showPathMessage('経路が見つかりませんでした。');
+                return;
+            }
+            pathResult.textContent = '';
+            const list = document.createElement('ol');
+            paths.forEach(function(path) {
+                const item = document.createElement('li');
+                item.style.padding = '5px 0';
+                item.style.borderBottom = '1px solid #eee';
+                
+                const length = document.createElement('div');
+                length.textContent = path.length + '段';
+                length.style.color = '#666';
+                item.appendChild(length);
+                
+                const first = document.createElement('div');
+                first.textContent = path.classes[0];
+                first.style.fontFamily = 'monospace';
+                item.appendChild(first);
+                path.hops.forEach(function(hop) {
+                    const kinds = document.createElement('div');
+                    kinds.textContent = '↓ ' + hop.dependencyKindCodes.map(function(code, i) {
+                        return code + '（' + hop.dependencyKindDescriptions[i] + '）';
+                    }).join('、');
+                    kinds.style.color = '#666';
+                    kinds.style.marginLeft = '10px';
+                    item.appendChild(kinds);
+                    
+                    const target = document.createElement('div');
+                    target.textContent = hop.targetClass;
+                    target.style.fontFamily = 'monospace';
+                    item.appendChild(target);
+                });
+                list.appendChild(item);
+            });
+            pathResult.appendChild(list);
+        };
+        
+        pathSearchButton.addEventListener('click', function() {
+            const from = document.getElementById('path-from').value.trim();
+            const to = document.getElementById('path-to').value.trim();
+            if (!from || !to) {
+                showPathMessage('開始クラスと終了クラスを入力してください。');
+                return;
+            }
+            const params = new URLSearchParams();
+            params.append('from', from);
+            params.append('to', to);
+            const kinds = document.getElementById('path-kinds').value.trim();
+            if (kinds) {
+                params.append('kinds', kinds);
+            }
+            params.append('k', document.getElementById('path-count').value);
+            
+            fetch('/api/projects/' + encodeURIComponent(pathProjectIdInput.value) + '/paths?' + params.toString())
+                .then(function(response) {
+                    return response.json().then(function(body) {
+                        if (!response.ok) {
+                            throw new Error(body.error || ('HTTP ' + response.status));
+                        }
+                        return body;
+                    });
+                })
+                .then(renderPaths)
+                .catch(function(error) {
+                    console.error('Dependency path search error:', error);
+                    showPathMessage('経路検索に失敗しました: ' + error.message);
+                });
+        });
+    }
 });
-
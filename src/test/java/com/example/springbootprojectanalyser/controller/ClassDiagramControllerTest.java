@@ -0,0 +1,117 @@
+package com.example.springbootprojectanalyser.controller;
+
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClassDiagramControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private SampleProject project;
+    private Long projectId;
+
+    @BeforeEach
+    void analyse() {
+        project = SampleProject.at(tempDir).orderApplication();
+        projectId = project.analyse(analysisService, projectRepository);
+    }
+
+    @Test
+    void concatenatesSourcesOfTheEndpointDiagram() throws Exception {
+        MockHttpServletResponse response = download("/classdiagram/download-files", "/orders/{id}", "GET");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("text/plain");
+        assertThat(response.getHeader("Content-Disposition")).contains("attachment").contains(".txt");
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        String controllerPath = "src/main/java/com/acme/order/web/OrderController.java";
+        assertThat(body)
+                .startsWith("===== FILE: " + controllerPath + " =====\n")
+                .contains(readSource(controllerPath))
+                .contains("===== FILE: src/main/java/com/acme/order/service/OrderServiceImpl.java =====");
+    }
+
+    @Test
+    void zipsSourcesWithTheirProjectRelativePaths() throws Exception {
+        MockHttpServletResponse response = download("/classdiagram/download-files-zip", "/orders/{id}", "GET");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/zip");
+        assertThat(response.getHeader("Content-Disposition")).contains(".zip");
+        List<String> entries = new ArrayList<>();
+        String controllerSource = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+                if (entry.getName().endsWith("OrderController.java")) {
+                    controllerSource = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        assertThat(entries)
+                .contains("src/main/java/com/acme/order/web/OrderController.java",
+                        "src/main/java/com/acme/order/service/OrderService.java",
+                        "src/main/java/com/acme/order/repository/OrderRepository.java")
+                .doesNotHaveDuplicates();
+        assertThat(controllerSource).isEqualTo(readSource("src/main/java/com/acme/order/web/OrderController.java"));
+    }
+
+    @Test
+    void reportsUnknownEndpoint() throws Exception {
+        MockHttpServletResponse response = download("/classdiagram/download-files", "/customers", "GET");
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("エンドポイントが見つかりません");
+    }
+
+    private MockHttpServletResponse download(String path, String endpointUri, String httpMethod) throws Exception {
+        MvcResult started = mockMvc.perform(get(path)
+                        .param("projectId", projectId.toString())
+                        .param("endpointUri", endpointUri)
+                        .param("httpMethod", httpMethod))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+    }
+
+    private String readSource(String relativePath) throws IOException {
+        return Files.readString(project.root().resolve(relativePath));
+    }
+}
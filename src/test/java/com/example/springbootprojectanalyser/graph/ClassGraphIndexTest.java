@@ -0,0 +1,129 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassGraphIndexTest {
+
+    /**
+     * controller(30) -> service(10) -> repository(20)、serviceImpl(40) -> service(10)（実装）
+     */
+    static ClassGraphIndex sampleIndex() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(7L);
+        builder.addNode(30L, "com.acme.web.OrderController", "OrderController");
+        builder.addNode(10L, "com.acme.service.OrderService", "OrderService");
+        builder.addNode(20L, "com.acme.repository.OrderRepository", "OrderRepository");
+        builder.addNode(40L, "com.acme.service.OrderServiceImpl", "OrderServiceImpl");
+        builder.addEdge(30L, 10L, "002_003", "コンストラクタDI");
+        builder.addEdge(40L, 10L, "001_002", "実装（implements）");
+        builder.addEdge(40L, 20L, "002_003", "コンストラクタDI");
+        builder.addEdge(30L, 20L, "001_005", "メソッド呼び出し");
+        return builder.build();
+    }
+
+    @Test
+    void looksUpNodesByClassIdAndName() {
+        ClassGraphIndex index = sampleIndex();
+
+        assertThat(index.generation()).isEqualTo(7L);
+        assertThat(index.nodeCount()).isEqualTo(4);
+        assertThat(index.edgeCount()).isEqualTo(4);
+        int service = index.nodeOf(10L);
+        assertThat(index.classId(service)).isEqualTo(10L);
+        assertThat(index.fullQualifiedName(service)).isEqualTo("com.acme.service.OrderService");
+        assertThat(index.simpleName(service)).isEqualTo("OrderService");
+        assertThat(index.nodeOfFullQualifiedName("com.acme.service.OrderService")).isEqualTo(service);
+        assertThat(index.nodeOf(99L)).isEqualTo(-1);
+        assertThat(index.nodeOf(null)).isEqualTo(-1);
+        assertThat(index.nodeOfFullQualifiedName("com.acme.Missing")).isEqualTo(-1);
+    }
+
+    @Test
+    void buildsForwardAndReverseAdjacency() {
+        ClassGraphIndex index = sampleIndex();
+        int controller = index.nodeOf(30L);
+        int service = index.nodeOf(10L);
+        int repository = index.nodeOf(20L);
+        int serviceImpl = index.nodeOf(40L);
+
+        // 同一ノード内では登録順を保持する
+        assertThat(outTargets(index, controller)).containsExactly(service, repository);
+        assertThat(outTargets(index, serviceImpl)).containsExactly(service, repository);
+        assertThat(outTargets(index, repository)).isEmpty();
+        assertThat(inSources(index, service)).containsExactly(controller, serviceImpl);
+        assertThat(inSources(index, repository)).containsExactly(serviceImpl, controller);
+
+        int edge = index.outStart(serviceImpl);
+        assertThat(index.kindCode(index.outKind(edge))).isEqualTo("001_002");
+        assertThat(index.kindDescription(index.outKind(edge))).isEqualTo("実装（implements）");
+    }
+
+    @Test
+    void ignoresDuplicateNodesAndEdgesToUnknownNodes() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(1L);
+        int first = builder.addNode(1L, "a.A", "A");
+        int again = builder.addNode(1L, "a.A", "A");
+        builder.addNode(2L, "a.B", "B");
+        builder.addEdge(1L, 2L, "001_005", null);
+        builder.addEdge(1L, 3L, "001_005", null);
+
+        ClassGraphIndex index = builder.build();
+
+        assertThat(again).isEqualTo(first);
+        assertThat(index.nodeCount()).isEqualTo(2);
+        assertThat(index.edgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void selectsEdgesByKindBitmap() {
+        ClassGraphIndex index = sampleIndex();
+        int constructorInjection = index.kindOf("002_003");
+        int methodCall = index.kindOf("001_005");
+        assertThat(index.kindOf("999_999")).isEqualTo(-1);
+        assertThat(index.kindCount()).isEqualTo(3);
+
+        BitSet kinds = new BitSet();
+        kinds.set(constructorInjection);
+        BitSet edges = index.outEdgesOfKinds(kinds);
+
+        assertThat(edges.cardinality()).isEqualTo(2);
+        for (int edge = edges.nextSetBit(0); edge >= 0; edge = edges.nextSetBit(edge + 1)) {
+            assertThat(index.outKind(edge)).isEqualTo(constructorInjection);
+        }
+        kinds.set(methodCall);
+        assertThat(index.outEdgesOfKinds(kinds).cardinality()).isEqualTo(3);
+        assertThat(index.edgeWordCount()).isEqualTo(1);
+        assertThat(Long.bitCount(index.kindEdgeWord(methodCall, 0))).isEqualTo(1);
+    }
+
+    @Test
+    void handlesEmptyGraph() {
+        ClassGraphIndex index = ClassGraphIndex.builder(0L).build();
+
+        assertThat(index.nodeCount()).isZero();
+        assertThat(index.edgeCount()).isZero();
+        assertThat(index.nodeOfFullQualifiedName("a.A")).isEqualTo(-1);
+        assertThat(index.outEdgesOfKinds(new BitSet()).isEmpty()).isTrue();
+    }
+
+    static List<Integer> outTargets(ClassGraphIndex index, int node) {
+        List<Integer> targets = new ArrayList<>();
+        for (int e = index.outStart(node); e < index.outEnd(node); e++) {
+            targets.add(index.outTarget(e));
+        }
+        return targets;
+    }
+
+    static List<Integer> inSources(ClassGraphIndex index, int node) {
+        List<Integer> sources = new ArrayList<>();
+        for (int e = index.inStart(node); e < index.inEnd(node); e++) {
+            sources.add(index.inSource(e));
+        }
+        return sources;
+    }
+}
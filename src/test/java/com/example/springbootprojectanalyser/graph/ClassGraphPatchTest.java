@@ -0,0 +1,85 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.sampleIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassGraphPatchTest {
+
+    @Test
+    void replacesDependenciesOfReparsedClasses() {
+        ClassGraphIndex base = sampleIndex();
+        ClassGraphPatch patch = new ClassGraphPatch(base)
+                .reparseClass(30L)
+                .addEdge(30L, 40L, "001_005", "メソッド呼び出し");
+
+        ClassGraphIndex patched = patch.apply(8L);
+
+        assertThat(patched.generation()).isEqualTo(8L);
+        assertThat(patched.nodeCount()).isEqualTo(4);
+        assertThat(targets(patched, 30L)).containsExactly("com.acme.service.OrderServiceImpl 001_005");
+        // 再解析していないクラスの依存関係は残す
+        assertThat(targets(patched, 40L)).containsExactlyInAnyOrder(
+                "com.acme.service.OrderService 001_002", "com.acme.repository.OrderRepository 002_003");
+        assertThat(patch.changesEdges(patched)).isTrue();
+    }
+
+    @Test
+    void retargetsRemainingDependenciesOfReplacedClassesByName() {
+        ClassGraphIndex base = sampleIndex();
+        // 変更ファイル解析では、変更ファイルのクラスを削除して仮のクラスIDで追加する
+        ClassGraphPatch patch = new ClassGraphPatch(base)
+                .removeClass(20L)
+                .addClass(-1L, "com.acme.repository.OrderRepository", "OrderRepository")
+                .removeClass(10L)
+                .addClass(-2L, "com.acme.service.OrderMapper", "OrderMapper")
+                .addEdge("com.acme.service.OrderMapper", "com.acme.repository.OrderRepository", "001_009", "フィールド型")
+                .addEdge("com.acme.service.OrderMapper", "com.acme.missing.Unknown", "001_009", "フィールド型");
+
+        ClassGraphIndex patched = patch.apply(base.generation());
+
+        assertThat(patched.nodeCount()).isEqualTo(4);
+        assertThat(patched.nodeOf(20L)).isEqualTo(-1);
+        assertThat(patched.classId(patched.nodeOfFullQualifiedName("com.acme.repository.OrderRepository"))).isEqualTo(-1L);
+        // 削除したクラスへの依存関係は同名の追加したクラスに付け替え、同名のクラスがなければ除く
+        assertThat(targets(patched, 40L)).containsExactly("com.acme.repository.OrderRepository 002_003");
+        assertThat(targets(patched, 30L)).containsExactly("com.acme.repository.OrderRepository 001_005");
+        assertThat(targets(patched, -2L)).containsExactly("com.acme.repository.OrderRepository 001_009");
+        assertThat(patch.changesEdges(patched)).isTrue();
+    }
+
+    @Test
+    void detectsUnchangedDependencies() {
+        ClassGraphIndex base = sampleIndex();
+        // 依存関係の順序が変わっても、依存先・依存種類が同じであれば変わらない
+        ClassGraphPatch patch = new ClassGraphPatch(base)
+                .reparseClass(40L)
+                .addEdge(40L, 20L, "002_003", "コンストラクタDI")
+                .addEdge(40L, 10L, "001_002", "実装（implements）");
+
+        ClassGraphIndex patched = patch.apply(8L);
+
+        assertThat(patched.edgeCount()).isEqualTo(base.edgeCount());
+        assertThat(patch.changesEdges(patched)).isFalse();
+
+        ClassGraphPatch duplicated = new ClassGraphPatch(base)
+                .reparseClass(40L)
+                .addEdge(40L, 20L, "002_003", "コンストラクタDI")
+                .addEdge(40L, 20L, "002_003", "コンストラクタDI")
+                .addEdge(40L, 10L, "001_002", "実装（implements）");
+        assertThat(duplicated.changesEdges(duplicated.apply(8L))).isTrue();
+    }
+
+    private static List<String> targets(ClassGraphIndex graph, long classId) {
+        int node = graph.nodeOf(classId);
+        List<String> targets = new ArrayList<>();
+        for (int e = graph.outStart(node); e < graph.outEnd(node); e++) {
+            targets.add(graph.fullQualifiedName(graph.outTarget(e)) + " " + graph.kindCode(graph.outKind(e)));
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarEdgeStoreTest {
+
+    @Test
+    void appendsEdgesAndInternsKinds() {
+        ColumnarEdgeStore store = new ColumnarEdgeStore(1);
+        for (int i = 0; i < 40; i++) {
+            store.append(i, i + 1, i % 2 == 0 ? "001_005" : "002_003");
+        }
+
+        assertThat(store.size()).isEqualTo(40);
+        assertThat(store.isCompacted()).isFalse();
+        assertThat(store.kindCount()).isEqualTo(2);
+        assertThat(store.kindCode(store.kind(0))).isEqualTo("001_005");
+        assertThat(store.kindCode(store.kind(39))).isEqualTo("002_003");
+        assertThat(store.sourceId(39)).isEqualTo(39);
+        assertThat(store.targetId(39)).isEqualTo(40);
+        assertThat(store.count(39)).isEqualTo(1);
+    }
+
+    @Test
+    void compactSortsAndAggregatesDuplicates() {
+        ColumnarEdgeStore store = sampleStore();
+
+        store.compact();
+
+        assertThat(store.isCompacted()).isTrue();
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.totalCount()).isEqualTo(6);
+        assertEdge(store, 0, 1, 2, "001_005", 2);
+        assertEdge(store, 1, 1, 3, "001_005", 1);
+        assertEdge(store, 2, 2, ColumnarEdgeStore.UNRESOLVED, "001_005", 1);
+        assertEdge(store, 3, 2, 1, "002_003", 2);
+    }
+
+    @Test
+    void compactIsIdempotentAndReopensOnAppend() {
+        ColumnarEdgeStore store = sampleStore();
+        store.compact();
+        store.compact();
+        assertThat(store.size()).isEqualTo(4);
+
+        store.append(1, 2, "001_005");
+        assertThat(store.isCompacted()).isFalse();
+        store.compact();
+
+        assertThat(store.size()).isEqualTo(4);
+        assertEdge(store, 0, 1, 2, "001_005", 3);
+    }
+
+    @Test
+    void roundTripsThroughTheBinaryFormat() throws IOException {
+        ColumnarEdgeStore store = sampleStore();
+        store.compact();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.writeTo(out);
+
+        ColumnarEdgeStore loaded = ColumnarEdgeStore.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(loaded.isCompacted()).isTrue();
+        assertThat(loaded.size()).isEqualTo(store.size());
+        assertThat(loaded.kindCount()).isEqualTo(store.kindCount());
+        for (int edge = 0; edge < store.size(); edge++) {
+            assertEdge(loaded, edge, store.sourceId(edge), store.targetId(edge),
+                    store.kindCode(store.kind(edge)), store.count(edge));
+        }
+        // 読み込んだストアにも追記できる
+        loaded.append(9, 9, "001_001");
+        assertThat(loaded.kindCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsForeignData() {
+        byte[] data = new byte[16];
+
+        assertThatThrownBy(() -> ColumnarEdgeStore.readFrom(new ByteArrayInputStream(data)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static ColumnarEdgeStore sampleStore() {
+        ColumnarEdgeStore store = new ColumnarEdgeStore();
+        store.append(2, 1, "002_003");
+        store.append(1, 3, "001_005");
+        store.append(1, 2, "001_005");
+        store.append(2, ColumnarEdgeStore.UNRESOLVED, "001_005");
+        store.append(2, 1, "002_003");
+        store.append(1, 2, "001_005");
+        return store;
+    }
+
+    private static void assertEdge(ColumnarEdgeStore store, int edge, long source, long target, String kindCode, int count) {
+        assertThat(store.sourceId(edge)).isEqualTo(source);
+        assertThat(store.targetId(edge)).isEqualTo(target);
+        assertThat(store.kindCode(store.kind(edge))).isEqualTo(kindCode);
+        assertThat(store.count(edge)).isEqualTo(count);
+    }
+}
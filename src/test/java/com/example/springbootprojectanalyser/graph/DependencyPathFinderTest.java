@@ -0,0 +1,104 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyPathFinderTest {
+
+    /**
+     * S -> A -> T、S -> B -> C -> T、S -> D -> C、A -> B（継承）、A -> TはコンストラクタDIも持つ
+     */
+    private static ClassGraphIndex graph() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(1L);
+        String[] names = {"S", "A", "B", "C", "T", "D"};
+        for (int i = 0; i < names.length; i++) {
+            builder.addNode((long) i + 1, "g." + names[i], names[i]);
+        }
+        builder.addEdge(1L, 2L, "001_005", null);
+        builder.addEdge(1L, 3L, "001_005", null);
+        builder.addEdge(2L, 5L, "001_005", null);
+        builder.addEdge(3L, 4L, "001_005", null);
+        builder.addEdge(4L, 5L, "001_005", null);
+        builder.addEdge(2L, 3L, "001_001", null);
+        builder.addEdge(1L, 6L, "001_005", null);
+        builder.addEdge(6L, 4L, "001_005", null);
+        builder.addEdge(2L, 5L, "002_003", null);
+        return builder.build();
+    }
+
+    @Test
+    void findsShortestPath() {
+        ClassGraphIndex graph = graph();
+        DependencyPathFinder finder = new DependencyPathFinder(graph, allKinds(graph));
+
+        assertThat(names(graph, finder.shortestPath(node(graph, "S"), node(graph, "T")))).containsExactly("S", "A", "T");
+        assertThat(names(graph, finder.shortestPath(node(graph, "D"), node(graph, "T")))).containsExactly("D", "C", "T");
+        assertThat(finder.shortestPath(node(graph, "T"), node(graph, "S"))).isNull();
+        assertThat(finder.shortestPath(node(graph, "C"), node(graph, "C"))).containsExactly(node(graph, "C"));
+        // 作業配列を再利用しても前回の探索結果は残らない
+        assertThat(names(graph, finder.shortestPath(node(graph, "S"), node(graph, "T")))).containsExactly("S", "A", "T");
+    }
+
+    @Test
+    void listsLoopFreePathsInOrderOfLength() {
+        ClassGraphIndex graph = graph();
+        DependencyPathFinder finder = new DependencyPathFinder(graph, allKinds(graph));
+
+        List<int[]> paths = finder.shortestPaths(node(graph, "S"), node(graph, "T"), 10);
+
+        assertThat(paths).hasSize(4);
+        assertThat(names(graph, paths.get(0))).containsExactly("S", "A", "T");
+        assertThat(List.of(names(graph, paths.get(1)), names(graph, paths.get(2))))
+                .containsExactlyInAnyOrder(List.of("S", "B", "C", "T"), List.of("S", "D", "C", "T"));
+        assertThat(names(graph, paths.get(3))).containsExactly("S", "A", "B", "C", "T");
+        assertThat(finder.shortestPaths(node(graph, "S"), node(graph, "T"), 2)).hasSize(2);
+        assertThat(finder.shortestPaths(node(graph, "T"), node(graph, "S"), 3)).isEmpty();
+    }
+
+    @Test
+    void followsOnlySelectedKinds() {
+        ClassGraphIndex graph = graph();
+        BitSet methodCalls = new BitSet();
+        methodCalls.set(graph.kindOf("001_005"));
+        DependencyPathFinder finder = new DependencyPathFinder(graph, methodCalls);
+
+        assertThat(finder.shortestPaths(node(graph, "S"), node(graph, "T"), 10)).hasSize(3);
+        assertThat(finder.shortestPath(node(graph, "A"), node(graph, "C"))).isNull();
+    }
+
+    @Test
+    void reportsKindsBetweenAdjacentNodes() {
+        ClassGraphIndex graph = graph();
+        DependencyPathFinder all = new DependencyPathFinder(graph, allKinds(graph));
+        BitSet injection = new BitSet();
+        injection.set(graph.kindOf("002_003"));
+        DependencyPathFinder injectionOnly = new DependencyPathFinder(graph, injection);
+
+        assertThat(kindCodes(graph, all.kindsBetween(node(graph, "A"), node(graph, "T")))).containsExactly("001_005", "002_003");
+        assertThat(kindCodes(graph, injectionOnly.kindsBetween(node(graph, "A"), node(graph, "T")))).containsExactly("002_003");
+        assertThat(all.kindsBetween(node(graph, "T"), node(graph, "A"))).isEmpty();
+    }
+
+    private static int node(ClassGraphIndex graph, String simpleName) {
+        return graph.nodeOfFullQualifiedName("g." + simpleName);
+    }
+
+    private static List<String> names(ClassGraphIndex graph, int[] path) {
+        return Arrays.stream(path).mapToObj(graph::simpleName).toList();
+    }
+
+    private static List<String> kindCodes(ClassGraphIndex graph, int[] kinds) {
+        return Arrays.stream(kinds).mapToObj(graph::kindCode).sorted().toList();
+    }
+
+    private static BitSet allKinds(ClassGraphIndex graph) {
+        BitSet kinds = new BitSet();
+        kinds.set(0, graph.kindCount());
+        return kinds;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.springbootprojectanalyser.graph;
+
+import com.example.springbootprojectanalyser.graph.GraphSnapshotDiff.Edge;
+import org.junit.jupiter.api.Test;
+
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.sampleIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphSnapshotDiffTest {
+
+    /**
+     * sampleIndex()を再解析した想定のグラフ（クラスIDは採番し直される）
+     * OrderRepositoryを削除してOrderMapperを追加し、コントローラからサービスへのレイヤー依存を追加する
+     */
+    private static ClassGraphIndex changedIndex() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(8L);
+        builder.addNode(101L, "com.acme.service.OrderServiceImpl", "OrderServiceImpl");
+        builder.addNode(102L, "com.acme.web.OrderController", "OrderController");
+        builder.addNode(103L, "com.acme.service.OrderService", "OrderService");
+        builder.addNode(104L, "com.acme.repository.OrderMapper", "OrderMapper");
+        builder.addEdge(102L, 103L, "002_003", "コンストラクタDI");
+        builder.addEdge(101L, 103L, "001_002", "実装（implements）");
+        builder.addEdge(101L, 104L, "002_003", "コンストラクタDI");
+        builder.addEdge(101L, 104L, "002_003", "コンストラクタDI");
+        builder.addEdge(102L, 103L, "009_001", "レイヤー依存");
+        return builder.build();
+    }
+
+    @Test
+    void matchesClassesByNameAndReportsChanges() {
+        GraphSnapshotDiff diff = GraphSnapshotDiff.compare(sampleIndex(), changedIndex());
+
+        assertThat(diff.addedClassCount()).isEqualTo(1);
+        assertThat(diff.addedClass(0)).isEqualTo("com.acme.repository.OrderMapper");
+        assertThat(diff.removedClassCount()).isEqualTo(1);
+        assertThat(diff.removedClass(0)).isEqualTo("com.acme.repository.OrderRepository");
+
+        assertThat(diff.kindCount()).isEqualTo(4);
+        assertThat(diff.kindCode(0)).isEqualTo("001_002");
+        assertThat(diff.kindCode(3)).isEqualTo("009_001");
+        assertThat(diff.kindDescription(3)).isEqualTo("レイヤー依存");
+
+        // 同じクラス間の同じ依存種類の辺は1件として扱い、依存元・依存先の完全修飾名順に並ぶ
+        assertThat(diff.addedEdgeCount()).isEqualTo(2);
+        assertThat(diff.addedEdge(0)).isEqualTo(new Edge("com.acme.service.OrderServiceImpl", "com.acme.repository.OrderMapper", 2));
+        assertThat(diff.addedEdge(1)).isEqualTo(new Edge("com.acme.web.OrderController", "com.acme.service.OrderService", 3));
+        assertThat(diff.addedEdgeKind(1)).isEqualTo(3);
+        assertThat(diff.removedEdgeCount()).isEqualTo(2);
+        assertThat(diff.removedEdge(0)).isEqualTo(new Edge("com.acme.service.OrderServiceImpl", "com.acme.repository.OrderRepository", 2));
+        assertThat(diff.removedEdge(1)).isEqualTo(new Edge("com.acme.web.OrderController", "com.acme.repository.OrderRepository", 1));
+
+        assertThat(diff.addedEdgeCount(0)).isZero();
+        assertThat(diff.removedEdgeCount(0)).isZero();
+        assertThat(diff.removedEdgeCount(1)).isEqualTo(1);
+        assertThat(diff.addedEdgeCount(2)).isEqualTo(1);
+        assertThat(diff.removedEdgeCount(2)).isEqualTo(1);
+        assertThat(diff.addedEdgeCount(3)).isEqualTo(1);
+    }
+
+    @Test
+    void findsNoChangesBetweenEqualGraphs() {
+        GraphSnapshotDiff diff = GraphSnapshotDiff.compare(sampleIndex(), sampleIndex());
+
+        assertThat(diff.addedClassCount()).isZero();
+        assertThat(diff.removedClassCount()).isZero();
+        assertThat(diff.addedEdgeCount()).isZero();
+        assertThat(diff.removedEdgeCount()).isZero();
+    }
+
+    @Test
+    void comparesAgainstEmptyGraph() {
+        ClassGraphIndex empty = ClassGraphIndex.builder(0L).build();
+
+        GraphSnapshotDiff added = GraphSnapshotDiff.compare(empty, sampleIndex());
+        GraphSnapshotDiff removed = GraphSnapshotDiff.compare(sampleIndex(), empty);
+
+        assertThat(added.addedClassCount()).isEqualTo(4);
+        assertThat(added.addedClass(0)).isEqualTo("com.acme.repository.OrderRepository");
+        assertThat(added.addedEdgeCount()).isEqualTo(4);
+        assertThat(removed.removedClassCount()).isEqualTo(4);
+        assertThat(removed.removedEdgeCount()).isEqualTo(4);
+        assertThat(removed.removedEdge(0).sourceClass()).isEqualTo("com.acme.service.OrderServiceImpl");
+    }
+}
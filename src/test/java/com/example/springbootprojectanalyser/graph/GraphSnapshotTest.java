@@ -0,0 +1,105 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.inSources;
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.outTargets;
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.sampleIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mapsWrittenIndexBackUnchanged() throws IOException {
+        ClassGraphIndex index = sampleIndex();
+        Path file = tempDir.resolve("sample.graph");
+        GraphSnapshot.write(index, "/work/注文", file);
+
+        GraphSnapshot snapshot = GraphSnapshot.open(file);
+
+        assertThat(snapshot.projectPath()).isEqualTo("/work/注文");
+        assertThat(snapshot.generation()).isEqualTo(7L);
+        assertSameGraph(snapshot.index(), index);
+        assertThat(snapshot.index().nodeOfFullQualifiedName("com.acme.service.OrderService"))
+                .isEqualTo(index.nodeOf(10L));
+        assertThat(GraphSnapshot.readHeader(file))
+                .isEqualTo(new GraphSnapshot.Header("/work/注文", 4, 4, 7L));
+    }
+
+    @Test
+    void keepsKindBitmapsAcrossSeveralWords() throws IOException {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(3L);
+        for (long id = 1; id <= 100; id++) {
+            builder.addNode(id, "a.C" + id, "C" + id);
+        }
+        for (long id = 1; id < 100; id++) {
+            builder.addEdge(id, id + 1, id % 3 == 0 ? "001_001" : "001_005", null);
+        }
+        ClassGraphIndex index = builder.build();
+        Path file = tempDir.resolve("chain.graph");
+        GraphSnapshot.write(index, "/work/chain", file);
+
+        ClassGraphIndex mapped = GraphSnapshot.open(file).index();
+
+        assertThat(mapped.edgeWordCount()).isEqualTo(2);
+        assertSameGraph(mapped, index);
+        assertThat(mapped.kindDescription(mapped.kindOf("001_001"))).isNull();
+    }
+
+    @Test
+    void writesEmptyGraph() throws IOException {
+        Path file = tempDir.resolve("empty.graph");
+        GraphSnapshot.write(ClassGraphIndex.builder(0L).build(), "", file);
+
+        ClassGraphIndex mapped = GraphSnapshot.open(file).index();
+
+        assertThat(mapped.nodeCount()).isZero();
+        assertThat(mapped.edgeCount()).isZero();
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path tooShort = Files.write(tempDir.resolve("short.graph"), new byte[8]);
+        Path foreign = Files.write(tempDir.resolve("foreign.graph"), new byte[4096]);
+
+        assertThatThrownBy(() -> GraphSnapshot.open(tooShort)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> GraphSnapshot.open(foreign)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> GraphSnapshot.readHeader(foreign)).isInstanceOf(IOException.class);
+    }
+
+    private static void assertSameGraph(ClassGraphIndex actual, ClassGraphIndex expected) {
+        assertThat(actual.generation()).isEqualTo(expected.generation());
+        assertThat(actual.nodeCount()).isEqualTo(expected.nodeCount());
+        assertThat(actual.edgeCount()).isEqualTo(expected.edgeCount());
+        assertThat(actual.kindCount()).isEqualTo(expected.kindCount());
+        for (int node = 0; node < expected.nodeCount(); node++) {
+            assertThat(actual.classId(node)).isEqualTo(expected.classId(node));
+            assertThat(actual.fullQualifiedName(node)).isEqualTo(expected.fullQualifiedName(node));
+            assertThat(actual.simpleName(node)).isEqualTo(expected.simpleName(node));
+            assertThat(actual.nodeOf(expected.classId(node))).isEqualTo(node);
+            assertThat(outTargets(actual, node)).isEqualTo(outTargets(expected, node));
+            assertThat(inSources(actual, node)).isEqualTo(inSources(expected, node));
+        }
+        for (int edge = 0; edge < expected.edgeCount(); edge++) {
+            assertThat(actual.outKind(edge)).isEqualTo(expected.outKind(edge));
+            assertThat(actual.inKind(edge)).isEqualTo(expected.inKind(edge));
+        }
+        for (int kind = 0; kind < expected.kindCount(); kind++) {
+            assertThat(actual.kindCode(kind)).isEqualTo(expected.kindCode(kind));
+            assertThat(actual.kindDescription(kind)).isEqualTo(expected.kindDescription(kind));
+            BitSet kinds = new BitSet();
+            kinds.set(kind);
+            assertThat(actual.outEdgesOfKinds(kinds)).isEqualTo(expected.outEdgesOfKinds(kinds));
+        }
+    }
+}
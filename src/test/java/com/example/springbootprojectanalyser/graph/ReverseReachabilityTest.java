@@ -0,0 +1,80 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static com.example.springbootprojectanalyser.graph.ClassGraphIndexTest.sampleIndex;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReverseReachabilityTest {
+
+    @Test
+    void findsDependentsOfChangedClasses() {
+        ClassGraphIndex graph = sampleIndex();
+        int repository = graph.nodeOf(20L);
+
+        ReverseReachability reachability = ReverseReachability.compute(graph, new int[]{repository}, allKinds(graph));
+
+        assertThat(reachability.distance(repository)).isZero();
+        assertThat(reachability.distance(graph.nodeOf(40L))).isEqualTo(1);
+        assertThat(reachability.distance(graph.nodeOf(30L))).isEqualTo(1);
+        assertThat(reachability.isReached(graph.nodeOf(10L))).isFalse();
+        assertThat(reachability.distance(graph.nodeOf(10L))).isEqualTo(-1);
+        assertThat(reachability.reachedCount()).isEqualTo(3);
+        assertThat(reachability.maxDistance()).isEqualTo(1);
+    }
+
+    @Test
+    void followsOnlySelectedKinds() {
+        ClassGraphIndex graph = sampleIndex();
+        BitSet constructorInjection = new BitSet();
+        constructorInjection.set(graph.kindOf("002_003"));
+
+        ReverseReachability reachability = ReverseReachability.compute(graph, new int[]{graph.nodeOf(20L)}, constructorInjection);
+
+        assertThat(reachability.isReached(graph.nodeOf(40L))).isTrue();
+        assertThat(reachability.isReached(graph.nodeOf(30L))).isFalse();
+        assertThat(ReverseReachability.compute(graph, new int[]{graph.nodeOf(20L)}, new BitSet()).reachedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void measuresDistancesAcrossBitmapWords() {
+        // C(i+1) -> C(i) の150件の鎖
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(1L);
+        for (long id = 0; id < 150; id++) {
+            builder.addNode(id, "a.C" + id, "C" + id);
+        }
+        for (long id = 0; id < 149; id++) {
+            builder.addEdge(id + 1, id, "001_005", null);
+        }
+        ClassGraphIndex graph = builder.build();
+        int first = graph.nodeOf(0L);
+
+        ReverseReachability reachability = ReverseReachability.compute(graph, new int[]{first, first}, allKinds(graph));
+
+        assertThat(reachability.reachedCount()).isEqualTo(150);
+        assertThat(reachability.maxDistance()).isEqualTo(149);
+        for (long id = 0; id < 150; id++) {
+            assertThat(reachability.distance(graph.nodeOf(id))).isEqualTo((int) id);
+        }
+        assertThat(ReverseReachability.compute(graph, new int[]{graph.nodeOf(100L)}, allKinds(graph)).reachedCount())
+                .isEqualTo(50);
+    }
+
+    @Test
+    void reachesNothingWithoutStartNodes() {
+        ClassGraphIndex graph = sampleIndex();
+
+        ReverseReachability reachability = ReverseReachability.compute(graph, new int[0], allKinds(graph));
+
+        assertThat(reachability.reachedCount()).isZero();
+        assertThat(reachability.maxDistance()).isZero();
+    }
+
+    private static BitSet allKinds(ClassGraphIndex graph) {
+        BitSet kinds = new BitSet();
+        kinds.set(0, graph.kindCount());
+        return kinds;
+    }
+}
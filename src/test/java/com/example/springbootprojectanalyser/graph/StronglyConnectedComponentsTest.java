@@ -0,0 +1,51 @@
+package com.example.springbootprojectanalyser.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StronglyConnectedComponentsTest {
+
+    @Test
+    void groupsMutuallyReachableNodes() {
+        // 0 -> 1 -> 2 -> 0, 2 -> 3, 3 <-> 4, 5は孤立、6は自己ループ
+        int[] offsets = {0, 1, 2, 4, 5, 6, 6, 7};
+        int[] targets = {1, 2, 0, 3, 4, 3, 6};
+
+        StronglyConnectedComponents components = StronglyConnectedComponents.compute(7, offsets, targets);
+
+        assertThat(components.componentCount()).isEqualTo(4);
+        int cycle = components.componentOf(0);
+        assertThat(components.members(cycle)).containsExactly(0, 1, 2);
+        assertThat(components.size(cycle)).isEqualTo(3);
+        int pair = components.componentOf(3);
+        assertThat(components.members(pair)).containsExactly(3, 4);
+        assertThat(components.size(components.componentOf(5))).isEqualTo(1);
+        assertThat(components.size(components.componentOf(6))).isEqualTo(1);
+        // 依存先の成分が先に確定する
+        assertThat(pair).isLessThan(cycle);
+    }
+
+    @Test
+    void handlesLongChainsWithoutRecursion() {
+        int nodeCount = 200_000;
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            targets[node] = (node + 1) % nodeCount;
+            offsets[node + 1] = node + 1;
+        }
+
+        StronglyConnectedComponents components = StronglyConnectedComponents.compute(nodeCount, offsets, targets);
+
+        assertThat(components.componentCount()).isEqualTo(1);
+        assertThat(components.size(0)).isEqualTo(nodeCount);
+    }
+
+    @Test
+    void handlesEmptyGraph() {
+        StronglyConnectedComponents components = StronglyConnectedComponents.compute(0, new int[]{0}, new int[0]);
+
+        assertThat(components.componentCount()).isZero();
+    }
+}
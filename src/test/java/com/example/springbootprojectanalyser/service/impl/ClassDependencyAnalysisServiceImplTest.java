@@ -0,0 +1,185 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.model.dto.AnalysisResultDto;
+import com.example.springbootprojectanalyser.model.dto.PackageRollupDto;
+import com.example.springbootprojectanalyser.model.dto.PackageSummaryDto;
+import com.example.springbootprojectanalyser.model.entity.ClassDependency;
+import com.example.springbootprojectanalyser.model.entity.ClassEntity;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.model.entity.Symbol;
+import com.example.springbootprojectanalyser.repository.ClassDependencyRepository;
+import com.example.springbootprojectanalyser.repository.ClassEntityRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.repository.SymbolRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ClassDependencyAnalysisServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClassEntityRepository classEntityRepository;
+
+    @Autowired
+    private ClassDependencyRepository classDependencyRepository;
+
+    @Autowired
+    private SymbolRepository symbolRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void summarizesClassesAndDependencyKindsPerPackage() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+
+        AnalysisResultDto result = analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**"));
+
+        Map<String, PackageSummaryDto> summaries = result.packageSummaries().stream()
+                .collect(Collectors.toMap(PackageSummaryDto::packageName, Function.identity()));
+        assertThat(summaries).containsKeys("com.acme.order.web", "com.acme.order.service",
+                "com.acme.order.repository", "com.acme.order.domain");
+
+        PackageSummaryDto domain = summaries.get("com.acme.order.domain");
+        assertThat(domain.classCount()).isEqualTo(2);
+        assertThat(domain.classNames()).containsExactly("Order", "SpecialOrder");
+        assertThat(domain.dependencyKindCounts()).containsEntry("001_001", 1L);
+
+        PackageSummaryDto service = summaries.get("com.acme.order.service");
+        assertThat(service.classNames()).containsExactly("OrderService", "OrderServiceImpl");
+        assertThat(service.dependencyKindCounts()).containsEntry("001_002", 1L);
+        assertThat(service.outgoingEdgeCount()).isPositive();
+        assertThat(summaries.get("com.acme.order.repository").incomingEdgeCount()).isPositive();
+    }
+
+    @Test
+    void reusesSummariesWithinTheSameGeneration() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**"));
+
+        AnalysisResultDto first = analysisService.getAnalysisResult(project.rootPath());
+        AnalysisResultDto second = analysisService.getAnalysisResult(project.rootPath());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void storesPackageRollupsDuringAnalysis() {
+        Long projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+
+        PackageRollupDto domain = analysisService.getPackageRollup(projectId, "com.acme.order.domain");
+
+        assertThat(domain.classCount()).isEqualTo(2);
+        assertThat(domain.subtreeClassCount()).isEqualTo(2);
+        assertThat(domain.incomingEdgeCount()).isPositive();
+        assertThat(domain.dependencyKindCounts()).containsEntry("001_001", 1L);
+        assertThat(domain.subtreeDependencyKindCounts()).containsEntry("001_001", 1L);
+        assertThat(analysisService.getChildPackageRollups(projectId, null))
+                .filteredOn(child -> child.packageName().equals("com.acme.order.domain"))
+                .singleElement()
+                .isEqualTo(domain);
+        assertThatThrownBy(() -> analysisService.getPackageRollup(projectId, "com.acme.missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordsSourcePathAndPositionOfEachClass() throws IOException {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**"));
+        Project saved = projectRepository.findByRootPath(project.rootPath()).orElseThrow();
+
+        ClassEntity controller = classEntityRepository.findByProject(saved).stream()
+                .filter(c -> c.getFullQualifiedName().equals("com.acme.order.web.OrderController"))
+                .findFirst().orElseThrow();
+
+        assertThat(controller.getSourcePath()).isEqualTo("src/main/java/com/acme/order/web/OrderController.java");
+        assertThat(controller.getSourceStartLine()).isEqualTo(10);
+        assertThat(controller.getSourceEndLine()).isEqualTo(23);
+        byte[] content = Files.readAllBytes(project.root().resolve(controller.getSourcePath()));
+        String declaration = new String(content, controller.getSourceStartOffset().intValue(),
+                (int) (controller.getSourceEndOffset() - controller.getSourceStartOffset()), StandardCharsets.UTF_8);
+        assertThat(declaration).startsWith("@RestController").endsWith("}");
+    }
+
+    @Test
+    void storesDependencyStringsOnceAsSymbols() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**"));
+        Project saved = projectRepository.findByRootPath(project.rootPath()).orElseThrow();
+
+        List<Symbol> symbols = symbolRepository.findByProject(saved);
+        List<ClassDependency> dependencies = classDependencyRepository.findByProject(saved);
+
+        assertThat(symbols).extracting(Symbol::getValue).doesNotHaveDuplicates()
+                .contains("com.acme.order.web.OrderController", "com.acme.order.service.OrderServiceImpl");
+        Set<Long> symbolIds = symbols.stream().map(Symbol::getId).collect(Collectors.toSet());
+        assertThat(dependencies).isNotEmpty().allSatisfy(dependency -> {
+            assertThat(symbolIds).contains(dependency.getSourceClassFqnSymbol().getId());
+            assertThat(symbolIds).contains(dependency.getTargetIdentifierSymbol().getId());
+        });
+        assertThat(dependencies.stream().map(dependency -> dependency.getSourceClassFqnSymbol().getId()).distinct().count())
+                .isLessThan(dependencies.size());
+    }
+
+    @Test
+    void analysesCompiledClassesWithTheBytecodeFrontend() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication().compile();
+        Map<String, PackageSummaryDto> fromSource = summaries(
+                analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**", "source")));
+
+        AnalysisResultDto result = analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**", "bytecode"));
+
+        assertThat(projectRepository.findAll()).singleElement().extracting(Project::getFrontend).isEqualTo("bytecode");
+        Map<String, PackageSummaryDto> fromBytecode = summaries(result);
+        assertThat(fromBytecode.keySet()).isEqualTo(fromSource.keySet());
+        assertThat(fromBytecode.get("com.acme.order.domain").classNames()).containsExactly("Order", "SpecialOrder");
+        assertThat(fromBytecode.get("com.acme.order.domain").dependencyKindCounts()).containsEntry("001_001", 1L);
+        assertThat(fromBytecode.get("com.acme.order.service").dependencyKindCounts()).containsEntry("001_002", 1L);
+        assertThat(fromBytecode.get("com.acme.order.repository").incomingEdgeCount()).isPositive();
+    }
+
+    @Test
+    void rejectsUnknownFrontend() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+
+        assertThatThrownBy(() -> analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**", "asm")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMissingProjectDirectory() {
+        String missing = tempDir.resolve("missing").toString();
+
+        assertThatThrownBy(() -> analysisService.executeAnalysis(new AnalysisExecutionDto(missing, "**")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, PackageSummaryDto> summaries(AnalysisResultDto result) {
+        return result.packageSummaries().stream()
+                .collect(Collectors.toMap(PackageSummaryDto::packageName, Function.identity()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramDto;
+import com.example.springbootprojectanalyser.model.dto.ClassInfoDto;
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.ClassDiagramService;
+import com.example.springbootprojectanalyser.service.EndpointExtractionService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ClassDiagramServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private EndpointExtractionService endpointExtractionService;
+
+    @Autowired
+    private ClassDiagramService classDiagramService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Long projectId;
+    private UUID endpointId;
+
+    @BeforeEach
+    void analyse() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication()
+                .javaClass("com.acme.order.repository.OrderRepository", """
+                        package com.acme.order.repository;
+
+                        import com.acme.order.domain.Order;
+                        import com.acme.order.test.OrderFixtures;
+                        import org.springframework.stereotype.Repository;
+
+                        @Repository
+                        public class OrderRepository {
+                            private OrderFixtures fixtures;
+
+                            public Order load(Long id) {
+                                return new Order();
+                            }
+                        }
+                        """)
+                .javaClass("com.acme.order.test.OrderFixtures", """
+                        package com.acme.order.test;
+
+                        public class OrderFixtures {
+                        }
+                        """);
+        projectId = project.analyse(analysisService, projectRepository);
+        EndpointDto endpoint = endpointExtractionService.getEndpoints(projectId).stream()
+                .filter(e -> e.uri().equals("/orders/{id}"))
+                .findFirst().orElseThrow();
+        endpointId = UUID.fromString(endpoint.endpointId());
+    }
+
+    @Test
+    void collectsReachableClassesAndImplementations() {
+        ClassDiagramDto diagram = classDiagramService.generateClassDiagram(endpointId, projectId);
+
+        assertThat(diagram.targetClasses()).extracting(ClassInfoDto::simpleName)
+                .startsWith("OrderController")
+                .contains("OrderService", "OrderServiceImpl", "OrderRepository", "Order")
+                // 継承元から継承先はたどらない。テスト用パッケージのクラスは含めない
+                .doesNotContain("SpecialOrder", "OrderFixtures");
+        assertThat(diagram.dependencyMap().get("com.acme.order.service.OrderServiceImpl"))
+                .containsKey("com.acme.order.service.OrderService");
+        assertThat(diagram.classMemberMap()).containsKey("com.acme.order.web.OrderController");
+        assertThat(diagram.classFilePaths())
+                .containsEntry("com.acme.order.web.OrderController", "src/main/java/com/acme/order/web/OrderController.java");
+        assertThat(diagram.classDiagramText()).startsWith("classDiagram").contains("OrderServiceImpl");
+    }
+
+    @Test
+    void reusesDiagramsWithinTheSameGeneration() {
+        long hits = classDiagramService.getCacheStats().hitCount();
+
+        ClassDiagramDto first = classDiagramService.generateClassDiagram(endpointId, projectId);
+        ClassDiagramDto second = classDiagramService.generateClassDiagram(endpointId, projectId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(classDiagramService.getCacheStats().hitCount()).isEqualTo(hits + 1);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.DependencyCycleDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.DependencyCycleService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DependencyCycleServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private DependencyCycleService dependencyCycleService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Long projectId;
+
+    @BeforeEach
+    void analyse() {
+        // Order <-> OrderRepository の循環を作る
+        SampleProject project = SampleProject.at(tempDir).orderApplication()
+                .javaClass("com.acme.order.domain.Order", """
+                        package com.acme.order.domain;
+
+                        import com.acme.order.repository.OrderRepository;
+
+                        public class Order {
+                            private Long id;
+                            private OrderRepository repository;
+                        }
+                        """);
+        projectId = project.analyse(analysisService, projectRepository);
+    }
+
+    @Test
+    void returnsCyclesStoredDuringAnalysis() {
+        List<DependencyCycleDto> cycles = dependencyCycleService.getCycles(projectId, "class", "*");
+
+        assertThat(cycles).hasSize(1);
+        DependencyCycleDto cycle = cycles.get(0);
+        assertThat(cycle.scope()).isEqualTo("CLASS");
+        assertThat(cycle.cycleIndex()).isEqualTo(1);
+        assertThat(cycle.members())
+                .containsExactly("com.acme.order.domain.Order", "com.acme.order.repository.OrderRepository");
+        assertThat(cycle.examplePath()).first().isEqualTo("com.acme.order.domain.Order");
+        assertThat(cycle.examplePath()).last().isEqualTo("com.acme.order.domain.Order");
+
+        assertThat(dependencyCycleService.getCycles(projectId, "PACKAGE", null))
+                .extracting(DependencyCycleDto::members)
+                .containsExactly(List.of("com.acme.order.domain", "com.acme.order.repository"));
+    }
+
+    @Test
+    void detectsCyclesOfOtherKindFiltersOnRequest() {
+        assertThat(dependencyCycleService.getCycles(projectId, "class", "002_*")).isEmpty();
+        assertThat(dependencyCycleService.getCycles(projectId, "class", " 999_*, * ")).hasSize(1);
+    }
+
+    @Test
+    void rejectsUnknownScopeAndProject() {
+        assertThatThrownBy(() -> dependencyCycleService.getCycles(projectId, "module", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dependencyCycleService.getCycles(-1L, "class", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.DependencyPathDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyPathHopDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.DependencyPathService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class DependencyPathServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private DependencyPathService dependencyPathService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Long projectId;
+
+    @BeforeEach
+    void analyse() {
+        projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+    }
+
+    @Test
+    void findsPathsBySimpleOrQualifiedName() {
+        List<DependencyPathDto> paths = dependencyPathService.findPaths(projectId,
+                "OrderServiceImpl", "com.acme.order.domain.Order", null, 3);
+
+        assertThat(paths).isNotEmpty();
+        assertThat(paths).extracting(DependencyPathDto::length).isSorted();
+        DependencyPathDto shortest = paths.get(0);
+        assertThat(shortest.classes()).first().isEqualTo("com.acme.order.service.OrderServiceImpl");
+        assertThat(shortest.classes()).last().isEqualTo("com.acme.order.domain.Order");
+        assertThat(shortest.hops()).hasSize(shortest.length())
+                .allSatisfy(hop -> assertThat(hop.dependencyKindCodes()).isNotEmpty()
+                        .hasSameSizeAs(hop.dependencyKindDescriptions()));
+        assertThat(paths).extracting(DependencyPathDto::classes).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void followsOnlyMatchingKinds() {
+        List<DependencyPathDto> paths = dependencyPathService.findPaths(projectId,
+                "OrderServiceImpl", "OrderService", "001_002", 5);
+
+        assertThat(paths).hasSize(1);
+        assertThat(paths.get(0).hops()).extracting(DependencyPathHopDto::dependencyKindCodes)
+                .containsExactly(List.of("001_002"));
+        assertThat(dependencyPathService.findPaths(projectId, "OrderController", "OrderServiceImpl", null, 1)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> dependencyPathService.findPaths(projectId, "OrderController", "Missing", null, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dependencyPathService.findPaths(projectId, " ", "Order", null, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dependencyPathService.findPaths(projectId, "Order", "com.acme.order.domain.Order", null, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dependencyPathService.findPaths(projectId, "OrderController", "Order", null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
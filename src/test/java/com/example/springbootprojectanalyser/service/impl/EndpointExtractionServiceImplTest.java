@@ -0,0 +1,123 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.repository.EndpointRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.EndpointExtractionService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class EndpointExtractionServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private EndpointExtractionService endpointExtractionService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EndpointRepository endpointRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private SampleProject project;
+
+    @BeforeEach
+    void createProject() {
+        project = SampleProject.at(tempDir).orderApplication()
+                .javaClass("com.acme.order.web.CustomerController", """
+                        package com.acme.order.web;
+
+                        import org.springframework.web.bind.annotation.*;
+
+                        @RestController
+                        @RequestMapping("/customers")
+                        public class CustomerController {
+                            @GetMapping
+                            public String list() { return ""; }
+
+                            @GetMapping("/{id}")
+                            public String find(@PathVariable Long id) { return ""; }
+
+                            @PostMapping
+                            public String create() { return ""; }
+
+                            @DeleteMapping("/{id}")
+                            public void delete(@PathVariable Long id) { }
+                        }
+                        """);
+    }
+
+    @Test
+    void persistsEndpointsDetectedDuringAnalysis() {
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        assertThat(endpointRepository.findByClassEntity_Project_Id(projectId)).hasSize(5);
+        assertThat(endpointExtractionService.getEndpoints(projectId))
+                .extracting(EndpointDto::className, EndpointDto::httpMethodName, EndpointDto::uri)
+                .containsExactlyInAnyOrder(
+                        tuple("CustomerController", "GET", "/customers"),
+                        tuple("CustomerController", "GET", "/customers/{id}"),
+                        tuple("CustomerController", "POST", "/customers"),
+                        tuple("CustomerController", "DELETE", "/customers/{id}"),
+                        tuple("OrderController", "GET", "/orders/{id}"));
+    }
+
+    @Test
+    void keepsEndpointIdsAcrossReanalysis() {
+        List<String> first = endpointIds(project.analyse(analysisService, projectRepository));
+        List<String> second = endpointIds(project.analyse(analysisService, projectRepository));
+
+        assertThat(second).hasSize(5).containsExactlyInAnyOrderElementsOf(first);
+    }
+
+    @Test
+    void extractsEndpointsOfAnalysedProjectOnly() {
+        assertThatThrownBy(() -> endpointExtractionService.extractEndpoints(project.rootPath(), "**"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        project.analyse(analysisService, projectRepository);
+
+        assertThat(endpointExtractionService.extractEndpoints(project.rootPath(), "**")).hasSize(5);
+    }
+
+    @Test
+    void searchesStoredEndpoints() {
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        assertThat(endpointExtractionService.searchEndpoints(projectId, "path", "/customers/7", null))
+                .extracting(EndpointDto::httpMethodName).containsExactlyInAnyOrder("GET", "DELETE");
+        assertThat(endpointExtractionService.searchEndpoints(projectId, "prefix", "/customers", "GET"))
+                .extracting(EndpointDto::uri).containsExactlyInAnyOrder("/customers", "/customers/{id}");
+        assertThat(endpointExtractionService.searchEndpoints(projectId, "template", "/orders/{orderId}", null))
+                .extracting(EndpointDto::className).containsExactly("OrderController");
+        assertThat(endpointExtractionService.searchEndpoints(projectId, "wildcard", "/**", "POST"))
+                .extracting(EndpointDto::uri).containsExactly("/customers");
+        assertThat(endpointExtractionService.searchEndpoints(projectId, null, null, null)).hasSize(5);
+        assertThatThrownBy(() -> endpointExtractionService.searchEndpoints(projectId, "regex", "/.*", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> endpointExtractionService.searchEndpoints(projectId, "path", " ", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> endpointIds(Long projectId) {
+        return endpointExtractionService.getEndpoints(projectId).stream().map(EndpointDto::endpointId).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.EndpointDto;
+import com.example.springbootprojectanalyser.model.dto.ImpactAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.ImpactedClassDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.ImpactAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ImpactAnalysisServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ImpactAnalysisService impactAnalysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private Long projectId;
+
+    @BeforeEach
+    void analyse() {
+        projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+    }
+
+    @Test
+    void reportsDependentClassesAndEndpoints() {
+        ImpactAnalysisDto impact = impactAnalysisService.analyzeImpact(projectId,
+                List.of("com.acme.order.service.OrderService", " com.acme.order.Missing "), null);
+
+        assertThat(impact.changedClasses()).containsExactly("com.acme.order.service.OrderService");
+        assertThat(impact.unknownClasses()).containsExactly("com.acme.order.Missing");
+        assertThat(impact.kindFilter()).isEqualTo("*");
+        assertThat(impact.maxDistance()).isEqualTo(1);
+        assertThat(impact.affectedClasses())
+                .extracting(ImpactedClassDto::simpleName, ImpactedClassDto::distance)
+                .containsExactly(tuple("OrderServiceImpl", 1), tuple("OrderController", 1));
+        assertThat(impact.affectedEndpoints()).extracting(EndpointDto::uri).containsExactly("/orders/{id}");
+    }
+
+    @Test
+    void followsOnlyMatchingKinds() {
+        ImpactAnalysisDto impact = impactAnalysisService.analyzeImpact(projectId,
+                List.of("com.acme.order.service.OrderService"), "001_002");
+
+        assertThat(impact.affectedClasses()).extracting(ImpactedClassDto::simpleName).containsExactly("OrderServiceImpl");
+        assertThat(impact.affectedEndpoints()).isEmpty();
+    }
+
+    @Test
+    void requiresChangedClasses() {
+        assertThatThrownBy(() -> impactAnalysisService.analyzeImpact(projectId, List.of(" "), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> impactAnalysisService.analyzeImpact(projectId, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
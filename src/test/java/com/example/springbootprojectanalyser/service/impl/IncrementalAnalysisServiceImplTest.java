@@ -0,0 +1,249 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.model.dto.ChangedFilesAnalysisDto;
+import com.example.springbootprojectanalyser.model.dto.FileUpdateResultDto;
+import com.example.springbootprojectanalyser.model.dto.PackageRollupDto;
+import com.example.springbootprojectanalyser.model.dto.PackageSummaryDto;
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.repository.ClassDependencyRepository;
+import com.example.springbootprojectanalyser.repository.ClassEntityRepository;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.IncrementalAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IncrementalAnalysisServiceImplTest {
+
+    @Autowired
+    private IncrementalAnalysisService incrementalAnalysisService;
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClassEntityRepository classEntityRepository;
+
+    @Autowired
+    private ClassDependencyRepository classDependencyRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void analysesFilesChangedSinceTheAnalyzedCommit() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        project.git("init", "-q");
+        String analyzedCommit = project.commitAll("initial");
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        project.javaClass("com.acme.order.repository.OrderRepository", """
+                        package com.acme.order.repository;
+
+                        public interface OrderRepository {
+                            int count();
+                        }
+                        """)
+                .javaClass("com.acme.order.service.OrderAudit", """
+                        package com.acme.order.service;
+
+                        import com.acme.order.domain.Order;
+
+                        public class OrderAudit {
+                            private Order lastOrder;
+                        }
+                        """)
+                .delete("src/main/java/com/acme/order/domain/SpecialOrder.java")
+                .file("pom.xml", "<project/>\n");
+
+        ChangedFilesAnalysisDto result = incrementalAnalysisService.analyzeChangedFiles(projectId, "HEAD", null);
+
+        assertThat(result.baseCommit()).isEqualTo(analyzedCommit);
+        assertThat(result.changedJavaFiles()).containsExactlyInAnyOrder(
+                "src/main/java/com/acme/order/repository/OrderRepository.java",
+                "src/main/java/com/acme/order/service/OrderAudit.java");
+        assertThat(result.deletedJavaFiles()).containsExactly("src/main/java/com/acme/order/domain/SpecialOrder.java");
+        assertThat(result.changedBuildFiles()).containsExactly("pom.xml");
+        // OrderRepositoryに依存しているOrderServiceImplも再解析される
+        assertThat(result.dependantFileCount()).isPositive();
+        assertThat(result.delta().addedClasses()).containsExactly("com.acme.order.service.OrderAudit");
+        assertThat(result.delta().removedClasses()).containsExactly("com.acme.order.domain.SpecialOrder");
+
+        // 解析後にコミットが進むと基準リビジョンが解析時のコミットと一致しない
+        project.commitAll("second");
+        assertThatThrownBy(() -> incrementalAnalysisService.analyzeChangedFiles(projectId, "HEAD", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(analyzedCommit);
+        assertThat(incrementalAnalysisService.analyzeChangedFiles(projectId, "HEAD~1", 0).changedJavaFiles()).hasSize(2);
+    }
+
+    @Test
+    void updatesOnlyTheGivenFiles() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication()
+                .javaClass("com.acme.order.service.OrderAudit", """
+                        package com.acme.order.service;
+
+                        public class OrderAudit {
+                            private OrderArchive archive;
+                        }
+                        """);
+        analysisService.executeAnalysis(new AnalysisExecutionDto(project.rootPath(), "**"));
+        Project saved = projectRepository.findByRootPath(project.rootPath()).orElseThrow();
+        Long serviceImplId = classId(saved, "com.acme.order.service.OrderServiceImpl");
+        Long auditId = classId(saved, "com.acme.order.service.OrderAudit");
+        assertThat(targetClassNames(auditId)).doesNotContain("com.acme.order.service.OrderArchive");
+
+        // 追加したクラスを依存先とする未解決の依存関係は、依存元のファイルを再解析して解決する
+        project.javaClass("com.acme.order.service.OrderArchive", """
+                package com.acme.order.service;
+
+                public class OrderArchive {
+                }
+                """);
+        FileUpdateResultDto added = incrementalAnalysisService.updateFiles(saved.getId(),
+                List.of("src/main/java/com/acme/order/service/OrderArchive.java"));
+
+        assertThat(added.updatedFiles()).containsExactly("src/main/java/com/acme/order/service/OrderArchive.java");
+        assertThat(added.addedClassCount()).isEqualTo(1);
+        assertThat(added.dependantFileCount()).isEqualTo(1);
+        assertThat(added.fullAnalysis()).isFalse();
+        assertThat(targetClassNames(auditId)).contains("com.acme.order.service.OrderArchive");
+
+        // 変更したファイルのクラスは同じクラスIDのまま更新する
+        project.javaClass("com.acme.order.service.OrderServiceImpl", """
+                package com.acme.order.service;
+
+                import com.acme.order.domain.Order;
+                import com.acme.order.repository.OrderRepository;
+                import org.springframework.stereotype.Service;
+
+                @Service
+                public class OrderServiceImpl implements OrderService {
+                    private final OrderRepository orderRepository;
+                    private OrderArchive archive;
+
+                    public OrderServiceImpl(OrderRepository orderRepository) {
+                        this.orderRepository = orderRepository;
+                    }
+
+                    @Override
+                    public Order find(Long id) {
+                        return orderRepository.load(id);
+                    }
+                }
+                """);
+        FileUpdateResultDto modified = incrementalAnalysisService.updateFiles(saved.getId(),
+                List.of("src/main/java/com/acme/order/service/OrderServiceImpl.java", "pom.xml"));
+
+        assertThat(modified.updatedFiles()).containsExactly("src/main/java/com/acme/order/service/OrderServiceImpl.java");
+        assertThat(modified.addedClassCount()).isZero();
+        assertThat(modified.generation()).isGreaterThan(added.generation());
+        assertThat(classId(saved, "com.acme.order.service.OrderServiceImpl")).isEqualTo(serviceImplId);
+        assertThat(targetClassNames(serviceImplId)).contains("com.acme.order.service.OrderArchive");
+
+        // 削除したファイルのクラスを削除し、依存元からの依存関係は依存先を未解決とする
+        project.delete("src/main/java/com/acme/order/service/OrderArchive.java");
+        FileUpdateResultDto deleted = incrementalAnalysisService.updateFiles(saved.getId(),
+                List.of("src/main/java/com/acme/order/service/OrderArchive.java"));
+
+        assertThat(deleted.deletedFiles()).containsExactly("src/main/java/com/acme/order/service/OrderArchive.java");
+        assertThat(deleted.removedClassCount()).isEqualTo(1);
+        assertThat(classEntityRepository.findByProjectAndFullQualifiedName(saved, "com.acme.order.service.OrderArchive")).isEmpty();
+        assertThat(targetClassNames(auditId)).doesNotContain("com.acme.order.service.OrderArchive");
+
+        // 対象外のファイルのみの場合は何もしない
+        FileUpdateResultDto ignored = incrementalAnalysisService.updateFiles(saved.getId(), List.of("README.md"));
+        assertThat(ignored.updatedFiles()).isEmpty();
+        assertThat(ignored.generation()).isEqualTo(deleted.generation());
+    }
+
+    @Test
+    void keepsPackageRollupsEqualToAFullAnalysis() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        // 既存のパッケージ内の変更（影響を受けるパッケージのみ集計し直す）
+        project.javaClass("com.acme.order.service.OrderAudit", """
+                        package com.acme.order.service;
+
+                        import com.acme.order.domain.Order;
+                        import com.acme.order.repository.OrderRepository;
+
+                        public class OrderAudit {
+                            private Order lastOrder;
+                            private OrderRepository orderRepository;
+                        }
+                        """)
+                .javaClass("com.acme.order.domain.Order", """
+                        package com.acme.order.domain;
+
+                        import java.util.List;
+
+                        public class Order {
+                            private Long id;
+                            private List<String> lines;
+                        }
+                        """)
+                .delete("src/main/java/com/acme/order/domain/SpecialOrder.java");
+        incrementalAnalysisService.updateFiles(projectId, List.of(
+                "src/main/java/com/acme/order/service/OrderAudit.java",
+                "src/main/java/com/acme/order/domain/Order.java",
+                "src/main/java/com/acme/order/domain/SpecialOrder.java"));
+        Map<String, PackageRollupDto> updated = rollups(project, projectId);
+
+        assertThat(updated.get("com.acme.order.service").classCount()).isEqualTo(3);
+        assertThat(updated.get("com.acme.order.domain").classCount()).isEqualTo(1);
+        assertThat(updated).isEqualTo(rollups(project, project.analyse(analysisService, projectRepository)));
+
+        // パッケージの追加（パッケージ階層が変わるため全体を集計し直す）
+        projectId = projectRepository.findByRootPath(project.rootPath()).orElseThrow().getId();
+        project.javaClass("com.acme.order.audit.AuditLog", """
+                package com.acme.order.audit;
+
+                import com.acme.order.service.OrderAudit;
+
+                public class AuditLog {
+                    private OrderAudit audit;
+                }
+                """);
+        incrementalAnalysisService.updateFiles(projectId, List.of("src/main/java/com/acme/order/audit/AuditLog.java"));
+        updated = rollups(project, projectId);
+
+        assertThat(updated).containsKey("com.acme.order.audit");
+        assertThat(updated).isEqualTo(rollups(project, project.analyse(analysisService, projectRepository)));
+    }
+
+    private Map<String, PackageRollupDto> rollups(SampleProject project, Long projectId) {
+        return analysisService.getAnalysisResult(project.rootPath()).packageSummaries().stream()
+                .map(PackageSummaryDto::packageName)
+                .collect(Collectors.toMap(Function.identity(), name -> analysisService.getPackageRollup(projectId, name)));
+    }
+
+    private Long classId(Project project, String fullQualifiedName) {
+        return classEntityRepository.findByProjectAndFullQualifiedName(project, fullQualifiedName).orElseThrow().getId();
+    }
+
+    private List<String> targetClassNames(Long sourceClassId) {
+        return classDependencyRepository.findBySourceClass_Id(sourceClassId).stream()
+                .filter(dependency -> dependency.getTargetClass() != null)
+                .map(dependency -> dependency.getTargetClass().getFullQualifiedName())
+                .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.ModuleDependencyDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleRefreshResultDto;
+import com.example.springbootprojectanalyser.model.dto.ModuleStructureDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.ModuleAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ModuleAnalysisServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ModuleAnalysisService moduleAnalysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storesModulesAndTheirDependencies() {
+        SampleProject project = multiModuleProject();
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        ModuleStructureDto structure = moduleAnalysisService.getModules(projectId);
+
+        // クラス数にはビルドファイルの依存関係の依存元となるモジュールのクラスを含む
+        assertThat(structure.modules())
+                .extracting(ModuleDto::name, ModuleDto::path, ModuleDto::fileCount, ModuleDto::classCount)
+                .containsExactlyInAnyOrder(tuple("shop", "", 0, 1L), tuple("shop-core", "core", 1, 2L),
+                        tuple("shop-web", "web", 2, 3L));
+        assertThat(structure.dependencies())
+                .extracting(ModuleDependencyDto::sourcePath, ModuleDependencyDto::targetPath, ModuleDependencyDto::declared)
+                .containsExactly(tuple("web", "core", true));
+        assertThat(structure.dependencies().get(0).dependencyCount()).isPositive();
+    }
+
+    @Test
+    void reanalysesOnlyChangedModules() {
+        SampleProject project = multiModuleProject();
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        ModuleRefreshResultDto unchanged = moduleAnalysisService.refreshModules(projectId);
+        assertThat(unchanged.changedModules()).isEmpty();
+        assertThat(unchanged.skippedModules()).containsExactlyInAnyOrder("shop", "shop-core", "shop-web");
+        assertThat(unchanged.update()).isNull();
+
+        project.file("web/src/main/java/com/acme/web/OrderView.java", """
+                package com.acme.web;
+
+                public class OrderView {
+                }
+                """);
+        ModuleRefreshResultDto changed = moduleAnalysisService.refreshModules(projectId);
+        assertThat(changed.fullAnalysis()).isFalse();
+        assertThat(changed.changedModules()).containsExactly("shop-web");
+        assertThat(changed.update().addedClassCount()).isEqualTo(1);
+        assertThat(moduleAnalysisService.getModules(projectId).modules())
+                .filteredOn(module -> module.path().equals("web"))
+                .extracting(ModuleDto::classCount).containsExactly(4L);
+
+        // ビルドファイルが変わった場合はプロジェクト全体を再解析する
+        project.file("core/pom.xml", "<project><artifactId>shop-core</artifactId><version>2</version></project>");
+        ModuleRefreshResultDto rebuilt = moduleAnalysisService.refreshModules(projectId);
+        assertThat(rebuilt.fullAnalysis()).isTrue();
+        assertThat(rebuilt.changedModules()).containsExactlyInAnyOrder("shop", "shop-core", "shop-web");
+    }
+
+    private SampleProject multiModuleProject() {
+        return SampleProject.at(tempDir)
+                .file("pom.xml", """
+                        <project>
+                          <groupId>com.acme</groupId>
+                          <artifactId>shop</artifactId>
+                          <modules><module>core</module><module>web</module></modules>
+                        </project>
+                        """)
+                .file("core/pom.xml", "<project><artifactId>shop-core</artifactId></project>")
+                .file("web/pom.xml", """
+                        <project>
+                          <artifactId>shop-web</artifactId>
+                          <dependencies>
+                            <dependency><groupId>com.acme</groupId><artifactId>shop-core</artifactId></dependency>
+                          </dependencies>
+                        </project>
+                        """)
+                .file("core/src/main/java/com/acme/core/Order.java", """
+                        package com.acme.core;
+
+                        public class Order {
+                        }
+                        """)
+                .file("web/src/main/java/com/acme/web/OrderController.java", """
+                        package com.acme.web;
+
+                        import com.acme.core.Order;
+
+                        public class OrderController {
+                            private final OrderPresenter presenter = new OrderPresenter();
+
+                            public Order find() {
+                                return new Order();
+                            }
+                        }
+                        """)
+                .file("web/src/main/java/com/acme/web/OrderPresenter.java", """
+                        package com.acme.web;
+
+                        public class OrderPresenter {
+                        }
+                        """);
+    }
+}
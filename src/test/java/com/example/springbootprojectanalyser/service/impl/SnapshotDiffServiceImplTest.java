@@ -0,0 +1,83 @@
+package com.example.springbootprojectanalyser.service.impl;
+
+import com.example.springbootprojectanalyser.model.dto.GraphSnapshotDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.SnapshotDiffService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SnapshotDiffServiceImplTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private SnapshotDiffService snapshotDiffService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void diffsTheLatestTwoAnalyses() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        Long firstId = project.analyse(analysisService, projectRepository);
+        assertThatThrownBy(() -> snapshotDiffService.diff(firstId, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        project.javaClass("com.acme.order.service.OrderAudit", """
+                package com.acme.order.service;
+
+                import com.acme.order.domain.Order;
+
+                public class OrderAudit {
+                    private Order lastOrder;
+                }
+                """);
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        List<GraphSnapshotDto> snapshots = snapshotDiffService.getSnapshots(projectId);
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(0).classCount()).isEqualTo(snapshots.get(1).classCount() + 1);
+
+        SnapshotDiffDto diff = snapshotDiffService.diff(projectId, null, null, null);
+
+        assertThat(diff.targetSnapshot()).isEqualTo(snapshots.get(0));
+        assertThat(diff.baseSnapshot()).isEqualTo(snapshots.get(1));
+        assertThat(diff.addedClasses()).containsExactly("com.acme.order.service.OrderAudit");
+        assertThat(diff.removedClassCount()).isZero();
+        assertThat(diff.addedDependencyCount()).isPositive();
+        assertThat(diff.removedDependencyCount()).isZero();
+
+        // 比較元と比較先を入れ替えると追加と削除が反転する
+        SnapshotDiffDto reversed = snapshotDiffService.diff(projectId,
+                snapshots.get(0).snapshotId(), snapshots.get(1).snapshotId(), 0);
+        assertThat(reversed.removedClassCount()).isEqualTo(1);
+        assertThat(reversed.removedClasses()).isEmpty();
+        assertThat(reversed.removedDependencyCount()).isEqualTo(diff.addedDependencyCount());
+    }
+
+    @Test
+    void rejectsUnknownSnapshot() {
+        Long projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+
+        assertThatThrownBy(() -> snapshotDiffService.diff(projectId, 1L, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshotDiffService.getSnapshots(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisGenerationTrackerTest {
+
+    @Test
+    void currentIsZeroUntilAdvanced() {
+        AnalysisGenerationTracker tracker = new AnalysisGenerationTracker();
+
+        assertThat(tracker.current(1L)).isZero();
+        assertThat(tracker.current(null)).isZero();
+    }
+
+    @Test
+    void advanceIsMonotonicAcrossProjects() {
+        AnalysisGenerationTracker tracker = new AnalysisGenerationTracker();
+
+        long first = tracker.advance(1L);
+        long second = tracker.advance(2L);
+        long third = tracker.advance(1L);
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(tracker.current(1L)).isEqualTo(third);
+        assertThat(tracker.current(2L)).isEqualTo(second);
+    }
+
+    @Test
+    void generationsDoNotRepeatAcrossTrackerInstances() {
+        // サーバ再起動（インスタンスの作り直し）後の世代番号は、以前の世代番号と重複しない
+        long before = new AnalysisGenerationTracker().advance(1L);
+        long after = new AnalysisGenerationTracker().advance(1L);
+
+        assertThat(after).isGreaterThanOrEqualTo(before);
+        assertThat(before).isGreaterThan(1L);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenArtifact;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenModel;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleBuild;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleDependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class BuildModelCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final BuildModelCache cache = new BuildModelCache(16);
+
+    @Test
+    void inheritsFromLocalParentsAndInterpolatesWithChildValues() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("pom.xml", """
+                        <project>
+                          <groupId>com.acme</groupId>
+                          <artifactId>shop</artifactId>
+                          <version>1.0</version>
+                          <properties>
+                            <core.version>${project.version}</core.version>
+                            <slf4j.version>2.0.9</slf4j.version>
+                          </properties>
+                          <dependencyManagement>
+                            <dependencies>
+                              <dependency>
+                                <groupId>org.slf4j</groupId>
+                                <artifactId>slf4j-api</artifactId>
+                                <version>${slf4j.version}</version>
+                                <scope>provided</scope>
+                                <exclusions><exclusion><groupId>x</groupId><artifactId>y</artifactId></exclusion></exclusions>
+                              </dependency>
+                            </dependencies>
+                          </dependencyManagement>
+                          <dependencies>
+                            <dependency><groupId>org.junit</groupId><artifactId>junit</artifactId><version>5</version><scope>test</scope></dependency>
+                          </dependencies>
+                        </project>
+                        """)
+                .file("web/pom.xml", """
+                        <project>
+                          <parent><groupId>com.acme</groupId><artifactId>shop</artifactId><version>1.0</version></parent>
+                          <artifactId>shop-web</artifactId>
+                          <version>1.1</version>
+                          <properties><slf4j.version>2.0.12</slf4j.version></properties>
+                          <dependencies>
+                            <dependency><groupId>${project.groupId}</groupId><artifactId>shop-core</artifactId><version>${core.version}</version></dependency>
+                            <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId></dependency>
+                          </dependencies>
+                        </project>
+                        """);
+
+        MavenModel model = cache.mavenModel(project.root().resolve("web/pom.xml"));
+
+        assertThat(model.groupId()).isEqualTo("com.acme");
+        assertThat(model.artifactId()).isEqualTo("shop-web");
+        assertThat(model.version()).isEqualTo("1.1");
+        assertThat(model.packaging()).isEqualTo("jar");
+        assertThat(model.parent()).isEqualTo(new MavenArtifact("com.acme", "shop", "1.0"));
+        assertThat(model.localParents()).containsExactly(project.root().resolve("pom.xml").toAbsolutePath().normalize());
+        // 親POMのプロパティも子のproject.versionで解決する
+        assertThat(model.properties()).contains(entry("core.version", "1.1"), entry("pom.artifactId", "shop-web"));
+        assertThat(model.dependencies()).containsExactly(
+                new MavenDependency("org.junit", "junit", "5", "jar", null, "test", false, List.of()),
+                new MavenDependency("com.acme", "shop-core", "1.1", "jar", null, "compile", false, List.of()),
+                new MavenDependency("org.slf4j", "slf4j-api", "2.0.12", "jar", null, "provided", false, List.of("x:y")));
+        assertThat(model.managedDependencies()).extracting(MavenDependency::scope).containsExactly("provided");
+    }
+
+    @Test
+    void followsOnlyMatchingParents() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("pom.xml", "<project><groupId>com.acme</groupId><artifactId>other</artifactId><version>9</version></project>")
+                .file("lib/pom.xml", """
+                        <project>
+                          <parent><groupId>com.acme</groupId><artifactId>shop</artifactId><version>1.0</version></parent>
+                          <artifactId>lib</artifactId>
+                        </project>
+                        """)
+                .file("remote/shop-1.0.pom",
+                        "<project><groupId>com.acme</groupId><artifactId>shop</artifactId><version>1.0</version></project>")
+                .file("detached/pom.xml", """
+                        <project>
+                          <parent><groupId>com.acme</groupId><artifactId>other</artifactId><version>9</version><relativePath/></parent>
+                          <artifactId>detached</artifactId>
+                        </project>
+                        """);
+
+        // ../pom.xmlのartifactIdが一致しないため継承しない（groupId・versionは親の参照から求める）
+        MavenModel lib = cache.mavenModel(project.root().resolve("lib/pom.xml"));
+        assertThat(lib.localParents()).isEmpty();
+        assertThat(lib.version()).isEqualTo("1.0");
+
+        // ローカルにない親POMは親POMの検索関数で求める
+        project.file("modules/lib/pom.xml", """
+                <project>
+                  <parent><groupId>com.acme</groupId><artifactId>shop</artifactId><version>1.0</version></parent>
+                  <artifactId>lib</artifactId>
+                </project>
+                """);
+        MavenModel located = cache.mavenModel(project.root().resolve("modules/lib/pom.xml"),
+                artifact -> artifact.artifactId().equals("shop") ? project.root().resolve("remote/shop-1.0.pom") : null);
+        assertThat(located.localParents()).containsExactly(project.root().resolve("remote/shop-1.0.pom").toAbsolutePath().normalize());
+
+        // relativePathが空要素の場合はローカルの親POMを参照しない
+        assertThat(cache.mavenModel(project.root().resolve("detached/pom.xml")).localParents()).isEmpty();
+    }
+
+    @Test
+    void reusesModelsUntilContentChanges() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("pom.xml", "<project><groupId>g</groupId><artifactId>a</artifactId><version>1</version></project>");
+        Path pom = project.root().resolve("pom.xml");
+
+        MavenModel first = cache.mavenModel(pom);
+        assertThat(cache.mavenModel(pom)).isSameAs(first);
+
+        project.file("pom.xml", "<project><groupId>g</groupId><artifactId>a</artifactId><version>2</version></project>");
+        assertThat(cache.mavenModel(pom).version()).isEqualTo("2");
+        assertThat(cache.mavenModel(project.root().resolve("missing.xml"))).isNull();
+        project.file("broken.xml", "<project>");
+        assertThat(cache.mavenModel(project.root().resolve("broken.xml"))).isNull();
+    }
+
+    @Test
+    void readsGradlePropertiesUpToTheSettingsDirectory() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("gradle.properties", "outsideVersion=0\n")
+                .file("shop/settings.gradle", "include 'web'")
+                .file("shop/gradle.properties", "springVersion=6.0\nguavaVersion=32\n")
+                .file("shop/web/gradle.properties", "guavaVersion=33\n")
+                .file("shop/web/build.gradle", """
+                        dependencies {
+                            implementation "org.springframework:spring-core:${springVersion}"
+                            implementation "com.google.guava:guava:${guavaVersion}"
+                            implementation "org.example:outside:${outsideVersion}"
+                        }
+                        """);
+        Path buildFile = project.root().resolve("shop/web/build.gradle");
+
+        GradleBuild build = cache.gradleBuild(buildFile);
+
+        assertThat(build.dependencies()).extracting(GradleDependency::version)
+                .containsExactly("6.0", "33", "${outsideVersion}");
+        assertThat(cache.gradleBuild(buildFile)).isSameAs(build);
+        project.file("shop/gradle.properties", "springVersion=6.1\n");
+        assertThat(cache.gradleBuild(buildFile).dependencies().get(0).version()).isEqualTo("6.1");
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BytecodeDependencyExtractor.CompiledSource;
+import com.example.springbootprojectanalyser.service.support.BytecodeDependencyExtractor.CompiledSources;
+import com.example.springbootprojectanalyser.service.support.BytecodeDependencyExtractor.ExtractedDependency;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BytecodeDependencyExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SampleProject project;
+
+    @BeforeEach
+    void compileProject() {
+        project = SampleProject.at(tempDir)
+                .javaClass("com.acme.Status", "package com.acme; public enum Status { ACTIVE, CLOSED }")
+                .javaClass("com.acme.Product", "package com.acme; public class Product {}")
+                .javaClass("com.acme.Order", """
+                        package com.acme;
+                        public class Order {
+                            public int total() { return 0; }
+                            public void cancel() {}
+                        }
+                        """)
+                .javaClass("com.acme.Auditor", """
+                        package com.acme;
+                        public class Auditor {
+                            public static void log(Object value) {}
+                        }
+                        """)
+                .javaClass("com.acme.Repository", """
+                        package com.acme;
+                        public interface Repository<T> extends AutoCloseable {
+                            T find(String id);
+                        }
+                        """)
+                .javaClass("com.acme.BaseService", "package com.acme; public abstract class BaseService {}")
+                .javaClass("com.acme.OrderService", """
+                        package com.acme;
+
+                        import java.io.IOException;
+                        import java.util.List;
+                        import java.util.Map;
+
+                        public class OrderService extends BaseService implements Repository<Order> {
+
+                            private Map<String, Product> products;
+                            private Status status = Status.ACTIVE;
+
+                            @Override
+                            public Order find(String id) {
+                                return null;
+                            }
+
+                            public List<Order> process(Order order) throws IOException {
+                                try {
+                                    Auditor.log(order.total());
+                                    validate();
+                                } catch (IllegalStateException e) {
+                                    return List.of();
+                                }
+                                return List.of(order);
+                            }
+
+                            private void validate() {}
+
+                            @Override
+                            public void close() {}
+
+                            Runnable canceller(Order order) {
+                                return new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        order.cancel();
+                                        status.name();
+                                        validate();
+                                    }
+                                };
+                            }
+
+                            static class Line {
+                                private Product product;
+                            }
+                        }
+                        """)
+                .compile();
+    }
+
+    @Test
+    void groupsClassFilesBySourceFile() throws IOException {
+        CompiledSources compiled = BytecodeDependencyExtractor.readCompiledSources(project.root());
+
+        // OrderService.java は本体・ネストしたクラス・匿名クラスの3ファイル
+        assertThat(compiled.classFileCount()).isEqualTo(9);
+        assertThat(compiled.sources()).containsOnlyKeys("com/acme/Status.java", "com/acme/Product.java", "com/acme/Order.java",
+                "com/acme/Auditor.java", "com/acme/Repository.java", "com/acme/BaseService.java", "com/acme/OrderService.java");
+        assertThat(compiled.find(orderService()).classes()).hasSize(3);
+        assertThat(BytecodeDependencyExtractor.readCompiledSources(tempDir.resolve("missing")).sources()).isEmpty();
+    }
+
+    @Test
+    void ignoresSourcesNewerThanTheirClassFiles() throws IOException {
+        CompiledSources compiled = BytecodeDependencyExtractor.readCompiledSources(project.root());
+        Path orderService = orderService();
+        CompiledSource source = compiled.find(orderService);
+
+        Files.setLastModifiedTime(orderService, FileTime.fromMillis(source.lastModified() + 10_000));
+
+        assertThat(compiled.find(orderService)).isNull();
+        assertThat(compiled.find(project.root().resolve("src/main/java/com/acme/Unknown.java"))).isNull();
+    }
+
+    @Test
+    void extractsDependenciesOfTheSourceFile() throws IOException {
+        List<ExtractedDependency> dependencies = extract();
+
+        assertThat(dependencies).extracting(ExtractedDependency::sourceClass, ExtractedDependency::target, ExtractedDependency::kindCode)
+                .contains(
+                        tuple("com.acme.OrderService", "com.acme.BaseService", "001_001"),
+                        tuple("com.acme.OrderService", "com.acme.Repository", "001_002"),
+                        tuple("com.acme.OrderService", "java.util.Map", "001_009"),
+                        tuple("com.acme.OrderService", "com.acme.Product", "001_003"),
+                        tuple("com.acme.OrderService", "com.acme.Status", "001_009"),
+                        tuple("com.acme.OrderService", "com.acme.Status", "001_011"),
+                        tuple("com.acme.OrderService", "java.io.IOException", "001_004"),
+                        tuple("com.acme.OrderService", "java.lang.IllegalStateException", "001_004"),
+                        tuple("com.acme.OrderService", "com.acme.Order", "001_005"),
+                        tuple("com.acme.OrderService", "com.acme.Auditor", "001_005"),
+                        tuple("com.acme.OrderService", "com.acme.Auditor", "001_008"),
+                        tuple("com.acme.OrderService", "java.util.List", "001_006"),
+                        tuple("com.acme.OrderService", "com.acme.Order", "001_006"),
+                        tuple("com.acme.OrderService", "com.acme.Order", "001_007"),
+                        tuple("com.acme.OrderService", "com.acme.Order", "001_003"),
+                        // ネストしたクラスのメンバーはネストしたクラスと外側のクラスの両方の依存関係とする
+                        tuple("com.acme.Line", "com.acme.Product", "001_009"),
+                        tuple("com.acme.OrderService", "com.acme.Product", "001_009"),
+                        // 匿名クラスは外側のクラスの依存関係とする
+                        tuple("com.acme.OrderService", "com.acme.Status", "001_005"));
+        // クラス自身・外側のクラスのメソッド呼び出しは対象外
+        assertThat(dependencies).extracting(ExtractedDependency::target).doesNotContain("com.acme.OrderService");
+        assertThat(dependencies).noneMatch(dependency -> dependency.sourceClass().isEmpty()
+                || dependency.sourceClass().contains("$"));
+    }
+
+    @Test
+    void extractsInterfaceInheritanceAsExtends() throws IOException {
+        CompiledSources compiled = BytecodeDependencyExtractor.readCompiledSources(project.root());
+        List<ExtractedDependency> dependencies = BytecodeDependencyExtractor.extract(
+                compiled.sources().get("com/acme/Repository.java").classes());
+
+        assertThat(dependencies).extracting(ExtractedDependency::target, ExtractedDependency::kindCode)
+                .contains(tuple("java.lang.AutoCloseable", "001_001"), tuple("java.lang.String", "001_007"))
+                .doesNotContain(tuple("java.lang.AutoCloseable", "001_002"));
+    }
+
+    @Test
+    void mapsNestedTargetsToTheSourceClassName() {
+        SampleProject.at(tempDir.resolve("nested"))
+                .javaClass("com.acme.Catalog", """
+                        package com.acme;
+                        public class Catalog {
+                            public static class Entry {}
+                        }
+                        """)
+                .javaClass("com.acme.Shop", """
+                        package com.acme;
+                        public class Shop {
+                            private Catalog.Entry entry;
+                        }
+                        """)
+                .compile();
+
+        List<ExtractedDependency> dependencies = extract(tempDir.resolve("nested"), "com/acme/Shop.java");
+
+        assertThat(dependencies).contains(new ExtractedDependency("com.acme.Shop", "com.acme.Catalog.Entry", "com.acme.Entry", "001_009"));
+    }
+
+    private List<ExtractedDependency> extract() throws IOException {
+        return BytecodeDependencyExtractor.extract(
+                BytecodeDependencyExtractor.readCompiledSources(project.root()).find(orderService()).classes());
+    }
+
+    private static List<ExtractedDependency> extract(Path root, String sourcePath) {
+        try {
+            return BytecodeDependencyExtractor.extract(
+                    BytecodeDependencyExtractor.readCompiledSources(root).sources().get(sourcePath).classes());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path orderService() {
+        return project.root().resolve("src/main/java/com/acme/OrderService.java");
+    }
+}
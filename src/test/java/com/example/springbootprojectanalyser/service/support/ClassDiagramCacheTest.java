@@ -0,0 +1,148 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramCacheStatsDto;
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramDto;
+import com.example.springbootprojectanalyser.model.dto.ClassInfoDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassDiagramCacheTest {
+
+    @Test
+    void returnsCachedDiagramsAndCountsHits() {
+        ClassDiagramCache cache = new ClassDiagramCache(8, 1_000_000);
+        ClassDiagramDto diagram = diagram("a.A");
+
+        assertThat(cache.get(key("/a", 1))).isNull();
+        cache.put(key("/a", 1), diagram);
+
+        assertThat(cache.get(key("/a", 1))).isSameAs(diagram);
+        // 解析世代が異なるキーは別のエントリ
+        assertThat(cache.get(key("/a", 2))).isNull();
+        ClassDiagramCacheStatsDto stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.entryCount()).isEqualTo(1);
+        assertThat(stats.totalWeight()).isEqualTo(ClassDiagramCache.weigh(diagram));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryOverTheEntryLimit() {
+        ClassDiagramCache cache = new ClassDiagramCache(2, 1_000_000);
+        cache.put(key("/a", 1), diagram("a.A"));
+        cache.put(key("/b", 1), diagram("a.B"));
+        cache.get(key("/a", 1));
+
+        cache.put(key("/c", 1), diagram("a.C"));
+
+        assertThat(cache.get(key("/a", 1))).isNotNull();
+        assertThat(cache.get(key("/b", 1))).isNull();
+        assertThat(cache.get(key("/c", 1))).isNotNull();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsOverTheWeightLimitAndSkipsOversizedDiagrams() {
+        ClassDiagramDto small = diagram("a.A");
+        long weight = ClassDiagramCache.weigh(small);
+        ClassDiagramCache cache = new ClassDiagramCache(100, weight * 2);
+        cache.put(key("/a", 1), small);
+        cache.put(key("/b", 1), diagram("a.B"));
+
+        cache.put(key("/c", 1), diagram("a.C"));
+
+        assertThat(cache.get(key("/a", 1))).isNull();
+        assertThat(cache.stats().totalWeight()).isLessThanOrEqualTo(weight * 2);
+
+        ClassDiagramDto oversized = new ClassDiagramDto("x".repeat((int) (weight * 3)), List.of(), Map.of(), Map.of(), Map.of());
+        cache.put(key("/big", 1), oversized);
+        assertThat(cache.get(key("/big", 1))).isNull();
+    }
+
+    @Test
+    void clearsOnCompletedAnalysis() {
+        ClassDiagramCache cache = new ClassDiagramCache(8, 1_000_000);
+        cache.put(key("/a", 1), diagram("a.A"));
+
+        cache.onAnalysisCompleted(new AnalysisCompletedEvent(1L, "/project", 2, null));
+
+        assertThat(cache.stats().entryCount()).isZero();
+        assertThat(cache.stats().totalWeight()).isZero();
+    }
+
+    @Test
+    void carriesUnaffectedDiagramsOverToTheUpdatedGeneration() {
+        ClassDiagramCache cache = new ClassDiagramCache(8, 1_000_000);
+        cache.put(key("/a", 1), diagram("a.A"));
+        cache.put(key("/b", 1), diagram("a.B"));
+
+        cache.onAnalysisUpdated(new AnalysisUpdatedEvent(1L, "/project", 1, 2, Set.of("a.B"), null));
+
+        assertThat(cache.get(key("/a", 2))).isNotNull();
+        assertThat(cache.get(key("/b", 2))).isNull();
+        assertThat(cache.get(key("/a", 1))).isNull();
+        assertThat(cache.stats().entryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsPrecomputedDiagramsOutsideTheEvictionLimits() {
+        ClassDiagramCache cache = new ClassDiagramCache(1, 1_000_000);
+        cache.putPrecomputed(key("/a", 1), diagram("a.A"));
+        cache.putPrecomputed(key("/b", 1), diagram("a.B"));
+
+        cache.put(key("/c", 1), diagram("a.C"));
+        cache.put(key("/d", 1), diagram("a.D"));
+
+        assertThat(cache.get(key("/a", 1))).isNotNull();
+        assertThat(cache.get(key("/b", 1))).isNotNull();
+        assertThat(cache.get(key("/c", 1))).isNull();
+        ClassDiagramCacheStatsDto stats = cache.stats();
+        assertThat(stats.precomputedCount()).isEqualTo(2);
+        assertThat(stats.entryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotDuplicatePrecomputedDiagramsInTheLruArea() {
+        ClassDiagramCache cache = new ClassDiagramCache(8, 1_000_000);
+        cache.put(key("/a", 1), diagram("a.A"));
+
+        cache.putPrecomputed(key("/a", 1), diagram("a.A"));
+        cache.put(key("/a", 1), diagram("a.A"));
+
+        assertThat(cache.stats().entryCount()).isZero();
+        assertThat(cache.stats().totalWeight()).isZero();
+        assertThat(cache.stats().precomputedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatesPrecomputedDiagramsLikeCachedOnes() {
+        ClassDiagramCache cache = new ClassDiagramCache(8, 1_000_000);
+        cache.putPrecomputed(key("/a", 1), diagram("a.A"));
+        cache.putPrecomputed(key("/b", 1), diagram("a.B"));
+
+        cache.onAnalysisUpdated(new AnalysisUpdatedEvent(1L, "/project", 1, 2, Set.of("a.B"), null));
+
+        assertThat(cache.get(key("/a", 2))).isNotNull();
+        assertThat(cache.get(key("/b", 2))).isNull();
+        assertThat(cache.stats().precomputedCount()).isEqualTo(1);
+
+        cache.onAnalysisCompleted(new AnalysisCompletedEvent(1L, "/project", 3, null));
+        assertThat(cache.stats().precomputedCount()).isZero();
+        assertThat(cache.stats().precomputedWeight()).isZero();
+    }
+
+    static ClassDiagramCache.Key key(String uri, long generation) {
+        return new ClassDiagramCache.Key(1L, "a.Controller", uri, "GET", 10, generation);
+    }
+
+    static ClassDiagramDto diagram(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return new ClassDiagramDto("classDiagram\n    class " + simpleName + "\n",
+                List.of(new ClassInfoDto(1L, className, simpleName)), Map.of(), Map.of(), Map.of());
+    }
+}
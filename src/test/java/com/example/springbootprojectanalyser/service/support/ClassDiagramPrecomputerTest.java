@@ -0,0 +1,91 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.dto.ClassDiagramCacheStatsDto;
+import com.example.springbootprojectanalyser.model.dto.DiagramPrecomputeStatusDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.service.ClassDiagramService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "classdiagram.precompute.enabled=true",
+        "classdiagram.cache.max-entries=1"
+})
+class ClassDiagramPrecomputerTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ClassDiagramService classDiagramService;
+
+    @Autowired
+    private ClassDiagramPrecomputer precomputer;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void precomputesEveryEndpointBeyondTheCacheLimit() throws InterruptedException {
+        SampleProject project = SampleProject.at(tempDir).orderApplication()
+                .javaClass("com.acme.order.web.CustomerController", """
+                        package com.acme.order.web;
+
+                        import com.acme.order.service.OrderService;
+                        import org.springframework.web.bind.annotation.GetMapping;
+                        import org.springframework.web.bind.annotation.RestController;
+
+                        @RestController
+                        public class CustomerController {
+                            private final OrderService orderService;
+
+                            public CustomerController(OrderService orderService) {
+                                this.orderService = orderService;
+                            }
+
+                            @GetMapping("/customers")
+                            public String list() {
+                                return "";
+                            }
+
+                            @GetMapping("/customers/orders")
+                            public String orders() {
+                                return "";
+                            }
+                        }
+                        """);
+        Long projectId = project.analyse(analysisService, projectRepository);
+
+        DiagramPrecomputeStatusDto status = awaitCompletion(projectId);
+
+        assertThat(status.state()).isEqualTo("COMPLETED");
+        assertThat(status.endpointCount()).isEqualTo(3);
+        assertThat(status.completedCount()).isEqualTo(3);
+        ClassDiagramCacheStatsDto stats = classDiagramService.getCacheStats();
+        assertThat(stats.precomputedCount()).isEqualTo(3);
+        assertThat(stats.evictionCount()).isZero();
+    }
+
+    private DiagramPrecomputeStatusDto awaitCompletion(Long projectId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            DiagramPrecomputeStatusDto status = precomputer.getLastStatus();
+            if (status != null && status.projectId().equals(projectId) && !status.state().equals("RUNNING")) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("事前生成が完了しませんでした");
+    }
+}
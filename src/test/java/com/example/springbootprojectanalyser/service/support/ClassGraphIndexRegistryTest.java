@@ -0,0 +1,64 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ClassGraphIndexRegistryTest {
+
+    @Autowired
+    private ClassDependencyAnalysisService analysisService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ClassGraphIndexRegistry graphIndexRegistry;
+
+    @Autowired
+    private AnalysisGenerationTracker generationTracker;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void providesTheIndexOfTheCurrentGeneration() {
+        Long projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+
+        ClassGraphIndex index = graphIndexRegistry.getIndex(projectId);
+
+        assertThat(index.generation()).isEqualTo(generationTracker.current(projectId));
+        assertThat(index.nodeCount()).isEqualTo(6);
+        int serviceImpl = index.nodeOfFullQualifiedName("com.acme.order.service.OrderServiceImpl");
+        int service = index.nodeOfFullQualifiedName("com.acme.order.service.OrderService");
+        boolean implementsService = false;
+        for (int e = index.outStart(serviceImpl); e < index.outEnd(serviceImpl); e++) {
+            implementsService |= index.outTarget(e) == service && index.kindCode(index.outKind(e)).equals("001_002");
+        }
+        assertThat(implementsService).isTrue();
+        assertThat(graphIndexRegistry.getIndex(projectId)).isSameAs(index);
+    }
+
+    @Test
+    void rebuildsWhenTheGenerationAdvances() {
+        Long projectId = SampleProject.at(tempDir).orderApplication().analyse(analysisService, projectRepository);
+        ClassGraphIndex before = graphIndexRegistry.getIndex(projectId);
+
+        long generation = generationTracker.advance(projectId);
+        ClassGraphIndex after = graphIndexRegistry.getIndex(projectId);
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.generation()).isEqualTo(generation);
+        assertThat(after.edgeCount()).isEqualTo(before.edgeCount());
+    }
+}
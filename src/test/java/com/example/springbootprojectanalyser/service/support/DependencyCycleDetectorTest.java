@@ -0,0 +1,71 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.service.support.DependencyCycleDetector.DetectedCycle;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyCycleDetectorTest {
+
+    /**
+     * a.A <-> b.B、a.C <-> d.D（D -> Cのみ継承）、b.B -> a.C、a.Cの自己依存
+     */
+    private static ClassGraphIndex graph() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(1L);
+        builder.addNode(1L, "a.A", "A");
+        builder.addNode(2L, "b.B", "B");
+        builder.addNode(3L, "a.C", "C");
+        builder.addNode(4L, "d.D", "D");
+        builder.addEdge(1L, 2L, "001_005", null);
+        builder.addEdge(2L, 1L, "002_003", null);
+        builder.addEdge(2L, 3L, "001_005", null);
+        builder.addEdge(3L, 3L, "001_005", null);
+        builder.addEdge(3L, 4L, "001_005", null);
+        builder.addEdge(4L, 3L, "001_001", null);
+        return builder.build();
+    }
+
+    @Test
+    void detectsClassCyclesIgnoringSelfDependencies() {
+        List<DetectedCycle> cycles = DependencyCycleDetector.detectClassCycles(graph(), DependencyKindFilter.ALL_KINDS);
+
+        assertThat(cycles).containsExactly(
+                new DetectedCycle(List.of("a.A", "b.B"), 2, List.of("a.A", "b.B", "a.A")),
+                new DetectedCycle(List.of("a.C", "d.D"), 2, List.of("a.C", "d.D", "a.C")));
+    }
+
+    @Test
+    void restrictsCyclesToMatchingKinds() {
+        assertThat(DependencyCycleDetector.detectClassCycles(graph(), "001_*"))
+                .extracting(DetectedCycle::members).containsExactly(List.of("a.C", "d.D"));
+        assertThat(DependencyCycleDetector.detectClassCycles(graph(), "001_005")).isEmpty();
+    }
+
+    @Test
+    void detectsPackageCyclesFromClassDependencies() {
+        Map<Long, String> packages = Map.of(1L, "a", 2L, "b", 3L, "a", 4L, "d");
+
+        List<DetectedCycle> cycles = DependencyCycleDetector.detectPackageCycles(graph(), packages, DependencyKindFilter.ALL_KINDS);
+
+        assertThat(cycles).hasSize(1);
+        DetectedCycle cycle = cycles.get(0);
+        assertThat(cycle.members()).containsExactly("a", "b", "d");
+        // a -> b、b -> a（2件）、a -> d、d -> a
+        assertThat(cycle.edgeCount()).isEqualTo(5);
+        assertThat(cycle.examplePath()).containsExactly("a", "b", "a");
+    }
+
+    @Test
+    void skipsClassesWithoutPackage() {
+        Map<Long, String> packages = Map.of(1L, "a", 2L, "b", 3L, "a");
+
+        List<DetectedCycle> cycles = DependencyCycleDetector.detectPackageCycles(graph(), packages, DependencyKindFilter.ALL_KINDS);
+
+        // d.Dへの依存関係・d.Dからの依存関係は対象外
+        assertThat(cycles).containsExactly(new DetectedCycle(List.of("a", "b"), 3, List.of("a", "b", "a")));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyKindFilterTest {
+
+    @Test
+    void normalizesPatterns() {
+        assertThat(DependencyKindFilter.normalize(null)).isEqualTo("*");
+        assertThat(DependencyKindFilter.normalize(" ")).isEqualTo("*");
+        assertThat(DependencyKindFilter.normalize(" , ")).isEqualTo("*");
+        assertThat(DependencyKindFilter.normalize("002_*, 001_005,002_*")).isEqualTo("001_005,002_*");
+        assertThat(DependencyKindFilter.normalize("001_005, *")).isEqualTo("*");
+    }
+
+    @Test
+    void matchesKindsOfTheGraph() {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(1L);
+        builder.addNode(1L, "a.A", "A");
+        builder.addNode(2L, "a.B", "B");
+        builder.addEdge(1L, 2L, "001_001", null);
+        builder.addEdge(1L, 2L, "001_005", null);
+        builder.addEdge(1L, 2L, "002_003", null);
+        ClassGraphIndex graph = builder.build();
+
+        assertThat(DependencyKindFilter.matchKinds(graph, "*").cardinality()).isEqualTo(3);
+        assertThat(kindCodes(graph, DependencyKindFilter.matchKinds(graph, "001_*"))).containsExactly("001_001", "001_005");
+        assertThat(kindCodes(graph, DependencyKindFilter.matchKinds(graph, "*_003,001_001"))).containsExactly("001_001", "002_003");
+        assertThat(DependencyKindFilter.matchKinds(graph, "9.9").isEmpty()).isTrue();
+    }
+
+    private static String[] kindCodes(ClassGraphIndex graph, BitSet kinds) {
+        return kinds.stream().mapToObj(graph::kindCode).sorted().toArray(String[]::new);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ColumnarEdgeStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EdgeStoreRegistryTest {
+
+    private static final String PROJECT_PATH = "/work/shop";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void savesStoresAndReadsThemBackFromFiles() {
+        EdgeStoreRegistry registry = new EdgeStoreRegistry("columnar", tempDir.toString());
+        ColumnarEdgeStore store = store(1, 2);
+        registry.save(1L, PROJECT_PATH, 10L, store);
+
+        assertThat(tempDir.resolve("project-1.edges")).exists();
+        assertThat(registry.find(1L, PROJECT_PATH, 10L)).containsSame(store);
+
+        ColumnarEdgeStore loaded = new EdgeStoreRegistry("columnar", tempDir.toString())
+                .find(1L, PROJECT_PATH, 10L).orElseThrow();
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(loaded.targetId(0)).isEqualTo(2);
+        assertThat(registry.find(2L, PROJECT_PATH, 10L)).isEmpty();
+    }
+
+    @Test
+    void ignoresFilesOfOtherProjectsOrGenerations() throws IOException {
+        new EdgeStoreRegistry("columnar", tempDir.toString()).save(1L, PROJECT_PATH, 10L, store(1, 2));
+
+        // サーバ再起動後はプロジェクトIDが1から振り直されるため、同じファイル名でも別プロジェクトのストアがありうる
+        EdgeStoreRegistry restarted = new EdgeStoreRegistry("columnar", tempDir.toString());
+        assertThat(restarted.find(1L, "/work/other", 10L)).isEmpty();
+        assertThat(restarted.find(1L, PROJECT_PATH, 11L)).isEmpty();
+
+        Files.writeString(tempDir.resolve("project-3.edges"), "broken");
+        assertThat(restarted.find(3L, PROJECT_PATH, 10L)).isEmpty();
+    }
+
+    @Test
+    void deletesOnlyFilesOfPreviouslyHeldProjects() throws IOException {
+        Path foreign = Files.writeString(tempDir.resolve("project-999.edges"), "other server");
+        EdgeStoreRegistry registry = new EdgeStoreRegistry("columnar", tempDir.toString());
+        registry.save(1L, PROJECT_PATH, 10L, store(1, 2));
+
+        registry.save(2L, "/work/other", 11L, store(3, 4));
+
+        assertThat(tempDir.resolve("project-1.edges")).doesNotExist();
+        assertThat(tempDir.resolve("project-2.edges")).exists();
+        assertThat(foreign).exists();
+        assertThat(registry.find(1L, PROJECT_PATH, 10L)).isEmpty();
+    }
+
+    @Test
+    void findsNothingInJpaMode() {
+        EdgeStoreRegistry registry = new EdgeStoreRegistry("jpa", tempDir.toString());
+
+        assertThat(registry.isColumnar()).isFalse();
+        assertThat(registry.find(1L, PROJECT_PATH, 10L)).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        assertThatThrownBy(() -> new EdgeStoreRegistry("csv", tempDir.toString()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ColumnarEdgeStore store(long source, long target) {
+        ColumnarEdgeStore store = new ColumnarEdgeStore();
+        store.append(source, target, "001_005");
+        store.compact();
+        return store;
+    }
+}
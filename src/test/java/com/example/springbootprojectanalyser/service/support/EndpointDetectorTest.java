@@ -0,0 +1,111 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.EndpointDetector.DetectedEndpoint;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class EndpointDetectorTest {
+
+    private static final String CONTROLLER = """
+            @RestController
+            @RequestMapping("/orders/")
+            public class OrderController {
+                @GetMapping("/{id}")
+                public Order find(Long id) { return null; }
+
+                @PostMapping
+                public Order create(Order order) { return null; }
+
+                @PutMapping(path = "/{id}")
+                public Order update(Long id, Order order) { return null; }
+
+                @DeleteMapping(value = "/{id}")
+                public void delete(Long id) { }
+
+                @PatchMapping("/{id}/status")
+                public void changeStatus(Long id) { }
+
+                @RequestMapping("/search")
+                public List<Order> search() { return null; }
+
+                public void helper() { }
+            }
+            """;
+
+    @Test
+    void combinesClassAndMethodMappings() {
+        List<DetectedEndpoint> endpoints = detect(CONTROLLER, "/work/order");
+
+        assertThat(endpoints).extracting(DetectedEndpoint::httpMethod, DetectedEndpoint::uri)
+                .containsExactly(
+                        tuple("GET", "/orders/{id}"),
+                        tuple("POST", "/orders/"),
+                        tuple("PUT", "/orders/{id}"),
+                        tuple("DELETE", "/orders/{id}"),
+                        tuple("PATCH", "/orders/{id}/status"),
+                        tuple("GET", "/orders/search"));
+    }
+
+    @Test
+    void usesRootPathWithoutAnyMapping() {
+        List<DetectedEndpoint> endpoints = detect("""
+                @Controller
+                public class HomeController {
+                    @GetMapping
+                    public String index() { return "index"; }
+                }
+                """, "/work/home");
+
+        assertThat(endpoints).extracting(DetectedEndpoint::uri).containsExactly("/");
+    }
+
+    @Test
+    void ignoresClassesThatAreNotControllers() {
+        assertThat(detect("""
+                @Service
+                public class OrderService {
+                    @GetMapping("/orders")
+                    public void find() { }
+                }
+                """, "/work/order")).isEmpty();
+    }
+
+    @Test
+    void generatesDeterministicIdsPerProject() {
+        List<DetectedEndpoint> first = detect(CONTROLLER, "/work/order");
+        List<DetectedEndpoint> second = detect(CONTROLLER, "/work/order");
+        List<DetectedEndpoint> otherProject = detect(CONTROLLER, "/work/other");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first).extracting(DetectedEndpoint::endpointId).doesNotHaveDuplicates();
+        assertThat(otherProject).extracting(DetectedEndpoint::endpointId)
+                .doesNotContainAnyElementsOf(first.stream().map(DetectedEndpoint::endpointId).toList());
+    }
+
+    @Test
+    void distinguishesRepeatedMappingsOnTheSameHandler() {
+        List<DetectedEndpoint> endpoints = detect("""
+                @RestController
+                public class LegacyController {
+                    @GetMapping("/legacy")
+                    @RequestMapping("/legacy")
+                    public String legacy() { return ""; }
+                }
+                """, "/work/legacy");
+
+        assertThat(endpoints).hasSize(2)
+                .extracting(DetectedEndpoint::endpointId).doesNotHaveDuplicates();
+    }
+
+    private static List<DetectedEndpoint> detect(String source, String projectRootPath) {
+        ClassOrInterfaceDeclaration classDecl = StaticJavaParser.parse(source)
+                .findFirst(ClassOrInterfaceDeclaration.class).orElseThrow();
+        return EndpointDetector.detect(classDecl, "com.acme." + classDecl.getNameAsString(), projectRootPath);
+    }
+}
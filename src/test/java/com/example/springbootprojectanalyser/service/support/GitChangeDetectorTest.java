@@ -0,0 +1,95 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector.ChangedFile;
+import com.example.springbootprojectanalyser.service.support.GitChangeDetector.GitChanges;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitChangeDetectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final GitChangeDetector detector = new GitChangeDetector("git");
+
+    private SampleProject repository;
+    private String baseCommit;
+
+    @BeforeEach
+    void createRepository() {
+        repository = SampleProject.at(tempDir)
+                .file("app/src/A.java", "class A {}\n")
+                .file("app/src/B.java", "class B {}\n")
+                .file("app/src/C.java", "class C {}\n")
+                .file("README.md", "readme\n");
+        repository.git("init", "-q");
+        baseCommit = repository.commitAll("initial");
+    }
+
+    @Test
+    void detectsCommittedUncommittedAndUntrackedChanges() {
+        repository.file("app/src/A.java", "class A { int x; }\n").delete("app/src/B.java");
+        repository.commitAll("change A, delete B");
+        repository.file("app/src/C.java", "class C { int y; }\n")
+                .file("app/src/D.java", "class D {}\n")
+                .file("app/src/E.java", "class E {}\n");
+        repository.git("add", "app/src/E.java");
+
+        GitChanges changes = detector.detectChanges(tempDir, "HEAD~1");
+
+        assertThat(changes.baseCommit()).isEqualTo(baseCommit);
+        assertThat(changes.files()).containsExactlyInAnyOrder(
+                new ChangedFile("app/src/A.java", GitChangeDetector.MODIFIED),
+                new ChangedFile("app/src/B.java", GitChangeDetector.DELETED),
+                new ChangedFile("app/src/C.java", GitChangeDetector.MODIFIED),
+                new ChangedFile("app/src/D.java", GitChangeDetector.ADDED),
+                new ChangedFile("app/src/E.java", GitChangeDetector.ADDED));
+    }
+
+    @Test
+    void reportsPathsRelativeToSubdirectory() {
+        repository.file("app/src/A.java", "class A { int x; }\n")
+                .file("README.md", "changed\n")
+                .file("app/src/New.java", "class New {}\n");
+
+        GitChanges changes = detector.detectChanges(tempDir.resolve("app"), " " + baseCommit + " ");
+
+        assertThat(changes.files()).containsExactlyInAnyOrder(
+                new ChangedFile("src/A.java", GitChangeDetector.MODIFIED),
+                new ChangedFile("src/New.java", GitChangeDetector.ADDED));
+    }
+
+    @Test
+    void findsNoChangesAtHead() {
+        assertThat(detector.detectChanges(tempDir, "HEAD").files()).isEmpty();
+        assertThat(detector.headCommit(tempDir)).contains(baseCommit);
+    }
+
+    @Test
+    void rejectsInvalidRevisions() {
+        assertThatThrownBy(() -> detector.detectChanges(tempDir, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> detector.detectChanges(tempDir, "--output=/tmp/x"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("不正");
+        assertThatThrownBy(() -> detector.detectChanges(tempDir, "no-such-branch"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("見つかりません");
+    }
+
+    @Test
+    void rejectsDirectoriesOutsideRepositories(@TempDir Path plainDirectory) {
+        assertThatThrownBy(() -> detector.detectChanges(plainDirectory, "HEAD"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Gitリポジトリではありません");
+        assertThat(detector.headCommit(plainDirectory)).isEmpty();
+        assertThat(new GitChangeDetector("/no/such/git").headCommit(tempDir)).isEmpty();
+    }
+}
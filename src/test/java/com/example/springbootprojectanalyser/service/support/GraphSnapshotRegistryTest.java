@@ -0,0 +1,136 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.service.support.GraphSnapshotRegistry.SnapshotFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphSnapshotRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshots;
+    private String order;
+    private String other;
+
+    @BeforeEach
+    void createProjectDirectories() throws IOException {
+        snapshots = tempDir.resolve("snapshots");
+        order = Files.createDirectories(tempDir.resolve("work/order")).toString();
+        other = Files.createDirectories(tempDir.resolve("work/other")).toString();
+    }
+
+    @Test
+    void opensSnapshotOfTheCurrentGeneration() {
+        GraphSnapshotRegistry registry = registry(10, 100);
+        registry.save(1L, order, index(5L, 3));
+
+        ClassGraphIndex index = registry.open(1L, order, 5L).orElseThrow();
+
+        assertThat(index.generation()).isEqualTo(5L);
+        assertThat(index.nodeCount()).isEqualTo(3);
+        assertThat(index.edgeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresSnapshotsOfOtherGenerationsOrProjects() {
+        GraphSnapshotRegistry registry = registry(10, 100);
+        registry.save(1L, order, index(5L, 3));
+
+        assertThat(registry.open(1L, order, 6L)).isEmpty();
+        assertThat(registry.open(1L, other, 5L)).isEmpty();
+        assertThat(registry.open(2L, order, 5L)).isEmpty();
+    }
+
+    @Test
+    void keepsTheConfiguredHistoryPerProject() throws InterruptedException {
+        GraphSnapshotRegistry registry = registry(2, 100);
+        for (int generation = 1; generation <= 3; generation++) {
+            registry.save(1L, order, index(generation, generation + 1));
+            // スナップショットIDは書き出し時刻のため、保存ごとに時刻を進める
+            Thread.sleep(5);
+        }
+        registry.save(2L, other, index(9L, 2));
+
+        List<SnapshotFile> snapshots = registry.list(order);
+
+        assertThat(snapshots).extracting(SnapshotFile::generation).containsExactly(3L, 2L);
+        assertThat(snapshots).extracting(SnapshotFile::nodeCount).containsExactly(4, 3);
+        assertThat(registry.list(other)).hasSize(1);
+        SnapshotFile older = snapshots.get(1);
+        assertThat(registry.open(order, older.snapshotId()).orElseThrow().generation()).isEqualTo(2L);
+        assertThat(registry.open(other, older.snapshotId())).isEmpty();
+    }
+
+    @Test
+    void removesUnreadableSnapshotsWhenListing() throws IOException {
+        GraphSnapshotRegistry registry = registry(10, 100);
+        Files.createDirectories(snapshots);
+        Path broken = Files.write(snapshots.resolve("project-1-123.graph"), new byte[10]);
+        Path unrelated = Files.write(snapshots.resolve("project-1-latest.graph"), new byte[10]);
+
+        assertThat(registry.list(order)).isEmpty();
+        assertThat(broken).doesNotExist();
+        assertThat(unrelated).exists();
+    }
+
+    @Test
+    void writesNothingWhenDisabled() {
+        GraphSnapshotRegistry registry = new GraphSnapshotRegistry(false, snapshots.toString(), 10, 100);
+        registry.save(1L, order, index(5L, 3));
+
+        assertThat(registry.isEnabled()).isFalse();
+        assertThat(registry.open(1L, order, 5L)).isEmpty();
+        assertThat(snapshots).doesNotExist();
+    }
+
+    @Test
+    void limitsTheTotalNumberOfSnapshots() throws InterruptedException {
+        GraphSnapshotRegistry registry = registry(10, 2);
+        registry.save(1L, order, index(1L, 2));
+        Thread.sleep(5);
+        registry.save(1L, order, index(2L, 2));
+        Thread.sleep(5);
+        registry.save(2L, other, index(3L, 2));
+
+        assertThat(registry.list(other)).extracting(SnapshotFile::generation).containsExactly(3L);
+        assertThat(registry.list(order)).extracting(SnapshotFile::generation).containsExactly(2L);
+    }
+
+    @Test
+    void removesSnapshotsOfProjectsThatNoLongerExist() throws IOException, InterruptedException {
+        GraphSnapshotRegistry registry = registry(10, 100);
+        registry.save(1L, other, index(1L, 2));
+        Files.delete(Path.of(other));
+        Thread.sleep(5);
+
+        registry.save(2L, order, index(2L, 2));
+
+        assertThat(registry.list(other)).isEmpty();
+        assertThat(registry.list(order)).hasSize(1);
+    }
+
+    private GraphSnapshotRegistry registry(int history, int maxFiles) {
+        return new GraphSnapshotRegistry(true, snapshots.toString(), history, maxFiles);
+    }
+
+    private static ClassGraphIndex index(long generation, int nodeCount) {
+        ClassGraphIndex.Builder builder = ClassGraphIndex.builder(generation);
+        for (long id = 1; id <= nodeCount; id++) {
+            builder.addNode(id, "a.C" + id, "C" + id);
+        }
+        for (long id = 1; id < nodeCount; id++) {
+            builder.addEdge(id, id + 1, "001_005", "メソッド呼び出し");
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.JarAutoConfigurationScanner.JarAutoConfigurations;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.example.springbootprojectanalyser.service.support.JarAutoConfigurationScanner.AUTO_CONFIGURATION_IMPORTS;
+import static com.example.springbootprojectanalyser.service.support.JarAutoConfigurationScanner.SPRING_FACTORIES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JarAutoConfigurationScannerTest {
+
+    private static final String FACTORIES = """
+            org.springframework.context.ApplicationListener=com.acme.Listener
+            org.springframework.boot.autoconfigure.EnableAutoConfiguration=\\
+              com.acme.FirstAutoConfiguration,\\
+              com.acme.SecondAutoConfiguration
+            """;
+    private static final String IMPORTS = """
+            # オートコンフィグ
+            com.acme.SecondAutoConfiguration
+            com.acme.ThirdAutoConfiguration # 末尾のコメント
+
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private final JarAutoConfigurationScanner scanner = new JarAutoConfigurationScanner(16);
+
+    @Test
+    void readsDeflatedEntries() throws IOException {
+        Path jar = write("deflated.jar", jar(ZipEntry.DEFLATED, 0, null));
+
+        JarAutoConfigurations result = scanner.scan(jar);
+
+        assertThat(result.springFactories()).containsExactly("com.acme.FirstAutoConfiguration", "com.acme.SecondAutoConfiguration");
+        assertThat(result.autoConfigurationImports()).containsExactly("com.acme.SecondAutoConfiguration", "com.acme.ThirdAutoConfiguration");
+        assertThat(result.allClasses()).containsExactly(
+                "com.acme.FirstAutoConfiguration", "com.acme.SecondAutoConfiguration", "com.acme.ThirdAutoConfiguration");
+    }
+
+    @Test
+    void readsStoredEntriesBehindArchiveComment() throws IOException {
+        Path jar = write("stored.jar", jar(ZipEntry.STORED, 0, "x".repeat(1000)));
+
+        assertThat(scanner.scan(jar).allClasses()).hasSize(3);
+    }
+
+    @Test
+    void readsZip64Archives() throws IOException {
+        // エントリ数が65535を超えるJAR（ZIP64終端レコード付き）
+        Path manyEntries = write("many.jar", jar(ZipEntry.DEFLATED, 70_000, null));
+        // セントラルディレクトリの位置・サイズをZIP64終端レコードのみに持つJAR
+        Path zip64 = write("zip64.jar", toZip64(jar(ZipEntry.DEFLATED, 0, null)));
+
+        assertThat(scanner.scan(manyEntries).allClasses()).hasSize(3);
+        assertThat(scanner.scan(zip64).allClasses()).hasSize(3);
+    }
+
+    @Test
+    void cachesByCentralDirectory() throws IOException {
+        JarAutoConfigurationScanner small = new JarAutoConfigurationScanner(1);
+        Path first = write("first.jar", jar(ZipEntry.DEFLATED, 0, null));
+        Path copy = write("copy.jar", Files.readAllBytes(first));
+        Path other = write("other.jar", jar(ZipEntry.DEFLATED, 1, null));
+
+        JarAutoConfigurations scanned = small.scan(first);
+
+        // 内容が同じJARは走査結果を共有し、上限を超えると古い走査結果から破棄する
+        assertThat(small.scan(copy)).isSameAs(scanned);
+        assertThat(small.scan(other)).isNotSameAs(scanned);
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.scan(first)).isNotSameAs(scanned).isEqualTo(scanned);
+    }
+
+    @Test
+    void returnsEmptyForUnreadableJars() throws IOException {
+        byte[] corrupted = jar(ZipEntry.STORED, 0, null);
+        int offset = indexOf(corrupted, "com.acme.FirstAutoConfiguration".getBytes(StandardCharsets.UTF_8));
+        corrupted[offset] = 'C';
+
+        assertThat(scanner.scan(write("corrupted.jar", corrupted)).allClasses()).isEmpty();
+        assertThat(scanner.scan(write("text.jar", "not a jar".getBytes(StandardCharsets.UTF_8))).allClasses()).isEmpty();
+        assertThat(scanner.scan(tempDir.resolve("missing.jar")).allClasses()).isEmpty();
+        assertThat(scanner.scan(write("plain.jar", jarWithoutAutoConfiguration())).allClasses()).isEmpty();
+    }
+
+    /**
+     * オートコンフィグのファイルと、指定数のクラスファイルのエントリを持つJARを作成する
+     */
+    private static byte[] jar(int method, int extraEntries, String comment) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.setMethod(method);
+            if (comment != null) {
+                out.setComment(comment);
+            }
+            for (int i = 0; i < extraEntries; i++) {
+                putEntry(out, method, "com/acme/generated/C" + i + ".class", new byte[0]);
+            }
+            putEntry(out, method, SPRING_FACTORIES, FACTORIES.getBytes(StandardCharsets.UTF_8));
+            putEntry(out, method, AUTO_CONFIGURATION_IMPORTS, IMPORTS.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] jarWithoutAutoConfiguration() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            putEntry(out, ZipEntry.DEFLATED, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void putEntry(ZipOutputStream out, int method, String name, byte[] content) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+
+    /**
+     * 終端レコードのセントラルディレクトリの位置・サイズを0xffffffffとし、ZIP64終端レコードとロケータを追加する
+     */
+    private static byte[] toZip64(byte[] zip) {
+        ByteBuffer source = ByteBuffer.wrap(zip).order(ByteOrder.LITTLE_ENDIAN);
+        int end = zip.length - 22;
+        long entries = Short.toUnsignedInt(source.getShort(end + 10));
+        long directorySize = Integer.toUnsignedLong(source.getInt(end + 12));
+        long directoryOffset = Integer.toUnsignedLong(source.getInt(end + 16));
+
+        ByteBuffer result = ByteBuffer.allocate(end + 56 + 20 + 22).order(ByteOrder.LITTLE_ENDIAN);
+        result.put(zip, 0, end);
+        result.putInt(0x06064b50).putLong(44).putShort((short) 45).putShort((short) 45).putInt(0).putInt(0)
+                .putLong(entries).putLong(entries).putLong(directorySize).putLong(directoryOffset);
+        result.putInt(0x07064b50).putInt(0).putLong(end).putInt(1);
+        result.putInt(0x06054b50).putShort((short) 0).putShort((short) 0).putShort((short) entries).putShort((short) entries)
+                .putInt(0xffffffff).putInt(0xffffffff).putShort((short) 0);
+        return result.array();
+    }
+
+    private static int indexOf(byte[] content, byte[] target) {
+        for (int i = 0; i + target.length <= content.length; i++) {
+            int j = 0;
+            while (j < target.length && content[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("not found");
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+}
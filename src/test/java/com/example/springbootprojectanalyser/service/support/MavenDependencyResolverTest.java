@@ -0,0 +1,154 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenModel;
+import com.example.springbootprojectanalyser.service.support.MavenDependencyResolver.ResolvedDependency;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MavenDependencyResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SampleProject repository;
+    private SampleProject project;
+
+    /**
+     * a:1 -> c:1, d:4（runtime）, t:1（test）, o:1（optional）
+     * b:1（親POM p:1で e を管理）-> c:2, x:1, e
+     * d:5 -> g:1（ローカルリポジトリにない）
+     * BOM:1 で a:1、d:5 を管理する
+     */
+    @BeforeEach
+    void createRepository() {
+        repository = SampleProject.at(tempDir.resolve("m2"));
+        pom("a", "1", """
+                <dependencies>
+                  <dependency><groupId>org.fixture</groupId><artifactId>c</artifactId><version>1</version></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>d</artifactId><version>4</version><scope>runtime</scope></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>t</artifactId><version>1</version><scope>test</scope></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>o</artifactId><version>1</version><optional>true</optional></dependency>
+                </dependencies>
+                """);
+        pom("b", "1", """
+                <parent><groupId>org.fixture</groupId><artifactId>p</artifactId><version>1</version></parent>
+                <dependencies>
+                  <dependency><groupId>org.fixture</groupId><artifactId>c</artifactId><version>2</version></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>x</artifactId><version>1</version></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>e</artifactId></dependency>
+                </dependencies>
+                """);
+        pom("p", "1", """
+                <packaging>pom</packaging>
+                <dependencyManagement><dependencies>
+                  <dependency><groupId>org.fixture</groupId><artifactId>e</artifactId><version>7</version></dependency>
+                </dependencies></dependencyManagement>
+                """);
+        pom("c", "1", "");
+        pom("c", "2", "");
+        pom("d", "5", """
+                <dependencies>
+                  <dependency><groupId>org.fixture</groupId><artifactId>g</artifactId><version>1</version></dependency>
+                </dependencies>
+                """);
+        pom("bom", "1", """
+                <packaging>pom</packaging>
+                <dependencyManagement><dependencies>
+                  <dependency><groupId>org.fixture</groupId><artifactId>a</artifactId><version>1</version></dependency>
+                  <dependency><groupId>org.fixture</groupId><artifactId>d</artifactId><version>5</version></dependency>
+                </dependencies></dependencyManagement>
+                """);
+        repository.file("org/fixture/a/1/a-1.jar", "");
+
+        project = SampleProject.at(tempDir.resolve("project")).file("pom.xml", """
+                <project>
+                  <groupId>com.acme</groupId>
+                  <artifactId>shop</artifactId>
+                  <version>1.0</version>
+                  <dependencyManagement><dependencies>
+                    <dependency><groupId>org.fixture</groupId><artifactId>bom</artifactId><version>1</version><type>pom</type><scope>import</scope></dependency>
+                  </dependencies></dependencyManagement>
+                  <dependencies>
+                    <dependency><groupId>org.fixture</groupId><artifactId>a</artifactId></dependency>
+                    <dependency>
+                      <groupId>org.fixture</groupId><artifactId>b</artifactId><version>1</version>
+                      <exclusions><exclusion><groupId>org.fixture</groupId><artifactId>x</artifactId></exclusion></exclusions>
+                    </dependency>
+                  </dependencies>
+                </project>
+                """);
+    }
+
+    @Test
+    void importsBomsIntoTheEffectiveModel() {
+        MavenModel model = resolver().effectiveModel(project.root().resolve("pom.xml"));
+
+        assertThat(model.dependencies()).extracting(MavenDependency::artifactId, MavenDependency::version)
+                .containsExactly(tuple("a", "1"), tuple("b", "1"));
+        assertThat(model.managedDependencies()).extracting(MavenDependency::artifactId).containsExactly("a", "d");
+    }
+
+    @Test
+    void mediatesVersionsScopesAndExclusions() {
+        MavenDependencyResolver resolver = resolver();
+        MavenModel model = resolver.effectiveModel(project.root().resolve("pom.xml"));
+
+        List<ResolvedDependency> resolved = resolver.resolve(model.dependencies(), model.managedDependencies());
+
+        // 同じ深さでは先に宣言されたc:1を採用し、d は依存関係管理のバージョン、g はruntimeのスコープとなる
+        // test・optionalの依存関係と、経路上で除外したxは含まない
+        assertThat(resolved).containsExactly(
+                new ResolvedDependency("org.fixture", "a", "1", null, "compile", false, 1, null, true),
+                new ResolvedDependency("org.fixture", "c", "1", null, "compile", false, 2, "org.fixture:a:1", true),
+                new ResolvedDependency("org.fixture", "d", "5", null, "runtime", false, 2, "org.fixture:a:1", true),
+                new ResolvedDependency("org.fixture", "g", "1", null, "runtime", false, 3, "org.fixture:d:5", false),
+                new ResolvedDependency("org.fixture", "b", "1", null, "compile", false, 1, null, true),
+                new ResolvedDependency("org.fixture", "e", "7", null, "compile", false, 2, "org.fixture:b:1", false));
+        assertThat(resolver.artifactPath(resolved.get(0))).isEqualTo(repository.root().resolve("org/fixture/a/1/a-1.jar"));
+        assertThat(resolver.artifactPath(resolved.get(4))).isNull();
+    }
+
+    @Test
+    void reusesTheIndexAcrossResolvers() {
+        MavenModel model = resolver().effectiveModel(project.root().resolve("pom.xml"));
+        List<ResolvedDependency> first = resolver().resolve(model.dependencies(), model.managedDependencies());
+
+        MavenPomIndex index = new MavenPomIndex(tempDir.resolve("index.bin").toString());
+        assertThat(index.size()).isPositive();
+        List<ResolvedDependency> second = new MavenDependencyResolver(new BuildModelCache(64), index, true,
+                repository.rootPath(), 1).resolve(model.dependencies(), model.managedDependencies());
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void resolvesNothingWithoutRepository() {
+        MavenDependencyResolver resolver = new MavenDependencyResolver(new BuildModelCache(64),
+                new MavenPomIndex(tempDir.resolve("index.bin").toString()), true, tempDir.resolve("missing").toString(), 2);
+
+        MavenModel model = resolver.effectiveModel(project.root().resolve("pom.xml"));
+
+        assertThat(resolver.isEnabled()).isFalse();
+        assertThat(model.dependencies()).extracting(MavenDependency::version).containsExactly(null, "1");
+        assertThat(resolver.resolve(model.dependencies(), model.managedDependencies())).isEmpty();
+    }
+
+    private MavenDependencyResolver resolver() {
+        return new MavenDependencyResolver(new BuildModelCache(64), new MavenPomIndex(tempDir.resolve("index.bin").toString()),
+                true, repository.rootPath(), 2);
+    }
+
+    private void pom(String artifactId, String version, String body) {
+        repository.file("org/fixture/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom",
+                "<project><groupId>org.fixture</groupId><artifactId>" + artifactId + "</artifactId><version>" + version
+                        + "</version>" + body + "</project>");
+    }
+}
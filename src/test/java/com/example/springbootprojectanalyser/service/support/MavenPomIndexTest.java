@@ -0,0 +1,53 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.BuildModelCache.MavenDependency;
+import com.example.springbootprojectanalyser.service.support.MavenPomIndex.PomSummary;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenPomIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void persistsSummariesUntilSourceFilesChange() {
+        SampleProject repository = SampleProject.at(tempDir.resolve("m2"))
+                .file("a-1.pom", "<project/>")
+                .file("parent-1.pom", "<project/>");
+        PomSummary summary = new PomSummary("g", "a", "1", "jar",
+                List.of(new MavenDependency("g", "b", "2", "jar", null, "compile", false, List.of("x:*"))),
+                List.of(new MavenDependency("g", "c", "3", "jar", "tests", null, true, List.of())));
+        String file = tempDir.resolve("index/pom-index.bin").toString();
+
+        MavenPomIndex index = new MavenPomIndex(file);
+        index.put("g:a:1", List.of(repository.root().resolve("a-1.pom"), repository.root().resolve("parent-1.pom")), summary);
+        // 存在しないファイルを使用した解決結果は登録しない
+        index.put("g:missing:1", List.of(repository.root().resolve("missing.pom")), summary);
+        index.save();
+
+        MavenPomIndex reloaded = new MavenPomIndex(file);
+        assertThat(reloaded.size()).isEqualTo(1);
+        assertThat(reloaded.get("g:a:1")).isEqualTo(summary);
+        assertThat(reloaded.get("g:missing:1")).isNull();
+
+        repository.file("parent-1.pom", "<project><packaging>pom</packaging></project>");
+        assertThat(reloaded.get("g:a:1")).isNull();
+        assertThat(reloaded.size()).isZero();
+    }
+
+    @Test
+    void ignoresUnreadableIndexFiles() {
+        SampleProject directory = SampleProject.at(tempDir).file("broken.bin", "not an index");
+
+        MavenPomIndex index = new MavenPomIndex(directory.root().resolve("broken.bin").toString());
+
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.entity.ClassEntity;
+import com.example.springbootprojectanalyser.model.entity.PackageDependencyKindRollup;
+import com.example.springbootprojectanalyser.model.entity.PackageInfo;
+import com.example.springbootprojectanalyser.model.entity.PackageRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackageRollupAccumulatorTest {
+
+    private PackageInfo root;
+    private PackageInfo web;
+    private PackageInfo service;
+    private PackageInfo serviceImpl;
+
+    @BeforeEach
+    void setUp() {
+        root = packageInfo(1L, "com.acme", null);
+        web = packageInfo(2L, "com.acme.web", root);
+        service = packageInfo(3L, "com.acme.service", root);
+        serviceImpl = packageInfo(4L, "com.acme.service.impl", service);
+    }
+
+    @Test
+    void rollsUpClassesAndEdgesThroughThePackageHierarchy() {
+        ClassEntity controller = classEntity(10L, web, "OrderController");
+        ClassEntity serviceInterface = classEntity(11L, service, "OrderService");
+        ClassEntity serviceClass = classEntity(12L, serviceImpl, "OrderServiceImpl");
+
+        PackageRollupAccumulator accumulator = new PackageRollupAccumulator();
+        accumulator.recordClass(controller);
+        accumulator.recordClass(serviceInterface);
+        accumulator.recordClass(serviceClass);
+        accumulator.recordDependency(controller, serviceInterface, "002_003");
+        accumulator.recordDependency(serviceClass, serviceInterface, "001_002");
+        // プロジェクト外への依存は依存元のみ加算する
+        accumulator.recordDependency(serviceClass, null, "001_005");
+
+        PackageRollupAccumulator.Result result = accumulator.rollUp(List.of(root, web, service, serviceImpl));
+        Map<String, PackageRollup> rollups = result.rollups().stream()
+                .collect(Collectors.toMap(r -> r.getPackageInfo().getFullName(), Function.identity()));
+
+        PackageRollup serviceRollup = rollups.get("com.acme.service");
+        assertThat(serviceRollup.getClassCount()).isEqualTo(1);
+        assertThat(serviceRollup.getOutgoingEdgeCount()).isZero();
+        assertThat(serviceRollup.getIncomingEdgeCount()).isEqualTo(2);
+        assertThat(serviceRollup.getSubtreeClassCount()).isEqualTo(2);
+        assertThat(serviceRollup.getSubtreeOutgoingEdgeCount()).isEqualTo(2);
+        assertThat(serviceRollup.getSubtreeIncomingEdgeCount()).isEqualTo(2);
+
+        PackageRollup rootRollup = rollups.get("com.acme");
+        assertThat(rootRollup.getClassCount()).isZero();
+        assertThat(rootRollup.getSubtreeClassCount()).isEqualTo(3);
+        assertThat(rootRollup.getSubtreeOutgoingEdgeCount()).isEqualTo(3);
+        assertThat(rootRollup.getSubtreeIncomingEdgeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsOwnAndSubtreeCountsPerDependencyKind() {
+        ClassEntity controller = classEntity(10L, web, "OrderController");
+        ClassEntity serviceClass = classEntity(12L, serviceImpl, "OrderServiceImpl");
+
+        PackageRollupAccumulator accumulator = new PackageRollupAccumulator();
+        accumulator.recordDependency(controller, serviceClass, "002_003");
+        accumulator.recordDependency(serviceClass, controller, "002_003");
+        accumulator.recordOutgoingCount(serviceImpl.getId(), "001_005", 4);
+
+        PackageRollupAccumulator.Result result = accumulator.rollUp(List.of(root, web, service, serviceImpl));
+
+        assertThat(kindRollup(result, "com.acme", "002_003").getDependencyCount()).isZero();
+        assertThat(kindRollup(result, "com.acme", "002_003").getSubtreeDependencyCount()).isEqualTo(2);
+        assertThat(kindRollup(result, "com.acme.service", "001_005").getSubtreeDependencyCount()).isEqualTo(4);
+        assertThat(kindRollup(result, "com.acme.service.impl", "001_005").getDependencyCount()).isEqualTo(4);
+        // 件数のない依存種類の集計行は作らない
+        assertThat(result.kindRollups()).noneMatch(r -> r.getPackageInfo() == web && r.getDependencyKindCode().equals("001_005"));
+    }
+
+    @Test
+    void countsSameSimpleNameOncePerPackage() {
+        PackageRollupAccumulator accumulator = new PackageRollupAccumulator();
+        accumulator.recordClass(classEntity(10L, web, "OrderController"));
+        accumulator.recordClass(classEntity(11L, web, "OrderController"));
+        accumulator.recordIncomingCount(web.getId(), 5);
+
+        PackageRollup webRollup = accumulator.rollUp(List.of(root, web)).rollups().stream()
+                .filter(r -> r.getPackageInfo() == web)
+                .findFirst().orElseThrow();
+
+        assertThat(webRollup.getClassCount()).isEqualTo(1);
+        assertThat(webRollup.getIncomingEdgeCount()).isEqualTo(5);
+    }
+
+    private static PackageDependencyKindRollup kindRollup(PackageRollupAccumulator.Result result, String packageName, String kindCode) {
+        return result.kindRollups().stream()
+                .filter(r -> r.getPackageInfo().getFullName().equals(packageName) && r.getDependencyKindCode().equals(kindCode))
+                .findFirst().orElseThrow();
+    }
+
+    private static PackageInfo packageInfo(Long id, String fullName, PackageInfo parent) {
+        PackageInfo packageInfo = new PackageInfo(null, fullName, fullName.substring(fullName.lastIndexOf('.') + 1));
+        packageInfo.setId(id);
+        packageInfo.setParentPackage(parent);
+        return packageInfo;
+    }
+
+    private static ClassEntity classEntity(Long id, PackageInfo packageInfo, String simpleName) {
+        ClassEntity classEntity = new ClassEntity(null, packageInfo, packageInfo.getFullName() + "." + simpleName, simpleName);
+        classEntity.setId(id);
+        return classEntity;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.ProjectModuleScanner.ProjectModule;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectModuleScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ProjectModuleScanner scanner = new ProjectModuleScanner(new BuildModelCache(16));
+
+    @Test
+    void discoversNestedMavenModules() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("pom.xml", pom("com.acme", "shop", "<modules><module>core</module><module>apps/pom.xml</module>"
+                        + "<module>../outside</module><module>missing</module></modules>"))
+                .file("core/pom.xml", pom(null, "shop-core", ""))
+                .file("apps/pom.xml", pom(null, "shop-apps", "<modules><module>web</module></modules>"))
+                .file("apps/web/pom.xml", pom("com.other", "shop-web", """
+                        <dependencies>
+                          <dependency><groupId>${shop.group}</groupId><artifactId>shop-core</artifactId></dependency>
+                          <dependency><groupId>com.acme</groupId><artifactId>shop-apps</artifactId></dependency>
+                          <dependency><groupId>org.example</groupId><artifactId>shop-core</artifactId></dependency>
+                        </dependencies>
+                        """));
+
+        List<ProjectModule> modules = scanner.discover(project.root());
+
+        // groupIdは親のモジュールから引き継ぎ、ルートパス外・存在しないモジュールは無視する
+        assertThat(modules).containsExactly(
+                new ProjectModule("shop", "", "pom.xml", "com.acme:shop"),
+                new ProjectModule("shop-apps", "apps", "pom.xml", "com.acme:shop-apps"),
+                new ProjectModule("shop-web", "apps/web", "pom.xml", "com.other:shop-web"),
+                new ProjectModule("shop-core", "core", "pom.xml", "com.acme:shop-core"));
+        // 解決できないプレースホルダーのgroupIdはartifactIdのみで対応付ける
+        assertThat(scanner.declaredModuleDependencies(project.root(), modules.get(2), modules))
+                .containsExactly("core", "apps");
+        assertThat(scanner.declaredModuleDependencies(project.root(), modules.get(3), modules)).isEmpty();
+    }
+
+    @Test
+    void discoversGradleIncludes() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("settings.gradle", """
+                        rootProject.name = 'shop'
+                        include 'core', ':apps:web'
+                        include("missing")
+                        """)
+                .file("build.gradle", "")
+                .file("core/build.gradle.kts", "")
+                .file("apps/web/build.gradle", """
+                        dependencies {
+                            implementation project(':core')
+                        }
+                        """);
+
+        List<ProjectModule> modules = scanner.discover(project.root());
+
+        assertThat(modules).containsExactly(
+                new ProjectModule("shop", "", "build.gradle", ":"),
+                new ProjectModule("web", "apps/web", "build.gradle", ":apps:web"),
+                new ProjectModule("core", "core", "build.gradle.kts", ":core"));
+        assertThat(scanner.declaredModuleDependencies(project.root(), modules.get(1), modules)).containsExactly("core");
+    }
+
+    @Test
+    void treatsProjectsWithoutBuildFilesAsSingleModule() {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+
+        List<ProjectModule> modules = scanner.discover(project.root());
+
+        assertThat(modules).containsExactly(new ProjectModule(tempDir.getFileName().toString(), "", null, ":"));
+        assertThat(scanner.sourceFiles(project.root(), "", List.of(""))).hasSize(6);
+    }
+
+    @Test
+    void assignsFilesToTheInnermostModule() {
+        List<String> modulePaths = List.of("", "apps", "apps/web", "core");
+        SampleProject project = SampleProject.at(tempDir)
+                .file("src/Root.java", "class Root {}")
+                .file("apps/src/Apps.java", "class Apps {}")
+                .file("apps/web/src/Web.java", "class Web {}")
+                .file("apps/web/target/Generated.java", "class Generated {}")
+                .file("apps/webapp/src/Other.java", "class Other {}");
+
+        assertThat(ProjectModuleScanner.owningModulePath("apps/web/src/Web.java", modulePaths)).isEqualTo("apps/web");
+        assertThat(ProjectModuleScanner.owningModulePath("apps/webapp/src/Other.java", modulePaths)).isEqualTo("apps");
+        assertThat(ProjectModuleScanner.owningModulePath("core", modulePaths)).isEmpty();
+        assertThat(scanner.sourceFiles(project.root(), "apps", modulePaths))
+                .containsExactlyInAnyOrder("apps/src/Apps.java", "apps/webapp/src/Other.java");
+        assertThat(scanner.sourceFiles(project.root(), "apps/web", modulePaths)).containsExactly("apps/web/src/Web.java");
+        assertThat(scanner.sourceFiles(project.root(), "core", modulePaths)).isEmpty();
+    }
+
+    @Test
+    void fingerprintsChangeWithSourcesAndBuildFiles() {
+        SampleProject project = SampleProject.at(tempDir)
+                .file("build.gradle", "plugins {}")
+                .file("src/A.java", "class A {}");
+        ProjectModule root = scanner.discover(project.root()).get(0);
+        List<String> sources = List.of("src/A.java");
+        String source = scanner.sourceFingerprint(project.root(), sources);
+        String build = scanner.buildFingerprint(project.root(), root);
+
+        assertThat(scanner.sourceFingerprint(project.root(), sources)).isEqualTo(source);
+        project.file("src/A.java", "class A { int x; }");
+        assertThat(scanner.sourceFingerprint(project.root(), sources)).isNotEqualTo(source);
+        assertThat(scanner.buildFingerprint(project.root(), root)).isEqualTo(build);
+
+        // ルートのモジュールはsettings.gradleの変更も検出する
+        project.file("settings.gradle", "include 'core'");
+        assertThat(scanner.buildFingerprint(project.root(), root)).isNotEqualTo(build);
+    }
+
+    private static String pom(String groupId, String artifactId, String body) {
+        return "<project>"
+                + (groupId != null ? "<groupId>" + groupId + "</groupId>" : "")
+                + "<artifactId>" + artifactId + "</artifactId>"
+                + body
+                + "</project>";
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.graph.ClassGraphIndex;
+import com.example.springbootprojectanalyser.graph.GraphSnapshotDiff;
+import com.example.springbootprojectanalyser.model.dto.DependencyChangeDto;
+import com.example.springbootprojectanalyser.model.dto.DependencyKindChangeDto;
+import com.example.springbootprojectanalyser.model.dto.SnapshotDiffDto;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SnapshotDiffReporterTest {
+
+    @Test
+    void countsEverythingButListsUpToTheLimit() {
+        ClassGraphIndex.Builder base = ClassGraphIndex.builder(1L);
+        base.addNode(1L, "a.web.A", "A");
+        base.addNode(2L, "a.service.B", "B");
+        base.addEdge(1L, 2L, "001_005", "メソッド呼び出し");
+        ClassGraphIndex.Builder target = ClassGraphIndex.builder(2L);
+        target.addNode(1L, "a.web.A", "A");
+        target.addNode(2L, "a.service.B", "B");
+        target.addNode(3L, "a.service.C", "C");
+        target.addNode(4L, "a.service.D", "D");
+        target.addEdge(1L, 3L, "009_001", "レイヤー依存");
+        target.addEdge(1L, 4L, "009_001", "レイヤー依存");
+        target.addEdge(2L, 3L, "001_005", "メソッド呼び出し");
+        GraphSnapshotDiff diff = GraphSnapshotDiff.compare(base.build(), target.build());
+
+        SnapshotDiffDto report = SnapshotDiffReporter.report(diff, null, null, 1);
+
+        assertThat(report.addedClassCount()).isEqualTo(2);
+        assertThat(report.addedClasses()).containsExactly("a.service.C");
+        assertThat(report.addedDependencyCount()).isEqualTo(3);
+        assertThat(report.addedDependencies()).hasSize(1);
+        assertThat(report.removedDependencyCount()).isEqualTo(1);
+        assertThat(report.removedDependencies()).extracting(DependencyChangeDto::sourceClass, DependencyChangeDto::targetClass)
+                .containsExactly(tuple("a.web.A", "a.service.B"));
+        assertThat(report.addedLayerDependencyCount()).isEqualTo(2);
+        assertThat(report.addedLayerDependencies()).extracting(DependencyChangeDto::targetClass, DependencyChangeDto::dependencyKindCode)
+                .containsExactly(tuple("a.service.C", "009_001"));
+        assertThat(report.kindChanges())
+                .extracting(DependencyKindChangeDto::dependencyKindCode, DependencyKindChangeDto::addedCount, DependencyKindChangeDto::removedCount)
+                .containsExactly(tuple("001_005", 1, 1), tuple("009_001", 2, 0));
+        assertThat(report.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void validatesLimit() {
+        assertThat(SnapshotDiffReporter.resolveLimit(null)).isEqualTo(200);
+        assertThat(SnapshotDiffReporter.resolveLimit(0)).isZero();
+        assertThatThrownBy(() -> SnapshotDiffReporter.resolveLimit(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SnapshotDiffReporter.resolveLimit(10001)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.model.entity.Project;
+import com.example.springbootprojectanalyser.model.entity.Symbol;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymbolDictionaryTest {
+
+    private final Project project = new Project("/work/order");
+
+    @Test
+    void assignsSequentialIdsAndSharesSymbolsPerValue() {
+        SymbolDictionary dictionary = new SymbolDictionary(project, 101);
+
+        Symbol order = dictionary.register("com.acme.order.domain.Order");
+        Symbol service = dictionary.register("com.acme.order.service.OrderService");
+
+        assertThat(order.getId()).isEqualTo(101L);
+        assertThat(service.getId()).isEqualTo(102L);
+        assertThat(order.getProject()).isSameAs(project);
+        assertThat(order.isNew()).isTrue();
+        assertThat(dictionary.lookup("com.acme.order.domain.Order")).isSameAs(order);
+        assertThat(dictionary.lookup("com.acme.order.domain.Missing")).isNull();
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    void countsReferencesAgainstStoredLength() {
+        SymbolDictionary dictionary = new SymbolDictionary(project, 1);
+        dictionary.register("Order");
+        dictionary.lookup("Order");
+        dictionary.lookup("Order");
+        dictionary.register("OrderService");
+        dictionary.lookup("Unknown");
+
+        assertThat(dictionary.referenceCount()).isEqualTo(4);
+        assertThat(dictionary.referencedLength()).isEqualTo(3 * "Order".length() + "OrderService".length());
+        assertThat(dictionary.storedLength()).isEqualTo("Order".length() + "OrderService".length());
+    }
+
+    @Test
+    void reusesStoredSymbolsWithoutCountingThem() {
+        SymbolDictionary dictionary = new SymbolDictionary(project, 10);
+        Symbol stored = new Symbol(3L, project, "Order");
+        dictionary.add(stored);
+        dictionary.add(new Symbol(4L, project, "Order"));
+
+        assertThat(dictionary.referenceCount()).isZero();
+        assertThat(dictionary.lookup("Order")).isSameAs(stored);
+        assertThat(dictionary.register("OrderService").getId()).isEqualTo(10L);
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.springbootprojectanalyser.service.support;
+
+import com.example.springbootprojectanalyser.service.support.SymbolSolverCache.ParsedFileCache;
+import com.example.springbootprojectanalyser.support.SampleProject;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SymbolSolverCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reusesParsedFilesUntilTheyChange() throws IOException {
+        Path order = SampleProject.at(tempDir).orderApplication().root().resolve("src/main/java/com/acme/order/domain/Order.java");
+        ParsedFileCache cache = new ParsedFileCache();
+        Optional<CompilationUnit> parsed = new JavaParser().parse(order).getResult();
+
+        cache.put(order, parsed);
+
+        assertThat(cache.get(order)).contains(parsed);
+        // 最終更新日時が変わったファイルのパース結果は使用しない
+        Files.setLastModifiedTime(order, FileTime.fromMillis(Files.getLastModifiedTime(order).toMillis() + 10_000));
+        assertThat(cache.get(order)).isEmpty();
+        assertThat(cache.isEmpty()).isTrue();
+
+        // 存在しないファイルのパース結果（空）はファイルが作成されるまで使用する
+        Path missing = order.resolveSibling("Missing.java");
+        cache.put(missing, Optional.empty());
+        assertThat(cache.get(missing)).contains(Optional.empty());
+        Files.writeString(missing, "package com.acme.order.domain; public class Missing {}");
+        assertThat(cache.get(missing)).isEmpty();
+    }
+
+    @Test
+    void resolvesProjectTypesWithTheCachedParses() throws IOException {
+        SampleProject project = SampleProject.at(tempDir).orderApplication();
+        SymbolSolverCache symbolSolverCache = new SymbolSolverCache(1);
+        Path serviceImpl = project.root().resolve("src/main/java/com/acme/order/service/OrderServiceImpl.java");
+
+        for (int i = 0; i < 2; i++) {
+            ParserConfiguration configuration = new ParserConfiguration()
+                    .setSymbolResolver(symbolSolverCache.symbolSolver(project.root().resolve("src/main/java")));
+            CompilationUnit cu = new JavaParser(configuration).parse(serviceImpl).getResult().orElseThrow();
+            FieldDeclaration field = cu.findFirst(FieldDeclaration.class).orElseThrow();
+
+            assertThat(field.resolve().getType().describe()).isEqualTo("com.acme.order.repository.OrderRepository");
+        }
+    }
+}
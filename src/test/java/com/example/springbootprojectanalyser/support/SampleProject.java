@@ -0,0 +1,232 @@
+package com.example.springbootprojectanalyser.support;
+
+import com.example.springbootprojectanalyser.model.dto.AnalysisExecutionDto;
+import com.example.springbootprojectanalyser.repository.ProjectRepository;
+import com.example.springbootprojectanalyser.service.ClassDependencyAnalysisService;
+
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * テスト用の解析対象プロジェクト
+ * 一時ディレクトリにソースファイルを配置する
+ */
+public final class SampleProject {
+
+    private final Path root;
+
+    private SampleProject(Path root) {
+        this.root = root;
+    }
+
+    public static SampleProject at(Path root) {
+        return new SampleProject(root);
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public String rootPath() {
+        return root.toString();
+    }
+
+    /**
+     * ファイルを作成する（親ディレクトリも作成する）
+     * @param relativePath プロジェクトのルートパスからの相対パス
+     * @param content ファイル内容
+     */
+    public SampleProject file(String relativePath, String content) {
+        Path file = root.resolve(relativePath);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * src/main/java配下にJavaソースファイルを作成する
+     * @param fullQualifiedName クラスの完全修飾名
+     * @param content ファイル内容
+     */
+    public SampleProject javaClass(String fullQualifiedName, String content) {
+        return file("src/main/java/" + fullQualifiedName.replace('.', '/') + ".java", content);
+    }
+
+    /**
+     * ファイルを削除する
+     * @param relativePath プロジェクトのルートパスからの相対パス
+     */
+    public SampleProject delete(String relativePath) {
+        try {
+            Files.deleteIfExists(root.resolve(relativePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * src/main/java配下のJavaソースファイルをtarget/classesにコンパイルする（テストのクラスパスを使用する）
+     * @throws IllegalStateException コンパイルに失敗した場合
+     */
+    public SampleProject compile() {
+        Path sourceDirectory = root.resolve("src/main/java");
+        List<String> arguments = new ArrayList<>(List.of("-d", root.resolve("target/classes").toString(),
+                "-classpath", System.getProperty("java.class.path"), "-proc:none"));
+        try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+            paths.filter(path -> path.toString().endsWith(".java")).map(Path::toString).forEach(arguments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        if (ToolProvider.getSystemJavaCompiler().run(null, null, errors, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("compile failed: " + errors.toString(StandardCharsets.UTF_8));
+        }
+        return this;
+    }
+
+    /**
+     * プロジェクトのルートパスでgitコマンドを実行する
+     * @param arguments gitコマンドの引数
+     * @return 標準出力（前後の空白を除く）
+     * @throws IllegalStateException gitコマンドが失敗した場合
+     */
+    public String git(String... arguments) {
+        List<String> command = new ArrayList<>(List.of("git", "-c", "user.name=test", "-c", "user.email=test@example.com",
+                "-c", "commit.gpgsign=false", "-c", "init.defaultBranch=main"));
+        command.addAll(List.of(arguments));
+        try {
+            Process process = new ProcessBuilder(command).directory(root.toFile()).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " failed: " + output);
+            }
+            return output.trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 作業ツリーの全てのファイルをコミットする
+     * @param message コミットメッセージ
+     * @return コミットID
+     */
+    public String commitAll(String message) {
+        git("add", "-A");
+        git("commit", "-q", "--allow-empty", "-m", message);
+        return git("rev-parse", "HEAD");
+    }
+
+    /**
+     * プロジェクトを解析する（全ファイル対象）
+     * @return 保存されたプロジェクトのID
+     */
+    public Long analyse(ClassDependencyAnalysisService analysisService, ProjectRepository projectRepository) {
+        analysisService.executeAnalysis(new AnalysisExecutionDto(rootPath(), "**"));
+        return projectRepository.findByRootPath(rootPath()).orElseThrow().getId();
+    }
+
+    /**
+     * 注文管理の小さなSpring Bootプロジェクトを作成する
+     * web -> service -> repository/domain の層構成で、継承・実装・コンストラクタDIを含む
+     */
+    public SampleProject orderApplication() {
+        return javaClass("com.acme.order.web.OrderController", """
+                package com.acme.order.web;
+
+                import com.acme.order.domain.Order;
+                import com.acme.order.service.OrderService;
+                import org.springframework.web.bind.annotation.GetMapping;
+                import org.springframework.web.bind.annotation.PathVariable;
+                import org.springframework.web.bind.annotation.RequestMapping;
+                import org.springframework.web.bind.annotation.RestController;
+
+                @RestController
+                @RequestMapping("/orders")
+                public class OrderController {
+                    private final OrderService orderService;
+
+                    public OrderController(OrderService orderService) {
+                        this.orderService = orderService;
+                    }
+
+                    @GetMapping("/{id}")
+                    public Order find(@PathVariable Long id) {
+                        return orderService.find(id);
+                    }
+                }
+                """)
+                .javaClass("com.acme.order.service.OrderService", """
+                        package com.acme.order.service;
+
+                        import com.acme.order.domain.Order;
+
+                        public interface OrderService {
+                            Order find(Long id);
+                        }
+                        """)
+                .javaClass("com.acme.order.service.OrderServiceImpl", """
+                        package com.acme.order.service;
+
+                        import com.acme.order.domain.Order;
+                        import com.acme.order.repository.OrderRepository;
+                        import org.springframework.stereotype.Service;
+
+                        @Service
+                        public class OrderServiceImpl implements OrderService {
+                            private final OrderRepository orderRepository;
+
+                            public OrderServiceImpl(OrderRepository orderRepository) {
+                                this.orderRepository = orderRepository;
+                            }
+
+                            @Override
+                            public Order find(Long id) {
+                                return orderRepository.load(id);
+                            }
+                        }
+                        """)
+                .javaClass("com.acme.order.repository.OrderRepository", """
+                        package com.acme.order.repository;
+
+                        import com.acme.order.domain.Order;
+                        import org.springframework.stereotype.Repository;
+
+                        @Repository
+                        public class OrderRepository {
+                            public Order load(Long id) {
+                                return new Order();
+                            }
+                        }
+                        """)
+                .javaClass("com.acme.order.domain.Order", """
+                        package com.acme.order.domain;
+
+                        public class Order {
+                            private Long id;
+                        }
+                        """)
+                .javaClass("com.acme.order.domain.SpecialOrder", """
+                        package com.acme.order.domain;
+
+                        public class SpecialOrder extends Order {
+                        }
+                        """);
+    }
+}
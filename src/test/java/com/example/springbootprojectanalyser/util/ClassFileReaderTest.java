@@ -0,0 +1,155 @@
+package com.example.springbootprojectanalyser.util;
+
+import com.example.springbootprojectanalyser.util.ClassFileReader.AnnotationInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.ClassFileInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.EnumConstant;
+import com.example.springbootprojectanalyser.util.ClassFileReader.FieldInfo;
+import com.example.springbootprojectanalyser.util.ClassFileReader.MemberReference;
+import com.example.springbootprojectanalyser.util.ClassFileReader.MethodInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassFileReaderTest {
+
+    /**
+     * 読み取り対象のクラス（このテストクラスのコンパイル結果を読み取る）
+     */
+    @Deprecated
+    static class Fixture<T extends Comparable<T>> extends ArrayList<T> implements Comparable<Fixture<T>> {
+
+        private Map<String, Path> paths;
+
+        @Timeout(value = 5, unit = TimeUnit.SECONDS)
+        public List<Path> find(List<String> names) throws IOException {
+            try {
+                return List.of(Path.of(names.get(0)));
+            } catch (UncheckedIOException e) {
+                return List.of();
+            }
+        }
+
+        @Override
+        public int compareTo(Fixture<T> other) {
+            return Integer.compare(size(), other.size());
+        }
+
+        Runnable task() {
+            return new Runnable() {
+                @Override
+                public void run() {
+                    paths.clear();
+                }
+            };
+        }
+    }
+
+    @Test
+    void readsClassStructure() throws IOException {
+        ClassFileInfo fixture = read(Fixture.class);
+
+        assertThat(fixture.name()).isEqualTo("com.example.springbootprojectanalyser.util.ClassFileReaderTest$Fixture");
+        assertThat(fixture.simpleName()).isEqualTo("Fixture");
+        assertThat(fixture.enclosingClass()).isEqualTo("com.example.springbootprojectanalyser.util.ClassFileReaderTest");
+        assertThat(fixture.access() & ClassFileReader.ACC_STATIC).isZero();
+        assertThat(fixture.isInterface()).isFalse();
+        assertThat(fixture.superName()).isEqualTo("java.util.ArrayList");
+        assertThat(fixture.interfaces()).containsExactly("java.lang.Comparable");
+        assertThat(fixture.signature()).startsWith("<T::Ljava/lang/Comparable<TT;>;>Ljava/util/ArrayList<TT;>;");
+        assertThat(fixture.sourceFile()).isEqualTo("ClassFileReaderTest.java");
+        assertThat(fixture.annotations()).extracting(AnnotationInfo::type).containsExactly("java.lang.Deprecated");
+
+        FieldInfo paths = fixture.fields().get(0);
+        assertThat(paths.name()).isEqualTo("paths");
+        assertThat(paths.descriptor()).isEqualTo("Ljava/util/Map;");
+        assertThat(paths.signature()).isEqualTo("Ljava/util/Map<Ljava/lang/String;Ljava/nio/file/Path;>;");
+    }
+
+    @Test
+    void readsMethodBodies() throws IOException {
+        ClassFileInfo fixture = read(Fixture.class);
+
+        MethodInfo find = method(fixture, "find", "(Ljava/util/List;)Ljava/util/List;");
+        assertThat(find.signature()).isEqualTo("(Ljava/util/List<Ljava/lang/String;>;)Ljava/util/List<Ljava/nio/file/Path;>;");
+        assertThat(find.exceptions()).containsExactly("java.io.IOException");
+        assertThat(find.catchTypes()).containsExactly("java.io.UncheckedIOException");
+        assertThat(find.annotations()).singleElement().satisfies(annotation -> {
+            assertThat(annotation.type()).isEqualTo("org.junit.jupiter.api.Timeout");
+            assertThat(annotation.attributes()).containsEntry("value", 5L)
+                    .containsEntry("unit", new EnumConstant("java.util.concurrent.TimeUnit", "SECONDS"));
+        });
+        assertThat(find.references()).contains(
+                new MemberReference(ClassFileReader.INVOKEINTERFACE, "java.util.List", "get", "(I)Ljava/lang/Object;"),
+                new MemberReference(ClassFileReader.INVOKESTATIC, "java.nio.file.Path", "of",
+                        "(Ljava/lang/String;[Ljava/lang/String;)Ljava/nio/file/Path;"));
+
+        // ブリッジメソッドも読み取る
+        assertThat(fixture.methods()).filteredOn(method -> method.name().equals("compareTo"))
+                .extracting(method -> (method.access() & ClassFileReader.ACC_BRIDGE) != 0)
+                .containsExactlyInAnyOrder(true, false);
+    }
+
+    @Test
+    void readsAnonymousClasses() throws IOException {
+        ClassFileInfo anonymous = read(new Fixture<String>().task().getClass());
+
+        assertThat(anonymous.simpleName()).isEmpty();
+        assertThat(anonymous.enclosingClass()).isEqualTo("com.example.springbootprojectanalyser.util.ClassFileReaderTest$Fixture");
+        assertThat(anonymous.interfaces()).containsExactly("java.lang.Runnable");
+        assertThat(method(anonymous, "run", "()V").references())
+                .contains(new MemberReference(ClassFileReader.GETFIELD,
+                        "com.example.springbootprojectanalyser.util.ClassFileReaderTest$Fixture", "paths", "Ljava/util/Map;"));
+    }
+
+    @Test
+    void parsesDescriptorsAndSignatures() {
+        assertThat(ClassFileReader.descriptorClassName("[[Ljava/lang/String;")).isEqualTo("java.lang.String");
+        assertThat(ClassFileReader.descriptorClassName("I")).isNull();
+        assertThat(ClassFileReader.parameterDescriptors("(I[JLjava/util/List;[[Ljava/lang/String;)V"))
+                .containsExactly("I", "[J", "Ljava/util/List;", "[[Ljava/lang/String;");
+        assertThat(ClassFileReader.returnDescriptor("(I)[Ljava/lang/Object;")).isEqualTo("[Ljava/lang/Object;");
+
+        // 型変数・ワイルドカード・入れ子の型引数は対象外
+        assertThat(ClassFileReader.typeArgumentClassNames(
+                "Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Lcom/acme/Order;>;>;"))
+                .containsExactly("java.lang.String", "java.util.List");
+        assertThat(ClassFileReader.typeArgumentClassNames("Ljava/util/Map<TK;+Lcom/acme/Order;>;")).isEmpty();
+        assertThat(ClassFileReader.typeArgumentClassNames("Lcom/acme/Outer<Lcom/acme/A;>.Inner<Lcom/acme/B;>;"))
+                .containsExactly("com.acme.A");
+
+        String signature = "<T:Ljava/lang/Object;>(Ljava/util/List<TT;>;I)Ljava/util/Set<Lcom/acme/Order;>;";
+        assertThat(ClassFileReader.parameterSignatures(signature)).containsExactly("Ljava/util/List<TT;>;", "I");
+        assertThat(ClassFileReader.returnSignature(signature)).isEqualTo("Ljava/util/Set<Lcom/acme/Order;>;");
+    }
+
+    @Test
+    void rejectsInvalidClassFiles() {
+        assertThatThrownBy(() -> ClassFileReader.read(new byte[] {1, 2, 3, 4})).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> ClassFileReader.read(new byte[] {(byte) 0xca, (byte) 0xfe, (byte) 0xba, (byte) 0xbe, 0}))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static ClassFileInfo read(Class<?> type) throws IOException {
+        String resource = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            return ClassFileReader.read(in.readAllBytes());
+        }
+    }
+
+    private static MethodInfo method(ClassFileInfo classInfo, String name, String descriptor) {
+        return classInfo.methods().stream()
+                .filter(method -> method.name().equals(name) && method.descriptor().equals(descriptor))
+                .findFirst().orElseThrow();
+    }
+}
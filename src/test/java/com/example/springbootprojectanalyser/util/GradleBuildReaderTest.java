@@ -0,0 +1,104 @@
+package com.example.springbootprojectanalyser.util;
+
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleBuild;
+import com.example.springbootprojectanalyser.util.GradleBuildReader.GradleDependency;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class GradleBuildReaderTest {
+
+    @Test
+    void readsGroovyDependencyNotations() {
+        GradleBuild build = GradleBuildReader.read("""
+                buildscript {
+                    dependencies {
+                        classpath 'org.springframework.boot:spring-boot-gradle-plugin:3.5.8'
+                    }
+                }
+                def jacksonVersion = '2.17.0'
+                ext.lombokVersion = "1.18.30"
+                ext {
+                    guavaVersion = '33.0-jre'
+                }
+
+                dependencies {
+                    implementation 'org.springframework.boot:spring-boot-starter-web'
+                    implementation "com.fasterxml.jackson.core:jackson-databind:$jacksonVersion"
+                    compileOnly group: 'org.projectlombok', name: 'lombok', version: lombokVersion
+                    implementation("com.google.guava:guava:${guavaVersion}") {
+                        exclude group: 'com.google.code.findbugs'
+                    }
+                    implementation platform('org.springframework.cloud:spring-cloud-dependencies:2025.0.0')
+                    testImplementation 'org.junit.jupiter:junit-jupiter:5.10.0:tests@jar' // テスト用
+                    runtimeOnly "com.h2database:h2:${h2Version}"
+                    implementation project(':core')
+                    api project(path: ':api')
+                    implementation files('libs/local.jar')
+                    /* implementation 'commented:out:1.0' */
+                }
+
+                subprojects {
+                    dependencies {
+                        implementation 'ignored:in-subprojects:1.0'
+                    }
+                }
+                """, Map.of("h2Version", "2.2.224"));
+
+        assertThat(build.dependencies()).containsExactly(
+                new GradleDependency("implementation", "org.springframework.boot", "spring-boot-starter-web", null, null),
+                new GradleDependency("implementation", "com.fasterxml.jackson.core", "jackson-databind", "2.17.0", null),
+                new GradleDependency("compileOnly", "org.projectlombok", "lombok", "1.18.30", null),
+                new GradleDependency("implementation", "com.google.guava", "guava", "33.0-jre", null),
+                new GradleDependency("implementation", "org.springframework.cloud", "spring-cloud-dependencies", "2025.0.0", null),
+                new GradleDependency("testImplementation", "org.junit.jupiter", "junit-jupiter", "5.10.0", "tests"),
+                new GradleDependency("runtimeOnly", "com.h2database", "h2", "2.2.224", null));
+        assertThat(build.projectDependencies()).containsExactly(":core", ":api");
+        assertThat(build.variables()).contains(entry("jacksonVersion", "2.17.0"), entry("guavaVersion", "33.0-jre"));
+    }
+
+    @Test
+    void readsKotlinDependencyNotations() {
+        GradleBuild build = GradleBuildReader.read("""
+                val kotestVersion = "5.8.0"
+                extra["mockkVersion"] = "1.13.9"
+
+                dependencies {
+                    implementation(project(":core"))
+                    testImplementation("io.kotest:kotest-runner-junit5:$kotestVersion")
+                    testImplementation(
+                        "io.mockk:mockk:${mockkVersion}"
+                    )
+                    implementation(libs.spring.boot.starter)
+                }
+                """, Map.of());
+
+        assertThat(build.dependencies()).containsExactly(
+                new GradleDependency("testImplementation", "io.kotest", "kotest-runner-junit5", "5.8.0", null),
+                new GradleDependency("testImplementation", "io.mockk", "mockk", "1.13.9", null));
+        assertThat(build.projectDependencies()).containsExactly(":core");
+    }
+
+    @Test
+    void keepsUnresolvedVariables() {
+        GradleBuild build = GradleBuildReader.read("""
+                dependencies {
+                    implementation "org.example:lib:${missingVersion}"
+                }
+                """, Map.of());
+
+        assertThat(build.dependencies()).extracting(GradleDependency::version).containsExactly("${missingVersion}");
+    }
+
+    @Test
+    void readsPropertiesFile() {
+        assertThat(GradleBuildReader.readProperties("""
+                # コメント
+                springBootVersion=3.5.8
+                kotlin.version : 1.9.22
+                """)).containsExactly(entry("kotlin.version", "1.9.22"), entry("springBootVersion", "3.5.8"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.springbootprojectanalyser.util;
+
+import com.example.springbootprojectanalyser.util.PomReader.ParentReference;
+import com.example.springbootprojectanalyser.util.PomReader.RawDependency;
+import com.example.springbootprojectanalyser.util.PomReader.RawPom;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class PomReaderTest {
+
+    @Test
+    void readsProjectElementsWithoutResolvingPlaceholders() throws XMLStreamException {
+        RawPom pom = read("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <parent>
+                    <groupId>com.acme</groupId>
+                    <artifactId>shop-parent</artifactId>
+                    <version>1.0</version>
+                    <relativePath/>
+                  </parent>
+                  <artifactId>shop-web</artifactId>
+                  <packaging>war</packaging>
+                  <properties>
+                    <core.version>${project.version}</core.version>
+                    <java.version>17</java.version>
+                  </properties>
+                  <modules>
+                    <module>api</module>
+                  </modules>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>com.acme</groupId>
+                        <artifactId>shop-bom</artifactId>
+                        <version>2.0</version>
+                        <type>pom</type>
+                        <scope>import</scope>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                  <dependencies>
+                    <dependency>
+                      <groupId>com.acme</groupId>
+                      <artifactId>shop-core</artifactId>
+                      <version>${core.version}</version>
+                      <classifier>tests</classifier>
+                      <optional>true</optional>
+                      <exclusions>
+                        <exclusion><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId></exclusion>
+                        <exclusion><groupId>commons-logging</groupId></exclusion>
+                      </exclusions>
+                    </dependency>
+                  </dependencies>
+                  <build>
+                    <plugins>
+                      <plugin>
+                        <artifactId>maven-compiler-plugin</artifactId>
+                        <dependencies>
+                          <dependency><groupId>org.ow2.asm</groupId><artifactId>asm</artifactId></dependency>
+                        </dependencies>
+                      </plugin>
+                    </plugins>
+                  </build>
+                </project>
+                """);
+
+        assertThat(pom.groupId()).isNull();
+        assertThat(pom.artifactId()).isEqualTo("shop-web");
+        assertThat(pom.version()).isNull();
+        assertThat(pom.packaging()).isEqualTo("war");
+        assertThat(pom.parent()).isEqualTo(new ParentReference("com.acme", "shop-parent", "1.0", ""));
+        assertThat(pom.properties()).containsExactly(entry("core.version", "${project.version}"), entry("java.version", "17"));
+        assertThat(pom.modules()).containsExactly("api");
+        assertThat(pom.managedDependencies()).containsExactly(
+                new RawDependency("com.acme", "shop-bom", "2.0", "pom", null, "import", null, List.of()));
+        // プラグインの依存関係は対象外
+        assertThat(pom.dependencies()).containsExactly(new RawDependency("com.acme", "shop-core", "${core.version}", null,
+                "tests", null, "true", List.of("org.slf4j:slf4j-api", "commons-logging:*")));
+    }
+
+    @Test
+    void distinguishesMissingAndEmptyRelativePath() throws XMLStreamException {
+        RawPom pom = read("<project><parent><artifactId>p</artifactId></parent><artifactId>c</artifactId></project>");
+
+        assertThat(pom.parent()).isEqualTo(new ParentReference(null, "p", null, null));
+        assertThat(read("<project><artifactId>c</artifactId></project>").parent()).isNull();
+    }
+
+    @Test
+    void doesNotResolveExternalEntities() {
+        assertThatThrownBy(() -> read("""
+                <?xml version="1.0"?>
+                <!DOCTYPE project [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <project><artifactId>c</artifactId><version>&secret;</version></project>
+                """)).isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    void rejectsMalformedXml() {
+        assertThatThrownBy(() -> read("<project><artifactId>c</project>")).isInstanceOf(XMLStreamException.class);
+    }
+
+    private static RawPom read(String content) throws XMLStreamException {
+        return PomReader.read(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
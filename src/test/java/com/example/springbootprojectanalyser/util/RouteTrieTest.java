@@ -0,0 +1,72 @@
+package com.example.springbootprojectanalyser.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteTrieTest {
+
+    private final RouteTrie<String> trie = RouteTrie.<String>builder()
+            .add("/orders", "GET", "listOrders")
+            .add("/orders", "POST", "createOrder")
+            .add("/orders/{id}", "GET", "findOrder")
+            .add("/orders/{orderId}/items", "GET", "listItems")
+            .add("/orders/search", "GET", "searchOrders")
+            .add("/files/**", "GET", "readFile")
+            .add("/customers/{id:[0-9]+}", "GET", "findCustomer")
+            .add("/", "GET", "home")
+            .add("/orders/{id}", "DELETE", "deleteOrder")
+            .build();
+
+    @Test
+    void keepsRoutesInRegistrationOrder() {
+        assertThat(trie.size()).isEqualTo(9);
+        assertThat(trie.values()).startsWith("listOrders", "createOrder").endsWith("deleteOrder");
+        assertThat(trie.findAll(null)).isEqualTo(trie.values());
+        assertThat(trie.findAll("post")).containsExactly("createOrder");
+        assertThatThrownBy(() -> trie.values().add("other")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void matchesRequestPathsAgainstTemplates() {
+        assertThat(trie.match("/orders/42", "GET")).containsExactly("findOrder");
+        assertThat(trie.match("/orders/42", null)).containsExactly("findOrder", "deleteOrder");
+        assertThat(trie.match("/orders/search", "")).containsExactly("findOrder", "searchOrders", "deleteOrder");
+        assertThat(trie.match("/orders/42/items", "GET")).containsExactly("listItems");
+        assertThat(trie.match("/customers/7", "GET")).containsExactly("findCustomer");
+        assertThat(trie.match("/", "GET")).containsExactly("home");
+        assertThat(trie.match("/customers", "GET")).isEmpty();
+    }
+
+    @Test
+    void matchesCatchAllWithZeroOrMoreSegments() {
+        assertThat(trie.match("/files", "GET")).containsExactly("readFile");
+        assertThat(trie.match("/files/docs/readme.txt", "GET")).containsExactly("readFile");
+    }
+
+    @Test
+    void findsRoutesByPrefix() {
+        assertThat(trie.findByPrefix("/orders", null))
+                .containsExactly("listOrders", "createOrder", "findOrder", "listItems", "searchOrders", "deleteOrder");
+        assertThat(trie.findByPrefix("/orders/{any}", "GET")).containsExactly("findOrder", "listItems");
+        assertThat(trie.findByPrefix("/unknown", null)).isEmpty();
+    }
+
+    @Test
+    void findsRoutesByTemplateIgnoringVariableNames() {
+        assertThat(trie.findByTemplate("/orders/{id}/items", null)).containsExactly("listItems");
+        assertThat(trie.findByTemplate("/orders/*", null)).containsExactly("findOrder", "deleteOrder");
+        assertThat(trie.findByTemplate("/orders/42", null)).isEmpty();
+    }
+
+    @Test
+    void findsRoutesByWildcard() {
+        assertThat(trie.findByWildcard("/orders/*", null)).containsExactly("findOrder", "searchOrders", "deleteOrder");
+        assertThat(trie.findByWildcard("/orders/**", null))
+                .containsExactly("listOrders", "createOrder", "findOrder", "listItems", "searchOrders", "deleteOrder");
+        assertThat(trie.findByWildcard("/**/items", null)).containsExactly("listItems");
+        assertThat(trie.findByWildcard("/ord*", "GET")).containsExactly("listOrders");
+        assertThat(trie.findByWildcard("/orders/sea*", null)).containsExactly("searchOrders");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.springbootprojectanalyser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SourceLineIndexTest {
+
+    @Test
+    void convertsLineAndColumnToByteOffsets() {
+        SourceLineIndex index = SourceLineIndex.of(bytes("class A {\n    int x;\n}\n"));
+
+        assertThat(index.byteOffset(1, 1)).isZero();
+        assertThat(index.byteOffset(2, 5)).isEqualTo(14);
+        assertThat(index.byteOffset(3, 1)).isEqualTo(21);
+    }
+
+    @Test
+    void supportsCrLfAndCrLineBreaks() {
+        SourceLineIndex crlf = SourceLineIndex.of(bytes("a\r\nbc\r\nd"));
+        SourceLineIndex cr = SourceLineIndex.of(bytes("a\rbc\rd"));
+
+        assertThat(crlf.byteOffset(2, 2)).isEqualTo(4);
+        assertThat(crlf.byteOffset(3, 1)).isEqualTo(7);
+        assertThat(cr.byteOffset(2, 2)).isEqualTo(3);
+        assertThat(cr.byteOffset(3, 1)).isEqualTo(5);
+    }
+
+    @Test
+    void countsColumnsInCharactersAndOffsetsInUtf8Bytes() {
+        // 「注文」は1文字3バイト
+        SourceLineIndex index = SourceLineIndex.of(bytes("// 注文\nclass 注文A {}\n"));
+
+        assertThat(index.byteOffset(1, 4)).isEqualTo(3);
+        assertThat(index.byteOffset(1, 5)).isEqualTo(6);
+        assertThat(index.byteOffset(2, 9)).isEqualTo(10 + 6 + 6);
+    }
+
+    @Test
+    void clampsColumnsToTheLineAndRejectsUnknownLines() {
+        SourceLineIndex index = SourceLineIndex.of(bytes("ab\ncd"));
+
+        assertThat(index.byteOffset(1, 0)).isZero();
+        assertThat(index.byteOffset(2, 10)).isEqualTo(5);
+        assertThatThrownBy(() -> index.byteOffset(3, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.byteOffset(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}